@@ -14,12 +14,21 @@
 
 package com.liferay.mongodb.hook.events;
 
+import com.liferay.expando.kernel.model.ExpandoColumn;
+import com.liferay.expando.kernel.model.ExpandoTable;
+import com.liferay.expando.kernel.service.ExpandoColumnLocalServiceUtil;
+import com.liferay.expando.kernel.service.ExpandoTableLocalServiceUtil;
 import com.liferay.mongodb.util.MongoDBUtil;
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
 import com.liferay.portal.kernel.events.ActionException;
 import com.liferay.portal.kernel.events.SimpleAction;
+import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.util.GetterUtil;
 
+import com.mongodb.DB;
+import com.mongodb.DBCollection;
+
 /**
  * @author Raymond Augé
  * @author Brian Wing Shun Chan
@@ -36,6 +45,44 @@ public class StartupAction extends SimpleAction {
 		}
 	}
 
+	protected void createIndexes(long companyId) throws PortalException {
+		final DB db = MongoDBUtil.getDB(companyId);
+
+		ActionableDynamicQuery actionableDynamicQuery =
+			ExpandoTableLocalServiceUtil.getActionableDynamicQuery();
+
+		actionableDynamicQuery.setCompanyId(companyId);
+		actionableDynamicQuery.setPerformActionMethod(
+			new ActionableDynamicQuery.PerformActionMethod<ExpandoTable>() {
+
+				@Override
+				public void performAction(ExpandoTable expandoTable) {
+					String collectionName = MongoDBUtil.getCollectionName(
+						expandoTable.getClassName(), expandoTable.getName());
+
+					if (!db.collectionExists(collectionName)) {
+						return;
+					}
+
+					DBCollection dbCollection = db.getCollection(
+						collectionName);
+
+					MongoDBUtil.createIndexes(dbCollection);
+
+					for (ExpandoColumn expandoColumn :
+							ExpandoColumnLocalServiceUtil.getColumns(
+								expandoTable.getTableId())) {
+
+						MongoDBUtil.createColumnIndex(
+							dbCollection, expandoColumn.getName());
+					}
+				}
+
+			});
+
+		actionableDynamicQuery.performActions();
+	}
+
 	protected void doRun(String[] ids) throws Exception {
 		for (String id : ids) {
 			long companyId = GetterUtil.getLong(id);
@@ -43,6 +90,8 @@ public class StartupAction extends SimpleAction {
 			if (!MongoDBUtil.authenticate(companyId)) {
 				throw new SystemException("Authentication failed");
 			}
+
+			createIndexes(companyId);
 		}
 	}
 
@@ -18,14 +18,18 @@ import com.liferay.expando.kernel.model.ExpandoColumn;
 import com.liferay.expando.kernel.model.ExpandoTable;
 import com.liferay.expando.kernel.service.ExpandoTableLocalServiceUtil;
 import com.liferay.mongodb.lang.MongoOperator;
+import com.liferay.mongodb.util.ExpandoMetadataUtil;
 import com.liferay.mongodb.util.MongoDBUtil;
 import com.liferay.portal.kernel.exception.ModelListenerException;
 import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
 
+import java.util.concurrent.Callable;
+
 /**
  * @author Raymond Augé
  * @author Brian Wing Shun Chan
@@ -33,10 +37,26 @@ import com.mongodb.DBObject;
 public class ExpandoColumnModelListener
 	extends BaseModelListener<ExpandoColumn> {
 
+	@Override
+	public void onAfterCreate(ExpandoColumn expandoColumn)
+		throws ModelListenerException {
+
+		removeCachedColumn(expandoColumn);
+
+		try {
+			createColumnIndex(expandoColumn);
+		}
+		catch (Exception e) {
+			throw new ModelListenerException(e);
+		}
+	}
+
 	@Override
 	public void onAfterRemove(ExpandoColumn expandoColumn)
 		throws ModelListenerException {
 
+		removeCachedColumn(expandoColumn);
+
 		try {
 			doOnAfterRemove(expandoColumn);
 		}
@@ -45,6 +65,31 @@ public class ExpandoColumnModelListener
 		}
 	}
 
+	@Override
+	public void onAfterUpdate(ExpandoColumn expandoColumn)
+		throws ModelListenerException {
+
+		removeCachedColumn(expandoColumn);
+
+		try {
+			createColumnIndex(expandoColumn);
+		}
+		catch (Exception e) {
+			throw new ModelListenerException(e);
+		}
+	}
+
+	protected void createColumnIndex(ExpandoColumn expandoColumn)
+		throws Exception {
+
+		ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			expandoColumn.getTableId());
+
+		DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
+
+		MongoDBUtil.createColumnIndex(dbCollection, expandoColumn.getName());
+	}
+
 	protected void doOnAfterRemove(ExpandoColumn expandoColumn)
 		throws Exception {
 
@@ -67,4 +112,24 @@ public class ExpandoColumnModelListener
 		dbCollection.update(new BasicDBObject(), operatorDBObject, false, true);
 	}
 
+	protected void removeCachedColumn(final ExpandoColumn expandoColumn) {
+		ExpandoMetadataUtil.removeColumn(expandoColumn);
+
+		// Remove it again once the transaction commits in case another thread
+		// cached the old column in the meantime
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				ExpandoMetadataUtil.removeColumn(expandoColumn);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
 }
\ No newline at end of file
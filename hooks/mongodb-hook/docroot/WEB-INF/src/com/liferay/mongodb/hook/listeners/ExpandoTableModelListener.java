@@ -15,13 +15,16 @@
 package com.liferay.mongodb.hook.listeners;
 
 import com.liferay.expando.kernel.model.ExpandoTable;
+import com.liferay.mongodb.util.ExpandoMetadataUtil;
 import com.liferay.mongodb.util.MongoDBUtil;
 import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 
-import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
 
+import java.util.concurrent.Callable;
+
 /**
  * @author Raymond Augé
  * @author Brian Wing Shun Chan
@@ -39,17 +42,14 @@ public class ExpandoTableModelListener extends BaseModelListener<ExpandoTable> {
 			DBCollection dbCollection = db.createCollection(
 				collectionName, null);
 
-			dbCollection.createIndex(new BasicDBObject("valueId", 1));
-			dbCollection.createIndex(new BasicDBObject("companyId", 1));
-			dbCollection.createIndex(new BasicDBObject("tableId", 1));
-			dbCollection.createIndex(new BasicDBObject("rowId", 1));
-			dbCollection.createIndex(new BasicDBObject("classNameId", 1));
-			dbCollection.createIndex(new BasicDBObject("classPK", 1));
+			MongoDBUtil.createIndexes(dbCollection);
 		}
 	}
 
 	@Override
 	public void onAfterRemove(ExpandoTable expandoTable) {
+		removeCachedTable(expandoTable);
+
 		DB db = MongoDBUtil.getDB(expandoTable.getCompanyId());
 
 		String tableName = MongoDBUtil.getCollectionName(
@@ -62,4 +62,33 @@ public class ExpandoTableModelListener extends BaseModelListener<ExpandoTable> {
 		}
 	}
 
+	@Override
+	public void onAfterUpdate(ExpandoTable expandoTable) {
+		removeCachedTable(expandoTable);
+	}
+
+	protected void removeCachedTable(final ExpandoTable expandoTable) {
+		ExpandoMetadataUtil.removeTable(expandoTable);
+
+		MongoDBUtil.removeCachedCollection(expandoTable.getTableId());
+
+		// Remove it again once the transaction commits in case another thread
+		// cached the old table in the meantime
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				ExpandoMetadataUtil.removeTable(expandoTable);
+
+				MongoDBUtil.removeCachedCollection(expandoTable.getTableId());
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.mongodb.hook.service.impl;
 
+import com.liferay.counter.kernel.model.Counter;
 import com.liferay.counter.kernel.service.CounterLocalServiceUtil;
 import com.liferay.expando.kernel.exception.NoSuchColumnException;
 import com.liferay.expando.kernel.exception.NoSuchTableException;
@@ -21,19 +22,26 @@ import com.liferay.expando.kernel.model.ExpandoColumn;
 import com.liferay.expando.kernel.model.ExpandoColumnConstants;
 import com.liferay.expando.kernel.model.ExpandoTable;
 import com.liferay.expando.kernel.model.ExpandoValue;
-import com.liferay.expando.kernel.service.ExpandoColumnLocalServiceUtil;
 import com.liferay.expando.kernel.service.ExpandoTableLocalServiceUtil;
 import com.liferay.expando.kernel.service.ExpandoValueLocalService;
 import com.liferay.expando.kernel.service.ExpandoValueLocalServiceWrapper;
 import com.liferay.expando.kernel.service.persistence.ExpandoColumnUtil;
 import com.liferay.expando.kernel.service.persistence.ExpandoValueUtil;
+import com.liferay.mongodb.lang.MongoConditional;
 import com.liferay.mongodb.lang.MongoOperator;
+import com.liferay.mongodb.util.ExpandoMetadataUtil;
 import com.liferay.mongodb.util.MongoDBUtil;
+import com.liferay.mongodb.util.MongoExpandoValueUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
 import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
 import com.liferay.portal.kernel.util.Validator;
 
 import com.mongodb.BasicDBObject;
@@ -43,6 +51,7 @@ import com.mongodb.DBObject;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,6 +66,8 @@ public class MongoExpandoValueLocalServiceImpl
 		ExpandoValueLocalService expandoValueLocalService) {
 
 		super(expandoValueLocalService);
+
+		MongoExpandoValueUtil.setMongoExpandoValueLocalServiceImpl(this);
 	}
 
 	@Override
@@ -65,11 +76,9 @@ public class MongoExpandoValueLocalServiceImpl
 			String data)
 		throws PortalException {
 
-		ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
-			tableId);
+		ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(tableId);
 
-		ExpandoColumn expandoColumn = ExpandoColumnLocalServiceUtil.getColumn(
-			columnId);
+		ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(columnId);
 
 		ExpandoValue expandoValue = ExpandoValueUtil.create(0);
 
@@ -128,8 +137,7 @@ public class MongoExpandoValueLocalServiceImpl
 			long classPK, Map<String, String> data)
 		throws PortalException {
 
-		ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
-			tableId);
+		ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(tableId);
 
 		ExpandoValue expandoValue = ExpandoValueUtil.create(0);
 
@@ -180,6 +188,34 @@ public class MongoExpandoValueLocalServiceImpl
 		}
 	}
 
+	/**
+	 * Adds or updates the values of many rows of a table, keyed by class
+	 * primary key. Each batch of rows costs one query to find the rows that
+	 * already exist, one counter increment, and one insert for the new rows.
+	 * The portal's ExpandoValueLocalService has no bulk method, so callers
+	 * reach this through {@link MongoExpandoValueUtil}.
+	 */
+	public void addValues(
+			long classNameId, long tableId, List<ExpandoColumn> expandoColumns,
+			Map<Long, Map<String, String>> data)
+		throws PortalException {
+
+		ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(tableId);
+
+		DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
+
+		List<Long> classPKs = new ArrayList<>(data.keySet());
+
+		for (int i = 0; i < classPKs.size(); i += _BATCH_SIZE) {
+			List<Long> batchClassPKs = classPKs.subList(
+				i, Math.min(i + _BATCH_SIZE, classPKs.size()));
+
+			addValues(
+				dbCollection, expandoTable, classNameId, expandoColumns,
+				batchClassPKs, data);
+		}
+	}
+
 	@Override
 	public void deleteColumnValues(long columnId) {
 		try {
@@ -190,7 +226,7 @@ public class MongoExpandoValueLocalServiceImpl
 				return;
 			}
 
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				expandoColumn.getTableId());
 
 			DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
@@ -215,15 +251,14 @@ public class MongoExpandoValueLocalServiceImpl
 	@Override
 	public void deleteTableValues(long tableId) {
 		try {
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
-				tableId);
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(tableId);
 
 			DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
 
 			DBObject valueDBObject = new BasicDBObject();
 
 			List<ExpandoColumn> expandoColumns =
-				ExpandoColumnLocalServiceUtil.getColumns(tableId);
+				ExpandoMetadataUtil.getColumns(tableId);
 
 			for (ExpandoColumn expandoColumn : expandoColumns) {
 				valueDBObject.put(expandoColumn.getName(), null);
@@ -247,10 +282,9 @@ public class MongoExpandoValueLocalServiceImpl
 
 	@Override
 	public void deleteValue(long columnId, long rowId) throws PortalException {
-		ExpandoColumn expandoColumn = ExpandoColumnLocalServiceUtil.getColumn(
-			columnId);
+		ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(columnId);
 
-		ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+		ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 			expandoColumn.getTableId());
 
 		deleteValue(
@@ -264,7 +298,7 @@ public class MongoExpandoValueLocalServiceImpl
 			String columnName, long classPK)
 		throws PortalException {
 
-		ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+		ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 			companyId, classNameId, tableName);
 
 		DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
@@ -314,10 +348,10 @@ public class MongoExpandoValueLocalServiceImpl
 		long columnId, int start, int end) {
 
 		try {
-			ExpandoColumn expandoColumn =
-				ExpandoColumnLocalServiceUtil.getColumn(columnId);
+			ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(
+				columnId);
 
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				expandoColumn.getTableId());
 
 			return getColumnValues(
@@ -336,48 +370,27 @@ public class MongoExpandoValueLocalServiceImpl
 		String data, int start, int end) {
 
 		try {
-			ExpandoColumn expandoColumn =
-				ExpandoColumnLocalServiceUtil.getColumn(
-					companyId, classNameId, tableName, columnName);
-
-			DBCollection dbCollection = MongoDBUtil.getCollection(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				companyId, classNameId, tableName);
 
-			DBCursor dbCursor = null;
-
-			if (Validator.isNotNull(data)) {
-				DBObject queryDBObject = new BasicDBObject();
-
-				ExpandoValue expandoValue = ExpandoValueUtil.create(0);
-
-				expandoValue.setColumnId(expandoColumn.getColumnId());
-				expandoValue.setData(data);
+			ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(
+				expandoTable.getTableId(), columnName);
 
-				queryDBObject.put(
-					columnName, getData(expandoColumn, expandoValue));
+			DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
 
-				dbCursor = dbCollection.find(queryDBObject);
-			}
-			else {
-				dbCursor = dbCollection.find();
-			}
+			DBObject queryDBObject = getColumnValuesQueryDBObject(
+				expandoColumn, data);
 
-			if ((start != QueryUtil.ALL_POS) && (end != QueryUtil.ALL_POS)) {
-				dbCursor = dbCursor.skip(start).limit(end - start);
-			}
-
-			List<ExpandoValue> expandoValues = new ArrayList<>();
+			if ((start == QueryUtil.ALL_POS) || (end == QueryUtil.ALL_POS)) {
+				DBCursor dbCursor = dbCollection.find(queryDBObject);
 
-			for (DBObject dbObject : dbCursor.toArray()) {
-				BasicDBObject expandoValueDBObject = (BasicDBObject)dbObject;
+				dbCursor = dbCursor.sort(new BasicDBObject("rowId", 1));
 
-				ExpandoValue expandoValue = toExpandoValue(
-					expandoValueDBObject, expandoColumn);
-
-				expandoValues.add(expandoValue);
+				return toExpandoValues(dbCursor, expandoColumn);
 			}
 
-			return expandoValues;
+			return getColumnValues(
+				dbCollection, expandoColumn, queryDBObject, start, end);
 		}
 		catch (PortalException pe) {
 			throw new SystemException(pe);
@@ -387,10 +400,10 @@ public class MongoExpandoValueLocalServiceImpl
 	@Override
 	public int getColumnValuesCount(long columnId) {
 		try {
-			ExpandoColumn expandoColumn =
-				ExpandoColumnLocalServiceUtil.getColumn(columnId);
+			ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(
+				columnId);
 
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				expandoColumn.getTableId());
 
 			return getColumnValuesCount(
@@ -408,33 +421,18 @@ public class MongoExpandoValueLocalServiceImpl
 		String data) {
 
 		try {
-			ExpandoColumn expandoColumn =
-				ExpandoColumnLocalServiceUtil.getColumn(
-					companyId, classNameId, tableName, columnName);
-
-			DBCollection dbCollection = MongoDBUtil.getCollection(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				companyId, classNameId, tableName);
 
-			DBCursor dbCursor = null;
-
-			if (Validator.isNotNull(data)) {
-				DBObject queryDBObject = new BasicDBObject();
+			ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(
+				expandoTable.getTableId(), columnName);
 
-				ExpandoValue expandoValue = ExpandoValueUtil.create(0);
-
-				expandoValue.setColumnId(expandoColumn.getColumnId());
-				expandoValue.setData(data);
+			DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
 
-				queryDBObject.put(
-					columnName, getData(expandoColumn, expandoValue));
+			DBObject queryDBObject = getColumnValuesQueryDBObject(
+				expandoColumn, data);
 
-				dbCursor = dbCollection.find(queryDBObject);
-			}
-			else {
-				dbCursor = dbCollection.find();
-			}
-
-			return dbCursor.count();
+			return (int)dbCollection.count(queryDBObject);
 		}
 		catch (PortalException pe) {
 			throw new SystemException(pe);
@@ -457,7 +455,7 @@ public class MongoExpandoValueLocalServiceImpl
 		int start, int end) {
 
 		try {
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				companyId, classNameId, tableName);
 
 			DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
@@ -478,8 +476,7 @@ public class MongoExpandoValueLocalServiceImpl
 			}
 
 			List<ExpandoColumn> expandoColumns =
-				ExpandoColumnLocalServiceUtil.getColumns(
-					expandoTable.getTableId());
+				ExpandoMetadataUtil.getColumns(expandoTable.getTableId());
 
 			if ((start != QueryUtil.ALL_POS) && (end != QueryUtil.ALL_POS)) {
 				expandoColumns = expandoColumns.subList(start, end);
@@ -511,11 +508,13 @@ public class MongoExpandoValueLocalServiceImpl
 		long companyId, long classNameId, String tableName, long classPK) {
 
 		try {
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				companyId, classNameId, tableName);
 
-			return ExpandoColumnLocalServiceUtil.getColumnsCount(
-				expandoTable.getTableId());
+			List<ExpandoColumn> expandoColumns =
+				ExpandoMetadataUtil.getColumns(expandoTable.getTableId());
+
+			return expandoColumns.size();
 		}
 		catch (PortalException pe) {
 			throw new SystemException(pe);
@@ -531,10 +530,9 @@ public class MongoExpandoValueLocalServiceImpl
 	public ExpandoValue getValue(long columnId, long rowId)
 		throws PortalException {
 
-		ExpandoColumn expandoColumn = ExpandoColumnLocalServiceUtil.getColumn(
-			columnId);
+		ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(columnId);
 
-		ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+		ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 			expandoColumn.getTableId());
 
 		return getValue(
@@ -545,11 +543,10 @@ public class MongoExpandoValueLocalServiceImpl
 	@Override
 	public ExpandoValue getValue(long tableId, long columnId, long classPK) {
 		try {
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
-				tableId);
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(tableId);
 
-			ExpandoColumn expandoColumn =
-				ExpandoColumnLocalServiceUtil.getColumn(columnId);
+			ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(
+				columnId);
 
 			return getValue(
 				expandoTable.getCompanyId(), expandoTable.getClassName(),
@@ -566,12 +563,11 @@ public class MongoExpandoValueLocalServiceImpl
 		long classPK) {
 
 		try {
-			ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			ExpandoTable expandoTable = ExpandoMetadataUtil.getTable(
 				companyId, classNameId, tableName);
 
-			ExpandoColumn expandoColumn =
-				ExpandoColumnLocalServiceUtil.getColumn(
-					expandoTable.getTableId(), columnName);
+			ExpandoColumn expandoColumn = ExpandoMetadataUtil.getColumn(
+				expandoTable.getTableId(), columnName);
 
 			DBCollection dbCollection = MongoDBUtil.getCollection(expandoTable);
 
@@ -603,6 +599,178 @@ public class MongoExpandoValueLocalServiceImpl
 		}
 	}
 
+	protected void addValues(
+			DBCollection dbCollection, ExpandoTable expandoTable,
+			long classNameId, List<ExpandoColumn> expandoColumns,
+			List<Long> classPKs, Map<Long, Map<String, String>> data)
+		throws PortalException {
+
+		DBObject queryDBObject = new BasicDBObject();
+
+		queryDBObject.put("companyId", expandoTable.getCompanyId());
+		queryDBObject.put("tableId", expandoTable.getTableId());
+		queryDBObject.put(
+			"rowId", new BasicDBObject(MongoConditional.IN, classPKs));
+		queryDBObject.put("classNameId", classNameId);
+		queryDBObject.put(
+			"classPK", new BasicDBObject(MongoConditional.IN, classPKs));
+
+		Map<Long, BasicDBObject> expandoValueDBObjects = new HashMap<>();
+
+		for (DBObject dbObject : dbCollection.find(queryDBObject)) {
+			BasicDBObject expandoValueDBObject = (BasicDBObject)dbObject;
+
+			expandoValueDBObjects.put(
+				expandoValueDBObject.getLong("classPK"), expandoValueDBObject);
+		}
+
+		int size = classPKs.size() - expandoValueDBObjects.size();
+
+		long valueId = 0;
+
+		if (size > 0) {
+			valueId = CounterLocalServiceUtil.increment(
+				Counter.class.getName(), size);
+
+			valueId -= size;
+		}
+
+		ExpandoValue expandoValue = ExpandoValueUtil.create(0);
+
+		expandoValue.setCompanyId(expandoTable.getCompanyId());
+		expandoValue.setTableId(expandoTable.getTableId());
+		expandoValue.setClassNameId(classNameId);
+
+		List<DBObject> insertExpandoValueDBObjects = new ArrayList<>(size);
+
+		for (long classPK : classPKs) {
+			expandoValue.setRowId(classPK);
+			expandoValue.setClassPK(classPK);
+
+			BasicDBObject expandoValueDBObject = expandoValueDBObjects.get(
+				classPK);
+
+			if (expandoValueDBObject != null) {
+				expandoValue.setValueId(
+					expandoValueDBObject.getLong("valueId"));
+
+				DBObject operatorDBObject = new BasicDBObject();
+
+				DBObject updateExpandoValueDBObject = new BasicDBObject();
+
+				updateExpandoValueDBObject(
+					updateExpandoValueDBObject, expandoColumns,
+					data.get(classPK), expandoValue);
+
+				operatorDBObject.put(
+					MongoOperator.SET, updateExpandoValueDBObject);
+
+				dbCollection.update(expandoValueDBObject, operatorDBObject);
+			}
+			else {
+				expandoValue.setValueId(++valueId);
+
+				DBObject insertExpandoValueDBObject = new BasicDBObject();
+
+				insertExpandoValueDBObject.put(
+					"companyId", expandoTable.getCompanyId());
+				insertExpandoValueDBObject.put(
+					"tableId", expandoTable.getTableId());
+				insertExpandoValueDBObject.put("rowId", classPK);
+				insertExpandoValueDBObject.put("classNameId", classNameId);
+				insertExpandoValueDBObject.put("classPK", classPK);
+				insertExpandoValueDBObject.put("valueId", valueId);
+
+				updateExpandoValueDBObject(
+					insertExpandoValueDBObject, expandoColumns,
+					data.get(classPK), expandoValue);
+
+				insertExpandoValueDBObjects.add(insertExpandoValueDBObject);
+			}
+		}
+
+		if (!insertExpandoValueDBObjects.isEmpty()) {
+			dbCollection.insert(insertExpandoValueDBObjects);
+		}
+	}
+
+	/**
+	 * Returns one page of column values ordered by row ID. Skipping to a deep
+	 * offset makes MongoDB walk every preceding document, so the last row ID
+	 * of each full page is remembered by its end position. A caller that
+	 * reads the pages in order gets each following page with a range query on
+	 * the {column, rowId} index instead of a skip. Pages whose start position
+	 * is unknown fall back to a skip.
+	 */
+	protected List<ExpandoValue> getColumnValues(
+			DBCollection dbCollection, ExpandoColumn expandoColumn,
+			DBObject queryDBObject, int start, int end)
+		throws PortalException {
+
+		String lastRowIdKey = getLastRowIdKey(
+			dbCollection, queryDBObject, start);
+
+		Long lastRowId = _lastRowIds.get(lastRowIdKey);
+
+		DBCursor dbCursor = null;
+
+		if (lastRowId != null) {
+			DBObject rangeQueryDBObject = new BasicDBObject(
+				queryDBObject.toMap());
+
+			rangeQueryDBObject.put(
+				"rowId", new BasicDBObject(MongoConditional.GT, lastRowId));
+
+			dbCursor = dbCollection.find(rangeQueryDBObject);
+
+			dbCursor = dbCursor.sort(new BasicDBObject("rowId", 1));
+		}
+		else {
+			dbCursor = dbCollection.find(queryDBObject);
+
+			dbCursor = dbCursor.sort(new BasicDBObject("rowId", 1));
+
+			dbCursor = dbCursor.skip(start);
+		}
+
+		dbCursor = dbCursor.limit(end - start);
+
+		List<ExpandoValue> expandoValues = toExpandoValues(
+			dbCursor, expandoColumn);
+
+		if (expandoValues.size() == (end - start)) {
+			ExpandoValue expandoValue = expandoValues.get(
+				expandoValues.size() - 1);
+
+			_lastRowIds.put(
+				getLastRowIdKey(dbCollection, queryDBObject, end),
+				expandoValue.getRowId(), _LAST_ROW_ID_TIME_TO_LIVE);
+		}
+
+		return expandoValues;
+	}
+
+	protected DBObject getColumnValuesQueryDBObject(
+			ExpandoColumn expandoColumn, String data)
+		throws PortalException {
+
+		DBObject queryDBObject = new BasicDBObject();
+
+		if (Validator.isNull(data)) {
+			return queryDBObject;
+		}
+
+		ExpandoValue expandoValue = ExpandoValueUtil.create(0);
+
+		expandoValue.setColumnId(expandoColumn.getColumnId());
+		expandoValue.setData(data);
+
+		queryDBObject.put(
+			expandoColumn.getName(), getData(expandoColumn, expandoValue));
+
+		return queryDBObject;
+	}
+
 	protected Object getData(
 			ExpandoColumn expandoColumn, ExpandoValue expandoValue)
 		throws PortalException {
@@ -659,6 +827,20 @@ public class MongoExpandoValueLocalServiceImpl
 		}
 	}
 
+	protected String getLastRowIdKey(
+		DBCollection dbCollection, DBObject queryDBObject, int position) {
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(dbCollection.getFullName());
+		sb.append(StringPool.POUND);
+		sb.append(queryDBObject);
+		sb.append(StringPool.POUND);
+		sb.append(position);
+
+		return sb.toString();
+	}
+
 	protected ExpandoValue toExpandoValue(
 			BasicDBObject expandoValueDBObject, ExpandoColumn expandoColumn)
 		throws PortalException {
@@ -760,6 +942,24 @@ public class MongoExpandoValueLocalServiceImpl
 		return expandoValue;
 	}
 
+	protected List<ExpandoValue> toExpandoValues(
+			DBCursor dbCursor, ExpandoColumn expandoColumn)
+		throws PortalException {
+
+		List<ExpandoValue> expandoValues = new ArrayList<>();
+
+		for (DBObject dbObject : dbCursor) {
+			BasicDBObject expandoValueDBObject = (BasicDBObject)dbObject;
+
+			ExpandoValue expandoValue = toExpandoValue(
+				expandoValueDBObject, expandoColumn);
+
+			expandoValues.add(expandoValue);
+		}
+
+		return expandoValues;
+	}
+
 	protected void updateExpandoValueDBObject(
 			DBObject expandoValueDBObject, List<ExpandoColumn> expandoColumns,
 			Map<String, String> data, ExpandoValue expandoValue)
@@ -781,4 +981,13 @@ public class MongoExpandoValueLocalServiceImpl
 		}
 	}
 
+	private static final int _BATCH_SIZE = 500;
+
+	private static final int _LAST_ROW_ID_TIME_TO_LIVE =
+		(int)(Time.MINUTE * 10 / Time.SECOND);
+
+	private static final PortalCache<String, Long> _lastRowIds =
+		(PortalCache<String, Long>)SingleVMPoolUtil.getPortalCache(
+			MongoExpandoValueLocalServiceImpl.class.getName());
+
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mongodb.util;
+
+import com.liferay.expando.kernel.model.ExpandoColumn;
+import com.liferay.expando.kernel.model.ExpandoTable;
+import com.liferay.expando.kernel.service.ExpandoColumnLocalServiceUtil;
+import com.liferay.expando.kernel.service.ExpandoTableLocalServiceUtil;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caches the Expando tables and columns that describe the MongoDB collections
+ * so reading or writing a value does not look them up in the database. The
+ * cached tables and columns must be removed whenever they are updated or
+ * deleted. Callers get copies, so changing a returned model does not change
+ * the cached one.
+ *
+ * @author Raymond Augé
+ * @author Brian Wing Shun Chan
+ */
+public class ExpandoMetadataUtil {
+
+	public static ExpandoColumn getColumn(long columnId)
+		throws PortalException {
+
+		return _instance._getColumn(columnId);
+	}
+
+	public static ExpandoColumn getColumn(long tableId, String name)
+		throws PortalException {
+
+		return _instance._getColumn(tableId, name);
+	}
+
+	public static ExpandoColumn getColumn(
+			long companyId, long classNameId, String tableName, String name)
+		throws PortalException {
+
+		ExpandoTable expandoTable = _instance._getTable(
+			companyId, classNameId, tableName);
+
+		return _instance._getColumn(expandoTable.getTableId(), name);
+	}
+
+	public static List<ExpandoColumn> getColumns(long tableId) {
+		return _instance._getColumns(tableId);
+	}
+
+	public static ExpandoTable getTable(long tableId) throws PortalException {
+		return _instance._getTable(tableId);
+	}
+
+	public static ExpandoTable getTable(
+			long companyId, long classNameId, String name)
+		throws PortalException {
+
+		return _instance._getTable(companyId, classNameId, name);
+	}
+
+	public static void removeColumn(ExpandoColumn expandoColumn) {
+		_instance._removeColumn(expandoColumn);
+	}
+
+	public static void removeTable(ExpandoTable expandoTable) {
+		_instance._removeTable(expandoTable);
+	}
+
+	private ExpandoMetadataUtil() {
+		_columnPortalCache =
+			(PortalCache<Long, ExpandoColumn>)MultiVMPoolUtil.getPortalCache(
+				ExpandoMetadataUtil.class.getName() + "_COLUMN");
+		_columnsPortalCache =
+			(PortalCache<Long, ArrayList<ExpandoColumn>>)
+				MultiVMPoolUtil.getPortalCache(
+					ExpandoMetadataUtil.class.getName() + "_COLUMNS");
+		_tableIdPortalCache =
+			(PortalCache<String, Long>)MultiVMPoolUtil.getPortalCache(
+				ExpandoMetadataUtil.class.getName() + "_TABLE_ID");
+		_tablePortalCache =
+			(PortalCache<Long, ExpandoTable>)MultiVMPoolUtil.getPortalCache(
+				ExpandoMetadataUtil.class.getName() + "_TABLE");
+	}
+
+	private List<ExpandoColumn> _getCachedColumns(long tableId) {
+		ArrayList<ExpandoColumn> expandoColumns = _columnsPortalCache.get(
+			tableId);
+
+		if (expandoColumns == null) {
+			expandoColumns = new ArrayList<>(
+				ExpandoColumnLocalServiceUtil.getColumns(tableId));
+
+			_columnsPortalCache.put(tableId, expandoColumns);
+		}
+
+		return expandoColumns;
+	}
+
+	private ExpandoColumn _getColumn(long columnId) throws PortalException {
+		ExpandoColumn expandoColumn = _columnPortalCache.get(columnId);
+
+		if (expandoColumn == null) {
+			expandoColumn = ExpandoColumnLocalServiceUtil.getColumn(columnId);
+
+			_columnPortalCache.put(columnId, expandoColumn);
+		}
+
+		return (ExpandoColumn)expandoColumn.clone();
+	}
+
+	private ExpandoColumn _getColumn(long tableId, String name)
+		throws PortalException {
+
+		for (ExpandoColumn expandoColumn : _getCachedColumns(tableId)) {
+			if (name.equals(expandoColumn.getName())) {
+				return (ExpandoColumn)expandoColumn.clone();
+			}
+		}
+
+		return ExpandoColumnLocalServiceUtil.getColumn(tableId, name);
+	}
+
+	private List<ExpandoColumn> _getColumns(long tableId) {
+		List<ExpandoColumn> cachedExpandoColumns = _getCachedColumns(tableId);
+
+		List<ExpandoColumn> expandoColumns = new ArrayList<>(
+			cachedExpandoColumns.size());
+
+		for (ExpandoColumn expandoColumn : cachedExpandoColumns) {
+			expandoColumns.add((ExpandoColumn)expandoColumn.clone());
+		}
+
+		return expandoColumns;
+	}
+
+	private ExpandoTable _getTable(long tableId) throws PortalException {
+		ExpandoTable expandoTable = _tablePortalCache.get(tableId);
+
+		if (expandoTable == null) {
+			expandoTable = ExpandoTableLocalServiceUtil.getTable(tableId);
+
+			_tablePortalCache.put(tableId, expandoTable);
+		}
+
+		return (ExpandoTable)expandoTable.clone();
+	}
+
+	private ExpandoTable _getTable(
+			long companyId, long classNameId, String name)
+		throws PortalException {
+
+		String key = _getTableKey(companyId, classNameId, name);
+
+		Long tableId = _tableIdPortalCache.get(key);
+
+		if (tableId != null) {
+			return _getTable(tableId);
+		}
+
+		ExpandoTable expandoTable = ExpandoTableLocalServiceUtil.getTable(
+			companyId, classNameId, name);
+
+		_tableIdPortalCache.put(key, expandoTable.getTableId());
+		_tablePortalCache.put(expandoTable.getTableId(), expandoTable);
+
+		return (ExpandoTable)expandoTable.clone();
+	}
+
+	private String _getTableKey(long companyId, long classNameId, String name) {
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(companyId);
+		sb.append(StringPool.POUND);
+		sb.append(classNameId);
+		sb.append(StringPool.POUND);
+		sb.append(name);
+
+		return sb.toString();
+	}
+
+	private void _removeColumn(ExpandoColumn expandoColumn) {
+		_columnPortalCache.remove(expandoColumn.getColumnId());
+		_columnsPortalCache.remove(expandoColumn.getTableId());
+	}
+
+	private void _removeTable(ExpandoTable expandoTable) {
+
+		// The cached table still has its old name if it was renamed
+
+		ExpandoTable cachedExpandoTable = _tablePortalCache.get(
+			expandoTable.getTableId());
+
+		if (cachedExpandoTable != null) {
+			_tableIdPortalCache.remove(
+				_getTableKey(
+					cachedExpandoTable.getCompanyId(),
+					cachedExpandoTable.getClassNameId(),
+					cachedExpandoTable.getName()));
+		}
+
+		_tableIdPortalCache.remove(
+			_getTableKey(
+				expandoTable.getCompanyId(), expandoTable.getClassNameId(),
+				expandoTable.getName()));
+		_tablePortalCache.remove(expandoTable.getTableId());
+		_columnsPortalCache.remove(expandoTable.getTableId());
+	}
+
+	private static ExpandoMetadataUtil _instance = new ExpandoMetadataUtil();
+
+	private final PortalCache<Long, ExpandoColumn> _columnPortalCache;
+	private final PortalCache<Long, ArrayList<ExpandoColumn>>
+		_columnsPortalCache;
+	private final PortalCache<String, Long> _tableIdPortalCache;
+	private final PortalCache<Long, ExpandoTable> _tablePortalCache;
+
+}
\ No newline at end of file
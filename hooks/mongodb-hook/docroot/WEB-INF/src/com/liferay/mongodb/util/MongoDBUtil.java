@@ -22,14 +22,18 @@ import com.liferay.portal.kernel.util.PortalUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 
+import com.mongodb.BasicDBObject;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
 import com.mongodb.Mongo;
 import com.mongodb.MongoOptions;
 import com.mongodb.ServerAddress;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Raymond Augé
@@ -41,6 +45,16 @@ public class MongoDBUtil {
 		return _instance._authenticate(companyId);
 	}
 
+	public static void createColumnIndex(
+		DBCollection dbCollection, String columnName) {
+
+		_instance._createColumnIndex(dbCollection, columnName);
+	}
+
+	public static void createIndexes(DBCollection dbCollection) {
+		_instance._createIndexes(dbCollection);
+	}
+
 	public static DBCollection getCollection(ExpandoTable expandoTable) {
 		return _instance._getCollection(expandoTable);
 	}
@@ -69,6 +83,10 @@ public class MongoDBUtil {
 		return _instance._mongo;
 	}
 
+	public static void removeCachedCollection(long tableId) {
+		_instance._dbCollections.remove(tableId);
+	}
+
 	private MongoDBUtil() {
 		try {
 			_mongo = new Mongo(_getServerAddresses(), _getMongoOptions());
@@ -92,10 +110,57 @@ public class MongoDBUtil {
 			PortletPropsValues.SERVER_PASSWORD.toCharArray());
 	}
 
+	private void _createColumnIndex(
+		DBCollection dbCollection, String columnName) {
+
+		// Queries by value match on the column and sort by row ID. The index is
+		// built in the background so that it does not block the collection.
+
+		DBObject keysDBObject = new BasicDBObject();
+
+		keysDBObject.put(columnName, 1);
+		keysDBObject.put("rowId", 1);
+
+		dbCollection.createIndex(
+			keysDBObject, new BasicDBObject("background", true));
+	}
+
+	private void _createIndexes(DBCollection dbCollection) {
+		dbCollection.createIndex(new BasicDBObject("valueId", 1));
+		dbCollection.createIndex(new BasicDBObject("companyId", 1));
+		dbCollection.createIndex(new BasicDBObject("tableId", 1));
+		dbCollection.createIndex(new BasicDBObject("rowId", 1));
+		dbCollection.createIndex(new BasicDBObject("classNameId", 1));
+		dbCollection.createIndex(new BasicDBObject("classPK", 1));
+
+		// Every row lookup matches on all of these keys
+
+		DBObject rowDBObject = new BasicDBObject();
+
+		rowDBObject.put("companyId", 1);
+		rowDBObject.put("tableId", 1);
+		rowDBObject.put("rowId", 1);
+		rowDBObject.put("classNameId", 1);
+		rowDBObject.put("classPK", 1);
+
+		dbCollection.createIndex(rowDBObject);
+	}
+
 	private DBCollection _getCollection(ExpandoTable expandoTable) {
-		return _instance._getCollection(
+		DBCollection dbCollection = _dbCollections.get(
+			expandoTable.getTableId());
+
+		if (dbCollection != null) {
+			return dbCollection;
+		}
+
+		dbCollection = _getCollection(
 			expandoTable.getCompanyId(), expandoTable.getClassName(),
 			expandoTable.getName());
+
+		_dbCollections.put(expandoTable.getTableId(), dbCollection);
+
+		return dbCollection;
 	}
 
 	private DBCollection _getCollection(
@@ -169,6 +234,8 @@ public class MongoDBUtil {
 
 	private static MongoDBUtil _instance = new MongoDBUtil();
 
+	private final ConcurrentMap<Long, DBCollection> _dbCollections =
+		new ConcurrentHashMap<>();
 	private Mongo _mongo;
 
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.mongodb.util;
+
+import com.liferay.expando.kernel.model.ExpandoColumn;
+import com.liferay.mongodb.hook.service.impl.MongoExpandoValueLocalServiceImpl;
+import com.liferay.portal.kernel.exception.PortalException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the Expando values of many rows at once. The portal's
+ * ExpandoValueLocalService has no bulk method, so code that imports or
+ * migrates rows calls this instead of calling addValues once per row.
+ *
+ * @author Raymond Augé
+ * @author Brian Wing Shun Chan
+ */
+public class MongoExpandoValueUtil {
+
+	public static void addValues(
+			long classNameId, long tableId, List<ExpandoColumn> expandoColumns,
+			Map<Long, Map<String, String>> data)
+		throws PortalException {
+
+		if (_mongoExpandoValueLocalServiceImpl == null) {
+			throw new IllegalStateException(
+				"The MongoDB Expando value service is not registered");
+		}
+
+		_mongoExpandoValueLocalServiceImpl.addValues(
+			classNameId, tableId, expandoColumns, data);
+	}
+
+	public static void setMongoExpandoValueLocalServiceImpl(
+		MongoExpandoValueLocalServiceImpl mongoExpandoValueLocalServiceImpl) {
+
+		_mongoExpandoValueLocalServiceImpl = mongoExpandoValueLocalServiceImpl;
+	}
+
+	private static volatile MongoExpandoValueLocalServiceImpl
+		_mongoExpandoValueLocalServiceImpl;
+
+}
\ No newline at end of file
@@ -57,7 +57,11 @@ import java.text.Format;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
 
 /**
  * @author Brian Wing Shun Chan
@@ -243,6 +247,25 @@ public abstract class SOSocialActivityInterpreter
 				assetRenderer.getTitle(serviceContext.getLocale())));
 	}
 
+	protected RenderContext getRenderContext(ServiceContext serviceContext) {
+		HttpServletRequest request = serviceContext.getRequest();
+
+		if (request == null) {
+			return new RenderContext();
+		}
+
+		RenderContext renderContext = (RenderContext)request.getAttribute(
+			_RENDER_CONTEXT);
+
+		if (renderContext == null) {
+			renderContext = new RenderContext();
+
+			request.setAttribute(_RENDER_CONTEXT, renderContext);
+		}
+
+		return renderContext;
+	}
+
 	@Override
 	protected ResourceBundleLoader getResourceBundleLoader() {
 		return _resourceBundleLoader;
@@ -440,7 +463,17 @@ public abstract class SOSocialActivityInterpreter
 			SocialActivitySet activitySet, ServiceContext serviceContext)
 		throws Exception {
 
-		List<SocialActivity> viewableActivities = new ArrayList<>();
+		RenderContext renderContext = getRenderContext(serviceContext);
+
+		List<SocialActivity> viewableActivities =
+			renderContext.getViewableActivities(
+				activitySet.getActivitySetId());
+
+		if (viewableActivities != null) {
+			return viewableActivities;
+		}
+
+		viewableActivities = new ArrayList<>();
 
 		List<SocialActivity> activities =
 			SocialActivityLocalServiceUtil.getActivitySetActivities(
@@ -448,30 +481,14 @@ public abstract class SOSocialActivityInterpreter
 				QueryUtil.ALL_POS);
 
 		for (SocialActivity activity : activities) {
-			if (!hasPermissions(activity, serviceContext)) {
-				continue;
-			}
-
-			Group group = GroupLocalServiceUtil.fetchGroup(
-				activity.getGroupId());
-
-			if ((group != null) && group.isUser()) {
-				continue;
-			}
-
-			if (TrashUtil.isInTrash(
-					activity.getClassName(), activity.getClassPK())) {
-
-				continue;
-			}
-
-			if (!isVisible(activity)) {
-				continue;
+			if (isViewable(activity, serviceContext, renderContext)) {
+				viewableActivities.add(activity);
 			}
-
-			viewableActivities.add(activity);
 		}
 
+		renderContext.putViewableActivities(
+			activitySet.getActivitySetId(), viewableActivities);
+
 		return viewableActivities;
 	}
 
@@ -547,6 +564,50 @@ public abstract class SOSocialActivityInterpreter
 		return false;
 	}
 
+	protected boolean isViewable(
+			SocialActivity activity, ServiceContext serviceContext,
+			RenderContext renderContext)
+		throws Exception {
+
+		Boolean userGroup = renderContext.isUserGroup(activity.getGroupId());
+
+		if (userGroup == null) {
+			Group group = GroupLocalServiceUtil.fetchGroup(
+				activity.getGroupId());
+
+			userGroup = (group != null) && group.isUser();
+
+			renderContext.putUserGroup(activity.getGroupId(), userGroup);
+		}
+
+		if (userGroup) {
+			return false;
+		}
+
+		// Activities on the same asset share the permission and trash checks.
+		// Visibility can depend on the activity's type and create date, so it
+		// is checked for every activity.
+
+		Boolean accessible = renderContext.isAccessible(
+			activity.getClassName(), activity.getClassPK());
+
+		if (accessible == null) {
+			accessible =
+				hasPermissions(activity, serviceContext) &&
+				!TrashUtil.isInTrash(
+					activity.getClassName(), activity.getClassPK());
+
+			renderContext.putAccessible(
+				activity.getClassName(), activity.getClassPK(), accessible);
+		}
+
+		if (!accessible) {
+			return false;
+		}
+
+		return isVisible(activity);
+	}
+
 	protected boolean isVisible(SocialActivity activity) throws Exception {
 		return true;
 	}
@@ -567,10 +628,61 @@ public abstract class SOSocialActivityInterpreter
 		return sb.toString();
 	}
 
+	private static final String _RENDER_CONTEXT =
+		SOSocialActivityInterpreter.class.getName() + "_RENDER_CONTEXT";
+
 	private static final String _SELECTOR = "SO";
 
 	private final ResourceBundleLoader _resourceBundleLoader =
 		new ClassResourceBundleLoader(
 			"content.Language", SOSocialActivityInterpreter.class);
 
+	/**
+	 * Holds the viewable activities of each activity set while a feed page is
+	 * rendered, so that every activity set on the page is loaded and filtered
+	 * only once. Also holds the per group and per asset checks the activities
+	 * were filtered with, which do not depend on the activity itself.
+	 */
+	protected static class RenderContext {
+
+		public List<SocialActivity> getViewableActivities(long activitySetId) {
+			return _viewableActivities.get(activitySetId);
+		}
+
+		public Boolean isAccessible(String className, long classPK) {
+			return _accessibles.get(_getKey(className, classPK));
+		}
+
+		public Boolean isUserGroup(long groupId) {
+			return _userGroups.get(groupId);
+		}
+
+		public void putAccessible(
+			String className, long classPK, boolean accessible) {
+
+			_accessibles.put(_getKey(className, classPK), accessible);
+		}
+
+		public void putUserGroup(long groupId, boolean userGroup) {
+			_userGroups.put(groupId, userGroup);
+		}
+
+		public void putViewableActivities(
+			long activitySetId, List<SocialActivity> viewableActivities) {
+
+			_viewableActivities.put(activitySetId, viewableActivities);
+		}
+
+		private String _getKey(String className, long classPK) {
+			return className.concat(StringPool.POUND).concat(
+				String.valueOf(classPK));
+		}
+
+		private final Map<String, Boolean> _accessibles = new HashMap<>();
+		private final Map<Long, Boolean> _userGroups = new HashMap<>();
+		private final Map<Long, List<SocialActivity>> _viewableActivities =
+			new HashMap<>();
+
+	}
+
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.liferay.portal.kernel.events.ActionException;
 import com.liferay.portal.kernel.events.SimpleAction;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.so.util.InstanceUtil;
+import com.liferay.so.util.SocialOfficeUtil;
 
 /**
  * @author Brian Wing Shun Chan
@@ -43,6 +44,8 @@ public class StartupAction extends SimpleAction {
 	protected void doRun(long companyId) throws Exception {
 		InstanceUtil.initRuntime(companyId);
 
+		SocialOfficeUtil.resumeUpdateGroupUsers(companyId);
+
 		if (InstanceUtil.isInitialized(companyId)) {
 			return;
 		}
@@ -17,9 +17,6 @@
 
 package com.liferay.so.hook.listeners;
 
-import com.liferay.portal.kernel.cache.thread.local.Lifecycle;
-import com.liferay.portal.kernel.cache.thread.local.ThreadLocalCacheManager;
-import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
 import com.liferay.portal.kernel.exception.ModelListenerException;
 import com.liferay.portal.kernel.exception.NoSuchGroupException;
 import com.liferay.portal.kernel.model.BaseModelListener;
@@ -31,7 +28,6 @@ import com.liferay.portal.kernel.model.UserGroup;
 import com.liferay.portal.kernel.service.GroupLocalServiceUtil;
 import com.liferay.portal.kernel.service.RoleLocalServiceUtil;
 import com.liferay.portal.kernel.service.UserLocalServiceUtil;
-import com.liferay.portal.kernel.service.persistence.impl.TableMapper;
 import com.liferay.so.service.SocialOfficeServiceUtil;
 import com.liferay.so.util.LayoutSetPrototypeUtil;
 import com.liferay.so.util.RoleConstants;
@@ -116,17 +112,14 @@ public class UserModelListener extends BaseModelListener<User> {
 		try {
 			User user = UserLocalServiceUtil.getUser((Long)classPK);
 
-			FinderCacheUtil.clearCache(
-				_MAPPING_TABLE_USERS_ROLES_NAME_LEFT_TO_RIGHT);
-			FinderCacheUtil.clearCache(
-				_MAPPING_TABLE_USERS_ROLES_NAME_RIGHT_TO_LEFT);
+			Role role = RoleLocalServiceUtil.fetchRole(
+				user.getCompanyId(), RoleConstants.SOCIAL_OFFICE_USER);
 
-			ThreadLocalCacheManager.clearAll(Lifecycle.REQUEST);
-
-			if (UserLocalServiceUtil.hasRoleUser(
-					user.getCompanyId(), RoleConstants.SOCIAL_OFFICE_USER,
-					user.getUserId(), true)) {
+			if (role == null) {
+				return;
+			}
 
+			if (SocialOfficeUtil.hasRoleUser(role.getRoleId(), user)) {
 				return;
 			}
 
@@ -134,9 +127,6 @@ public class UserModelListener extends BaseModelListener<User> {
 				associationClassName.equals(Organization.class.getName()) ||
 				associationClassName.equals(UserGroup.class.getName())) {
 
-				Role role = RoleLocalServiceUtil.getRole(
-					user.getCompanyId(), RoleConstants.SOCIAL_OFFICE_USER);
-
 				Group group = null;
 
 				if (associationClassName.equals(Group.class.getName())) {
@@ -163,12 +153,7 @@ public class UserModelListener extends BaseModelListener<User> {
 				}
 			}
 			else if (associationClassName.equals(Role.class.getName())) {
-				Role role = RoleLocalServiceUtil.getRole(
-					(Long)associationClassPK);
-
-				String name = role.getName();
-
-				if (name.equals(RoleConstants.SOCIAL_OFFICE_USER)) {
+				if (role.getRoleId() == (Long)associationClassPK) {
 					disableSocialOffice(user.getGroup());
 				}
 			}
@@ -210,16 +195,4 @@ public class UserModelListener extends BaseModelListener<User> {
 		SocialOfficeUtil.enableSocialOffice(group);
 	}
 
-	/**
-	 * {@link com.liferay.portal.kernel.service.persistence.impl.TableMapperImpl}
-	 */
-	private static final String _MAPPING_TABLE_USERS_ROLES_NAME_LEFT_TO_RIGHT =
-		TableMapper.class.getName() + "-Users_Roles-LeftToRight";
-
-	/**
-	 * {@link com.liferay.portal.kernel.service.persistence.impl.TableMapperImpl}
-	 */
-	private static final String _MAPPING_TABLE_USERS_ROLES_NAME_RIGHT_TO_LEFT =
-		TableMapper.class.getName() + "-Users_Roles-RightToLeft";
-
 }
\ No newline at end of file
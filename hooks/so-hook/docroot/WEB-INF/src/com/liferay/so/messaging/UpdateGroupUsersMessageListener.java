@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.so.messaging;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
+import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.model.Organization;
+import com.liferay.portal.kernel.model.Role;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.model.UserGroup;
+import com.liferay.portal.kernel.service.GroupLocalServiceUtil;
+import com.liferay.portal.kernel.service.RoleLocalServiceUtil;
+import com.liferay.portal.kernel.service.UserLocalServiceUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.so.service.SocialOfficeServiceUtil;
+import com.liferay.so.util.LayoutSetPrototypeUtil;
+import com.liferay.so.util.PortletPropsValues;
+import com.liferay.so.util.SocialOfficeConstants;
+import com.liferay.so.util.SocialOfficeUtil;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Enables or disables Social Office for one batch of the members of a group
+ * that the Social Office User role was added to or removed from, then saves
+ * the start of the next batch in the group and queues it. Batches stop as
+ * soon as the group's role no longer matches the update, for example when the
+ * role is removed while members are still being enabled. Users that could
+ * not be updated are carried from batch to batch and reported after the last
+ * one.
+ *
+ * @author Jonathan Lee
+ */
+public class UpdateGroupUsersMessageListener extends BaseMessageListener {
+
+	protected void disableSocialOffice(Role role, User user) throws Exception {
+		Group userGroup = user.getGroup();
+
+		if (!SocialOfficeServiceUtil.isSocialOfficeGroup(
+				userGroup.getGroupId())) {
+
+			return;
+		}
+
+		if (SocialOfficeUtil.hasRoleUser(role.getRoleId(), user)) {
+			return;
+		}
+
+		LayoutSetPrototypeUtil.removeLayoutSetPrototype(
+			userGroup, false,
+			SocialOfficeConstants.LAYOUT_SET_PROTOTYPE_KEY_USER_PUBLIC);
+		LayoutSetPrototypeUtil.removeLayoutSetPrototype(
+			userGroup, true,
+			SocialOfficeConstants.LAYOUT_SET_PROTOTYPE_KEY_USER_PRIVATE);
+
+		SocialOfficeUtil.disableSocialOffice(userGroup);
+	}
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		boolean enabled = message.getBoolean("enabled");
+		long groupId = message.getLong("groupId");
+		long roleId = message.getLong("roleId");
+		int start = message.getInteger("start");
+
+		Group group = GroupLocalServiceUtil.fetchGroup(groupId);
+		Role role = RoleLocalServiceUtil.fetchRole(roleId);
+
+		if ((group == null) || (role == null)) {
+			SocialOfficeUtil.removeUpdateGroupUsersStart(
+				groupId, roleId, enabled);
+
+			return;
+		}
+
+		if (!SocialOfficeUtil.hasUpdateGroupUsersStart(
+				group, roleId, enabled)) {
+
+			return;
+		}
+
+		if (GroupLocalServiceUtil.hasRoleGroup(roleId, groupId) != enabled) {
+			if (_log.isInfoEnabled()) {
+				_log.info(
+					"Stopped updating Social Office for users of group " +
+						groupId + " because its roles changed");
+			}
+
+			SocialOfficeUtil.removeUpdateGroupUsersStart(
+				groupId, roleId, enabled);
+
+			return;
+		}
+
+		int end = start + PortletPropsValues.UPDATE_GROUP_USERS_BATCH_SIZE;
+
+		List<User> users = getUsers(group, start, end);
+
+		long[] failedUserIds = (long[])message.get("failedUserIds");
+
+		if (failedUserIds == null) {
+			failedUserIds = new long[0];
+		}
+
+		for (User user : users) {
+			try {
+				if (enabled) {
+					enableSocialOffice(user);
+				}
+				else {
+					disableSocialOffice(role, user);
+				}
+			}
+			catch (Exception e) {
+				_log.error(
+					"Unable to update Social Office for user " +
+						user.getUserId(),
+					e);
+
+				failedUserIds = ArrayUtil.append(
+					failedUserIds, user.getUserId());
+			}
+		}
+
+		int count = start + users.size();
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Updated Social Office for " + count + " of " +
+					getUsersCount(group) + " users of group " + groupId);
+		}
+
+		if (users.size() < PortletPropsValues.UPDATE_GROUP_USERS_BATCH_SIZE) {
+			SocialOfficeUtil.removeUpdateGroupUsersStart(
+				groupId, roleId, enabled);
+
+			if (failedUserIds.length > 0) {
+				_log.error(
+					"Unable to update Social Office for " +
+						failedUserIds.length + " users of group " + groupId +
+							": " + StringUtil.merge(failedUserIds));
+			}
+
+			return;
+		}
+
+		SocialOfficeUtil.updateGroupUsersStart(groupId, roleId, enabled, end);
+
+		Message nextMessage = new Message();
+
+		nextMessage.setValues(new HashMap<>(message.getValues()));
+
+		nextMessage.put("failedUserIds", failedUserIds);
+		nextMessage.put("start", end);
+
+		MessageBusUtil.sendMessage(message.getDestinationName(), nextMessage);
+	}
+
+	protected void enableSocialOffice(User user) throws Exception {
+		Group userGroup = user.getGroup();
+
+		if (SocialOfficeServiceUtil.isSocialOfficeGroup(
+				userGroup.getGroupId())) {
+
+			return;
+		}
+
+		LayoutSetPrototypeUtil.updateLayoutSetPrototype(
+			userGroup, false,
+			SocialOfficeConstants.LAYOUT_SET_PROTOTYPE_KEY_USER_PUBLIC);
+		LayoutSetPrototypeUtil.updateLayoutSetPrototype(
+			userGroup, true,
+			SocialOfficeConstants.LAYOUT_SET_PROTOTYPE_KEY_USER_PRIVATE);
+
+		SocialOfficeUtil.enableSocialOffice(userGroup);
+	}
+
+	protected List<User> getUsers(Group group, int start, int end) {
+		String className = group.getClassName();
+
+		if (className.equals(UserGroup.class.getName())) {
+			return UserLocalServiceUtil.getUserGroupUsers(
+				group.getClassPK(), start, end);
+		}
+		else if (className.equals(Organization.class.getName())) {
+			return UserLocalServiceUtil.getOrganizationUsers(
+				group.getClassPK(), start, end);
+		}
+		else if (className.equals(Group.class.getName())) {
+			return UserLocalServiceUtil.getGroupUsers(
+				group.getClassPK(), start, end);
+		}
+
+		return Collections.emptyList();
+	}
+
+	protected int getUsersCount(Group group) {
+		String className = group.getClassName();
+
+		if (className.equals(UserGroup.class.getName())) {
+			return UserLocalServiceUtil.getUserGroupUsersCount(
+				group.getClassPK());
+		}
+		else if (className.equals(Organization.class.getName())) {
+			return UserLocalServiceUtil.getOrganizationUsersCount(
+				group.getClassPK());
+		}
+		else if (className.equals(Group.class.getName())) {
+			return UserLocalServiceUtil.getGroupUsersCount(group.getClassPK());
+		}
+
+		return 0;
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		UpdateGroupUsersMessageListener.class);
+
+}
\ No newline at end of file
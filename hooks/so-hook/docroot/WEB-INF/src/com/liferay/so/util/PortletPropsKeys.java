@@ -36,6 +36,9 @@ public interface PortletPropsKeys {
 	public static final String SO_USER_DEFAULT_LANDING_PAGE_PATH =
 		"so.user.default.landing.page.path";
 
+	public static final String UPDATE_GROUP_USERS_BATCH_SIZE =
+		"update.group.users.batch.size";
+
 	public static final String USER_PRIVATE_LAYOUT_PORTLETS =
 		"user.private.layout.portlets.";
 
@@ -40,4 +40,8 @@ public class PortletPropsValues {
 			PortletProps.get(
 				PortletPropsKeys.SO_USER_DEFAULT_LANDING_PAGE_PATH));
 
+	public static final int UPDATE_GROUP_USERS_BATCH_SIZE =
+		GetterUtil.getInteger(
+			PortletProps.get(PortletPropsKeys.UPDATE_GROUP_USERS_BATCH_SIZE));
+
 }
\ No newline at end of file
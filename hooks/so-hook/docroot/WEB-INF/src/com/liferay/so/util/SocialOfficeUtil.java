@@ -20,10 +20,26 @@ package com.liferay.so.util;
 import com.liferay.expando.kernel.model.ExpandoTableConstants;
 import com.liferay.expando.kernel.model.ExpandoValue;
 import com.liferay.expando.kernel.service.ExpandoValueLocalServiceUtil;
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.service.GroupLocalServiceUtil;
+import com.liferay.portal.kernel.service.UserLocalServiceUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.UnicodeProperties;
 
+import java.util.concurrent.Callable;
+
 /**
  * @author Jonathan Lee
  * @author Eudaldo Alonso
@@ -65,4 +81,247 @@ public class SocialOfficeUtil {
 			group.getGroupId(), true);
 	}
 
+	/**
+	 * Returns <code>true</code> if the user has the role directly or through
+	 * a group. The groups checked are the user's sites, the groups of the
+	 * user's organizations and user groups, and the sites those organizations
+	 * and user groups are members of. The result is not cached for the
+	 * request, so it reflects associations removed earlier in the same
+	 * request.
+	 */
+	public static boolean hasRoleUser(long roleId, User user)
+		throws PortalException {
+
+		if (UserLocalServiceUtil.hasRoleUser(roleId, user.getUserId())) {
+			return true;
+		}
+
+		for (long groupId : user.getGroupIds()) {
+			if (GroupLocalServiceUtil.hasRoleGroup(roleId, groupId)) {
+				return true;
+			}
+		}
+
+		for (long organizationId : user.getOrganizationIds()) {
+			Group group = GroupLocalServiceUtil.getOrganizationGroup(
+				user.getCompanyId(), organizationId);
+
+			if (GroupLocalServiceUtil.hasRoleGroup(
+					roleId, group.getGroupId())) {
+
+				return true;
+			}
+
+			for (Group organizationSite :
+					GroupLocalServiceUtil.getOrganizationGroups(
+						organizationId)) {
+
+				if (GroupLocalServiceUtil.hasRoleGroup(
+						roleId, organizationSite.getGroupId())) {
+
+					return true;
+				}
+			}
+		}
+
+		for (long userGroupId : user.getUserGroupIds()) {
+			Group group = GroupLocalServiceUtil.getUserGroupGroup(
+				user.getCompanyId(), userGroupId);
+
+			if (GroupLocalServiceUtil.hasRoleGroup(
+					roleId, group.getGroupId())) {
+
+				return true;
+			}
+
+			for (Group userGroupSite :
+					GroupLocalServiceUtil.getUserGroupGroups(userGroupId)) {
+
+				if (GroupLocalServiceUtil.hasRoleGroup(
+						roleId, userGroupSite.getGroupId())) {
+
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if the group's saved batch start belongs to
+	 * an update with the role and direction.
+	 */
+	public static boolean hasUpdateGroupUsersStart(
+		Group group, long roleId, boolean enabled) {
+
+		String[] values = StringUtil.split(
+			group.getTypeSettingsProperty(_UPDATE_GROUP_USERS_START));
+
+		if ((values.length != 3) ||
+			(GetterUtil.getLong(values[0]) != roleId) ||
+			(GetterUtil.getBoolean(values[1]) != enabled)) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Enables or disables Social Office for the members of the group in the
+	 * background, in batches, once the current transaction commits. The start
+	 * of the next batch is kept in the group's type settings until the last
+	 * batch is done, so {@link #resumeUpdateGroupUsers(long)} can pick up an
+	 * update that a shutdown interrupted.
+	 */
+	public static void queueUpdateGroupUsers(
+			long roleId, long groupId, boolean enabled)
+		throws PortalException {
+
+		updateGroupUsersStart(groupId, roleId, enabled, 0);
+
+		final Message message = createUpdateGroupUsersMessage(
+			roleId, groupId, enabled, 0);
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				MessageBusUtil.sendMessage(
+					_DESTINATION_UPDATE_GROUP_USERS, message);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	/**
+	 * Removes the saved start of the next batch once the update is done. A
+	 * start saved by a later update of the group with another role or
+	 * direction is left alone.
+	 */
+	public static void removeUpdateGroupUsersStart(
+			long groupId, long roleId, boolean enabled)
+		throws PortalException {
+
+		Group group = GroupLocalServiceUtil.fetchGroup(groupId);
+
+		if ((group == null) ||
+			!hasUpdateGroupUsersStart(group, roleId, enabled)) {
+
+			return;
+		}
+
+		UnicodeProperties typeSettingsProperties =
+			group.getTypeSettingsProperties();
+
+		typeSettingsProperties.remove(_UPDATE_GROUP_USERS_START);
+
+		GroupLocalServiceUtil.updateGroup(
+			groupId, typeSettingsProperties.toString());
+	}
+
+	/**
+	 * Queues the next batch of every update of group members that was still
+	 * running when the portal stopped.
+	 */
+	public static void resumeUpdateGroupUsers(long companyId)
+		throws PortalException {
+
+		ActionableDynamicQuery actionableDynamicQuery =
+			GroupLocalServiceUtil.getActionableDynamicQuery();
+
+		actionableDynamicQuery.setAddCriteriaMethod(
+			new ActionableDynamicQuery.AddCriteriaMethod() {
+
+				@Override
+				public void addCriteria(DynamicQuery dynamicQuery) {
+					Property property = PropertyFactoryUtil.forName(
+						"typeSettings");
+
+					dynamicQuery.add(
+						property.like(
+							StringPool.PERCENT + _UPDATE_GROUP_USERS_START +
+								StringPool.PERCENT));
+				}
+
+			});
+		actionableDynamicQuery.setCompanyId(companyId);
+		actionableDynamicQuery.setPerformActionMethod(
+			new ActionableDynamicQuery.PerformActionMethod<Group>() {
+
+				@Override
+				public void performAction(Group group) {
+					String[] values = StringUtil.split(
+						group.getTypeSettingsProperty(
+							_UPDATE_GROUP_USERS_START));
+
+					if (values.length != 3) {
+						return;
+					}
+
+					Message message = createUpdateGroupUsersMessage(
+						GetterUtil.getLong(values[0]), group.getGroupId(),
+						GetterUtil.getBoolean(values[1]),
+						GetterUtil.getInteger(values[2]));
+
+					MessageBusUtil.sendMessage(
+						_DESTINATION_UPDATE_GROUP_USERS, message);
+				}
+
+			});
+
+		actionableDynamicQuery.performActions();
+	}
+
+	/**
+	 * Saves the start of the next batch of an update of the group's members.
+	 */
+	public static void updateGroupUsersStart(
+			long groupId, long roleId, boolean enabled, int start)
+		throws PortalException {
+
+		Group group = GroupLocalServiceUtil.getGroup(groupId);
+
+		UnicodeProperties typeSettingsProperties =
+			group.getTypeSettingsProperties();
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(roleId);
+		sb.append(StringPool.COMMA);
+		sb.append(enabled);
+		sb.append(StringPool.COMMA);
+		sb.append(start);
+
+		typeSettingsProperties.setProperty(
+			_UPDATE_GROUP_USERS_START, sb.toString());
+
+		GroupLocalServiceUtil.updateGroup(
+			groupId, typeSettingsProperties.toString());
+	}
+
+	protected static Message createUpdateGroupUsersMessage(
+		long roleId, long groupId, boolean enabled, int start) {
+
+		Message message = new Message();
+
+		message.put("enabled", enabled);
+		message.put("groupId", groupId);
+		message.put("roleId", roleId);
+		message.put("start", start);
+
+		return message;
+	}
+
+	private static final String _DESTINATION_UPDATE_GROUP_USERS =
+		"liferay/so_update_group_users";
+
+	private static final String _UPDATE_GROUP_USERS_START =
+		"social-office-update-group-users-start";
+
 }
\ No newline at end of file
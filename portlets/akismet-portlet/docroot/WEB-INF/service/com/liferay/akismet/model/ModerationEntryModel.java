@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.AttachedModel;
+import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.ShardedModel;
+import com.liferay.portal.kernel.service.ServiceContext;
+
+import java.io.Serializable;
+
+/**
+ * The base model interface for the ModerationEntry service. Represents a row in the &quot;Akismet_ModerationEntry&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This interface and its corresponding implementation {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link com.liferay.akismet.model.impl.ModerationEntryImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntry
+ * @see com.liferay.akismet.model.impl.ModerationEntryImpl
+ * @see com.liferay.akismet.model.impl.ModerationEntryModelImpl
+ * @generated
+ */
+@ProviderType
+public interface ModerationEntryModel extends AttachedModel,
+	BaseModel<ModerationEntry>, ShardedModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. All methods that expect a moderation entry model instance should use the {@link ModerationEntry} interface instead.
+	 */
+
+	/**
+	 * Returns the primary key of this moderation entry.
+	 *
+	 * @return the primary key of this moderation entry
+	 */
+	public long getPrimaryKey();
+
+	/**
+	 * Sets the primary key of this moderation entry.
+	 *
+	 * @param primaryKey the primary key of this moderation entry
+	 */
+	public void setPrimaryKey(long primaryKey);
+
+	/**
+	 * Returns the moderation entry ID of this moderation entry.
+	 *
+	 * @return the moderation entry ID of this moderation entry
+	 */
+	public long getModerationEntryId();
+
+	/**
+	 * Sets the moderation entry ID of this moderation entry.
+	 *
+	 * @param moderationEntryId the moderation entry ID of this moderation entry
+	 */
+	public void setModerationEntryId(long moderationEntryId);
+
+	/**
+	 * Returns the group ID of this moderation entry.
+	 *
+	 * @return the group ID of this moderation entry
+	 */
+	public long getGroupId();
+
+	/**
+	 * Sets the group ID of this moderation entry.
+	 *
+	 * @param groupId the group ID of this moderation entry
+	 */
+	public void setGroupId(long groupId);
+
+	/**
+	 * Returns the company ID of this moderation entry.
+	 *
+	 * @return the company ID of this moderation entry
+	 */
+	@Override
+	public long getCompanyId();
+
+	/**
+	 * Sets the company ID of this moderation entry.
+	 *
+	 * @param companyId the company ID of this moderation entry
+	 */
+	@Override
+	public void setCompanyId(long companyId);
+
+	/**
+	 * Returns the fully qualified class name of this moderation entry.
+	 *
+	 * @return the fully qualified class name of this moderation entry
+	 */
+	@Override
+	public String getClassName();
+
+	public void setClassName(String className);
+
+	/**
+	 * Returns the class name ID of this moderation entry.
+	 *
+	 * @return the class name ID of this moderation entry
+	 */
+	@Override
+	public long getClassNameId();
+
+	/**
+	 * Sets the class name ID of this moderation entry.
+	 *
+	 * @param classNameId the class name ID of this moderation entry
+	 */
+	@Override
+	public void setClassNameId(long classNameId);
+
+	/**
+	 * Returns the class p k of this moderation entry.
+	 *
+	 * @return the class p k of this moderation entry
+	 */
+	@Override
+	public long getClassPK();
+
+	/**
+	 * Sets the class p k of this moderation entry.
+	 *
+	 * @param classPK the class p k of this moderation entry
+	 */
+	@Override
+	public void setClassPK(long classPK);
+
+	/**
+	 * Returns the type of this moderation entry.
+	 *
+	 * @return the type of this moderation entry
+	 */
+	public int getType();
+
+	/**
+	 * Sets the type of this moderation entry.
+	 *
+	 * @param type the type of this moderation entry
+	 */
+	public void setType(int type);
+
+	@Override
+	public boolean isNew();
+
+	@Override
+	public void setNew(boolean n);
+
+	@Override
+	public boolean isCachedModel();
+
+	@Override
+	public void setCachedModel(boolean cachedModel);
+
+	@Override
+	public boolean isEscapedModel();
+
+	@Override
+	public Serializable getPrimaryKeyObj();
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj);
+
+	@Override
+	public ExpandoBridge getExpandoBridge();
+
+	@Override
+	public void setExpandoBridgeAttributes(BaseModel<?> baseModel);
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge);
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext);
+
+	@Override
+	public Object clone();
+
+	@Override
+	public int compareTo(com.liferay.akismet.model.ModerationEntry moderationEntry);
+
+	@Override
+	public int hashCode();
+
+	@Override
+	public CacheModel<com.liferay.akismet.model.ModerationEntry> toCacheModel();
+
+	@Override
+	public com.liferay.akismet.model.ModerationEntry toEscapedModel();
+
+	@Override
+	public com.liferay.akismet.model.ModerationEntry toUnescapedModel();
+
+	@Override
+	public String toString();
+
+	@Override
+	public String toXmlString();
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class is used by SOAP remote services.
+ *
+ * @author Brian Wing Shun Chan
+ * @generated
+ */
+@ProviderType
+public class ModerationEntrySoap implements Serializable {
+	public static ModerationEntrySoap toSoapModel(ModerationEntry model) {
+		ModerationEntrySoap soapModel = new ModerationEntrySoap();
+
+		soapModel.setModerationEntryId(model.getModerationEntryId());
+		soapModel.setGroupId(model.getGroupId());
+		soapModel.setCompanyId(model.getCompanyId());
+		soapModel.setClassNameId(model.getClassNameId());
+		soapModel.setClassPK(model.getClassPK());
+		soapModel.setType(model.getType());
+
+		return soapModel;
+	}
+
+	public static ModerationEntrySoap[] toSoapModels(ModerationEntry[] models) {
+		ModerationEntrySoap[] soapModels = new ModerationEntrySoap[models.length];
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModel(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static ModerationEntrySoap[][] toSoapModels(ModerationEntry[][] models) {
+		ModerationEntrySoap[][] soapModels = null;
+
+		if (models.length > 0) {
+			soapModels = new ModerationEntrySoap[models.length][models[0].length];
+		}
+		else {
+			soapModels = new ModerationEntrySoap[0][0];
+		}
+
+		for (int i = 0; i < models.length; i++) {
+			soapModels[i] = toSoapModels(models[i]);
+		}
+
+		return soapModels;
+	}
+
+	public static ModerationEntrySoap[] toSoapModels(List<ModerationEntry> models) {
+		List<ModerationEntrySoap> soapModels = new ArrayList<ModerationEntrySoap>(models.size());
+
+		for (ModerationEntry model : models) {
+			soapModels.add(toSoapModel(model));
+		}
+
+		return soapModels.toArray(new ModerationEntrySoap[soapModels.size()]);
+	}
+
+	public ModerationEntrySoap() {
+	}
+
+	public long getPrimaryKey() {
+		return _moderationEntryId;
+	}
+
+	public void setPrimaryKey(long pk) {
+		setModerationEntryId(pk);
+	}
+
+	public long getModerationEntryId() {
+		return _moderationEntryId;
+	}
+
+	public void setModerationEntryId(long moderationEntryId) {
+		_moderationEntryId = moderationEntryId;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public void setGroupId(long groupId) {
+		_groupId = groupId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public void setCompanyId(long companyId) {
+		_companyId = companyId;
+	}
+
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	public void setClassNameId(long classNameId) {
+		_classNameId = classNameId;
+	}
+
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	public void setClassPK(long classPK) {
+		_classPK = classPK;
+	}
+
+	public int getType() {
+		return _type;
+	}
+
+	public void setType(int type) {
+		_type = type;
+	}
+
+	private long _moderationEntryId;
+	private long _groupId;
+	private long _companyId;
+	private long _classNameId;
+	private long _classPK;
+	private int _type;
+}
\ No newline at end of file
@@ -0,0 +1,406 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.model;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+
+import com.liferay.portal.kernel.model.ModelWrapper;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.Serializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * This class is a wrapper for {@link ModerationEntry}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntry
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryWrapper implements ModerationEntry,
+	ModelWrapper<ModerationEntry> {
+	public ModerationEntryWrapper(ModerationEntry moderationEntry) {
+		_moderationEntry = moderationEntry;
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return ModerationEntry.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return ModerationEntry.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("moderationEntryId", getModerationEntryId());
+		attributes.put("groupId", getGroupId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("type", getType());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long moderationEntryId = (Long)attributes.get("moderationEntryId");
+
+		if (moderationEntryId != null) {
+			setModerationEntryId(moderationEntryId);
+		}
+
+		Long groupId = (Long)attributes.get("groupId");
+
+		if (groupId != null) {
+			setGroupId(groupId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		Integer type = (Integer)attributes.get("type");
+
+		if (type != null) {
+			setType(type);
+		}
+	}
+
+	@Override
+	public boolean isCachedModel() {
+		return _moderationEntry.isCachedModel();
+	}
+
+	@Override
+	public boolean isEscapedModel() {
+		return _moderationEntry.isEscapedModel();
+	}
+
+	@Override
+	public boolean isNew() {
+		return _moderationEntry.isNew();
+	}
+
+	@Override
+	public com.liferay.akismet.model.ModerationEntry toEscapedModel() {
+		return new ModerationEntryWrapper(_moderationEntry.toEscapedModel());
+	}
+
+	@Override
+	public com.liferay.akismet.model.ModerationEntry toUnescapedModel() {
+		return new ModerationEntryWrapper(_moderationEntry.toUnescapedModel());
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return _moderationEntry.getExpandoBridge();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.CacheModel<com.liferay.akismet.model.ModerationEntry> toCacheModel() {
+		return _moderationEntry.toCacheModel();
+	}
+
+	@Override
+	public int compareTo(
+		com.liferay.akismet.model.ModerationEntry moderationEntry) {
+		return _moderationEntry.compareTo(moderationEntry);
+	}
+
+	/**
+	* Returns the type of this moderation entry.
+	*
+	* @return the type of this moderation entry
+	*/
+	@Override
+	public int getType() {
+		return _moderationEntry.getType();
+	}
+
+	@Override
+	public int hashCode() {
+		return _moderationEntry.hashCode();
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _moderationEntry.getPrimaryKeyObj();
+	}
+
+	@Override
+	public java.lang.Object clone() {
+		return new ModerationEntryWrapper((ModerationEntry)_moderationEntry.clone());
+	}
+
+	/**
+	* Returns the fully qualified class name of this moderation entry.
+	*
+	* @return the fully qualified class name of this moderation entry
+	*/
+	@Override
+	public java.lang.String getClassName() {
+		return _moderationEntry.getClassName();
+	}
+
+	@Override
+	public java.lang.String toString() {
+		return _moderationEntry.toString();
+	}
+
+	@Override
+	public java.lang.String toXmlString() {
+		return _moderationEntry.toXmlString();
+	}
+
+	/**
+	* Returns the class name ID of this moderation entry.
+	*
+	* @return the class name ID of this moderation entry
+	*/
+	@Override
+	public long getClassNameId() {
+		return _moderationEntry.getClassNameId();
+	}
+
+	/**
+	* Returns the class p k of this moderation entry.
+	*
+	* @return the class p k of this moderation entry
+	*/
+	@Override
+	public long getClassPK() {
+		return _moderationEntry.getClassPK();
+	}
+
+	/**
+	* Returns the company ID of this moderation entry.
+	*
+	* @return the company ID of this moderation entry
+	*/
+	@Override
+	public long getCompanyId() {
+		return _moderationEntry.getCompanyId();
+	}
+
+	/**
+	* Returns the group ID of this moderation entry.
+	*
+	* @return the group ID of this moderation entry
+	*/
+	@Override
+	public long getGroupId() {
+		return _moderationEntry.getGroupId();
+	}
+
+	/**
+	* Returns the moderation entry ID of this moderation entry.
+	*
+	* @return the moderation entry ID of this moderation entry
+	*/
+	@Override
+	public long getModerationEntryId() {
+		return _moderationEntry.getModerationEntryId();
+	}
+
+	/**
+	* Returns the primary key of this moderation entry.
+	*
+	* @return the primary key of this moderation entry
+	*/
+	@Override
+	public long getPrimaryKey() {
+		return _moderationEntry.getPrimaryKey();
+	}
+
+	@Override
+	public void persist() {
+		_moderationEntry.persist();
+	}
+
+	@Override
+	public void setCachedModel(boolean cachedModel) {
+		_moderationEntry.setCachedModel(cachedModel);
+	}
+
+	@Override
+	public void setClassName(java.lang.String className) {
+		_moderationEntry.setClassName(className);
+	}
+
+	/**
+	* Sets the class name ID of this moderation entry.
+	*
+	* @param classNameId the class name ID of this moderation entry
+	*/
+	@Override
+	public void setClassNameId(long classNameId) {
+		_moderationEntry.setClassNameId(classNameId);
+	}
+
+	/**
+	* Sets the class p k of this moderation entry.
+	*
+	* @param classPK the class p k of this moderation entry
+	*/
+	@Override
+	public void setClassPK(long classPK) {
+		_moderationEntry.setClassPK(classPK);
+	}
+
+	/**
+	* Sets the company ID of this moderation entry.
+	*
+	* @param companyId the company ID of this moderation entry
+	*/
+	@Override
+	public void setCompanyId(long companyId) {
+		_moderationEntry.setCompanyId(companyId);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ExpandoBridge expandoBridge) {
+		_moderationEntry.setExpandoBridgeAttributes(expandoBridge);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(
+		com.liferay.portal.kernel.model.BaseModel<?> baseModel) {
+		_moderationEntry.setExpandoBridgeAttributes(baseModel);
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		_moderationEntry.setExpandoBridgeAttributes(serviceContext);
+	}
+
+	/**
+	* Sets the group ID of this moderation entry.
+	*
+	* @param groupId the group ID of this moderation entry
+	*/
+	@Override
+	public void setGroupId(long groupId) {
+		_moderationEntry.setGroupId(groupId);
+	}
+
+	/**
+	* Sets the moderation entry ID of this moderation entry.
+	*
+	* @param moderationEntryId the moderation entry ID of this moderation entry
+	*/
+	@Override
+	public void setModerationEntryId(long moderationEntryId) {
+		_moderationEntry.setModerationEntryId(moderationEntryId);
+	}
+
+	@Override
+	public void setNew(boolean n) {
+		_moderationEntry.setNew(n);
+	}
+
+	/**
+	* Sets the primary key of this moderation entry.
+	*
+	* @param primaryKey the primary key of this moderation entry
+	*/
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		_moderationEntry.setPrimaryKey(primaryKey);
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		_moderationEntry.setPrimaryKeyObj(primaryKeyObj);
+	}
+
+	/**
+	* Sets the type of this moderation entry.
+	*
+	* @param type the type of this moderation entry
+	*/
+	@Override
+	public void setType(int type) {
+		_moderationEntry.setType(type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ModerationEntryWrapper)) {
+			return false;
+		}
+
+		ModerationEntryWrapper moderationEntryWrapper = (ModerationEntryWrapper)obj;
+
+		if (Validator.equals(_moderationEntry, moderationEntryWrapper._moderationEntry)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public ModerationEntry getWrappedModel() {
+		return _moderationEntry;
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return _moderationEntry.isEntityCacheEnabled();
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return _moderationEntry.isFinderCacheEnabled();
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		_moderationEntry.resetOriginalValues();
+	}
+
+	private final ModerationEntry _moderationEntry;
+}
\ No newline at end of file
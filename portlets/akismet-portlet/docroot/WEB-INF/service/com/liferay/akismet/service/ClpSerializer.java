@@ -17,6 +17,7 @@ package com.liferay.akismet.service;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.akismet.model.AkismetDataClp;
+import com.liferay.akismet.model.ModerationEntryClp;
 
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
 import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
@@ -107,6 +108,10 @@ public class ClpSerializer {
 			return translateInputAkismetData(oldModel);
 		}
 
+		if (oldModelClassName.equals(ModerationEntryClp.class.getName())) {
+			return translateInputModerationEntry(oldModel);
+		}
+
 		return oldModel;
 	}
 
@@ -132,6 +137,16 @@ public class ClpSerializer {
 		return newModel;
 	}
 
+	public static Object translateInputModerationEntry(BaseModel<?> oldModel) {
+		ModerationEntryClp oldClpModel = (ModerationEntryClp)oldModel;
+
+		BaseModel<?> newModel = oldClpModel.getModerationEntryRemoteModel();
+
+		newModel.setModelAttributes(oldClpModel.getModelAttributes());
+
+		return newModel;
+	}
+
 	public static Object translateInput(Object obj) {
 		if (obj instanceof BaseModel<?>) {
 			return translateInput((BaseModel<?>)obj);
@@ -153,6 +168,11 @@ public class ClpSerializer {
 					"com.liferay.akismet.model.impl.AkismetDataImpl")) {
 			return translateOutputAkismetData(oldModel);
 		}
+
+		if (oldModelClassName.equals(
+					"com.liferay.akismet.model.impl.ModerationEntryImpl")) {
+			return translateOutputModerationEntry(oldModel);
+		}
 		else if (oldModelClassName.endsWith("Clp")) {
 			try {
 				ClassLoader classLoader = ClpSerializer.class.getClassLoader();
@@ -271,6 +291,12 @@ public class ClpSerializer {
 				throwable.getCause());
 		}
 
+		if (className.equals(
+					"com.liferay.akismet.exception.NoSuchModerationEntryException")) {
+			return new com.liferay.akismet.exception.NoSuchModerationEntryException(throwable.getMessage(),
+				throwable.getCause());
+		}
+
 		return throwable;
 	}
 
@@ -284,6 +310,16 @@ public class ClpSerializer {
 		return newModel;
 	}
 
+	public static Object translateOutputModerationEntry(BaseModel<?> oldModel) {
+		ModerationEntryClp newModel = new ModerationEntryClp();
+
+		newModel.setModelAttributes(oldModel.getModelAttributes());
+
+		newModel.setModerationEntryRemoteModel(oldModel);
+
+		return newModel;
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(ClpSerializer.class);
 	private static String _servletContextName;
 	private static boolean _useReflectionToTranslateThrowable = true;
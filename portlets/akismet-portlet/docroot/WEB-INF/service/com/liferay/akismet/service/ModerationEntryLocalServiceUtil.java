@@ -0,0 +1,314 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.service.InvokableLocalService;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+/**
+ * Provides the local service utility for ModerationEntry. This utility wraps
+ * {@link com.liferay.akismet.service.impl.ModerationEntryLocalServiceImpl} and is the
+ * primary access point for service operations in application layer code running
+ * on the local server. Methods of this service will not have security checks
+ * based on the propagated JAAS credentials because this service can only be
+ * accessed from within the same VM.
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntryLocalService
+ * @see com.liferay.akismet.service.base.ModerationEntryLocalServiceBaseImpl
+ * @see com.liferay.akismet.service.impl.ModerationEntryLocalServiceImpl
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryLocalServiceUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Add custom service methods to {@link com.liferay.akismet.service.impl.ModerationEntryLocalServiceImpl} and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	* Adds the moderation entry to the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntry the moderation entry
+	* @return the moderation entry that was added
+	*/
+	public static com.liferay.akismet.model.ModerationEntry addModerationEntry(
+		com.liferay.akismet.model.ModerationEntry moderationEntry) {
+		return getService().addModerationEntry(moderationEntry);
+	}
+
+	/**
+	* Creates a new moderation entry with the primary key. Does not add the moderation entry to the database.
+	*
+	* @param moderationEntryId the primary key for the new moderation entry
+	* @return the new moderation entry
+	*/
+	public static com.liferay.akismet.model.ModerationEntry createModerationEntry(
+		long moderationEntryId) {
+		return getService().createModerationEntry(moderationEntryId);
+	}
+
+	/**
+	* Deletes the moderation entry from the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntry the moderation entry
+	* @return the moderation entry that was removed
+	*/
+	public static com.liferay.akismet.model.ModerationEntry deleteModerationEntry(
+		com.liferay.akismet.model.ModerationEntry moderationEntry) {
+		return getService().deleteModerationEntry(moderationEntry);
+	}
+
+	/**
+	* Deletes the moderation entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry that was removed
+	* @throws PortalException if a moderation entry with the primary key could not be found
+	*/
+	public static com.liferay.akismet.model.ModerationEntry deleteModerationEntry(
+		long moderationEntryId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().deleteModerationEntry(moderationEntryId);
+	}
+
+	public static com.liferay.akismet.model.ModerationEntry fetchModerationEntry(
+		java.lang.String className, long classPK) {
+		return getService().fetchModerationEntry(className, classPK);
+	}
+
+	public static com.liferay.akismet.model.ModerationEntry fetchModerationEntry(
+		long moderationEntryId) {
+		return getService().fetchModerationEntry(moderationEntryId);
+	}
+
+	/**
+	* Returns the moderation entry with the primary key.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry
+	* @throws PortalException if a moderation entry with the primary key could not be found
+	*/
+	public static com.liferay.akismet.model.ModerationEntry getModerationEntry(
+		long moderationEntryId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().getModerationEntry(moderationEntryId);
+	}
+
+	/**
+	* Updates the moderation entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntry the moderation entry
+	* @return the moderation entry that was updated
+	*/
+	public static com.liferay.akismet.model.ModerationEntry updateModerationEntry(
+		com.liferay.akismet.model.ModerationEntry moderationEntry) {
+		return getService().updateModerationEntry(moderationEntry);
+	}
+
+	public static com.liferay.akismet.model.ModerationEntry updateModerationEntry(
+		long companyId, long groupId, java.lang.String className, long classPK,
+		int type) {
+		return getService()
+				   .updateModerationEntry(companyId, groupId, className,
+			classPK, type);
+	}
+
+	public static com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
+		return getService().getActionableDynamicQuery();
+	}
+
+	public static com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return getService().dynamicQuery();
+	}
+
+	public static com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		return getService().getIndexableActionableDynamicQuery();
+	}
+
+	/**
+	* @throws PortalException
+	*/
+	public static com.liferay.portal.kernel.model.PersistedModel deletePersistedModel(
+		com.liferay.portal.kernel.model.PersistedModel persistedModel)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().deletePersistedModel(persistedModel);
+	}
+
+	public static com.liferay.portal.kernel.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Returns the number of moderation entries.
+	*
+	* @return the number of moderation entries
+	*/
+	public static int getModerationEntriesCount() {
+		return getService().getModerationEntriesCount();
+	}
+
+	public static java.lang.Object invokeMethod(java.lang.String name,
+		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
+		throws java.lang.Throwable {
+		return getService().invokeMethod(name, parameterTypes, arguments);
+	}
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	public static java.lang.String getOSGiServiceIdentifier() {
+		return getService().getOSGiServiceIdentifier();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	public static <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return getService().dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	public static <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) {
+		return getService().dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	public static <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator<T> orderByComparator) {
+		return getService()
+				   .dynamicQuery(dynamicQuery, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns a range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of moderation entries
+	*/
+	public static java.util.List<com.liferay.akismet.model.ModerationEntry> getModerationEntries(
+		int start, int end) {
+		return getService().getModerationEntries(start, end);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	public static long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return getService().dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	public static long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery,
+		com.liferay.portal.kernel.dao.orm.Projection projection) {
+		return getService().dynamicQueryCount(dynamicQuery, projection);
+	}
+
+	public static void deleteModerationEntry(java.lang.String className,
+		long classPK)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		getService().deleteModerationEntry(className, classPK);
+	}
+
+	public static java.util.List<com.liferay.akismet.model.ModerationEntry> getModerationEntries(
+		long companyId, long[] groupIds, int type, long classPK, int size) {
+		return getService().getModerationEntries(companyId, groupIds, type, classPK, size);
+	}
+
+	public static int getModerationEntriesCount(long companyId, long[] groupIds,
+		int type) {
+		return getService().getModerationEntriesCount(companyId, groupIds, type);
+	}
+
+	public static void clearService() {
+		_service = null;
+	}
+
+	public static ModerationEntryLocalService getService() {
+		if (_service == null) {
+			InvokableLocalService invokableLocalService = (InvokableLocalService)PortletBeanLocatorUtil.locate(ClpSerializer.getServletContextName(),
+					ModerationEntryLocalService.class.getName());
+
+			if (invokableLocalService instanceof ModerationEntryLocalService) {
+				_service = (ModerationEntryLocalService)invokableLocalService;
+			}
+			else {
+				_service = new ModerationEntryLocalServiceClp(invokableLocalService);
+			}
+
+			ReferenceRegistry.registerReference(ModerationEntryLocalServiceUtil.class,
+				"_service");
+		}
+
+		return _service;
+	}
+
+	private static ModerationEntryLocalService _service;
+}
\ No newline at end of file
@@ -0,0 +1,319 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.service.ServiceWrapper;
+
+/**
+ * Provides a wrapper for {@link ModerationEntryLocalService}.
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntryLocalService
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryLocalServiceWrapper implements ModerationEntryLocalService,
+	ServiceWrapper<ModerationEntryLocalService> {
+	public ModerationEntryLocalServiceWrapper(
+		ModerationEntryLocalService moderationEntryLocalService) {
+		_moderationEntryLocalService = moderationEntryLocalService;
+	}
+
+	/**
+	* Adds the moderation entry to the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntry the moderation entry
+	* @return the moderation entry that was added
+	*/
+	@Override
+	public com.liferay.akismet.model.ModerationEntry addModerationEntry(
+		com.liferay.akismet.model.ModerationEntry moderationEntry) {
+		return _moderationEntryLocalService.addModerationEntry(moderationEntry);
+	}
+
+	/**
+	* Creates a new moderation entry with the primary key. Does not add the moderation entry to the database.
+	*
+	* @param moderationEntryId the primary key for the new moderation entry
+	* @return the new moderation entry
+	*/
+	@Override
+	public com.liferay.akismet.model.ModerationEntry createModerationEntry(
+		long moderationEntryId) {
+		return _moderationEntryLocalService.createModerationEntry(moderationEntryId);
+	}
+
+	/**
+	* Deletes the moderation entry from the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntry the moderation entry
+	* @return the moderation entry that was removed
+	*/
+	@Override
+	public com.liferay.akismet.model.ModerationEntry deleteModerationEntry(
+		com.liferay.akismet.model.ModerationEntry moderationEntry) {
+		return _moderationEntryLocalService.deleteModerationEntry(moderationEntry);
+	}
+
+	/**
+	* Deletes the moderation entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry that was removed
+	* @throws PortalException if a moderation entry with the primary key could not be found
+	*/
+	@Override
+	public com.liferay.akismet.model.ModerationEntry deleteModerationEntry(
+		long moderationEntryId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _moderationEntryLocalService.deleteModerationEntry(moderationEntryId);
+	}
+
+	@Override
+	public com.liferay.akismet.model.ModerationEntry fetchModerationEntry(
+		java.lang.String className, long classPK) {
+		return _moderationEntryLocalService.fetchModerationEntry(className, classPK);
+	}
+
+	@Override
+	public com.liferay.akismet.model.ModerationEntry fetchModerationEntry(
+		long moderationEntryId) {
+		return _moderationEntryLocalService.fetchModerationEntry(moderationEntryId);
+	}
+
+	/**
+	* Returns the moderation entry with the primary key.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry
+	* @throws PortalException if a moderation entry with the primary key could not be found
+	*/
+	@Override
+	public com.liferay.akismet.model.ModerationEntry getModerationEntry(
+		long moderationEntryId)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _moderationEntryLocalService.getModerationEntry(moderationEntryId);
+	}
+
+	/**
+	* Updates the moderation entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntry the moderation entry
+	* @return the moderation entry that was updated
+	*/
+	@Override
+	public com.liferay.akismet.model.ModerationEntry updateModerationEntry(
+		com.liferay.akismet.model.ModerationEntry moderationEntry) {
+		return _moderationEntryLocalService.updateModerationEntry(moderationEntry);
+	}
+
+	@Override
+	public com.liferay.akismet.model.ModerationEntry updateModerationEntry(
+		long companyId, long groupId, java.lang.String className, long classPK,
+		int type) {
+		return _moderationEntryLocalService.updateModerationEntry(companyId,
+			groupId, className, classPK, type);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery getActionableDynamicQuery() {
+		return _moderationEntryLocalService.getActionableDynamicQuery();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery() {
+		return _moderationEntryLocalService.dynamicQuery();
+	}
+
+	@Override
+	public com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		return _moderationEntryLocalService.getIndexableActionableDynamicQuery();
+	}
+
+	/**
+	* @throws PortalException
+	*/
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel deletePersistedModel(
+		com.liferay.portal.kernel.model.PersistedModel persistedModel)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _moderationEntryLocalService.deletePersistedModel(persistedModel);
+	}
+
+	@Override
+	public com.liferay.portal.kernel.model.PersistedModel getPersistedModel(
+		java.io.Serializable primaryKeyObj)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		return _moderationEntryLocalService.getPersistedModel(primaryKeyObj);
+	}
+
+	/**
+	* Returns the number of moderation entries.
+	*
+	* @return the number of moderation entries
+	*/
+	@Override
+	public int getModerationEntriesCount() {
+		return _moderationEntryLocalService.getModerationEntriesCount();
+	}
+
+	@Override
+	public java.lang.Object invokeMethod(java.lang.String name,
+		java.lang.String[] parameterTypes, java.lang.Object[] arguments)
+		throws java.lang.Throwable {
+		return _moderationEntryLocalService.invokeMethod(name, parameterTypes,
+			arguments);
+	}
+
+	/**
+	* Returns the OSGi service identifier.
+	*
+	* @return the OSGi service identifier
+	*/
+	@Override
+	public java.lang.String getOSGiServiceIdentifier() {
+		return _moderationEntryLocalService.getOSGiServiceIdentifier();
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns the matching rows.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _moderationEntryLocalService.dynamicQuery(dynamicQuery);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns a range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @return the range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end) {
+		return _moderationEntryLocalService.dynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	* Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param dynamicQuery the dynamic query
+	* @param start the lower bound of the range of model instances
+	* @param end the upper bound of the range of model instances (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching rows
+	*/
+	@Override
+	public <T> java.util.List<T> dynamicQuery(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery, int start,
+		int end,
+		com.liferay.portal.kernel.util.OrderByComparator<T> orderByComparator) {
+		return _moderationEntryLocalService.dynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	* Returns a range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of moderation entries
+	*/
+	@Override
+	public java.util.List<com.liferay.akismet.model.ModerationEntry> getModerationEntries(
+		int start, int end) {
+		return _moderationEntryLocalService.getModerationEntries(start, end);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
+		return _moderationEntryLocalService.dynamicQueryCount(dynamicQuery);
+	}
+
+	/**
+	* Returns the number of rows matching the dynamic query.
+	*
+	* @param dynamicQuery the dynamic query
+	* @param projection the projection to apply to the query
+	* @return the number of rows matching the dynamic query
+	*/
+	@Override
+	public long dynamicQueryCount(
+		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery,
+		com.liferay.portal.kernel.dao.orm.Projection projection) {
+		return _moderationEntryLocalService.dynamicQueryCount(dynamicQuery,
+			projection);
+	}
+
+	@Override
+	public void deleteModerationEntry(java.lang.String className, long classPK)
+		throws com.liferay.portal.kernel.exception.PortalException {
+		_moderationEntryLocalService.deleteModerationEntry(className, classPK);
+	}
+
+	@Override
+	public java.util.List<com.liferay.akismet.model.ModerationEntry> getModerationEntries(
+		long companyId, long[] groupIds, int type, long classPK, int size) {
+		return _moderationEntryLocalService.getModerationEntries(companyId, groupIds, type, classPK, size);
+	}
+
+	@Override
+	public int getModerationEntriesCount(long companyId, long[] groupIds,
+		int type) {
+		return _moderationEntryLocalService.getModerationEntriesCount(companyId, groupIds, type);
+	}
+
+	@Override
+	public ModerationEntryLocalService getWrappedService() {
+		return _moderationEntryLocalService;
+	}
+
+	@Override
+	public void setWrappedService(
+		ModerationEntryLocalService moderationEntryLocalService) {
+		_moderationEntryLocalService = moderationEntryLocalService;
+	}
+
+	private ModerationEntryLocalService _moderationEntryLocalService;
+}
\ No newline at end of file
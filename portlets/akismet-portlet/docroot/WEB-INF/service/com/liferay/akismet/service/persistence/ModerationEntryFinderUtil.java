@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+/**
+ * @author Brian Wing Shun Chan
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryFinderUtil {
+	public static int countByC_G_T(long companyId, long[] groupIds, int type) {
+		return getFinder().countByC_G_T(companyId, groupIds, type);
+	}
+
+	public static java.util.List<com.liferay.akismet.model.ModerationEntry> findByC_G_T(
+		long companyId, long[] groupIds, int type, long classPK, int size) {
+		return getFinder()
+				   .findByC_G_T(companyId, groupIds, type, classPK, size);
+	}
+
+	public static ModerationEntryFinder getFinder() {
+		if (_finder == null) {
+			_finder = (ModerationEntryFinder)PortletBeanLocatorUtil.locate(com.liferay.akismet.service.ClpSerializer.getServletContextName(),
+					ModerationEntryFinder.class.getName());
+
+			ReferenceRegistry.registerReference(ModerationEntryFinderUtil.class,
+				"_finder");
+		}
+
+		return _finder;
+	}
+
+	public void setFinder(ModerationEntryFinder finder) {
+		_finder = finder;
+
+		ReferenceRegistry.registerReference(ModerationEntryFinderUtil.class,
+			"_finder");
+	}
+
+	private static ModerationEntryFinder _finder;
+}
\ No newline at end of file
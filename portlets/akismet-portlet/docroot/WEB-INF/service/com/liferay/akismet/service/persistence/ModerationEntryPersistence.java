@@ -0,0 +1,501 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.akismet.exception.NoSuchModerationEntryException;
+import com.liferay.akismet.model.ModerationEntry;
+
+import com.liferay.portal.kernel.service.persistence.BasePersistence;
+
+/**
+ * The persistence interface for the moderation entry service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see com.liferay.akismet.service.persistence.impl.ModerationEntryPersistenceImpl
+ * @see ModerationEntryUtil
+ * @generated
+ */
+@ProviderType
+public interface ModerationEntryPersistence extends BasePersistence<ModerationEntry> {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this interface directly. Always use {@link ModerationEntryUtil} to access the moderation entry persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this interface.
+	 */
+
+	/**
+	* Returns all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @return the matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByC_T(long companyId, int type);
+
+	/**
+	* Returns a range of all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByC_T(long companyId, int type,
+		int start, int end);
+
+	/**
+	* Returns an ordered range of all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByC_T(long companyId, int type,
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByC_T(long companyId, int type,
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public ModerationEntry findByC_T_First(long companyId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Returns the first moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public ModerationEntry fetchByC_T_First(long companyId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator);
+
+	/**
+	* Returns the last moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public ModerationEntry findByC_T_Last(long companyId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Returns the last moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public ModerationEntry fetchByC_T_Last(long companyId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator);
+
+	/**
+	* Returns the moderation entries before and after the current moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param moderationEntryId the primary key of the current moderation entry
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next moderation entry
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public ModerationEntry[] findByC_T_PrevAndNext(long moderationEntryId,
+		long companyId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Removes all the moderation entries where companyId = &#63; and type = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	*/
+	public void removeByC_T(long companyId, int type);
+
+	/**
+	* Returns the number of moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @return the number of matching moderation entries
+	*/
+	public int countByC_T(long companyId, int type);
+
+	/**
+	* Returns all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @return the matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByG_T(long groupId, int type);
+
+	/**
+	* Returns a range of all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByG_T(long groupId, int type,
+		int start, int end);
+
+	/**
+	* Returns an ordered range of all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByG_T(long groupId, int type,
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching moderation entries
+	*/
+	public java.util.List<ModerationEntry> findByG_T(long groupId, int type,
+		int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Returns the first moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public ModerationEntry findByG_T_First(long groupId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Returns the first moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public ModerationEntry fetchByG_T_First(long groupId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator);
+
+	/**
+	* Returns the last moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public ModerationEntry findByG_T_Last(long groupId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Returns the last moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public ModerationEntry fetchByG_T_Last(long groupId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator);
+
+	/**
+	* Returns the moderation entries before and after the current moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param moderationEntryId the primary key of the current moderation entry
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next moderation entry
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public ModerationEntry[] findByG_T_PrevAndNext(long moderationEntryId,
+		long groupId, int type,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Removes all the moderation entries where groupId = &#63; and type = &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	*/
+	public void removeByG_T(long groupId, int type);
+
+	/**
+	* Returns the number of moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @return the number of matching moderation entries
+	*/
+	public int countByG_T(long groupId, int type);
+
+	/**
+	* Returns the moderation entry where classNameId = &#63; and classPK = &#63; or throws a {@link NoSuchModerationEntryException} if it could not be found.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public ModerationEntry findByC_C(long classNameId, long classPK)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Returns the moderation entry where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public ModerationEntry fetchByC_C(long classNameId, long classPK);
+
+	/**
+	* Returns the moderation entry where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public ModerationEntry fetchByC_C(long classNameId, long classPK,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes the moderation entry where classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the moderation entry that was removed
+	*/
+	public ModerationEntry removeByC_C(long classNameId, long classPK)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Returns the number of moderation entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching moderation entries
+	*/
+	public int countByC_C(long classNameId, long classPK);
+
+	/**
+	* Caches the moderation entry in the entity cache if it is enabled.
+	*
+	* @param moderationEntry the moderation entry
+	*/
+	public void cacheResult(ModerationEntry moderationEntry);
+
+	/**
+	* Caches the moderation entries in the entity cache if it is enabled.
+	*
+	* @param moderationEntries the moderation entries
+	*/
+	public void cacheResult(java.util.List<ModerationEntry> moderationEntries);
+
+	/**
+	* Creates a new moderation entry with the primary key. Does not add the moderation entry to the database.
+	*
+	* @param moderationEntryId the primary key for the new moderation entry
+	* @return the new moderation entry
+	*/
+	public ModerationEntry create(long moderationEntryId);
+
+	/**
+	* Removes the moderation entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry that was removed
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public ModerationEntry remove(long moderationEntryId) throws NoSuchModerationEntryException;
+
+	public ModerationEntry updateImpl(ModerationEntry moderationEntry);
+
+	/**
+	* Returns the moderation entry with the primary key or throws a {@link NoSuchModerationEntryException} if it could not be found.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public ModerationEntry findByPrimaryKey(long moderationEntryId)
+		throws NoSuchModerationEntryException;
+
+	/**
+	* Returns the moderation entry with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry, or <code>null</code> if a moderation entry with the primary key could not be found
+	*/
+	public ModerationEntry fetchByPrimaryKey(long moderationEntryId);
+
+	@Override
+	public java.util.Map<java.io.Serializable, ModerationEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys);
+
+	/**
+	* Returns all the moderation entries.
+	*
+	* @return the moderation entries
+	*/
+	public java.util.List<ModerationEntry> findAll();
+
+	/**
+	* Returns a range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of moderation entries
+	*/
+	public java.util.List<ModerationEntry> findAll(int start, int end);
+
+	/**
+	* Returns an ordered range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of moderation entries
+	*/
+	public java.util.List<ModerationEntry> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator);
+
+	/**
+	* Returns an ordered range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of moderation entries
+	*/
+	public java.util.List<ModerationEntry> findAll(int start, int end,
+		com.liferay.portal.kernel.util.OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache);
+
+	/**
+	* Removes all the moderation entries from the database.
+	*/
+	public void removeAll();
+
+	/**
+	* Returns the number of moderation entries.
+	*
+	* @return the number of moderation entries
+	*/
+	public int countAll();
+
+	@Override
+	public java.util.Set<java.lang.String> getBadColumnNames();
+}
\ No newline at end of file
@@ -0,0 +1,676 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.persistence;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.akismet.model.ModerationEntry;
+
+import com.liferay.portal.kernel.bean.PortletBeanLocatorUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.ReferenceRegistry;
+
+import java.util.List;
+
+/**
+ * The persistence utility for the moderation entry service. This utility wraps {@link com.liferay.akismet.service.persistence.impl.ModerationEntryPersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntryPersistence
+ * @see com.liferay.akismet.service.persistence.impl.ModerationEntryPersistenceImpl
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryUtil {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify this class directly. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache()
+	 */
+	public static void clearCache() {
+		getPersistence().clearCache();
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#clearCache(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static void clearCache(ModerationEntry moderationEntry) {
+		getPersistence().clearCache(moderationEntry);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#countWithDynamicQuery(DynamicQuery)
+	 */
+	public static long countWithDynamicQuery(DynamicQuery dynamicQuery) {
+		return getPersistence().countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
+	 */
+	public static List<ModerationEntry> findWithDynamicQuery(
+		DynamicQuery dynamicQuery) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int)
+	 */
+	public static List<ModerationEntry> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end) {
+		return getPersistence().findWithDynamicQuery(dynamicQuery, start, end);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery, int, int, OrderByComparator)
+	 */
+	public static List<ModerationEntry> findWithDynamicQuery(
+		DynamicQuery dynamicQuery, int start, int end,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence()
+				   .findWithDynamicQuery(dynamicQuery, start, end,
+			orderByComparator);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel)
+	 */
+	public static ModerationEntry update(ModerationEntry moderationEntry) {
+		return getPersistence().update(moderationEntry);
+	}
+
+	/**
+	 * @see com.liferay.portal.kernel.service.persistence.BasePersistence#update(com.liferay.portal.kernel.model.BaseModel, ServiceContext)
+	 */
+	public static ModerationEntry update(ModerationEntry moderationEntry,
+		ServiceContext serviceContext) {
+		return getPersistence().update(moderationEntry, serviceContext);
+	}
+
+	/**
+	* Returns all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @return the matching moderation entries
+	*/
+	public static List<ModerationEntry> findByC_T(long companyId, int type) {
+		return getPersistence().findByC_T(companyId, type);
+	}
+
+	/**
+	* Returns a range of all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of matching moderation entries
+	*/
+	public static List<ModerationEntry> findByC_T(long companyId, int type,
+		int start, int end) {
+		return getPersistence().findByC_T(companyId, type, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching moderation entries
+	*/
+	public static List<ModerationEntry> findByC_T(long companyId, int type,
+		int start, int end, OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence()
+				   .findByC_T(companyId, type, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching moderation entries
+	*/
+	public static List<ModerationEntry> findByC_T(long companyId, int type,
+		int start, int end,
+		OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findByC_T(companyId, type, start, end, orderByComparator,
+			retrieveFromCache);
+	}
+
+	/**
+	* Returns the first moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry findByC_T_First(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().findByC_T_First(companyId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the first moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry fetchByC_T_First(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence().fetchByC_T_First(companyId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the last moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry findByC_T_Last(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().findByC_T_Last(companyId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the last moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry fetchByC_T_Last(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence().fetchByC_T_Last(companyId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the moderation entries before and after the current moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	*
+	* @param moderationEntryId the primary key of the current moderation entry
+	* @param companyId the company ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next moderation entry
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public static ModerationEntry[] findByC_T_PrevAndNext(
+		long moderationEntryId, long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence()
+				   .findByC_T_PrevAndNext(moderationEntryId, companyId, type,
+			orderByComparator);
+	}
+
+	/**
+	* Removes all the moderation entries where companyId = &#63; and type = &#63; from the database.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	*/
+	public static void removeByC_T(long companyId, int type) {
+		getPersistence().removeByC_T(companyId, type);
+	}
+
+	/**
+	* Returns the number of moderation entries where companyId = &#63; and type = &#63;.
+	*
+	* @param companyId the company ID
+	* @param type the type
+	* @return the number of matching moderation entries
+	*/
+	public static int countByC_T(long companyId, int type) {
+		return getPersistence().countByC_T(companyId, type);
+	}
+
+	/**
+	* Returns all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @return the matching moderation entries
+	*/
+	public static List<ModerationEntry> findByG_T(long groupId, int type) {
+		return getPersistence().findByG_T(groupId, type);
+	}
+
+	/**
+	* Returns a range of all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of matching moderation entries
+	*/
+	public static List<ModerationEntry> findByG_T(long groupId, int type,
+		int start, int end) {
+		return getPersistence().findByG_T(groupId, type, start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of matching moderation entries
+	*/
+	public static List<ModerationEntry> findByG_T(long groupId, int type,
+		int start, int end, OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence()
+				   .findByG_T(groupId, type, start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of matching moderation entries
+	*/
+	public static List<ModerationEntry> findByG_T(long groupId, int type,
+		int start, int end,
+		OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findByG_T(groupId, type, start, end, orderByComparator,
+			retrieveFromCache);
+	}
+
+	/**
+	* Returns the first moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry findByG_T_First(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().findByG_T_First(groupId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the first moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the first matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry fetchByG_T_First(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence().fetchByG_T_First(groupId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the last moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry findByG_T_Last(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().findByG_T_Last(groupId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the last moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the last matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry fetchByG_T_Last(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence().fetchByG_T_Last(groupId, type, orderByComparator);
+	}
+
+	/**
+	* Returns the moderation entries before and after the current moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	*
+	* @param moderationEntryId the primary key of the current moderation entry
+	* @param groupId the group ID
+	* @param type the type
+	* @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	* @return the previous, current, and next moderation entry
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public static ModerationEntry[] findByG_T_PrevAndNext(
+		long moderationEntryId, long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence()
+				   .findByG_T_PrevAndNext(moderationEntryId, groupId, type,
+			orderByComparator);
+	}
+
+	/**
+	* Removes all the moderation entries where groupId = &#63; and type = &#63; from the database.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	*/
+	public static void removeByG_T(long groupId, int type) {
+		getPersistence().removeByG_T(groupId, type);
+	}
+
+	/**
+	* Returns the number of moderation entries where groupId = &#63; and type = &#63;.
+	*
+	* @param groupId the group ID
+	* @param type the type
+	* @return the number of matching moderation entries
+	*/
+	public static int countByG_T(long groupId, int type) {
+		return getPersistence().countByG_T(groupId, type);
+	}
+
+	/**
+	* Returns the moderation entry where classNameId = &#63; and classPK = &#63; or throws a {@link NoSuchModerationEntryException} if it could not be found.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching moderation entry
+	* @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry findByC_C(long classNameId, long classPK)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().findByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns the moderation entry where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry fetchByC_C(long classNameId, long classPK) {
+		return getPersistence().fetchByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns the moderation entry where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	*/
+	public static ModerationEntry fetchByC_C(long classNameId, long classPK,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .fetchByC_C(classNameId, classPK, retrieveFromCache);
+	}
+
+	/**
+	* Removes the moderation entry where classNameId = &#63; and classPK = &#63; from the database.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the moderation entry that was removed
+	*/
+	public static ModerationEntry removeByC_C(long classNameId, long classPK)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().removeByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Returns the number of moderation entries where classNameId = &#63; and classPK = &#63;.
+	*
+	* @param classNameId the class name ID
+	* @param classPK the class p k
+	* @return the number of matching moderation entries
+	*/
+	public static int countByC_C(long classNameId, long classPK) {
+		return getPersistence().countByC_C(classNameId, classPK);
+	}
+
+	/**
+	* Caches the moderation entry in the entity cache if it is enabled.
+	*
+	* @param moderationEntry the moderation entry
+	*/
+	public static void cacheResult(ModerationEntry moderationEntry) {
+		getPersistence().cacheResult(moderationEntry);
+	}
+
+	/**
+	* Caches the moderation entries in the entity cache if it is enabled.
+	*
+	* @param moderationEntries the moderation entries
+	*/
+	public static void cacheResult(List<ModerationEntry> moderationEntries) {
+		getPersistence().cacheResult(moderationEntries);
+	}
+
+	/**
+	* Creates a new moderation entry with the primary key. Does not add the moderation entry to the database.
+	*
+	* @param moderationEntryId the primary key for the new moderation entry
+	* @return the new moderation entry
+	*/
+	public static ModerationEntry create(long moderationEntryId) {
+		return getPersistence().create(moderationEntryId);
+	}
+
+	/**
+	* Removes the moderation entry with the primary key from the database. Also notifies the appropriate model listeners.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry that was removed
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public static ModerationEntry remove(long moderationEntryId)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().remove(moderationEntryId);
+	}
+
+	public static ModerationEntry updateImpl(ModerationEntry moderationEntry) {
+		return getPersistence().updateImpl(moderationEntry);
+	}
+
+	/**
+	* Returns the moderation entry with the primary key or throws a {@link NoSuchModerationEntryException} if it could not be found.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry
+	* @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	*/
+	public static ModerationEntry findByPrimaryKey(long moderationEntryId)
+		throws com.liferay.akismet.exception.NoSuchModerationEntryException {
+		return getPersistence().findByPrimaryKey(moderationEntryId);
+	}
+
+	/**
+	* Returns the moderation entry with the primary key or returns <code>null</code> if it could not be found.
+	*
+	* @param moderationEntryId the primary key of the moderation entry
+	* @return the moderation entry, or <code>null</code> if a moderation entry with the primary key could not be found
+	*/
+	public static ModerationEntry fetchByPrimaryKey(long moderationEntryId) {
+		return getPersistence().fetchByPrimaryKey(moderationEntryId);
+	}
+
+	public static java.util.Map<java.io.Serializable, ModerationEntry> fetchByPrimaryKeys(
+		java.util.Set<java.io.Serializable> primaryKeys) {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
+	/**
+	* Returns all the moderation entries.
+	*
+	* @return the moderation entries
+	*/
+	public static List<ModerationEntry> findAll() {
+		return getPersistence().findAll();
+	}
+
+	/**
+	* Returns a range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @return the range of moderation entries
+	*/
+	public static List<ModerationEntry> findAll(int start, int end) {
+		return getPersistence().findAll(start, end);
+	}
+
+	/**
+	* Returns an ordered range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @return the ordered range of moderation entries
+	*/
+	public static List<ModerationEntry> findAll(int start, int end,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		return getPersistence().findAll(start, end, orderByComparator);
+	}
+
+	/**
+	* Returns an ordered range of all the moderation entries.
+	*
+	* <p>
+	* Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	* </p>
+	*
+	* @param start the lower bound of the range of moderation entries
+	* @param end the upper bound of the range of moderation entries (not inclusive)
+	* @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	* @param retrieveFromCache whether to retrieve from the finder cache
+	* @return the ordered range of moderation entries
+	*/
+	public static List<ModerationEntry> findAll(int start, int end,
+		OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		return getPersistence()
+				   .findAll(start, end, orderByComparator, retrieveFromCache);
+	}
+
+	/**
+	* Removes all the moderation entries from the database.
+	*/
+	public static void removeAll() {
+		getPersistence().removeAll();
+	}
+
+	/**
+	* Returns the number of moderation entries.
+	*
+	* @return the number of moderation entries
+	*/
+	public static int countAll() {
+		return getPersistence().countAll();
+	}
+
+	public static java.util.Set<java.lang.String> getBadColumnNames() {
+		return getPersistence().getBadColumnNames();
+	}
+
+	public static ModerationEntryPersistence getPersistence() {
+		if (_persistence == null) {
+			_persistence = (ModerationEntryPersistence)PortletBeanLocatorUtil.locate(com.liferay.akismet.service.ClpSerializer.getServletContextName(),
+					ModerationEntryPersistence.class.getName());
+
+			ReferenceRegistry.registerReference(ModerationEntryUtil.class,
+				"_persistence");
+		}
+
+		return _persistence;
+	}
+
+	private static ModerationEntryPersistence _persistence;
+}
\ No newline at end of file
@@ -1,2 +1,6 @@
 create index IX_8AAFDB76 on Akismet_AkismetData (classNameId, classPK);
-create index IX_1642346C on Akismet_AkismetData (modifiedDate);
\ No newline at end of file
+create index IX_1642346C on Akismet_AkismetData (modifiedDate);
+
+create index IX_2E4B5D1A on Akismet_ModerationEntry (classNameId, classPK);
+create index IX_9C0F3A27 on Akismet_ModerationEntry (companyId, type_);
+create index IX_51D7E68B on Akismet_ModerationEntry (groupId, type_);
\ No newline at end of file
@@ -9,4 +9,13 @@ create table Akismet_AkismetData (
 	userAgent VARCHAR(75) null,
 	userIP VARCHAR(75) null,
 	userURL VARCHAR(75) null
+);
+
+create table Akismet_ModerationEntry (
+	moderationEntryId LONG not null primary key,
+	groupId LONG,
+	companyId LONG,
+	classNameId LONG,
+	classPK LONG,
+	type_ INTEGER
 );
\ No newline at end of file
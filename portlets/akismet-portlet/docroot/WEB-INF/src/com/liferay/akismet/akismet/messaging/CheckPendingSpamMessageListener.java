@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.akismet.messaging;
+
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.model.ModerationEntryConstants;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
+import com.liferay.akismet.util.AkismetUtil;
+import com.liferay.akismet.util.PortletPropsValues;
+import com.liferay.message.boards.kernel.model.MBMessage;
+import com.liferay.message.boards.kernel.service.MBMessageLocalServiceUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import com.liferay.wiki.model.WikiPage;
+import com.liferay.wiki.service.WikiPageLocalServiceUtil;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Queues the spam check again for content that is still a draft waiting for
+ * Akismet, such as content whose check was lost when a node restarted or that
+ * was kept as a draft because Akismet could not be reached.
+ *
+ * @author Amos Fong
+ */
+public class CheckPendingSpamMessageListener extends BaseMessageListener {
+
+	protected void checkPendingSpam(ModerationEntry moderationEntry, Date date)
+		throws Exception {
+
+		String className = moderationEntry.getClassName();
+		long classPK = moderationEntry.getClassPK();
+
+		Date modifiedDate = null;
+		int status = WorkflowConstants.STATUS_ANY;
+		long userId = 0;
+
+		if (className.equals(MBMessage.class.getName())) {
+			MBMessage message = MBMessageLocalServiceUtil.fetchMBMessage(
+				classPK);
+
+			if (message != null) {
+				modifiedDate = message.getModifiedDate();
+				status = message.getStatus();
+				userId = message.getUserId();
+			}
+		}
+		else if (className.equals(WikiPage.class.getName())) {
+			WikiPage page = WikiPageLocalServiceUtil.fetchWikiPage(classPK);
+
+			if (page != null) {
+				modifiedDate = page.getModifiedDate();
+				status = page.getStatus();
+				userId = page.getUserId();
+			}
+		}
+
+		if (status != WorkflowConstants.STATUS_DRAFT) {
+			ModerationEntryLocalServiceUtil.deleteModerationEntry(
+				moderationEntry);
+
+			return;
+		}
+
+		if (modifiedDate.after(date)) {
+			return;
+		}
+
+		if (_log.isInfoEnabled()) {
+			_log.info("Checking " + className + " " + classPK + " again");
+		}
+
+		ServiceContext serviceContext = new ServiceContext();
+
+		serviceContext.setCompanyId(moderationEntry.getCompanyId());
+		serviceContext.setScopeGroupId(moderationEntry.getGroupId());
+		serviceContext.setUserId(userId);
+
+		AkismetUtil.sendSpamCheck(className, classPK, userId, serviceContext);
+	}
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		if (!AkismetUtil.isServiceAvailable()) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Skipping pending spam checks because Akismet is not " +
+						"available");
+			}
+
+			return;
+		}
+
+		DynamicQuery dynamicQuery =
+			ModerationEntryLocalServiceUtil.dynamicQuery();
+
+		Property typeProperty = PropertyFactoryUtil.forName("type");
+
+		dynamicQuery.add(
+			typeProperty.eq(ModerationEntryConstants.TYPE_PENDING_CHECK));
+
+		List<ModerationEntry> moderationEntries =
+			ModerationEntryLocalServiceUtil.dynamicQuery(dynamicQuery);
+
+		Date date = new Date(
+			System.currentTimeMillis() -
+				(PortletPropsValues.AKISMET_CHECK_SPAM_RETRY_TIME *
+					Time.MINUTE));
+
+		for (ModerationEntry moderationEntry : moderationEntries) {
+			try {
+				checkPendingSpam(moderationEntry, date);
+			}
+			catch (Exception e) {
+				_log.error(
+					"Unable to check " + moderationEntry.getClassName() + " " +
+						moderationEntry.getClassPK() + " again",
+					e);
+			}
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		CheckPendingSpamMessageListener.class);
+
+}
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.akismet.akismet.portlet;
 
+import com.liferay.akismet.util.AkismetSettingsUtil;
 import com.liferay.akismet.util.AkismetUtil;
 import com.liferay.akismet.util.PortletPropsKeys;
 import com.liferay.akismet.util.PrefsPortletPropsUtil;
@@ -77,6 +78,8 @@ public class AkismetPortlet extends MVCPortlet {
 
 		preferences.store();
 
+		AkismetSettingsUtil.removeSettings(themeDisplay.getCompanyId());
+
 		if (!AkismetUtil.verifyApiKey(themeDisplay.getCompanyId(), apiKey)) {
 			SessionErrors.add(actionRequest, "apiKeyError");
 		}
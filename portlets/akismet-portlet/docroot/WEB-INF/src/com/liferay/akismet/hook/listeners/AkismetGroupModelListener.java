@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.hook.listeners;
+
+import com.liferay.akismet.moderation.util.ModerationUtil;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.Group;
+
+/**
+ * @author Amos Fong
+ */
+public class AkismetGroupModelListener extends BaseModelListener<Group> {
+
+	@Override
+	public void onAfterCreate(Group group) {
+		ModerationUtil.clearCache();
+	}
+
+	@Override
+	public void onAfterRemove(Group group) {
+		ModerationUtil.clearCache();
+	}
+
+	@Override
+	public void onAfterUpdate(Group group) {
+		ModerationUtil.clearCache();
+	}
+
+}
\ No newline at end of file
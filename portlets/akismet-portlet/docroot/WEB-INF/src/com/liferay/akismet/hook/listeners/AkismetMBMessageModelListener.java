@@ -15,6 +15,7 @@
 package com.liferay.akismet.hook.listeners;
 
 import com.liferay.akismet.service.AkismetDataLocalServiceUtil;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.portal.kernel.model.BaseModelListener;
 
@@ -29,6 +30,9 @@ public class AkismetMBMessageModelListener
 		try {
 			AkismetDataLocalServiceUtil.deleteAkismetData(
 				MBMessage.class.getName(), message.getMessageId());
+
+			ModerationEntryLocalServiceUtil.deleteModerationEntry(
+				MBMessage.class.getName(), message.getMessageId());
 		}
 		catch (Exception e) {
 		}
@@ -15,6 +15,7 @@
 package com.liferay.akismet.hook.listeners;
 
 import com.liferay.akismet.service.AkismetDataLocalServiceUtil;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
 import com.liferay.portal.kernel.model.BaseModelListener;
 import com.liferay.wiki.model.WikiPage;
 
@@ -28,6 +29,9 @@ public class AkismetWikiPageModelListener extends BaseModelListener<WikiPage> {
 		try {
 			AkismetDataLocalServiceUtil.deleteAkismetData(
 				WikiPage.class.getName(), page.getPageId());
+
+			ModerationEntryLocalServiceUtil.deleteModerationEntry(
+				WikiPage.class.getName(), page.getPageId());
 		}
 		catch (Exception e) {
 		}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.hook.messaging;
+
+import com.liferay.akismet.model.AkismetData;
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.model.ModerationEntryConstants;
+import com.liferay.akismet.service.AkismetDataLocalServiceUtil;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
+import com.liferay.akismet.util.AkismetConstants;
+import com.liferay.akismet.util.AkismetUtil;
+import com.liferay.message.boards.kernel.model.MBMessage;
+import com.liferay.message.boards.kernel.service.MBMessageLocalServiceUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import com.liferay.wiki.model.WikiPage;
+import com.liferay.wiki.service.WikiPageLocalServiceUtil;
+
+/**
+ * Checks content queued by the Akismet service wrappers once the posting
+ * transaction has committed, so posts do not wait on the Akismet round trip.
+ * Content stays a draft if Akismet cannot be reached, and
+ * <code>CheckPendingSpamMessageListener</code> queues it again later.
+ *
+ * @author Amos Fong
+ */
+public class CheckSpamMessageListener extends BaseMessageListener {
+
+	protected void checkMBMessage(
+			long messageId, long userId, ServiceContext serviceContext)
+		throws PortalException {
+
+		MBMessage message = MBMessageLocalServiceUtil.fetchMBMessage(
+			messageId);
+
+		if (message == null) {
+			return;
+		}
+
+		if (message.getStatus() != WorkflowConstants.STATUS_DRAFT) {
+			deletePendingModerationEntry(MBMessage.class.getName(), messageId);
+
+			return;
+		}
+
+		AkismetData akismetData = AkismetDataLocalServiceUtil.fetchAkismetData(
+			MBMessage.class.getName(), messageId);
+
+		String content = message.getSubject() + "\n\n" + message.getBody();
+
+		int status = WorkflowConstants.STATUS_APPROVED;
+
+		if (akismetData != null) {
+			Boolean spam = AkismetUtil.checkSpam(userId, content, akismetData);
+
+			if (spam == null) {
+				logUnavailable(MBMessage.class.getName(), messageId);
+
+				return;
+			}
+
+			if (spam) {
+				status = WorkflowConstants.STATUS_DENIED;
+			}
+		}
+
+		MBMessageLocalServiceUtil.updateStatus(
+			userId, messageId, status, serviceContext);
+
+		deletePendingModerationEntry(MBMessage.class.getName(), messageId);
+	}
+
+	protected void checkWikiPage(
+			long pageId, long userId, ServiceContext serviceContext)
+		throws PortalException {
+
+		WikiPage page = WikiPageLocalServiceUtil.fetchWikiPage(pageId);
+
+		if (page == null) {
+			return;
+		}
+
+		if (page.getStatus() != WorkflowConstants.STATUS_DRAFT) {
+			deletePendingModerationEntry(WikiPage.class.getName(), pageId);
+
+			return;
+		}
+
+		AkismetData akismetData = AkismetDataLocalServiceUtil.fetchAkismetData(
+			WikiPage.class.getName(), pageId);
+
+		String content = page.getTitle() + "\n\n" + page.getContent();
+
+		boolean spam = false;
+
+		if (akismetData != null) {
+			Boolean verdict = AkismetUtil.checkSpam(
+				userId, content, akismetData);
+
+			if (verdict == null) {
+				logUnavailable(WikiPage.class.getName(), pageId);
+
+				return;
+			}
+
+			spam = verdict;
+		}
+
+		if (!spam) {
+			WikiPageLocalServiceUtil.updateStatus(
+				userId, page.getResourcePrimKey(),
+				WorkflowConstants.STATUS_APPROVED, serviceContext);
+
+			deletePendingModerationEntry(WikiPage.class.getName(), pageId);
+
+			return;
+		}
+
+		// The page was saved as a draft, so the previous version is still the
+		// one shown. Keep the draft for moderators to review.
+
+		page.setSummary(AkismetConstants.WIKI_PAGE_PENDING_APPROVAL);
+
+		WikiPageLocalServiceUtil.updateWikiPage(page);
+	}
+
+	protected void deletePendingModerationEntry(String className, long classPK)
+		throws PortalException {
+
+		ModerationEntry moderationEntry =
+			ModerationEntryLocalServiceUtil.fetchModerationEntry(
+				className, classPK);
+
+		if ((moderationEntry != null) &&
+			(moderationEntry.getType() ==
+				ModerationEntryConstants.TYPE_PENDING_CHECK)) {
+
+			ModerationEntryLocalServiceUtil.deleteModerationEntry(
+				moderationEntry);
+		}
+	}
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		String className = message.getString("className");
+		long classPK = message.getLong("classPK");
+		ServiceContext serviceContext = (ServiceContext)message.get(
+			"serviceContext");
+		long userId = message.getLong("userId");
+
+		if (className.equals(MBMessage.class.getName())) {
+			checkMBMessage(classPK, userId, serviceContext);
+		}
+		else if (className.equals(WikiPage.class.getName())) {
+			checkWikiPage(classPK, userId, serviceContext);
+		}
+	}
+
+	protected void logUnavailable(String className, long classPK) {
+		if (_log.isWarnEnabled()) {
+			_log.warn(
+				"Akismet is not available, so " + className + " " + classPK +
+					" will be checked again later");
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		CheckSpamMessageListener.class);
+
+}
\ No newline at end of file
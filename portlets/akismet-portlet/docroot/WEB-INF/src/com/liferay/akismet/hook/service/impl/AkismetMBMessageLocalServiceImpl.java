@@ -15,12 +15,15 @@
 package com.liferay.akismet.hook.service.impl;
 
 import com.liferay.akismet.model.AkismetData;
+import com.liferay.akismet.model.ModerationEntryConstants;
 import com.liferay.akismet.service.AkismetDataLocalServiceUtil;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
 import com.liferay.akismet.util.AkismetConstants;
+import com.liferay.akismet.util.AkismetSettings;
+import com.liferay.akismet.util.AkismetSettingsUtil;
 import com.liferay.akismet.util.AkismetUtil;
-import com.liferay.akismet.util.PortletPropsKeys;
-import com.liferay.akismet.util.PrefsPortletPropsUtil;
 import com.liferay.expando.kernel.model.ExpandoBridge;
+import com.liferay.message.boards.kernel.model.MBCategoryConstants;
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.message.boards.kernel.service.MBMessageLocalService;
 import com.liferay.message.boards.kernel.service.MBMessageLocalServiceWrapper;
@@ -80,22 +83,15 @@ public class AkismetMBMessageLocalServiceImpl
 			expandoBridge.setAttribute("akismetContentURL", contentURL, false);
 		}
 
-		AkismetData akismetData = updateAkismetData(message, serviceContext);
+		updateAkismetData(message, serviceContext);
 
-		if (!enabled) {
-			return message;
-		}
-
-		String content = subject + "\n\n" + body;
-
-		int status = WorkflowConstants.STATUS_APPROVED;
-
-		if (AkismetUtil.isSpam(userId, content, akismetData)) {
-			status = WorkflowConstants.STATUS_DENIED;
+		if (enabled) {
+			AkismetUtil.queueSpamCheck(
+				MBMessage.class.getName(), message.getMessageId(),
+				message.getGroupId(), userId, serviceContext);
 		}
 
-		return super.updateStatus(
-			userId, message.getMessageId(), status, serviceContext);
+		return message;
 	}
 
 	@Override
@@ -121,22 +117,15 @@ public class AkismetMBMessageLocalServiceImpl
 			subject, body, format, inputStreamOVPs, anonymous, priority,
 			allowPingbacks, serviceContext);
 
-		AkismetData akismetData = updateAkismetData(message, serviceContext);
+		updateAkismetData(message, serviceContext);
 
-		if (!enabled) {
-			return message;
-		}
-
-		String content = subject + "\n\n" + body;
-
-		int status = WorkflowConstants.STATUS_APPROVED;
-
-		if (AkismetUtil.isSpam(userId, content, akismetData)) {
-			status = WorkflowConstants.STATUS_DENIED;
+		if (enabled) {
+			AkismetUtil.queueSpamCheck(
+				MBMessage.class.getName(), message.getMessageId(),
+				message.getGroupId(), userId, serviceContext);
 		}
 
-		return super.updateStatus(
-			userId, message.getMessageId(), status, serviceContext);
+		return message;
 	}
 
 	@Override
@@ -161,22 +150,15 @@ public class AkismetMBMessageLocalServiceImpl
 			inputStreamOVPs, anonymous, priority, allowPingbacks,
 			serviceContext);
 
-		AkismetData akismetData = updateAkismetData(message, serviceContext);
+		updateAkismetData(message, serviceContext);
 
-		if (!enabled) {
-			return message;
-		}
-
-		String content = subject + "\n\n" + body;
-
-		int status = WorkflowConstants.STATUS_APPROVED;
-
-		if (AkismetUtil.isSpam(userId, content, akismetData)) {
-			status = WorkflowConstants.STATUS_DENIED;
+		if (enabled) {
+			AkismetUtil.queueSpamCheck(
+				MBMessage.class.getName(), message.getMessageId(),
+				message.getGroupId(), userId, serviceContext);
 		}
 
-		return super.updateStatus(
-			userId, message.getMessageId(), status, serviceContext);
+		return message;
 	}
 
 	@Override
@@ -196,22 +178,15 @@ public class AkismetMBMessageLocalServiceImpl
 			userId, messageId, className, classPK, subject, body,
 			serviceContext);
 
-		AkismetData akismetData = updateAkismetData(message, serviceContext);
-
-		if (!enabled) {
-			return message;
-		}
-
-		String content = subject + "\n\n" + body;
-
-		int status = WorkflowConstants.STATUS_APPROVED;
+		updateAkismetData(message, serviceContext);
 
-		if (AkismetUtil.isSpam(userId, content, akismetData)) {
-			status = WorkflowConstants.STATUS_DENIED;
+		if (enabled) {
+			AkismetUtil.queueSpamCheck(
+				MBMessage.class.getName(), message.getMessageId(),
+				message.getGroupId(), userId, serviceContext);
 		}
 
-		return super.updateStatus(
-			userId, message.getMessageId(), status, serviceContext);
+		return message;
 	}
 
 	@Override
@@ -236,22 +211,37 @@ public class AkismetMBMessageLocalServiceImpl
 			userId, messageId, subject, body, inputStreamOVPs, existingFiles,
 			priority, allowPingbacks, serviceContext);
 
-		AkismetData akismetData = updateAkismetData(message, serviceContext);
+		updateAkismetData(message, serviceContext);
 
-		if (!enabled) {
-			return message;
+		if (enabled) {
+			AkismetUtil.queueSpamCheck(
+				MBMessage.class.getName(), message.getMessageId(),
+				message.getGroupId(), userId, serviceContext);
 		}
 
-		String content = subject + "\n\n" + body;
+		return message;
+	}
+
+	@Override
+	public MBMessage updateStatus(
+			long userId, long messageId, int status,
+			ServiceContext serviceContext)
+		throws PortalException {
 
-		int status = WorkflowConstants.STATUS_APPROVED;
+		MBMessage message = super.getMBMessage(messageId);
 
-		if (AkismetUtil.isSpam(userId, content, akismetData)) {
-			status = WorkflowConstants.STATUS_DENIED;
+		int oldStatus = message.getStatus();
+
+		message = super.updateStatus(userId, messageId, status, serviceContext);
+
+		if ((oldStatus != status) &&
+			((oldStatus == WorkflowConstants.STATUS_DENIED) ||
+			 (status == WorkflowConstants.STATUS_DENIED))) {
+
+			updateModerationEntry(message);
 		}
 
-		return super.updateStatus(
-			userId, message.getMessageId(), status, serviceContext);
+		return message;
 	}
 
 	protected String getPermalink(
@@ -317,8 +307,10 @@ public class AkismetMBMessageLocalServiceImpl
 			return false;
 		}
 
-		int checkThreshold = PrefsPortletPropsUtil.getInteger(
-			user.getCompanyId(), PortletPropsKeys.AKISMET_CHECK_THRESHOLD);
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			user.getCompanyId());
+
+		int checkThreshold = akismetSettings.getCheckThreshold();
 
 		if (checkThreshold > 0) {
 			int count = super.getGroupMessagesCount(
@@ -355,4 +347,27 @@ public class AkismetMBMessageLocalServiceImpl
 			userIP, StringPool.BLANK);
 	}
 
+	protected void updateModerationEntry(MBMessage message)
+		throws PortalException {
+
+		if (message.getStatus() != WorkflowConstants.STATUS_DENIED) {
+			ModerationEntryLocalServiceUtil.deleteModerationEntry(
+				MBMessage.class.getName(), message.getMessageId());
+
+			return;
+		}
+
+		int type = ModerationEntryConstants.TYPE_MESSAGE_BOARDS;
+
+		if (message.getCategoryId() ==
+				MBCategoryConstants.DISCUSSION_CATEGORY_ID) {
+
+			type = ModerationEntryConstants.TYPE_DISCUSSION;
+		}
+
+		ModerationEntryLocalServiceUtil.updateModerationEntry(
+			message.getCompanyId(), message.getGroupId(),
+			MBMessage.class.getName(), message.getMessageId(), type);
+	}
+
 }
\ No newline at end of file
@@ -15,17 +15,19 @@
 package com.liferay.akismet.hook.service.impl;
 
 import com.liferay.akismet.model.AkismetData;
+import com.liferay.akismet.model.ModerationEntryConstants;
 import com.liferay.akismet.service.AkismetDataLocalServiceUtil;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
 import com.liferay.akismet.util.AkismetConstants;
+import com.liferay.akismet.util.AkismetSettings;
+import com.liferay.akismet.util.AkismetSettingsUtil;
 import com.liferay.akismet.util.AkismetUtil;
-import com.liferay.akismet.util.PortletPropsKeys;
-import com.liferay.akismet.util.PrefsPortletPropsUtil;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.service.UserLocalServiceUtil;
 import com.liferay.portal.kernel.servlet.HttpHeaders;
-import com.liferay.portal.kernel.util.NotificationThreadLocal;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
@@ -64,39 +66,26 @@ public class AkismetWikiPageLocalServiceImpl
 				serviceContext);
 		}
 
+		boolean enabled = isWikiEnabled(userId, nodeId, serviceContext);
+
+		if (enabled) {
+			serviceContext.setWorkflowAction(
+				WorkflowConstants.ACTION_SAVE_DRAFT);
+		}
+
 		WikiPage page = super.addPage(
 			userId, nodeId, title, version, content, summary, minorEdit, format,
 			head, parentTitle, redirectTitle, serviceContext);
 
-		AkismetData akismetData = updateAkismetData(page, serviceContext);
-
-		if (!isWikiEnabled(userId, nodeId, serviceContext)) {
-			return page;
-		}
-
-		String akismetContent = page.getTitle() + "\n\n" + page.getContent();
+		updateAkismetData(page, serviceContext);
 
-		if (!AkismetUtil.isSpam(userId, akismetContent, akismetData)) {
-			return super.updateStatus(
-				userId, page.getResourcePrimKey(),
-				WorkflowConstants.STATUS_APPROVED, serviceContext);
+		if (enabled) {
+			AkismetUtil.queueSpamCheck(
+				WikiPage.class.getName(), page.getPageId(), page.getGroupId(),
+				userId, serviceContext);
 		}
 
-		boolean notificationEnabled = false;
-
-		try {
-			notificationEnabled = NotificationThreadLocal.isEnabled();
-
-			NotificationThreadLocal.setEnabled(false);
-
-			page.setSummary(AkismetConstants.WIKI_PAGE_PENDING_APPROVAL);
-			page.setStatus(WorkflowConstants.STATUS_APPROVED);
-
-			return super.updateWikiPage(page);
-		}
-		finally {
-			NotificationThreadLocal.setEnabled(notificationEnabled);
-		}
+		return page;
 	}
 
 	@Override
@@ -115,54 +104,41 @@ public class AkismetWikiPageLocalServiceImpl
 				format, parentTitle, redirectTitle, serviceContext);
 		}
 
+		boolean enabled = isWikiEnabled(userId, nodeId, serviceContext);
+
+		if (enabled) {
+			serviceContext.setWorkflowAction(
+				WorkflowConstants.ACTION_SAVE_DRAFT);
+		}
+
 		WikiPage page = super.updatePage(
 			userId, nodeId, title, version, content, summary, minorEdit, format,
 			parentTitle, redirectTitle, serviceContext);
 
-		AkismetData akismetData = updateAkismetData(page, serviceContext);
+		updateAkismetData(page, serviceContext);
 
-		if (!isWikiEnabled(userId, nodeId, serviceContext)) {
-			return page;
+		if (enabled) {
+			AkismetUtil.queueSpamCheck(
+				WikiPage.class.getName(), page.getPageId(), page.getGroupId(),
+				userId, serviceContext);
 		}
 
-		String akismetContent = page.getTitle() + "\n\n" + page.getContent();
-
-		if (!AkismetUtil.isSpam(userId, akismetContent, akismetData)) {
-			return super.updateStatus(
-				userId, page.getResourcePrimKey(),
-				WorkflowConstants.STATUS_APPROVED, serviceContext);
-		}
-
-		boolean notificationEnabled = false;
-
-		try {
-			notificationEnabled = NotificationThreadLocal.isEnabled();
-
-			NotificationThreadLocal.setEnabled(false);
-
-			page.setSummary(AkismetConstants.WIKI_PAGE_PENDING_APPROVAL);
-			page.setStatus(WorkflowConstants.STATUS_APPROVED);
-
-			page = super.updateWikiPage(page);
-
-			WikiPage previousPage = AkismetUtil.getWikiPage(
-				page.getNodeId(), page.getTitle(), page.getVersion(), true);
+		return page;
+	}
 
-			if (previousPage == null) {
-				return page;
-			}
+	@Override
+	public WikiPage updateWikiPage(WikiPage wikiPage) {
+		WikiPage oldWikiPage = super.fetchWikiPage(wikiPage.getPageId());
 
-			ServiceContext newServiceContext = new ServiceContext();
+		wikiPage = super.updateWikiPage(wikiPage);
 
-			newServiceContext.setFormDate(page.getModifiedDate());
+		if ((oldWikiPage != null) &&
+			(isPendingApproval(oldWikiPage) != isPendingApproval(wikiPage))) {
 
-			return super.revertPage(
-				userId, nodeId, title, previousPage.getVersion(),
-				newServiceContext);
-		}
-		finally {
-			NotificationThreadLocal.setEnabled(notificationEnabled);
+			updateModerationEntry(wikiPage);
 		}
+
+		return wikiPage;
 	}
 
 	protected String getPermalink(
@@ -178,6 +154,11 @@ public class AkismetWikiPageLocalServiceImpl
 		return sb.toString();
 	}
 
+	protected boolean isPendingApproval(WikiPage page) {
+		return AkismetConstants.WIKI_PAGE_PENDING_APPROVAL.equals(
+			page.getSummary());
+	}
+
 	protected boolean isWikiEnabled(
 			long userId, long nodeId, ServiceContext serviceContext)
 		throws PortalException {
@@ -192,8 +173,10 @@ public class AkismetWikiPageLocalServiceImpl
 			return false;
 		}
 
-		int checkThreshold = PrefsPortletPropsUtil.getInteger(
-			user.getCompanyId(), PortletPropsKeys.AKISMET_CHECK_THRESHOLD);
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			user.getCompanyId());
+
+		int checkThreshold = akismetSettings.getCheckThreshold();
 
 		if (checkThreshold > 0) {
 			int count = super.getPagesCount(
@@ -230,4 +213,22 @@ public class AkismetWikiPageLocalServiceImpl
 			StringPool.BLANK);
 	}
 
+	protected void updateModerationEntry(WikiPage page) {
+		if (!isPendingApproval(page)) {
+			try {
+				ModerationEntryLocalServiceUtil.deleteModerationEntry(
+					WikiPage.class.getName(), page.getPageId());
+			}
+			catch (PortalException pe) {
+				throw new SystemException(pe);
+			}
+
+			return;
+		}
+
+		ModerationEntryLocalServiceUtil.updateModerationEntry(
+			page.getCompanyId(), page.getGroupId(), WikiPage.class.getName(),
+			page.getPageId(), ModerationEntryConstants.TYPE_WIKI);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.hook.upgrade.v1_1_0;
+
+import com.liferay.akismet.model.ModerationEntryConstants;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
+import com.liferay.akismet.util.AkismetConstants;
+import com.liferay.message.boards.kernel.model.MBCategoryConstants;
+import com.liferay.message.boards.kernel.model.MBMessage;
+import com.liferay.portal.kernel.dao.jdbc.DataAccess;
+import com.liferay.portal.kernel.upgrade.UpgradeProcess;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+import com.liferay.wiki.model.WikiPage;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * @author Amos Fong
+ */
+public class UpgradeModerationEntry extends UpgradeProcess {
+
+	@Override
+	protected void doUpgrade() throws Exception {
+		if (!hasTable("Akismet_ModerationEntry")) {
+			runSQL(
+				"create table Akismet_ModerationEntry (moderationEntryId " +
+					"LONG not null primary key, groupId LONG, companyId " +
+						"LONG, classNameId LONG, classPK LONG, type_ INTEGER)");
+		}
+
+		upgradeMBMessages();
+		upgradeWikiPages();
+	}
+
+	protected void upgradeMBMessages() throws Exception {
+		Connection con = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			con = DataAccess.getUpgradeOptimizedConnection();
+
+			ps = con.prepareStatement(
+				"select messageId, groupId, companyId, categoryId from " +
+					"MBMessage where status = ?");
+
+			ps.setInt(1, WorkflowConstants.STATUS_DENIED);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				long messageId = rs.getLong("messageId");
+				long groupId = rs.getLong("groupId");
+				long companyId = rs.getLong("companyId");
+				long categoryId = rs.getLong("categoryId");
+
+				int type = ModerationEntryConstants.TYPE_MESSAGE_BOARDS;
+
+				if (categoryId == MBCategoryConstants.DISCUSSION_CATEGORY_ID) {
+					type = ModerationEntryConstants.TYPE_DISCUSSION;
+				}
+
+				ModerationEntryLocalServiceUtil.updateModerationEntry(
+					companyId, groupId, MBMessage.class.getName(), messageId,
+					type);
+			}
+		}
+		finally {
+			DataAccess.cleanUp(con, ps, rs);
+		}
+	}
+
+	protected void upgradeWikiPages() throws Exception {
+		Connection con = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			con = DataAccess.getUpgradeOptimizedConnection();
+
+			ps = con.prepareStatement(
+				"select pageId, groupId, companyId from WikiPage where " +
+					"summary = ?");
+
+			ps.setString(1, AkismetConstants.WIKI_PAGE_PENDING_APPROVAL);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				long pageId = rs.getLong("pageId");
+				long groupId = rs.getLong("groupId");
+				long companyId = rs.getLong("companyId");
+
+				ModerationEntryLocalServiceUtil.updateModerationEntry(
+					companyId, groupId, WikiPage.class.getName(), pageId,
+					ModerationEntryConstants.TYPE_WIKI);
+			}
+		}
+		finally {
+			DataAccess.cleanUp(con, ps, rs);
+		}
+	}
+
+}
\ No newline at end of file
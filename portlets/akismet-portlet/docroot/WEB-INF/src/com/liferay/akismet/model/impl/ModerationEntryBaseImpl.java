@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
+
+/**
+ * The extended model base implementation for the ModerationEntry service. Represents a row in the &quot;Akismet_ModerationEntry&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This class exists only as a container for the default extended model level methods generated by ServiceBuilder. Helper methods and all application logic should be put in {@link ModerationEntryImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntryImpl
+ * @see ModerationEntry
+ * @generated
+ */
+@ProviderType
+public abstract class ModerationEntryBaseImpl extends ModerationEntryModelImpl
+	implements ModerationEntry {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a moderation entry model instance should use the {@link ModerationEntry} interface instead.
+	 */
+	@Override
+	public void persist() {
+		if (this.isNew()) {
+			ModerationEntryLocalServiceUtil.addModerationEntry(this);
+		}
+		else {
+			ModerationEntryLocalServiceUtil.updateModerationEntry(this);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.akismet.model.ModerationEntry;
+
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * The cache model class for representing ModerationEntry in entity cache.
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntry
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryCacheModel implements CacheModel<ModerationEntry>,
+	Externalizable {
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ModerationEntryCacheModel)) {
+			return false;
+		}
+
+		ModerationEntryCacheModel moderationEntryCacheModel = (ModerationEntryCacheModel)obj;
+
+		if (moderationEntryId == moderationEntryCacheModel.moderationEntryId) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return HashUtil.hash(0, moderationEntryId);
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(13);
+
+		sb.append("{moderationEntryId=");
+		sb.append(moderationEntryId);
+		sb.append(", groupId=");
+		sb.append(groupId);
+		sb.append(", companyId=");
+		sb.append(companyId);
+		sb.append(", classNameId=");
+		sb.append(classNameId);
+		sb.append(", classPK=");
+		sb.append(classPK);
+		sb.append(", type=");
+		sb.append(type);
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public ModerationEntry toEntityModel() {
+		ModerationEntryImpl moderationEntryImpl = new ModerationEntryImpl();
+
+		moderationEntryImpl.setModerationEntryId(moderationEntryId);
+		moderationEntryImpl.setGroupId(groupId);
+		moderationEntryImpl.setCompanyId(companyId);
+		moderationEntryImpl.setClassNameId(classNameId);
+		moderationEntryImpl.setClassPK(classPK);
+		moderationEntryImpl.setType(type);
+
+		moderationEntryImpl.resetOriginalValues();
+
+		return moderationEntryImpl;
+	}
+
+	@Override
+	public void readExternal(ObjectInput objectInput) throws IOException {
+		moderationEntryId = objectInput.readLong();
+
+		groupId = objectInput.readLong();
+
+		companyId = objectInput.readLong();
+
+		classNameId = objectInput.readLong();
+
+		classPK = objectInput.readLong();
+
+		type = objectInput.readInt();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput objectOutput)
+		throws IOException {
+		objectOutput.writeLong(moderationEntryId);
+
+		objectOutput.writeLong(groupId);
+
+		objectOutput.writeLong(companyId);
+
+		objectOutput.writeLong(classNameId);
+
+		objectOutput.writeLong(classPK);
+
+		objectOutput.writeInt(type);
+	}
+
+	public long moderationEntryId;
+	public long groupId;
+	public long companyId;
+	public long classNameId;
+	public long classPK;
+	public int type;
+}
\ No newline at end of file
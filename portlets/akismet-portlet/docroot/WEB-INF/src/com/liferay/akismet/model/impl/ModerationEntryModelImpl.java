@@ -0,0 +1,560 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.model.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.model.ModerationEntryModel;
+
+import com.liferay.expando.kernel.model.ExpandoBridge;
+import com.liferay.expando.kernel.util.ExpandoBridgeFactoryUtil;
+
+import com.liferay.portal.kernel.bean.AutoEscapeBeanHandler;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.model.impl.BaseModelImpl;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.ProxyUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.Serializable;
+
+import java.sql.Types;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The base model implementation for the ModerationEntry service. Represents a row in the &quot;Akismet_ModerationEntry&quot; database table, with each column mapped to a property of this class.
+ *
+ * <p>
+ * This implementation and its corresponding interface {@link ModerationEntryModel} exist only as a container for the default property accessors generated by ServiceBuilder. Helper methods and all application logic should be put in {@link ModerationEntryImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntryImpl
+ * @see ModerationEntry
+ * @see ModerationEntryModel
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryModelImpl extends BaseModelImpl<ModerationEntry>
+	implements ModerationEntryModel {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. All methods that expect a moderation entry model instance should use the {@link ModerationEntry} interface instead.
+	 */
+	public static final String TABLE_NAME = "Akismet_ModerationEntry";
+	public static final Object[][] TABLE_COLUMNS = {
+			{ "moderationEntryId", Types.BIGINT },
+			{ "groupId", Types.BIGINT },
+			{ "companyId", Types.BIGINT },
+			{ "classNameId", Types.BIGINT },
+			{ "classPK", Types.BIGINT },
+			{ "type_", Types.INTEGER }
+		};
+	public static final Map<String, Integer> TABLE_COLUMNS_MAP = new HashMap<String, Integer>();
+
+	static {
+		TABLE_COLUMNS_MAP.put("moderationEntryId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("groupId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("companyId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("classNameId", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("classPK", Types.BIGINT);
+		TABLE_COLUMNS_MAP.put("type_", Types.INTEGER);
+	}
+
+	public static final String TABLE_SQL_CREATE = "create table Akismet_ModerationEntry (moderationEntryId LONG not null primary key,groupId LONG,companyId LONG,classNameId LONG,classPK LONG,type_ INTEGER)";
+	public static final String TABLE_SQL_DROP = "drop table Akismet_ModerationEntry";
+	public static final String ORDER_BY_JPQL = " ORDER BY moderationEntry.moderationEntryId ASC";
+	public static final String ORDER_BY_SQL = " ORDER BY Akismet_ModerationEntry.moderationEntryId ASC";
+	public static final String DATA_SOURCE = "liferayDataSource";
+	public static final String SESSION_FACTORY = "liferaySessionFactory";
+	public static final String TX_MANAGER = "liferayTransactionManager";
+	public static final boolean ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.entity.cache.enabled.com.liferay.akismet.model.ModerationEntry"),
+			true);
+	public static final boolean FINDER_CACHE_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.finder.cache.enabled.com.liferay.akismet.model.ModerationEntry"),
+			true);
+	public static final boolean COLUMN_BITMASK_ENABLED = GetterUtil.getBoolean(com.liferay.util.service.ServiceProps.get(
+				"value.object.column.bitmask.enabled.com.liferay.akismet.model.ModerationEntry"),
+			true);
+	public static final long CLASSNAMEID_COLUMN_BITMASK = 1L;
+	public static final long CLASSPK_COLUMN_BITMASK = 2L;
+	public static final long COMPANYID_COLUMN_BITMASK = 4L;
+	public static final long GROUPID_COLUMN_BITMASK = 8L;
+	public static final long TYPE_COLUMN_BITMASK = 16L;
+	public static final long MODERATIONENTRYID_COLUMN_BITMASK = 32L;
+	public static final long LOCK_EXPIRATION_TIME = GetterUtil.getLong(com.liferay.util.service.ServiceProps.get(
+				"lock.expiration.time.com.liferay.akismet.model.ModerationEntry"));
+
+	public ModerationEntryModelImpl() {
+	}
+
+	@Override
+	public long getPrimaryKey() {
+		return _moderationEntryId;
+	}
+
+	@Override
+	public void setPrimaryKey(long primaryKey) {
+		setModerationEntryId(primaryKey);
+	}
+
+	@Override
+	public Serializable getPrimaryKeyObj() {
+		return _moderationEntryId;
+	}
+
+	@Override
+	public void setPrimaryKeyObj(Serializable primaryKeyObj) {
+		setPrimaryKey(((Long)primaryKeyObj).longValue());
+	}
+
+	@Override
+	public Class<?> getModelClass() {
+		return ModerationEntry.class;
+	}
+
+	@Override
+	public String getModelClassName() {
+		return ModerationEntry.class.getName();
+	}
+
+	@Override
+	public Map<String, Object> getModelAttributes() {
+		Map<String, Object> attributes = new HashMap<String, Object>();
+
+		attributes.put("moderationEntryId", getModerationEntryId());
+		attributes.put("groupId", getGroupId());
+		attributes.put("companyId", getCompanyId());
+		attributes.put("classNameId", getClassNameId());
+		attributes.put("classPK", getClassPK());
+		attributes.put("type", getType());
+
+		attributes.put("entityCacheEnabled", isEntityCacheEnabled());
+		attributes.put("finderCacheEnabled", isFinderCacheEnabled());
+
+		return attributes;
+	}
+
+	@Override
+	public void setModelAttributes(Map<String, Object> attributes) {
+		Long moderationEntryId = (Long)attributes.get("moderationEntryId");
+
+		if (moderationEntryId != null) {
+			setModerationEntryId(moderationEntryId);
+		}
+
+		Long groupId = (Long)attributes.get("groupId");
+
+		if (groupId != null) {
+			setGroupId(groupId);
+		}
+
+		Long companyId = (Long)attributes.get("companyId");
+
+		if (companyId != null) {
+			setCompanyId(companyId);
+		}
+
+		Long classNameId = (Long)attributes.get("classNameId");
+
+		if (classNameId != null) {
+			setClassNameId(classNameId);
+		}
+
+		Long classPK = (Long)attributes.get("classPK");
+
+		if (classPK != null) {
+			setClassPK(classPK);
+		}
+
+		Integer type = (Integer)attributes.get("type");
+
+		if (type != null) {
+			setType(type);
+		}
+	}
+
+	@Override
+	public long getModerationEntryId() {
+		return _moderationEntryId;
+	}
+
+	@Override
+	public void setModerationEntryId(long moderationEntryId) {
+		_moderationEntryId = moderationEntryId;
+	}
+
+	@Override
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	@Override
+	public void setGroupId(long groupId) {
+		_columnBitmask |= GROUPID_COLUMN_BITMASK;
+
+		if (!_setOriginalGroupId) {
+			_setOriginalGroupId = true;
+
+			_originalGroupId = _groupId;
+		}
+
+		_groupId = groupId;
+	}
+
+	public long getOriginalGroupId() {
+		return _originalGroupId;
+	}
+
+	@Override
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	@Override
+	public void setCompanyId(long companyId) {
+		_columnBitmask |= COMPANYID_COLUMN_BITMASK;
+
+		if (!_setOriginalCompanyId) {
+			_setOriginalCompanyId = true;
+
+			_originalCompanyId = _companyId;
+		}
+
+		_companyId = companyId;
+	}
+
+	public long getOriginalCompanyId() {
+		return _originalCompanyId;
+	}
+
+	@Override
+	public String getClassName() {
+		if (getClassNameId() <= 0) {
+			return StringPool.BLANK;
+		}
+
+		return PortalUtil.getClassName(getClassNameId());
+	}
+
+	@Override
+	public void setClassName(String className) {
+		long classNameId = 0;
+
+		if (Validator.isNotNull(className)) {
+			classNameId = PortalUtil.getClassNameId(className);
+		}
+
+		setClassNameId(classNameId);
+	}
+
+	@Override
+	public long getClassNameId() {
+		return _classNameId;
+	}
+
+	@Override
+	public void setClassNameId(long classNameId) {
+		_columnBitmask |= CLASSNAMEID_COLUMN_BITMASK;
+
+		if (!_setOriginalClassNameId) {
+			_setOriginalClassNameId = true;
+
+			_originalClassNameId = _classNameId;
+		}
+
+		_classNameId = classNameId;
+	}
+
+	public long getOriginalClassNameId() {
+		return _originalClassNameId;
+	}
+
+	@Override
+	public long getClassPK() {
+		return _classPK;
+	}
+
+	@Override
+	public void setClassPK(long classPK) {
+		_columnBitmask |= CLASSPK_COLUMN_BITMASK;
+
+		if (!_setOriginalClassPK) {
+			_setOriginalClassPK = true;
+
+			_originalClassPK = _classPK;
+		}
+
+		_classPK = classPK;
+	}
+
+	public long getOriginalClassPK() {
+		return _originalClassPK;
+	}
+
+	@Override
+	public int getType() {
+		return _type;
+	}
+
+	@Override
+	public void setType(int type) {
+		_columnBitmask |= TYPE_COLUMN_BITMASK;
+
+		if (!_setOriginalType) {
+			_setOriginalType = true;
+
+			_originalType = _type;
+		}
+
+		_type = type;
+	}
+
+	public int getOriginalType() {
+		return _originalType;
+	}
+
+	public long getColumnBitmask() {
+		return _columnBitmask;
+	}
+
+	@Override
+	public ExpandoBridge getExpandoBridge() {
+		return ExpandoBridgeFactoryUtil.getExpandoBridge(getCompanyId(),
+			ModerationEntry.class.getName(), getPrimaryKey());
+	}
+
+	@Override
+	public void setExpandoBridgeAttributes(ServiceContext serviceContext) {
+		ExpandoBridge expandoBridge = getExpandoBridge();
+
+		expandoBridge.setAttributes(serviceContext);
+	}
+
+	@Override
+	public ModerationEntry toEscapedModel() {
+		if (_escapedModel == null) {
+			_escapedModel = (ModerationEntry)ProxyUtil.newProxyInstance(_classLoader,
+					_escapedModelInterfaces, new AutoEscapeBeanHandler(this));
+		}
+
+		return _escapedModel;
+	}
+
+	@Override
+	public Object clone() {
+		ModerationEntryImpl moderationEntryImpl = new ModerationEntryImpl();
+
+		moderationEntryImpl.setModerationEntryId(getModerationEntryId());
+		moderationEntryImpl.setGroupId(getGroupId());
+		moderationEntryImpl.setCompanyId(getCompanyId());
+		moderationEntryImpl.setClassNameId(getClassNameId());
+		moderationEntryImpl.setClassPK(getClassPK());
+		moderationEntryImpl.setType(getType());
+
+		moderationEntryImpl.resetOriginalValues();
+
+		return moderationEntryImpl;
+	}
+
+	@Override
+	public int compareTo(ModerationEntry moderationEntry) {
+		long primaryKey = moderationEntry.getPrimaryKey();
+
+		if (getPrimaryKey() < primaryKey) {
+			return -1;
+		}
+		else if (getPrimaryKey() > primaryKey) {
+			return 1;
+		}
+		else {
+			return 0;
+		}
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ModerationEntry)) {
+			return false;
+		}
+
+		ModerationEntry moderationEntry = (ModerationEntry)obj;
+
+		long primaryKey = moderationEntry.getPrimaryKey();
+
+		if (getPrimaryKey() == primaryKey) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return (int)getPrimaryKey();
+	}
+
+	@Override
+	public boolean isEntityCacheEnabled() {
+		return ENTITY_CACHE_ENABLED;
+	}
+
+	@Override
+	public boolean isFinderCacheEnabled() {
+		return FINDER_CACHE_ENABLED;
+	}
+
+	@Override
+	public void resetOriginalValues() {
+		ModerationEntryModelImpl moderationEntryModelImpl = this;
+
+		moderationEntryModelImpl._originalGroupId = moderationEntryModelImpl._groupId;
+
+		moderationEntryModelImpl._setOriginalGroupId = false;
+
+		moderationEntryModelImpl._originalCompanyId = moderationEntryModelImpl._companyId;
+
+		moderationEntryModelImpl._setOriginalCompanyId = false;
+
+		moderationEntryModelImpl._originalClassNameId = moderationEntryModelImpl._classNameId;
+
+		moderationEntryModelImpl._setOriginalClassNameId = false;
+
+		moderationEntryModelImpl._originalClassPK = moderationEntryModelImpl._classPK;
+
+		moderationEntryModelImpl._setOriginalClassPK = false;
+
+		moderationEntryModelImpl._originalType = moderationEntryModelImpl._type;
+
+		moderationEntryModelImpl._setOriginalType = false;
+
+		moderationEntryModelImpl._columnBitmask = 0;
+	}
+
+	@Override
+	public CacheModel<ModerationEntry> toCacheModel() {
+		ModerationEntryCacheModel moderationEntryCacheModel = new ModerationEntryCacheModel();
+
+		moderationEntryCacheModel.moderationEntryId = getModerationEntryId();
+
+		moderationEntryCacheModel.groupId = getGroupId();
+
+		moderationEntryCacheModel.companyId = getCompanyId();
+
+		moderationEntryCacheModel.classNameId = getClassNameId();
+
+		moderationEntryCacheModel.classPK = getClassPK();
+
+		moderationEntryCacheModel.type = getType();
+
+		return moderationEntryCacheModel;
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(13);
+
+		sb.append("{moderationEntryId=");
+		sb.append(getModerationEntryId());
+		sb.append(", groupId=");
+		sb.append(getGroupId());
+		sb.append(", companyId=");
+		sb.append(getCompanyId());
+		sb.append(", classNameId=");
+		sb.append(getClassNameId());
+		sb.append(", classPK=");
+		sb.append(getClassPK());
+		sb.append(", type=");
+		sb.append(getType());
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toXmlString() {
+		StringBundler sb = new StringBundler(22);
+
+		sb.append("<model><model-name>");
+		sb.append("com.liferay.akismet.model.ModerationEntry");
+		sb.append("</model-name>");
+
+		sb.append(
+			"<column><column-name>moderationEntryId</column-name><column-value><![CDATA[");
+		sb.append(getModerationEntryId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>groupId</column-name><column-value><![CDATA[");
+		sb.append(getGroupId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>companyId</column-name><column-value><![CDATA[");
+		sb.append(getCompanyId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classNameId</column-name><column-value><![CDATA[");
+		sb.append(getClassNameId());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>classPK</column-name><column-value><![CDATA[");
+		sb.append(getClassPK());
+		sb.append("]]></column-value></column>");
+		sb.append(
+			"<column><column-name>type</column-name><column-value><![CDATA[");
+		sb.append(getType());
+		sb.append("]]></column-value></column>");
+
+		sb.append("</model>");
+
+		return sb.toString();
+	}
+
+	private static final ClassLoader _classLoader = ModerationEntry.class.getClassLoader();
+	private static final Class<?>[] _escapedModelInterfaces = new Class[] {
+			ModerationEntry.class
+		};
+	private long _moderationEntryId;
+	private long _groupId;
+	private long _originalGroupId;
+	private boolean _setOriginalGroupId;
+	private long _companyId;
+	private long _originalCompanyId;
+	private boolean _setOriginalCompanyId;
+	private long _classNameId;
+	private long _originalClassNameId;
+	private boolean _setOriginalClassNameId;
+	private long _classPK;
+	private long _originalClassPK;
+	private boolean _setOriginalClassPK;
+	private int _type;
+	private int _originalType;
+	private boolean _setOriginalType;
+	private long _columnBitmask;
+	private ModerationEntry _escapedModel;
+}
\ No newline at end of file
@@ -122,6 +122,27 @@ public class ModerationPortlet extends MVCPortlet {
 			WikiPage wikiPage = WikiPageLocalServiceUtil.getPageByPageId(
 				wikiPageId);
 
+			// Draft held back by the spam check
+
+			if (wikiPage.isDraft()) {
+				wikiPage.setSummary(StringPool.BLANK);
+
+				wikiPage = WikiPageLocalServiceUtil.updateWikiPage(wikiPage);
+
+				ServiceContext serviceContext =
+					ServiceContextFactory.getInstance(actionRequest);
+
+				WikiPageLocalServiceUtil.updateStatus(
+					themeDisplay.getUserId(), wikiPage.getResourcePrimKey(),
+					WorkflowConstants.STATUS_APPROVED, serviceContext);
+
+				if (AkismetUtil.isWikiEnabled(wikiPage.getCompanyId())) {
+					AkismetUtil.submitHam(wikiPage);
+				}
+
+				continue;
+			}
+
 			WikiPage latestVersionWikiPage = AkismetUtil.getWikiPage(
 				wikiPage.getNodeId(), wikiPage.getTitle(),
 				wikiPage.getVersion(), false);
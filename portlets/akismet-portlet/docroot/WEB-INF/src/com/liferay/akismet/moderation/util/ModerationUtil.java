@@ -14,166 +14,174 @@
 
 package com.liferay.akismet.moderation.util;
 
-import com.liferay.akismet.util.AkismetConstants;
-import com.liferay.message.boards.kernel.model.MBCategoryConstants;
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.model.ModerationEntryConstants;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.message.boards.kernel.service.MBMessageLocalServiceUtil;
-import com.liferay.portal.kernel.dao.orm.DynamicQuery;
-import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
-import com.liferay.portal.kernel.dao.orm.Property;
-import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.Group;
 import com.liferay.portal.kernel.service.GroupLocalServiceUtil;
-import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.wiki.model.WikiPage;
 import com.liferay.wiki.service.WikiPageLocalServiceUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Reads the moderation queue. Items are paged by keyset: pass the class PK of
+ * the last item shown to get the next page, or <code>0</code> to get the
+ * first page.
+ *
  * @author Amos Fong
  */
 public class ModerationUtil {
 
+	public static void clearCache() {
+		_portalCache.removeAll();
+	}
+
 	public static List<MBMessage> getDiscussionMBMessages(
-			long scopeGroupId, int start, int end)
+			long scopeGroupId, long classPK, int size)
 		throws PortalException {
 
-		DynamicQuery dynamicQuery = buildMBMessageDynamicQuery(
-			scopeGroupId, true);
-
-		return MBMessageLocalServiceUtil.dynamicQuery(dynamicQuery, start, end);
+		return getMBMessages(
+			scopeGroupId, ModerationEntryConstants.TYPE_DISCUSSION, classPK,
+			size);
 	}
 
 	public static int getDiscussionMBMessagesCount(long scopeGroupId)
 		throws PortalException {
 
-		DynamicQuery dynamicQuery = buildMBMessageDynamicQuery(
-			scopeGroupId, true);
-
-		return (int)MBMessageLocalServiceUtil.dynamicQueryCount(dynamicQuery);
+		return getModerationEntriesCount(
+			scopeGroupId, ModerationEntryConstants.TYPE_DISCUSSION);
 	}
 
 	public static List<MBMessage> getMBMessages(
-			long scopeGroupId, int start, int end)
+			long scopeGroupId, long classPK, int size)
 		throws PortalException {
 
-		DynamicQuery dynamicQuery = buildMBMessageDynamicQuery(
-			scopeGroupId, false);
-
-		return MBMessageLocalServiceUtil.dynamicQuery(dynamicQuery, start, end);
+		return getMBMessages(
+			scopeGroupId, ModerationEntryConstants.TYPE_MESSAGE_BOARDS, classPK,
+			size);
 	}
 
 	public static int getMBMessagesCount(long scopeGroupId)
 		throws PortalException {
 
-		DynamicQuery dynamicQuery = buildMBMessageDynamicQuery(
-			scopeGroupId, false);
-
-		return (int)MBMessageLocalServiceUtil.dynamicQueryCount(dynamicQuery);
+		return getModerationEntriesCount(
+			scopeGroupId, ModerationEntryConstants.TYPE_MESSAGE_BOARDS);
 	}
 
 	public static List<WikiPage> getWikiPages(
-			long scopeGroupId, int start, int end)
+			long scopeGroupId, long classPK, int size)
 		throws PortalException {
 
-		DynamicQuery dynamicQuery = buildWikiPageDynamicQuery(scopeGroupId);
+		List<ModerationEntry> moderationEntries = getModerationEntries(
+			scopeGroupId, ModerationEntryConstants.TYPE_WIKI, classPK, size);
+
+		List<WikiPage> wikiPages = new ArrayList<>(moderationEntries.size());
+
+		for (ModerationEntry moderationEntry : moderationEntries) {
+			WikiPage wikiPage = WikiPageLocalServiceUtil.fetchWikiPage(
+				moderationEntry.getClassPK());
+
+			if (wikiPage != null) {
+				wikiPages.add(wikiPage);
+			}
+		}
 
-		return WikiPageLocalServiceUtil.dynamicQuery(dynamicQuery, start, end);
+		return wikiPages;
 	}
 
 	public static int getWikiPagesCount(long scopeGroupId)
 		throws PortalException {
 
-		DynamicQuery dynamicQuery = buildWikiPageDynamicQuery(scopeGroupId);
-
-		return (int)WikiPageLocalServiceUtil.dynamicQueryCount(dynamicQuery);
+		return getModerationEntriesCount(
+			scopeGroupId, ModerationEntryConstants.TYPE_WIKI);
 	}
 
-	protected static DynamicQuery buildMBMessageDynamicQuery(
-			long scopeGroupId, boolean discussion)
-		throws PortalException {
+	protected static long[] getChildScopeGroupIds(Group parentGroup) {
+		if (parentGroup.isCompany()) {
+			return null;
+		}
 
-		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
-			MBMessage.class);
+		long[] scopeGroupIds = _portalCache.get(parentGroup.getGroupId());
 
-		Group group = GroupLocalServiceUtil.getGroup(scopeGroupId);
+		if (scopeGroupIds != null) {
+			return scopeGroupIds;
+		}
 
-		if (!group.isCompany()) {
-			Property groupIdProperty = PropertyFactoryUtil.forName("groupId");
+		List<Group> groups = new ArrayList<>();
 
-			Long[] scopeGroupIds = getChildScopeGroupIds(scopeGroupId);
+		groups.addAll(
+			GroupLocalServiceUtil.getGroups(
+				parentGroup.getCompanyId(), parentGroup.getGroupId(), true));
+		groups.addAll(
+			GroupLocalServiceUtil.getGroups(
+				parentGroup.getCompanyId(), parentGroup.getGroupId(), false));
 
-			dynamicQuery.add(groupIdProperty.in(scopeGroupIds));
-		}
+		scopeGroupIds = new long[groups.size() + 1];
 
-		Property categoryIdProperty = PropertyFactoryUtil.forName("categoryId");
+		scopeGroupIds[0] = parentGroup.getGroupId();
 
-		if (discussion) {
-			dynamicQuery.add(
-				categoryIdProperty.eq(
-					MBCategoryConstants.DISCUSSION_CATEGORY_ID));
-		}
-		else {
-			dynamicQuery.add(
-				categoryIdProperty.ne(
-					MBCategoryConstants.DISCUSSION_CATEGORY_ID));
-		}
+		for (int i = 0; i < groups.size(); i++) {
+			Group group = groups.get(i);
 
-		Property statusProperty = PropertyFactoryUtil.forName("status");
+			scopeGroupIds[i + 1] = group.getGroupId();
+		}
 
-		dynamicQuery.add(statusProperty.eq(WorkflowConstants.STATUS_DENIED));
+		_portalCache.put(parentGroup.getGroupId(), scopeGroupIds);
 
-		return dynamicQuery;
+		return scopeGroupIds;
 	}
 
-	protected static DynamicQuery buildWikiPageDynamicQuery(long scopeGroupId)
+	protected static List<MBMessage> getMBMessages(
+			long scopeGroupId, int type, long classPK, int size)
 		throws PortalException {
 
-		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
-			WikiPage.class);
+		List<ModerationEntry> moderationEntries = getModerationEntries(
+			scopeGroupId, type, classPK, size);
 
-		Group group = GroupLocalServiceUtil.getGroup(scopeGroupId);
-
-		if (!group.isCompany()) {
-			Property groupIdProperty = PropertyFactoryUtil.forName("groupId");
+		List<MBMessage> mbMessages = new ArrayList<>(moderationEntries.size());
 
-			Long[] scopeGroupIds = getChildScopeGroupIds(scopeGroupId);
+		for (ModerationEntry moderationEntry : moderationEntries) {
+			MBMessage mbMessage = MBMessageLocalServiceUtil.fetchMBMessage(
+				moderationEntry.getClassPK());
 
-			dynamicQuery.add(groupIdProperty.in(scopeGroupIds));
+			if (mbMessage != null) {
+				mbMessages.add(mbMessage);
+			}
 		}
 
-		Property summaryProperty = PropertyFactoryUtil.forName("summary");
-
-		dynamicQuery.add(
-			summaryProperty.eq(AkismetConstants.WIKI_PAGE_PENDING_APPROVAL));
-
-		return dynamicQuery;
+		return mbMessages;
 	}
 
-	protected static Long[] getChildScopeGroupIds(long parentGroupId) {
-		DynamicQuery dynamicQuery = DynamicQueryFactoryUtil.forClass(
-			Group.class);
-
-		Property parentGroupIdProperty = PropertyFactoryUtil.forName(
-			"parentGroupId");
-
-		dynamicQuery.add(parentGroupIdProperty.eq(parentGroupId));
-
-		List<Group> groups = GroupLocalServiceUtil.dynamicQuery(dynamicQuery);
+	protected static List<ModerationEntry> getModerationEntries(
+			long scopeGroupId, int type, long classPK, int size)
+		throws PortalException {
 
-		Long[] scopeGroupIds = new Long[groups.size() + 1];
+		Group group = GroupLocalServiceUtil.getGroup(scopeGroupId);
 
-		scopeGroupIds[0] = parentGroupId;
+		return ModerationEntryLocalServiceUtil.getModerationEntries(
+			group.getCompanyId(), getChildScopeGroupIds(group), type, classPK,
+			size);
+	}
 
-		for (int i = 0; i < groups.size(); i++) {
-			Group group = groups.get(i);
+	protected static int getModerationEntriesCount(
+			long scopeGroupId, int type)
+		throws PortalException {
 
-			scopeGroupIds[i + 1] = group.getGroupId();
-		}
+		Group group = GroupLocalServiceUtil.getGroup(scopeGroupId);
 
-		return scopeGroupIds;
+		return ModerationEntryLocalServiceUtil.getModerationEntriesCount(
+			group.getCompanyId(), getChildScopeGroupIds(group), type);
 	}
 
+	private static final PortalCache<Long, long[]> _portalCache =
+		(PortalCache<Long, long[]>)MultiVMPoolUtil.getPortalCache(
+			ModerationUtil.class.getName());
+
 }
\ No newline at end of file
@@ -19,6 +19,8 @@ import aQute.bnd.annotation.ProviderType;
 import com.liferay.akismet.model.AkismetData;
 import com.liferay.akismet.service.AkismetDataLocalService;
 import com.liferay.akismet.service.persistence.AkismetDataPersistence;
+import com.liferay.akismet.service.persistence.ModerationEntryFinder;
+import com.liferay.akismet.service.persistence.ModerationEntryPersistence;
 
 import com.liferay.portal.kernel.bean.BeanReference;
 import com.liferay.portal.kernel.dao.db.DB;
@@ -351,6 +353,63 @@ public abstract class AkismetDataLocalServiceBaseImpl
 		this.akismetDataPersistence = akismetDataPersistence;
 	}
 
+	/**
+	 * Returns the moderation entry local service.
+	 *
+	 * @return the moderation entry local service
+	 */
+	public com.liferay.akismet.service.ModerationEntryLocalService getModerationEntryLocalService() {
+		return moderationEntryLocalService;
+	}
+
+	/**
+	 * Sets the moderation entry local service.
+	 *
+	 * @param moderationEntryLocalService the moderation entry local service
+	 */
+	public void setModerationEntryLocalService(
+		com.liferay.akismet.service.ModerationEntryLocalService moderationEntryLocalService) {
+		this.moderationEntryLocalService = moderationEntryLocalService;
+	}
+
+	/**
+	 * Returns the moderation entry persistence.
+	 *
+	 * @return the moderation entry persistence
+	 */
+	public ModerationEntryPersistence getModerationEntryPersistence() {
+		return moderationEntryPersistence;
+	}
+
+	/**
+	 * Sets the moderation entry persistence.
+	 *
+	 * @param moderationEntryPersistence the moderation entry persistence
+	 */
+	public void setModerationEntryPersistence(
+		ModerationEntryPersistence moderationEntryPersistence) {
+		this.moderationEntryPersistence = moderationEntryPersistence;
+	}
+
+	/**
+	 * Returns the moderation entry finder.
+	 *
+	 * @return the moderation entry finder
+	 */
+	public ModerationEntryFinder getModerationEntryFinder() {
+		return moderationEntryFinder;
+	}
+
+	/**
+	 * Sets the moderation entry finder.
+	 *
+	 * @param moderationEntryFinder the moderation entry finder
+	 */
+	public void setModerationEntryFinder(
+		ModerationEntryFinder moderationEntryFinder) {
+		this.moderationEntryFinder = moderationEntryFinder;
+	}
+
 	/**
 	 * Returns the counter local service.
 	 *
@@ -545,6 +604,12 @@ public abstract class AkismetDataLocalServiceBaseImpl
 	protected AkismetDataLocalService akismetDataLocalService;
 	@BeanReference(type = AkismetDataPersistence.class)
 	protected AkismetDataPersistence akismetDataPersistence;
+	@BeanReference(type = com.liferay.akismet.service.ModerationEntryLocalService.class)
+	protected com.liferay.akismet.service.ModerationEntryLocalService moderationEntryLocalService;
+	@BeanReference(type = ModerationEntryPersistence.class)
+	protected ModerationEntryPersistence moderationEntryPersistence;
+	@BeanReference(type = ModerationEntryFinder.class)
+	protected ModerationEntryFinder moderationEntryFinder;
 	@BeanReference(type = com.liferay.counter.kernel.service.CounterLocalService.class)
 	protected com.liferay.counter.kernel.service.CounterLocalService counterLocalService;
 	@BeanReference(type = com.liferay.portal.kernel.service.ClassNameLocalService.class)
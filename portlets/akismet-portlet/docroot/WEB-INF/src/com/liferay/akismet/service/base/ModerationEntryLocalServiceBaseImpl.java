@@ -0,0 +1,627 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.base;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.service.ModerationEntryLocalService;
+import com.liferay.akismet.service.persistence.AkismetDataPersistence;
+import com.liferay.akismet.service.persistence.ModerationEntryFinder;
+import com.liferay.akismet.service.persistence.ModerationEntryPersistence;
+
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.dao.db.DB;
+import com.liferay.portal.kernel.dao.db.DBManagerUtil;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdate;
+import com.liferay.portal.kernel.dao.jdbc.SqlUpdateFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DefaultActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.IndexableActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Projection;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.model.PersistedModel;
+import com.liferay.portal.kernel.module.framework.service.IdentifiableOSGiService;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.service.BaseLocalServiceImpl;
+import com.liferay.portal.kernel.service.PersistedModelLocalServiceRegistryUtil;
+import com.liferay.portal.kernel.service.persistence.ClassNamePersistence;
+import com.liferay.portal.kernel.service.persistence.UserPersistence;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.PortalUtil;
+
+import java.io.Serializable;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+/**
+ * Provides the base implementation for the moderation entry local service.
+ *
+ * <p>
+ * This implementation exists only as a container for the default service methods generated by ServiceBuilder. All custom service methods should be put in {@link com.liferay.akismet.service.impl.ModerationEntryLocalServiceImpl}.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see com.liferay.akismet.service.impl.ModerationEntryLocalServiceImpl
+ * @see com.liferay.akismet.service.ModerationEntryLocalServiceUtil
+ * @generated
+ */
+@ProviderType
+public abstract class ModerationEntryLocalServiceBaseImpl
+	extends BaseLocalServiceImpl implements ModerationEntryLocalService,
+		IdentifiableOSGiService {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link com.liferay.akismet.service.ModerationEntryLocalServiceUtil} to access the moderation entry local service.
+	 */
+
+	/**
+	 * Adds the moderation entry to the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param moderationEntry the moderation entry
+	 * @return the moderation entry that was added
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	@Override
+	public ModerationEntry addModerationEntry(ModerationEntry moderationEntry) {
+		moderationEntry.setNew(true);
+
+		return moderationEntryPersistence.update(moderationEntry);
+	}
+
+	/**
+	 * Creates a new moderation entry with the primary key. Does not add the moderation entry to the database.
+	 *
+	 * @param moderationEntryId the primary key for the new moderation entry
+	 * @return the new moderation entry
+	 */
+	@Override
+	public ModerationEntry createModerationEntry(long moderationEntryId) {
+		return moderationEntryPersistence.create(moderationEntryId);
+	}
+
+	/**
+	 * Deletes the moderation entry with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param moderationEntryId the primary key of the moderation entry
+	 * @return the moderation entry that was removed
+	 * @throws PortalException if a moderation entry with the primary key could not be found
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public ModerationEntry deleteModerationEntry(long moderationEntryId)
+		throws PortalException {
+		return moderationEntryPersistence.remove(moderationEntryId);
+	}
+
+	/**
+	 * Deletes the moderation entry from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param moderationEntry the moderation entry
+	 * @return the moderation entry that was removed
+	 */
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public ModerationEntry deleteModerationEntry(ModerationEntry moderationEntry) {
+		return moderationEntryPersistence.remove(moderationEntry);
+	}
+
+	@Override
+	public DynamicQuery dynamicQuery() {
+		Class<?> clazz = getClass();
+
+		return DynamicQueryFactoryUtil.forClass(ModerationEntry.class,
+			clazz.getClassLoader());
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns the matching rows.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @return the matching rows
+	 */
+	@Override
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery) {
+		return moderationEntryPersistence.findWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns a range of the matching rows.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param start the lower bound of the range of model instances
+	 * @param end the upper bound of the range of model instances (not inclusive)
+	 * @return the range of matching rows
+	 */
+	@Override
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end) {
+		return moderationEntryPersistence.findWithDynamicQuery(dynamicQuery, start,
+			end);
+	}
+
+	/**
+	 * Performs a dynamic query on the database and returns an ordered range of the matching rows.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param start the lower bound of the range of model instances
+	 * @param end the upper bound of the range of model instances (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching rows
+	 */
+	@Override
+	public <T> List<T> dynamicQuery(DynamicQuery dynamicQuery, int start,
+		int end, OrderByComparator<T> orderByComparator) {
+		return moderationEntryPersistence.findWithDynamicQuery(dynamicQuery, start,
+			end, orderByComparator);
+	}
+
+	/**
+	 * Returns the number of rows matching the dynamic query.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @return the number of rows matching the dynamic query
+	 */
+	@Override
+	public long dynamicQueryCount(DynamicQuery dynamicQuery) {
+		return moderationEntryPersistence.countWithDynamicQuery(dynamicQuery);
+	}
+
+	/**
+	 * Returns the number of rows matching the dynamic query.
+	 *
+	 * @param dynamicQuery the dynamic query
+	 * @param projection the projection to apply to the query
+	 * @return the number of rows matching the dynamic query
+	 */
+	@Override
+	public long dynamicQueryCount(DynamicQuery dynamicQuery,
+		Projection projection) {
+		return moderationEntryPersistence.countWithDynamicQuery(dynamicQuery,
+			projection);
+	}
+
+	@Override
+	public ModerationEntry fetchModerationEntry(long moderationEntryId) {
+		return moderationEntryPersistence.fetchByPrimaryKey(moderationEntryId);
+	}
+
+	/**
+	 * Returns the moderation entry with the primary key.
+	 *
+	 * @param moderationEntryId the primary key of the moderation entry
+	 * @return the moderation entry
+	 * @throws PortalException if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry getModerationEntry(long moderationEntryId)
+		throws PortalException {
+		return moderationEntryPersistence.findByPrimaryKey(moderationEntryId);
+	}
+
+	@Override
+	public ActionableDynamicQuery getActionableDynamicQuery() {
+		ActionableDynamicQuery actionableDynamicQuery = new DefaultActionableDynamicQuery();
+
+		actionableDynamicQuery.setBaseLocalService(moderationEntryLocalService);
+		actionableDynamicQuery.setClassLoader(getClassLoader());
+		actionableDynamicQuery.setModelClass(ModerationEntry.class);
+
+		actionableDynamicQuery.setPrimaryKeyPropertyName("moderationEntryId");
+
+		return actionableDynamicQuery;
+	}
+
+	@Override
+	public IndexableActionableDynamicQuery getIndexableActionableDynamicQuery() {
+		IndexableActionableDynamicQuery indexableActionableDynamicQuery = new IndexableActionableDynamicQuery();
+
+		indexableActionableDynamicQuery.setBaseLocalService(moderationEntryLocalService);
+		indexableActionableDynamicQuery.setClassLoader(getClassLoader());
+		indexableActionableDynamicQuery.setModelClass(ModerationEntry.class);
+
+		indexableActionableDynamicQuery.setPrimaryKeyPropertyName(
+			"moderationEntryId");
+
+		return indexableActionableDynamicQuery;
+	}
+
+	protected void initActionableDynamicQuery(
+		ActionableDynamicQuery actionableDynamicQuery) {
+		actionableDynamicQuery.setBaseLocalService(moderationEntryLocalService);
+		actionableDynamicQuery.setClassLoader(getClassLoader());
+		actionableDynamicQuery.setModelClass(ModerationEntry.class);
+
+		actionableDynamicQuery.setPrimaryKeyPropertyName("moderationEntryId");
+	}
+
+	/**
+	 * @throws PortalException
+	 */
+	@Override
+	public PersistedModel deletePersistedModel(PersistedModel persistedModel)
+		throws PortalException {
+		return moderationEntryLocalService.deleteModerationEntry((ModerationEntry)persistedModel);
+	}
+
+	@Override
+	public PersistedModel getPersistedModel(Serializable primaryKeyObj)
+		throws PortalException {
+		return moderationEntryPersistence.findByPrimaryKey(primaryKeyObj);
+	}
+
+	/**
+	 * Returns a range of all the moderation entries.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link com.liferay.portal.kernel.dao.orm.QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link com.liferay.akismet.model.impl.ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @return the range of moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> getModerationEntries(int start, int end) {
+		return moderationEntryPersistence.findAll(start, end);
+	}
+
+	/**
+	 * Returns the number of moderation entries.
+	 *
+	 * @return the number of moderation entries
+	 */
+	@Override
+	public int getModerationEntriesCount() {
+		return moderationEntryPersistence.countAll();
+	}
+
+	/**
+	 * Updates the moderation entry in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
+	 *
+	 * @param moderationEntry the moderation entry
+	 * @return the moderation entry that was updated
+	 */
+	@Indexable(type = IndexableType.REINDEX)
+	@Override
+	public ModerationEntry updateModerationEntry(ModerationEntry moderationEntry) {
+		return moderationEntryPersistence.update(moderationEntry);
+	}
+
+	/**
+	 * Returns the akismet data local service.
+	 *
+	 * @return the akismet data local service
+	 */
+	public com.liferay.akismet.service.AkismetDataLocalService getAkismetDataLocalService() {
+		return akismetDataLocalService;
+	}
+
+	/**
+	 * Sets the akismet data local service.
+	 *
+	 * @param akismetDataLocalService the akismet data local service
+	 */
+	public void setAkismetDataLocalService(
+		com.liferay.akismet.service.AkismetDataLocalService akismetDataLocalService) {
+		this.akismetDataLocalService = akismetDataLocalService;
+	}
+
+	/**
+	 * Returns the akismet data persistence.
+	 *
+	 * @return the akismet data persistence
+	 */
+	public AkismetDataPersistence getAkismetDataPersistence() {
+		return akismetDataPersistence;
+	}
+
+	/**
+	 * Sets the akismet data persistence.
+	 *
+	 * @param akismetDataPersistence the akismet data persistence
+	 */
+	public void setAkismetDataPersistence(
+		AkismetDataPersistence akismetDataPersistence) {
+		this.akismetDataPersistence = akismetDataPersistence;
+	}
+
+	/**
+	 * Returns the moderation entry local service.
+	 *
+	 * @return the moderation entry local service
+	 */
+	public ModerationEntryLocalService getModerationEntryLocalService() {
+		return moderationEntryLocalService;
+	}
+
+	/**
+	 * Sets the moderation entry local service.
+	 *
+	 * @param moderationEntryLocalService the moderation entry local service
+	 */
+	public void setModerationEntryLocalService(
+		ModerationEntryLocalService moderationEntryLocalService) {
+		this.moderationEntryLocalService = moderationEntryLocalService;
+	}
+
+	/**
+	 * Returns the moderation entry persistence.
+	 *
+	 * @return the moderation entry persistence
+	 */
+	public ModerationEntryPersistence getModerationEntryPersistence() {
+		return moderationEntryPersistence;
+	}
+
+	/**
+	 * Sets the moderation entry persistence.
+	 *
+	 * @param moderationEntryPersistence the moderation entry persistence
+	 */
+	public void setModerationEntryPersistence(
+		ModerationEntryPersistence moderationEntryPersistence) {
+		this.moderationEntryPersistence = moderationEntryPersistence;
+	}
+
+	/**
+	 * Returns the moderation entry finder.
+	 *
+	 * @return the moderation entry finder
+	 */
+	public ModerationEntryFinder getModerationEntryFinder() {
+		return moderationEntryFinder;
+	}
+
+	/**
+	 * Sets the moderation entry finder.
+	 *
+	 * @param moderationEntryFinder the moderation entry finder
+	 */
+	public void setModerationEntryFinder(
+		ModerationEntryFinder moderationEntryFinder) {
+		this.moderationEntryFinder = moderationEntryFinder;
+	}
+
+	/**
+	 * Returns the counter local service.
+	 *
+	 * @return the counter local service
+	 */
+	public com.liferay.counter.kernel.service.CounterLocalService getCounterLocalService() {
+		return counterLocalService;
+	}
+
+	/**
+	 * Sets the counter local service.
+	 *
+	 * @param counterLocalService the counter local service
+	 */
+	public void setCounterLocalService(
+		com.liferay.counter.kernel.service.CounterLocalService counterLocalService) {
+		this.counterLocalService = counterLocalService;
+	}
+
+	/**
+	 * Returns the class name local service.
+	 *
+	 * @return the class name local service
+	 */
+	public com.liferay.portal.kernel.service.ClassNameLocalService getClassNameLocalService() {
+		return classNameLocalService;
+	}
+
+	/**
+	 * Sets the class name local service.
+	 *
+	 * @param classNameLocalService the class name local service
+	 */
+	public void setClassNameLocalService(
+		com.liferay.portal.kernel.service.ClassNameLocalService classNameLocalService) {
+		this.classNameLocalService = classNameLocalService;
+	}
+
+	/**
+	 * Returns the class name persistence.
+	 *
+	 * @return the class name persistence
+	 */
+	public ClassNamePersistence getClassNamePersistence() {
+		return classNamePersistence;
+	}
+
+	/**
+	 * Sets the class name persistence.
+	 *
+	 * @param classNamePersistence the class name persistence
+	 */
+	public void setClassNamePersistence(
+		ClassNamePersistence classNamePersistence) {
+		this.classNamePersistence = classNamePersistence;
+	}
+
+	/**
+	 * Returns the resource local service.
+	 *
+	 * @return the resource local service
+	 */
+	public com.liferay.portal.kernel.service.ResourceLocalService getResourceLocalService() {
+		return resourceLocalService;
+	}
+
+	/**
+	 * Sets the resource local service.
+	 *
+	 * @param resourceLocalService the resource local service
+	 */
+	public void setResourceLocalService(
+		com.liferay.portal.kernel.service.ResourceLocalService resourceLocalService) {
+		this.resourceLocalService = resourceLocalService;
+	}
+
+	/**
+	 * Returns the user local service.
+	 *
+	 * @return the user local service
+	 */
+	public com.liferay.portal.kernel.service.UserLocalService getUserLocalService() {
+		return userLocalService;
+	}
+
+	/**
+	 * Sets the user local service.
+	 *
+	 * @param userLocalService the user local service
+	 */
+	public void setUserLocalService(
+		com.liferay.portal.kernel.service.UserLocalService userLocalService) {
+		this.userLocalService = userLocalService;
+	}
+
+	/**
+	 * Returns the user persistence.
+	 *
+	 * @return the user persistence
+	 */
+	public UserPersistence getUserPersistence() {
+		return userPersistence;
+	}
+
+	/**
+	 * Sets the user persistence.
+	 *
+	 * @param userPersistence the user persistence
+	 */
+	public void setUserPersistence(UserPersistence userPersistence) {
+		this.userPersistence = userPersistence;
+	}
+
+	public void afterPropertiesSet() {
+		Class<?> clazz = getClass();
+
+		_classLoader = clazz.getClassLoader();
+
+		PersistedModelLocalServiceRegistryUtil.register("com.liferay.akismet.model.ModerationEntry",
+			moderationEntryLocalService);
+	}
+
+	public void destroy() {
+		PersistedModelLocalServiceRegistryUtil.unregister(
+			"com.liferay.akismet.model.ModerationEntry");
+	}
+
+	/**
+	 * Returns the OSGi service identifier.
+	 *
+	 * @return the OSGi service identifier
+	 */
+	@Override
+	public String getOSGiServiceIdentifier() {
+		return ModerationEntryLocalService.class.getName();
+	}
+
+	@Override
+	public Object invokeMethod(String name, String[] parameterTypes,
+		Object[] arguments) throws Throwable {
+		Thread currentThread = Thread.currentThread();
+
+		ClassLoader contextClassLoader = currentThread.getContextClassLoader();
+
+		if (contextClassLoader != _classLoader) {
+			currentThread.setContextClassLoader(_classLoader);
+		}
+
+		try {
+			return _clpInvoker.invokeMethod(name, parameterTypes, arguments);
+		}
+		finally {
+			if (contextClassLoader != _classLoader) {
+				currentThread.setContextClassLoader(contextClassLoader);
+			}
+		}
+	}
+
+	protected Class<?> getModelClass() {
+		return ModerationEntry.class;
+	}
+
+	protected String getModelClassName() {
+		return ModerationEntry.class.getName();
+	}
+
+	/**
+	 * Performs a SQL query.
+	 *
+	 * @param sql the sql query
+	 */
+	protected void runSQL(String sql) {
+		try {
+			DataSource dataSource = moderationEntryPersistence.getDataSource();
+
+			DB db = DBManagerUtil.getDB();
+
+			sql = db.buildSQL(sql);
+			sql = PortalUtil.transformSQL(sql);
+
+			SqlUpdate sqlUpdate = SqlUpdateFactoryUtil.getSqlUpdate(dataSource,
+					sql);
+
+			sqlUpdate.update();
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+	}
+
+	@BeanReference(type = com.liferay.akismet.service.AkismetDataLocalService.class)
+	protected com.liferay.akismet.service.AkismetDataLocalService akismetDataLocalService;
+	@BeanReference(type = AkismetDataPersistence.class)
+	protected AkismetDataPersistence akismetDataPersistence;
+	@BeanReference(type = com.liferay.akismet.service.ModerationEntryLocalService.class)
+	protected ModerationEntryLocalService moderationEntryLocalService;
+	@BeanReference(type = ModerationEntryPersistence.class)
+	protected ModerationEntryPersistence moderationEntryPersistence;
+	@BeanReference(type = ModerationEntryFinder.class)
+	protected ModerationEntryFinder moderationEntryFinder;
+	@BeanReference(type = com.liferay.counter.kernel.service.CounterLocalService.class)
+	protected com.liferay.counter.kernel.service.CounterLocalService counterLocalService;
+	@BeanReference(type = com.liferay.portal.kernel.service.ClassNameLocalService.class)
+	protected com.liferay.portal.kernel.service.ClassNameLocalService classNameLocalService;
+	@BeanReference(type = ClassNamePersistence.class)
+	protected ClassNamePersistence classNamePersistence;
+	@BeanReference(type = com.liferay.portal.kernel.service.ResourceLocalService.class)
+	protected com.liferay.portal.kernel.service.ResourceLocalService resourceLocalService;
+	@BeanReference(type = com.liferay.portal.kernel.service.UserLocalService.class)
+	protected com.liferay.portal.kernel.service.UserLocalService userLocalService;
+	@BeanReference(type = UserPersistence.class)
+	protected UserPersistence userPersistence;
+	private ClassLoader _classLoader;
+	private ModerationEntryLocalServiceClpInvoker _clpInvoker = new ModerationEntryLocalServiceClpInvoker();
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.impl;
+
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.service.base.ModerationEntryLocalServiceBaseImpl;
+import com.liferay.portal.kernel.exception.PortalException;
+
+import java.util.List;
+
+/**
+ * @author Amos Fong
+ */
+public class ModerationEntryLocalServiceImpl
+	extends ModerationEntryLocalServiceBaseImpl {
+
+	public void deleteModerationEntry(String className, long classPK)
+		throws PortalException {
+
+		long classNameId = classNameLocalService.getClassNameId(className);
+
+		ModerationEntry moderationEntry = moderationEntryPersistence.fetchByC_C(
+			classNameId, classPK);
+
+		if (moderationEntry != null) {
+			moderationEntryPersistence.remove(moderationEntry);
+		}
+	}
+
+	public ModerationEntry fetchModerationEntry(
+		String className, long classPK) {
+
+		long classNameId = classNameLocalService.getClassNameId(className);
+
+		return moderationEntryPersistence.fetchByC_C(classNameId, classPK);
+	}
+
+	public List<ModerationEntry> getModerationEntries(
+		long companyId, long[] groupIds, int type, long classPK, int size) {
+
+		return moderationEntryFinder.findByC_G_T(
+			companyId, groupIds, type, classPK, size);
+	}
+
+	public int getModerationEntriesCount(
+		long companyId, long[] groupIds, int type) {
+
+		return moderationEntryFinder.countByC_G_T(companyId, groupIds, type);
+	}
+
+	public ModerationEntry updateModerationEntry(
+		long companyId, long groupId, String className, long classPK,
+		int type) {
+
+		long classNameId = classNameLocalService.getClassNameId(className);
+
+		ModerationEntry moderationEntry = moderationEntryPersistence.fetchByC_C(
+			classNameId, classPK);
+
+		if (moderationEntry == null) {
+			long moderationEntryId = counterLocalService.increment();
+
+			moderationEntry = moderationEntryPersistence.create(
+				moderationEntryId);
+		}
+
+		moderationEntry.setGroupId(groupId);
+		moderationEntry.setCompanyId(companyId);
+		moderationEntry.setClassNameId(classNameId);
+		moderationEntry.setClassPK(classPK);
+		moderationEntry.setType(type);
+
+		moderationEntryPersistence.update(moderationEntry);
+
+		return moderationEntry;
+	}
+
+}
\ No newline at end of file
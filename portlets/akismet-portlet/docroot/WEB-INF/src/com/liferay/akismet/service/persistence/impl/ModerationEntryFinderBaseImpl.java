@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.persistence.impl;
+
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.service.persistence.ModerationEntryPersistence;
+
+import com.liferay.portal.kernel.bean.BeanReference;
+import com.liferay.portal.kernel.service.persistence.impl.BasePersistenceImpl;
+
+import java.util.Set;
+
+/**
+ * @author Brian Wing Shun Chan
+ * @generated
+ */
+public class ModerationEntryFinderBaseImpl extends BasePersistenceImpl<ModerationEntry> {
+	@Override
+	public Set<String> getBadColumnNames() {
+		return getModerationEntryPersistence().getBadColumnNames();
+	}
+
+	/**
+	 * Returns the moderation entry persistence.
+	 *
+	 * @return the moderation entry persistence
+	 */
+	public ModerationEntryPersistence getModerationEntryPersistence() {
+		return moderationEntryPersistence;
+	}
+
+	/**
+	 * Sets the moderation entry persistence.
+	 *
+	 * @param moderationEntryPersistence the moderation entry persistence
+	 */
+	public void setModerationEntryPersistence(
+		ModerationEntryPersistence moderationEntryPersistence) {
+		this.moderationEntryPersistence = moderationEntryPersistence;
+	}
+
+	@BeanReference(type = ModerationEntryPersistence.class)
+	protected ModerationEntryPersistence moderationEntryPersistence;
+}
\ No newline at end of file
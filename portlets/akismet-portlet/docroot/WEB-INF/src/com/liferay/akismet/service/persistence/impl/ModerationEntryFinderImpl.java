@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.persistence.impl;
+
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.model.impl.ModerationEntryImpl;
+import com.liferay.akismet.service.persistence.ModerationEntryFinder;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.SQLQuery;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.dao.orm.Type;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.util.dao.orm.CustomSQLUtil;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * @author Amos Fong
+ */
+public class ModerationEntryFinderImpl
+	extends ModerationEntryFinderBaseImpl implements ModerationEntryFinder {
+
+	public static final String COUNT_BY_C_G_T =
+		ModerationEntryFinder.class.getName() + ".countByC_G_T";
+
+	public static final String FIND_BY_C_G_T =
+		ModerationEntryFinder.class.getName() + ".findByC_G_T";
+
+	public int countByC_G_T(long companyId, long[] groupIds, int type) {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(COUNT_BY_C_G_T);
+
+			sql = StringUtil.replace(
+				sql, "[$GROUP_IDS$]", getGroupIds(groupIds));
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addScalar(COUNT_COLUMN_NAME, Type.LONG);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(companyId);
+
+			if (ArrayUtil.isNotEmpty(groupIds)) {
+				qPos.add(groupIds);
+			}
+
+			qPos.add(type);
+
+			Iterator<Long> itr = q.iterate();
+
+			if (itr.hasNext()) {
+				Long count = itr.next();
+
+				if (count != null) {
+					return count.intValue();
+				}
+			}
+
+			return 0;
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	public List<ModerationEntry> findByC_G_T(
+		long companyId, long[] groupIds, int type, long classPK, int size) {
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			String sql = CustomSQLUtil.get(FIND_BY_C_G_T);
+
+			sql = StringUtil.replace(
+				sql, "[$GROUP_IDS$]", getGroupIds(groupIds));
+			sql = StringUtil.replace(sql, "[$CLASS_PK$]", getClassPK(classPK));
+
+			SQLQuery q = session.createSynchronizedSQLQuery(sql);
+
+			q.addEntity("Akismet_ModerationEntry", ModerationEntryImpl.class);
+
+			QueryPos qPos = QueryPos.getInstance(q);
+
+			qPos.add(companyId);
+
+			if (ArrayUtil.isNotEmpty(groupIds)) {
+				qPos.add(groupIds);
+			}
+
+			qPos.add(type);
+
+			if (classPK > 0) {
+				qPos.add(classPK);
+			}
+
+			return (List<ModerationEntry>)QueryUtil.list(
+				q, getDialect(), 0, size);
+		}
+		catch (Exception e) {
+			throw new SystemException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected String getClassPK(long classPK) {
+		if (classPK > 0) {
+			return "AND (Akismet_ModerationEntry.classPK < ?)";
+		}
+
+		return StringPool.BLANK;
+	}
+
+	protected String getGroupIds(long[] groupIds) {
+		if (ArrayUtil.isEmpty(groupIds)) {
+			return StringPool.BLANK;
+		}
+
+		StringBundler sb = new StringBundler(groupIds.length + 1);
+
+		sb.append("(Akismet_ModerationEntry.groupId IN (");
+
+		for (int i = 0; i < groupIds.length; i++) {
+			if (i > 0) {
+				sb.append(", ?");
+			}
+			else {
+				sb.append("?");
+			}
+		}
+
+		sb.append(")) AND");
+
+		return sb.toString();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,2188 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.service.persistence.impl;
+
+import aQute.bnd.annotation.ProviderType;
+
+import com.liferay.akismet.exception.NoSuchModerationEntryException;
+import com.liferay.akismet.model.ModerationEntry;
+import com.liferay.akismet.model.impl.ModerationEntryImpl;
+import com.liferay.akismet.model.impl.ModerationEntryModelImpl;
+import com.liferay.akismet.service.persistence.ModerationEntryPersistence;
+
+import com.liferay.portal.kernel.dao.orm.EntityCache;
+import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderCache;
+import com.liferay.portal.kernel.dao.orm.FinderCacheUtil;
+import com.liferay.portal.kernel.dao.orm.FinderPath;
+import com.liferay.portal.kernel.dao.orm.Query;
+import com.liferay.portal.kernel.dao.orm.QueryPos;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.dao.orm.Session;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.CacheModel;
+import com.liferay.portal.kernel.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portal.kernel.util.OrderByComparator;
+import com.liferay.portal.kernel.util.SetUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The persistence implementation for the moderation entry service.
+ *
+ * <p>
+ * Caching information and settings can be found in <code>portal.properties</code>
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ * @see ModerationEntryPersistence
+ * @see com.liferay.akismet.service.persistence.ModerationEntryUtil
+ * @generated
+ */
+@ProviderType
+public class ModerationEntryPersistenceImpl extends BasePersistenceImpl<ModerationEntry>
+	implements ModerationEntryPersistence {
+	/*
+	 * NOTE FOR DEVELOPERS:
+	 *
+	 * Never modify or reference this class directly. Always use {@link ModerationEntryUtil} to access the moderation entry persistence. Modify <code>service.xml</code> and rerun ServiceBuilder to regenerate this class.
+	 */
+	public static final String FINDER_CLASS_NAME_ENTITY = ModerationEntryImpl.class.getName();
+	public static final String FINDER_CLASS_NAME_LIST_WITH_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List1";
+	public static final String FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION = FINDER_CLASS_NAME_ENTITY +
+		".List2";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_ALL = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED, ModerationEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITH_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED, ModerationEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findAll", new String[0]);
+	public static final FinderPath FINDER_PATH_COUNT_ALL = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countAll", new String[0]);
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_C_T = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED,
+			ModerationEntryImpl.class, FINDER_CLASS_NAME_LIST_WITH_PAGINATION,
+			"findByC_T",
+			new String[] {
+				Long.class.getName(), Integer.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_T = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED,
+			ModerationEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByC_T",
+			new String[] { Long.class.getName(), Integer.class.getName() },
+			ModerationEntryModelImpl.COMPANYID_COLUMN_BITMASK |
+			ModerationEntryModelImpl.TYPE_COLUMN_BITMASK |
+			ModerationEntryModelImpl.MODERATIONENTRYID_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_T = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_T",
+			new String[] { Long.class.getName(), Integer.class.getName() });
+
+	/**
+	 * Returns all the moderation entries where companyId = &#63; and type = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @return the matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByC_T(long companyId, int type) {
+		return findByC_T(companyId, type, QueryUtil.ALL_POS, QueryUtil.ALL_POS,
+			null);
+	}
+
+	/**
+	 * Returns a range of all the moderation entries where companyId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @return the range of matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByC_T(long companyId, int type, int start,
+		int end) {
+		return findByC_T(companyId, type, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the moderation entries where companyId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByC_T(long companyId, int type, int start,
+		int end, OrderByComparator<ModerationEntry> orderByComparator) {
+		return findByC_T(companyId, type, start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the moderation entries where companyId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByC_T(long companyId, int type, int start,
+		int end, OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_T;
+			finderArgs = new Object[] { companyId, type };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_C_T;
+			finderArgs = new Object[] {
+					companyId, type,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<ModerationEntry> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<ModerationEntry>)finderCache.getResult(finderPath,
+					finderArgs, this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (ModerationEntry moderationEntry : list) {
+					if ((companyId != moderationEntry.getCompanyId()) ||
+							(type != moderationEntry.getType())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_MODERATIONENTRY_WHERE);
+
+			query.append(_FINDER_COLUMN_C_T_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_T_TYPE_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(ModerationEntryModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(type);
+
+				if (!pagination) {
+					list = (List<ModerationEntry>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<ModerationEntry>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching moderation entry
+	 * @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry findByC_T_First(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = fetchByC_T_First(companyId, type,
+				orderByComparator);
+
+		if (moderationEntry != null) {
+			return moderationEntry;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("companyId=");
+		msg.append(companyId);
+
+		msg.append(", type=");
+		msg.append(type);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchModerationEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the first moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByC_T_First(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		List<ModerationEntry> list = findByC_T(companyId, type, 0, 1,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching moderation entry
+	 * @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry findByC_T_Last(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = fetchByC_T_Last(companyId, type,
+				orderByComparator);
+
+		if (moderationEntry != null) {
+			return moderationEntry;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("companyId=");
+		msg.append(companyId);
+
+		msg.append(", type=");
+		msg.append(type);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchModerationEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the last moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByC_T_Last(long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		int count = countByC_T(companyId, type);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<ModerationEntry> list = findByC_T(companyId, type, count - 1, count,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the moderation entries before and after the current moderation entry in the ordered set where companyId = &#63; and type = &#63;.
+	 *
+	 * @param moderationEntryId the primary key of the current moderation entry
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next moderation entry
+	 * @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry[] findByC_T_PrevAndNext(long moderationEntryId,
+		long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = findByPrimaryKey(moderationEntryId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			ModerationEntry[] array = new ModerationEntryImpl[3];
+
+			array[0] = getByC_T_PrevAndNext(session, moderationEntry, companyId,
+					type, orderByComparator, true);
+
+			array[1] = moderationEntry;
+
+			array[2] = getByC_T_PrevAndNext(session, moderationEntry, companyId,
+					type, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected ModerationEntry getByC_T_PrevAndNext(Session session,
+		ModerationEntry moderationEntry, long companyId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(5 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(4);
+		}
+
+		query.append(_SQL_SELECT_MODERATIONENTRY_WHERE);
+
+		query.append(_FINDER_COLUMN_C_T_COMPANYID_2);
+
+		query.append(_FINDER_COLUMN_C_T_TYPE_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(ModerationEntryModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(companyId);
+
+		qPos.add(type);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(moderationEntry);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<ModerationEntry> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the moderation entries where companyId = &#63; and type = &#63; from the database.
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 */
+	@Override
+	public void removeByC_T(long companyId, int type) {
+		for (ModerationEntry moderationEntry : findByC_T(companyId, type,
+				QueryUtil.ALL_POS, QueryUtil.ALL_POS, null)) {
+			remove(moderationEntry);
+		}
+	}
+
+	/**
+	 * Returns the number of moderation entries where companyId = &#63; and type = &#63;.
+	 *
+	 * @param companyId the company ID
+	 * @param type the type
+	 * @return the number of matching moderation entries
+	 */
+	@Override
+	public int countByC_T(long companyId, int type) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_C_T;
+
+		Object[] finderArgs = new Object[] { companyId, type };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_MODERATIONENTRY_WHERE);
+
+			query.append(_FINDER_COLUMN_C_T_COMPANYID_2);
+
+			query.append(_FINDER_COLUMN_C_T_TYPE_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(companyId);
+
+				qPos.add(type);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_C_T_COMPANYID_2 = "moderationEntry.companyId = ? AND ";
+	private static final String _FINDER_COLUMN_C_T_TYPE_2 = "moderationEntry.type = ?";
+	public static final FinderPath FINDER_PATH_WITH_PAGINATION_FIND_BY_G_T = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED,
+			ModerationEntryImpl.class, FINDER_CLASS_NAME_LIST_WITH_PAGINATION,
+			"findByG_T",
+			new String[] {
+				Long.class.getName(), Integer.class.getName(),
+				
+			Integer.class.getName(), Integer.class.getName(),
+				OrderByComparator.class.getName()
+			});
+	public static final FinderPath FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED,
+			ModerationEntryImpl.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "findByG_T",
+			new String[] { Long.class.getName(), Integer.class.getName() },
+			ModerationEntryModelImpl.GROUPID_COLUMN_BITMASK |
+			ModerationEntryModelImpl.TYPE_COLUMN_BITMASK |
+			ModerationEntryModelImpl.MODERATIONENTRYID_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_G_T = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByG_T",
+			new String[] { Long.class.getName(), Integer.class.getName() });
+
+	/**
+	 * Returns all the moderation entries where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @return the matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByG_T(long groupId, int type) {
+		return findByG_T(groupId, type, QueryUtil.ALL_POS, QueryUtil.ALL_POS,
+			null);
+	}
+
+	/**
+	 * Returns a range of all the moderation entries where groupId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @return the range of matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByG_T(long groupId, int type, int start,
+		int end) {
+		return findByG_T(groupId, type, start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the moderation entries where groupId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByG_T(long groupId, int type, int start,
+		int end, OrderByComparator<ModerationEntry> orderByComparator) {
+		return findByG_T(groupId, type, start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the moderation entries where groupId = &#63; and type = &#63;.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of matching moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findByG_T(long groupId, int type, int start,
+		int end, OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T;
+			finderArgs = new Object[] { groupId, type };
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_BY_G_T;
+			finderArgs = new Object[] {
+					groupId, type,
+					
+					start, end, orderByComparator
+				};
+		}
+
+		List<ModerationEntry> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<ModerationEntry>)finderCache.getResult(finderPath,
+					finderArgs, this);
+
+			if ((list != null) && !list.isEmpty()) {
+				for (ModerationEntry moderationEntry : list) {
+					if ((groupId != moderationEntry.getGroupId()) ||
+							(type != moderationEntry.getType())) {
+						list = null;
+
+						break;
+					}
+				}
+			}
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(4 +
+						(orderByComparator.getOrderByFields().length * 2));
+			}
+			else {
+				query = new StringBundler(4);
+			}
+
+			query.append(_SQL_SELECT_MODERATIONENTRY_WHERE);
+
+			query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+			query.append(_FINDER_COLUMN_G_T_TYPE_2);
+
+			if (orderByComparator != null) {
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+			}
+			else
+			 if (pagination) {
+				query.append(ModerationEntryModelImpl.ORDER_BY_JPQL);
+			}
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				qPos.add(type);
+
+				if (!pagination) {
+					list = (List<ModerationEntry>)QueryUtil.list(q,
+							getDialect(), start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<ModerationEntry>)QueryUtil.list(q,
+							getDialect(), start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the first moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching moderation entry
+	 * @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry findByG_T_First(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = fetchByG_T_First(groupId, type,
+				orderByComparator);
+
+		if (moderationEntry != null) {
+			return moderationEntry;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("groupId=");
+		msg.append(groupId);
+
+		msg.append(", type=");
+		msg.append(type);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchModerationEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the first moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the first matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByG_T_First(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		List<ModerationEntry> list = findByG_T(groupId, type, 0, 1,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the last moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching moderation entry
+	 * @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry findByG_T_Last(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = fetchByG_T_Last(groupId, type,
+				orderByComparator);
+
+		if (moderationEntry != null) {
+			return moderationEntry;
+		}
+
+		StringBundler msg = new StringBundler(6);
+
+		msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+		msg.append("groupId=");
+		msg.append(groupId);
+
+		msg.append(", type=");
+		msg.append(type);
+
+		msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+		throw new NoSuchModerationEntryException(msg.toString());
+	}
+
+	/**
+	 * Returns the last moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the last matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByG_T_Last(long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		int count = countByG_T(groupId, type);
+
+		if (count == 0) {
+			return null;
+		}
+
+		List<ModerationEntry> list = findByG_T(groupId, type, count - 1, count,
+				orderByComparator);
+
+		if (!list.isEmpty()) {
+			return list.get(0);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the moderation entries before and after the current moderation entry in the ordered set where groupId = &#63; and type = &#63;.
+	 *
+	 * @param moderationEntryId the primary key of the current moderation entry
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @param orderByComparator the comparator to order the set by (optionally <code>null</code>)
+	 * @return the previous, current, and next moderation entry
+	 * @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry[] findByG_T_PrevAndNext(long moderationEntryId,
+		long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = findByPrimaryKey(moderationEntryId);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			ModerationEntry[] array = new ModerationEntryImpl[3];
+
+			array[0] = getByG_T_PrevAndNext(session, moderationEntry, groupId,
+					type, orderByComparator, true);
+
+			array[1] = moderationEntry;
+
+			array[2] = getByG_T_PrevAndNext(session, moderationEntry, groupId,
+					type, orderByComparator, false);
+
+			return array;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	protected ModerationEntry getByG_T_PrevAndNext(Session session,
+		ModerationEntry moderationEntry, long groupId, int type,
+		OrderByComparator<ModerationEntry> orderByComparator, boolean previous) {
+		StringBundler query = null;
+
+		if (orderByComparator != null) {
+			query = new StringBundler(5 +
+					(orderByComparator.getOrderByConditionFields().length * 3) +
+					(orderByComparator.getOrderByFields().length * 3));
+		}
+		else {
+			query = new StringBundler(4);
+		}
+
+		query.append(_SQL_SELECT_MODERATIONENTRY_WHERE);
+
+		query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+		query.append(_FINDER_COLUMN_G_T_TYPE_2);
+
+		if (orderByComparator != null) {
+			String[] orderByConditionFields = orderByComparator.getOrderByConditionFields();
+
+			if (orderByConditionFields.length > 0) {
+				query.append(WHERE_AND);
+			}
+
+			for (int i = 0; i < orderByConditionFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByConditionFields[i]);
+
+				if ((i + 1) < orderByConditionFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN_HAS_NEXT);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(WHERE_GREATER_THAN);
+					}
+					else {
+						query.append(WHERE_LESSER_THAN);
+					}
+				}
+			}
+
+			query.append(ORDER_BY_CLAUSE);
+
+			String[] orderByFields = orderByComparator.getOrderByFields();
+
+			for (int i = 0; i < orderByFields.length; i++) {
+				query.append(_ORDER_BY_ENTITY_ALIAS);
+				query.append(orderByFields[i]);
+
+				if ((i + 1) < orderByFields.length) {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC_HAS_NEXT);
+					}
+					else {
+						query.append(ORDER_BY_DESC_HAS_NEXT);
+					}
+				}
+				else {
+					if (orderByComparator.isAscending() ^ previous) {
+						query.append(ORDER_BY_ASC);
+					}
+					else {
+						query.append(ORDER_BY_DESC);
+					}
+				}
+			}
+		}
+		else {
+			query.append(ModerationEntryModelImpl.ORDER_BY_JPQL);
+		}
+
+		String sql = query.toString();
+
+		Query q = session.createQuery(sql);
+
+		q.setFirstResult(0);
+		q.setMaxResults(2);
+
+		QueryPos qPos = QueryPos.getInstance(q);
+
+		qPos.add(groupId);
+
+		qPos.add(type);
+
+		if (orderByComparator != null) {
+			Object[] values = orderByComparator.getOrderByConditionValues(moderationEntry);
+
+			for (Object value : values) {
+				qPos.add(value);
+			}
+		}
+
+		List<ModerationEntry> list = q.list();
+
+		if (list.size() == 2) {
+			return list.get(1);
+		}
+		else {
+			return null;
+		}
+	}
+
+	/**
+	 * Removes all the moderation entries where groupId = &#63; and type = &#63; from the database.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 */
+	@Override
+	public void removeByG_T(long groupId, int type) {
+		for (ModerationEntry moderationEntry : findByG_T(groupId, type,
+				QueryUtil.ALL_POS, QueryUtil.ALL_POS, null)) {
+			remove(moderationEntry);
+		}
+	}
+
+	/**
+	 * Returns the number of moderation entries where groupId = &#63; and type = &#63;.
+	 *
+	 * @param groupId the group ID
+	 * @param type the type
+	 * @return the number of matching moderation entries
+	 */
+	@Override
+	public int countByG_T(long groupId, int type) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_G_T;
+
+		Object[] finderArgs = new Object[] { groupId, type };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_MODERATIONENTRY_WHERE);
+
+			query.append(_FINDER_COLUMN_G_T_GROUPID_2);
+
+			query.append(_FINDER_COLUMN_G_T_TYPE_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(groupId);
+
+				qPos.add(type);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_G_T_GROUPID_2 = "moderationEntry.groupId = ? AND ";
+	private static final String _FINDER_COLUMN_G_T_TYPE_2 = "moderationEntry.type = ?";
+	public static final FinderPath FINDER_PATH_FETCH_BY_C_C = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED, ModerationEntryImpl.class,
+			FINDER_CLASS_NAME_ENTITY, "fetchByC_C",
+			new String[] { Long.class.getName(), Long.class.getName() },
+			ModerationEntryModelImpl.CLASSNAMEID_COLUMN_BITMASK |
+			ModerationEntryModelImpl.CLASSPK_COLUMN_BITMASK);
+	public static final FinderPath FINDER_PATH_COUNT_BY_C_C = new FinderPath(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryModelImpl.FINDER_CACHE_ENABLED, Long.class,
+			FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION, "countByC_C",
+			new String[] { Long.class.getName(), Long.class.getName() });
+
+	/**
+	 * Returns the moderation entry where classNameId = &#63; and classPK = &#63; or throws a {@link NoSuchModerationEntryException} if it could not be found.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the matching moderation entry
+	 * @throws NoSuchModerationEntryException if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry findByC_C(long classNameId, long classPK)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = fetchByC_C(classNameId, classPK);
+
+		if (moderationEntry == null) {
+			StringBundler msg = new StringBundler(6);
+
+			msg.append(_NO_SUCH_ENTITY_WITH_KEY);
+
+			msg.append("classNameId=");
+			msg.append(classNameId);
+
+			msg.append(", classPK=");
+			msg.append(classPK);
+
+			msg.append(StringPool.CLOSE_CURLY_BRACE);
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(msg.toString());
+			}
+
+			throw new NoSuchModerationEntryException(msg.toString());
+		}
+
+		return moderationEntry;
+	}
+
+	/**
+	 * Returns the moderation entry where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found. Uses the finder cache.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByC_C(long classNameId, long classPK) {
+		return fetchByC_C(classNameId, classPK, true);
+	}
+
+	/**
+	 * Returns the moderation entry where classNameId = &#63; and classPK = &#63; or returns <code>null</code> if it could not be found, optionally using the finder cache.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the matching moderation entry, or <code>null</code> if a matching moderation entry could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByC_C(long classNameId, long classPK,
+		boolean retrieveFromCache) {
+		Object[] finderArgs = new Object[] { classNameId, classPK };
+
+		Object result = null;
+
+		if (retrieveFromCache) {
+			result = finderCache.getResult(FINDER_PATH_FETCH_BY_C_C,
+					finderArgs, this);
+		}
+
+		if (result instanceof ModerationEntry) {
+			ModerationEntry moderationEntry = (ModerationEntry)result;
+
+			if ((classNameId != moderationEntry.getClassNameId()) ||
+					(classPK != moderationEntry.getClassPK())) {
+				result = null;
+			}
+		}
+
+		if (result == null) {
+			StringBundler query = new StringBundler(4);
+
+			query.append(_SQL_SELECT_AKISMETDATA_WHERE);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSPK_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				List<ModerationEntry> list = q.list();
+
+				if (list.isEmpty()) {
+					finderCache.putResult(FINDER_PATH_FETCH_BY_C_C, finderArgs,
+						list);
+				}
+				else {
+					if ((list.size() > 1) && _log.isWarnEnabled()) {
+						_log.warn(
+							"ModerationEntryPersistenceImpl.fetchByC_C(long, long, boolean) with parameters (" +
+							StringUtil.merge(finderArgs) +
+							") yields a result set with more than 1 result. This violates the logical unique restriction. There is no order guarantee on which result is returned by this finder.");
+					}
+
+					ModerationEntry moderationEntry = list.get(0);
+
+					result = moderationEntry;
+
+					cacheResult(moderationEntry);
+
+					if ((moderationEntry.getClassNameId() != classNameId) ||
+							(moderationEntry.getClassPK() != classPK)) {
+						finderCache.putResult(FINDER_PATH_FETCH_BY_C_C,
+							finderArgs, moderationEntry);
+					}
+				}
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_FETCH_BY_C_C, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		if (result instanceof List<?>) {
+			return null;
+		}
+		else {
+			return (ModerationEntry)result;
+		}
+	}
+
+	/**
+	 * Removes the moderation entry where classNameId = &#63; and classPK = &#63; from the database.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the moderation entry that was removed
+	 */
+	@Override
+	public ModerationEntry removeByC_C(long classNameId, long classPK)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = findByC_C(classNameId, classPK);
+
+		return remove(moderationEntry);
+	}
+
+	/**
+	 * Returns the number of moderation entries where classNameId = &#63; and classPK = &#63;.
+	 *
+	 * @param classNameId the class name ID
+	 * @param classPK the class p k
+	 * @return the number of matching moderation entries
+	 */
+	@Override
+	public int countByC_C(long classNameId, long classPK) {
+		FinderPath finderPath = FINDER_PATH_COUNT_BY_C_C;
+
+		Object[] finderArgs = new Object[] { classNameId, classPK };
+
+		Long count = (Long)finderCache.getResult(finderPath, finderArgs, this);
+
+		if (count == null) {
+			StringBundler query = new StringBundler(3);
+
+			query.append(_SQL_COUNT_AKISMETDATA_WHERE);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSNAMEID_2);
+
+			query.append(_FINDER_COLUMN_C_C_CLASSPK_2);
+
+			String sql = query.toString();
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				QueryPos qPos = QueryPos.getInstance(q);
+
+				qPos.add(classNameId);
+
+				qPos.add(classPK);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(finderPath, finderArgs, count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	private static final String _FINDER_COLUMN_C_C_CLASSNAMEID_2 = "moderationEntry.classNameId = ? AND ";
+	private static final String _FINDER_COLUMN_C_C_CLASSPK_2 = "moderationEntry.classPK = ?";
+
+	public ModerationEntryPersistenceImpl() {
+		setModelClass(ModerationEntry.class);
+	}
+
+	/**
+	 * Caches the moderation entry in the entity cache if it is enabled.
+	 *
+	 * @param moderationEntry the moderation entry
+	 */
+	@Override
+	public void cacheResult(ModerationEntry moderationEntry) {
+		entityCache.putResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryImpl.class, moderationEntry.getPrimaryKey(), moderationEntry);
+
+		finderCache.putResult(FINDER_PATH_FETCH_BY_C_C,
+			new Object[] { moderationEntry.getClassNameId(), moderationEntry.getClassPK() },
+			moderationEntry);
+
+		moderationEntry.resetOriginalValues();
+	}
+
+	/**
+	 * Caches the moderation entries in the entity cache if it is enabled.
+	 *
+	 * @param moderationEntries the moderation entries
+	 */
+	@Override
+	public void cacheResult(List<ModerationEntry> moderationEntries) {
+		for (ModerationEntry moderationEntry : moderationEntries) {
+			if (entityCache.getResult(
+						ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+						ModerationEntryImpl.class, moderationEntry.getPrimaryKey()) == null) {
+				cacheResult(moderationEntry);
+			}
+			else {
+				moderationEntry.resetOriginalValues();
+			}
+		}
+	}
+
+	/**
+	 * Clears the cache for all moderation entries.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache() {
+		entityCache.clearCache(ModerationEntryImpl.class);
+
+		finderCache.clearCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	/**
+	 * Clears the cache for the moderation entry.
+	 *
+	 * <p>
+	 * The {@link EntityCache} and {@link FinderCache} are both cleared by this method.
+	 * </p>
+	 */
+	@Override
+	public void clearCache(ModerationEntry moderationEntry) {
+		entityCache.removeResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryImpl.class, moderationEntry.getPrimaryKey());
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		clearUniqueFindersCache((ModerationEntryModelImpl)moderationEntry);
+	}
+
+	@Override
+	public void clearCache(List<ModerationEntry> moderationEntries) {
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+
+		for (ModerationEntry moderationEntry : moderationEntries) {
+			entityCache.removeResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+				ModerationEntryImpl.class, moderationEntry.getPrimaryKey());
+
+			clearUniqueFindersCache((ModerationEntryModelImpl)moderationEntry);
+		}
+	}
+
+	protected void cacheUniqueFindersCache(
+		ModerationEntryModelImpl moderationEntryModelImpl, boolean isNew) {
+		if (isNew) {
+			Object[] args = new Object[] {
+					moderationEntryModelImpl.getClassNameId(),
+					moderationEntryModelImpl.getClassPK()
+				};
+
+			finderCache.putResult(FINDER_PATH_COUNT_BY_C_C, args,
+				Long.valueOf(1));
+			finderCache.putResult(FINDER_PATH_FETCH_BY_C_C, args,
+				moderationEntryModelImpl);
+		}
+		else {
+			if ((moderationEntryModelImpl.getColumnBitmask() &
+					FINDER_PATH_FETCH_BY_C_C.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						moderationEntryModelImpl.getClassNameId(),
+						moderationEntryModelImpl.getClassPK()
+					};
+
+				finderCache.putResult(FINDER_PATH_COUNT_BY_C_C, args,
+					Long.valueOf(1));
+				finderCache.putResult(FINDER_PATH_FETCH_BY_C_C, args,
+					moderationEntryModelImpl);
+			}
+		}
+	}
+
+	protected void clearUniqueFindersCache(
+		ModerationEntryModelImpl moderationEntryModelImpl) {
+		Object[] args = new Object[] {
+				moderationEntryModelImpl.getClassNameId(),
+				moderationEntryModelImpl.getClassPK()
+			};
+
+		finderCache.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
+		finderCache.removeResult(FINDER_PATH_FETCH_BY_C_C, args);
+
+		if ((moderationEntryModelImpl.getColumnBitmask() &
+				FINDER_PATH_FETCH_BY_C_C.getColumnBitmask()) != 0) {
+			args = new Object[] {
+					moderationEntryModelImpl.getOriginalClassNameId(),
+					moderationEntryModelImpl.getOriginalClassPK()
+				};
+
+			finderCache.removeResult(FINDER_PATH_COUNT_BY_C_C, args);
+			finderCache.removeResult(FINDER_PATH_FETCH_BY_C_C, args);
+		}
+	}
+
+	/**
+	 * Creates a new moderation entry with the primary key. Does not add the moderation entry to the database.
+	 *
+	 * @param moderationEntryId the primary key for the new moderation entry
+	 * @return the new moderation entry
+	 */
+	@Override
+	public ModerationEntry create(long moderationEntryId) {
+		ModerationEntry moderationEntry = new ModerationEntryImpl();
+
+		moderationEntry.setNew(true);
+		moderationEntry.setPrimaryKey(moderationEntryId);
+
+		return moderationEntry;
+	}
+
+	/**
+	 * Removes the moderation entry with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param moderationEntryId the primary key of the moderation entry
+	 * @return the moderation entry that was removed
+	 * @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry remove(long moderationEntryId) throws NoSuchModerationEntryException {
+		return remove((Serializable)moderationEntryId);
+	}
+
+	/**
+	 * Removes the moderation entry with the primary key from the database. Also notifies the appropriate model listeners.
+	 *
+	 * @param primaryKey the primary key of the moderation entry
+	 * @return the moderation entry that was removed
+	 * @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry remove(Serializable primaryKey)
+		throws NoSuchModerationEntryException {
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			ModerationEntry moderationEntry = (ModerationEntry)session.get(ModerationEntryImpl.class,
+					primaryKey);
+
+			if (moderationEntry == null) {
+				if (_log.isDebugEnabled()) {
+					_log.debug(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+				}
+
+				throw new NoSuchModerationEntryException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+					primaryKey);
+			}
+
+			return remove(moderationEntry);
+		}
+		catch (NoSuchModerationEntryException nsee) {
+			throw nsee;
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+	}
+
+	@Override
+	protected ModerationEntry removeImpl(ModerationEntry moderationEntry) {
+		moderationEntry = toUnwrappedModel(moderationEntry);
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (!session.contains(moderationEntry)) {
+				moderationEntry = (ModerationEntry)session.get(ModerationEntryImpl.class,
+						moderationEntry.getPrimaryKeyObj());
+			}
+
+			if (moderationEntry != null) {
+				session.delete(moderationEntry);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		if (moderationEntry != null) {
+			clearCache(moderationEntry);
+		}
+
+		return moderationEntry;
+	}
+
+	@Override
+	public ModerationEntry updateImpl(ModerationEntry moderationEntry) {
+		moderationEntry = toUnwrappedModel(moderationEntry);
+
+		boolean isNew = moderationEntry.isNew();
+
+		ModerationEntryModelImpl moderationEntryModelImpl = (ModerationEntryModelImpl)moderationEntry;
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			if (moderationEntry.isNew()) {
+				session.save(moderationEntry);
+
+				moderationEntry.setNew(false);
+			}
+			else {
+				moderationEntry = (ModerationEntry)session.merge(moderationEntry);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+
+		if (isNew || !ModerationEntryModelImpl.COLUMN_BITMASK_ENABLED) {
+			finderCache.clearCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+		}
+
+		else {
+			if ((moderationEntryModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_T.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						moderationEntryModelImpl.getOriginalCompanyId(),
+						moderationEntryModelImpl.getOriginalType()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_C_T, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_T,
+					args);
+
+				args = new Object[] {
+						moderationEntryModelImpl.getCompanyId(),
+						moderationEntryModelImpl.getType()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_C_T, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_C_T,
+					args);
+			}
+
+			if ((moderationEntryModelImpl.getColumnBitmask() &
+					FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T.getColumnBitmask()) != 0) {
+				Object[] args = new Object[] {
+						moderationEntryModelImpl.getOriginalGroupId(),
+						moderationEntryModelImpl.getOriginalType()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_G_T, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T,
+					args);
+
+				args = new Object[] {
+						moderationEntryModelImpl.getGroupId(),
+						moderationEntryModelImpl.getType()
+					};
+
+				finderCache.removeResult(FINDER_PATH_COUNT_BY_G_T, args);
+				finderCache.removeResult(FINDER_PATH_WITHOUT_PAGINATION_FIND_BY_G_T,
+					args);
+			}
+		}
+
+		entityCache.putResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+			ModerationEntryImpl.class, moderationEntry.getPrimaryKey(), moderationEntry,
+			false);
+
+		clearUniqueFindersCache(moderationEntryModelImpl);
+		cacheUniqueFindersCache(moderationEntryModelImpl, isNew);
+
+		moderationEntry.resetOriginalValues();
+
+		return moderationEntry;
+	}
+
+	protected ModerationEntry toUnwrappedModel(ModerationEntry moderationEntry) {
+		if (moderationEntry instanceof ModerationEntryImpl) {
+			return moderationEntry;
+		}
+
+		ModerationEntryImpl moderationEntryImpl = new ModerationEntryImpl();
+
+		moderationEntryImpl.setNew(moderationEntry.isNew());
+		moderationEntryImpl.setPrimaryKey(moderationEntry.getPrimaryKey());
+
+		moderationEntryImpl.setModerationEntryId(moderationEntry.getModerationEntryId());
+		moderationEntryImpl.setGroupId(moderationEntry.getGroupId());
+		moderationEntryImpl.setCompanyId(moderationEntry.getCompanyId());
+		moderationEntryImpl.setClassNameId(moderationEntry.getClassNameId());
+		moderationEntryImpl.setClassPK(moderationEntry.getClassPK());
+		moderationEntryImpl.setType(moderationEntry.getType());
+
+		return moderationEntryImpl;
+	}
+
+	/**
+	 * Returns the moderation entry with the primary key or throws a {@link com.liferay.portal.kernel.exception.NoSuchModelException} if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the moderation entry
+	 * @return the moderation entry
+	 * @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry findByPrimaryKey(Serializable primaryKey)
+		throws NoSuchModerationEntryException {
+		ModerationEntry moderationEntry = fetchByPrimaryKey(primaryKey);
+
+		if (moderationEntry == null) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY + primaryKey);
+			}
+
+			throw new NoSuchModerationEntryException(_NO_SUCH_ENTITY_WITH_PRIMARY_KEY +
+				primaryKey);
+		}
+
+		return moderationEntry;
+	}
+
+	/**
+	 * Returns the moderation entry with the primary key or throws a {@link NoSuchModerationEntryException} if it could not be found.
+	 *
+	 * @param moderationEntryId the primary key of the moderation entry
+	 * @return the moderation entry
+	 * @throws NoSuchModerationEntryException if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry findByPrimaryKey(long moderationEntryId)
+		throws NoSuchModerationEntryException {
+		return findByPrimaryKey((Serializable)moderationEntryId);
+	}
+
+	/**
+	 * Returns the moderation entry with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param primaryKey the primary key of the moderation entry
+	 * @return the moderation entry, or <code>null</code> if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByPrimaryKey(Serializable primaryKey) {
+		ModerationEntry moderationEntry = (ModerationEntry)entityCache.getResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+				ModerationEntryImpl.class, primaryKey);
+
+		if (moderationEntry == _nullModerationEntry) {
+			return null;
+		}
+
+		if (moderationEntry == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				moderationEntry = (ModerationEntry)session.get(ModerationEntryImpl.class,
+						primaryKey);
+
+				if (moderationEntry != null) {
+					cacheResult(moderationEntry);
+				}
+				else {
+					entityCache.putResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+						ModerationEntryImpl.class, primaryKey, _nullModerationEntry);
+				}
+			}
+			catch (Exception e) {
+				entityCache.removeResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+					ModerationEntryImpl.class, primaryKey);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return moderationEntry;
+	}
+
+	/**
+	 * Returns the moderation entry with the primary key or returns <code>null</code> if it could not be found.
+	 *
+	 * @param moderationEntryId the primary key of the moderation entry
+	 * @return the moderation entry, or <code>null</code> if a moderation entry with the primary key could not be found
+	 */
+	@Override
+	public ModerationEntry fetchByPrimaryKey(long moderationEntryId) {
+		return fetchByPrimaryKey((Serializable)moderationEntryId);
+	}
+
+	@Override
+	public Map<Serializable, ModerationEntry> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) {
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, ModerationEntry> map = new HashMap<Serializable, ModerationEntry>();
+
+		if (primaryKeys.size() == 1) {
+			Iterator<Serializable> iterator = primaryKeys.iterator();
+
+			Serializable primaryKey = iterator.next();
+
+			ModerationEntry moderationEntry = fetchByPrimaryKey(primaryKey);
+
+			if (moderationEntry != null) {
+				map.put(primaryKey, moderationEntry);
+			}
+
+			return map;
+		}
+
+		Set<Serializable> uncachedPrimaryKeys = null;
+
+		for (Serializable primaryKey : primaryKeys) {
+			ModerationEntry moderationEntry = (ModerationEntry)entityCache.getResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+					ModerationEntryImpl.class, primaryKey);
+
+			if (moderationEntry == null) {
+				if (uncachedPrimaryKeys == null) {
+					uncachedPrimaryKeys = new HashSet<Serializable>();
+				}
+
+				uncachedPrimaryKeys.add(primaryKey);
+			}
+			else {
+				map.put(primaryKey, moderationEntry);
+			}
+		}
+
+		if (uncachedPrimaryKeys == null) {
+			return map;
+		}
+
+		StringBundler query = new StringBundler((uncachedPrimaryKeys.size() * 2) +
+				1);
+
+		query.append(_SQL_SELECT_AKISMETDATA_WHERE_PKS_IN);
+
+		for (Serializable primaryKey : uncachedPrimaryKeys) {
+			query.append(String.valueOf(primaryKey));
+
+			query.append(StringPool.COMMA);
+		}
+
+		query.setIndex(query.index() - 1);
+
+		query.append(StringPool.CLOSE_PARENTHESIS);
+
+		String sql = query.toString();
+
+		Session session = null;
+
+		try {
+			session = openSession();
+
+			Query q = session.createQuery(sql);
+
+			for (ModerationEntry moderationEntry : (List<ModerationEntry>)q.list()) {
+				map.put(moderationEntry.getPrimaryKeyObj(), moderationEntry);
+
+				cacheResult(moderationEntry);
+
+				uncachedPrimaryKeys.remove(moderationEntry.getPrimaryKeyObj());
+			}
+
+			for (Serializable primaryKey : uncachedPrimaryKeys) {
+				entityCache.putResult(ModerationEntryModelImpl.ENTITY_CACHE_ENABLED,
+					ModerationEntryImpl.class, primaryKey, _nullModerationEntry);
+			}
+		}
+		catch (Exception e) {
+			throw processException(e);
+		}
+		finally {
+			closeSession(session);
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns all the moderation entries.
+	 *
+	 * @return the moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findAll() {
+		return findAll(QueryUtil.ALL_POS, QueryUtil.ALL_POS, null);
+	}
+
+	/**
+	 * Returns a range of all the moderation entries.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @return the range of moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findAll(int start, int end) {
+		return findAll(start, end, null);
+	}
+
+	/**
+	 * Returns an ordered range of all the moderation entries.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @return the ordered range of moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findAll(int start, int end,
+		OrderByComparator<ModerationEntry> orderByComparator) {
+		return findAll(start, end, orderByComparator, true);
+	}
+
+	/**
+	 * Returns an ordered range of all the moderation entries.
+	 *
+	 * <p>
+	 * Useful when paginating results. Returns a maximum of <code>end - start</code> instances. <code>start</code> and <code>end</code> are not primary keys, they are indexes in the result set. Thus, <code>0</code> refers to the first result in the set. Setting both <code>start</code> and <code>end</code> to {@link QueryUtil#ALL_POS} will return the full result set. If <code>orderByComparator</code> is specified, then the query will include the given ORDER BY logic. If <code>orderByComparator</code> is absent and pagination is required (<code>start</code> and <code>end</code> are not {@link QueryUtil#ALL_POS}), then the query will include the default ORDER BY logic from {@link ModerationEntryModelImpl}. If both <code>orderByComparator</code> and pagination are absent, for performance reasons, the query will not have an ORDER BY clause and the returned result set will be sorted on by the primary key in an ascending order.
+	 * </p>
+	 *
+	 * @param start the lower bound of the range of moderation entries
+	 * @param end the upper bound of the range of moderation entries (not inclusive)
+	 * @param orderByComparator the comparator to order the results by (optionally <code>null</code>)
+	 * @param retrieveFromCache whether to retrieve from the finder cache
+	 * @return the ordered range of moderation entries
+	 */
+	@Override
+	public List<ModerationEntry> findAll(int start, int end,
+		OrderByComparator<ModerationEntry> orderByComparator,
+		boolean retrieveFromCache) {
+		boolean pagination = true;
+		FinderPath finderPath = null;
+		Object[] finderArgs = null;
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS) &&
+				(orderByComparator == null)) {
+			pagination = false;
+			finderPath = FINDER_PATH_WITHOUT_PAGINATION_FIND_ALL;
+			finderArgs = FINDER_ARGS_EMPTY;
+		}
+		else {
+			finderPath = FINDER_PATH_WITH_PAGINATION_FIND_ALL;
+			finderArgs = new Object[] { start, end, orderByComparator };
+		}
+
+		List<ModerationEntry> list = null;
+
+		if (retrieveFromCache) {
+			list = (List<ModerationEntry>)finderCache.getResult(finderPath,
+					finderArgs, this);
+		}
+
+		if (list == null) {
+			StringBundler query = null;
+			String sql = null;
+
+			if (orderByComparator != null) {
+				query = new StringBundler(2 +
+						(orderByComparator.getOrderByFields().length * 2));
+
+				query.append(_SQL_SELECT_AKISMETDATA);
+
+				appendOrderByComparator(query, _ORDER_BY_ENTITY_ALIAS,
+					orderByComparator);
+
+				sql = query.toString();
+			}
+			else {
+				sql = _SQL_SELECT_AKISMETDATA;
+
+				if (pagination) {
+					sql = sql.concat(ModerationEntryModelImpl.ORDER_BY_JPQL);
+				}
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(sql);
+
+				if (!pagination) {
+					list = (List<ModerationEntry>)QueryUtil.list(q, getDialect(),
+							start, end, false);
+
+					Collections.sort(list);
+
+					list = Collections.unmodifiableList(list);
+				}
+				else {
+					list = (List<ModerationEntry>)QueryUtil.list(q, getDialect(),
+							start, end);
+				}
+
+				cacheResult(list);
+
+				finderCache.putResult(finderPath, finderArgs, list);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(finderPath, finderArgs);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all the moderation entries from the database.
+	 *
+	 */
+	@Override
+	public void removeAll() {
+		for (ModerationEntry moderationEntry : findAll()) {
+			remove(moderationEntry);
+		}
+	}
+
+	/**
+	 * Returns the number of moderation entries.
+	 *
+	 * @return the number of moderation entries
+	 */
+	@Override
+	public int countAll() {
+		Long count = (Long)finderCache.getResult(FINDER_PATH_COUNT_ALL,
+				FINDER_ARGS_EMPTY, this);
+
+		if (count == null) {
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				Query q = session.createQuery(_SQL_COUNT_AKISMETDATA);
+
+				count = (Long)q.uniqueResult();
+
+				finderCache.putResult(FINDER_PATH_COUNT_ALL, FINDER_ARGS_EMPTY,
+					count);
+			}
+			catch (Exception e) {
+				finderCache.removeResult(FINDER_PATH_COUNT_ALL,
+					FINDER_ARGS_EMPTY);
+
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+		}
+
+		return count.intValue();
+	}
+
+	@Override
+	public Set<String> getBadColumnNames() {
+		return _badColumnNames;
+	}
+
+	@Override
+	protected Map<String, Integer> getTableColumnsMap() {
+		return ModerationEntryModelImpl.TABLE_COLUMNS_MAP;
+	}
+
+	/**
+	 * Initializes the moderation entry persistence.
+	 */
+	public void afterPropertiesSet() {
+	}
+
+	public void destroy() {
+		entityCache.removeCache(ModerationEntryImpl.class.getName());
+		finderCache.removeCache(FINDER_CLASS_NAME_ENTITY);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITH_PAGINATION);
+		finderCache.removeCache(FINDER_CLASS_NAME_LIST_WITHOUT_PAGINATION);
+	}
+
+	protected EntityCache entityCache = EntityCacheUtil.getEntityCache();
+	protected FinderCache finderCache = FinderCacheUtil.getFinderCache();
+	private static final String _SQL_SELECT_AKISMETDATA = "SELECT moderationEntry FROM ModerationEntry moderationEntry";
+	private static final String _SQL_SELECT_AKISMETDATA_WHERE_PKS_IN = "SELECT moderationEntry FROM ModerationEntry moderationEntry WHERE moderationEntryId IN (";
+	private static final String _SQL_SELECT_AKISMETDATA_WHERE = "SELECT moderationEntry FROM ModerationEntry moderationEntry WHERE ";
+	private static final String _SQL_COUNT_AKISMETDATA = "SELECT COUNT(moderationEntry) FROM ModerationEntry moderationEntry";
+	private static final String _SQL_COUNT_AKISMETDATA_WHERE = "SELECT COUNT(moderationEntry) FROM ModerationEntry moderationEntry WHERE ";
+	private static final String _ORDER_BY_ENTITY_ALIAS = "moderationEntry.";
+	private static final String _NO_SUCH_ENTITY_WITH_PRIMARY_KEY = "No ModerationEntry exists with the primary key ";
+	private static final String _NO_SUCH_ENTITY_WITH_KEY = "No ModerationEntry exists with the key {";
+	private static final Log _log = LogFactoryUtil.getLog(ModerationEntryPersistenceImpl.class);
+	private static final Set<String> _badColumnNames = SetUtil.fromArray(new String[] {
+				"type"
+			});
+	private static final ModerationEntry _nullModerationEntry = new ModerationEntryImpl() {
+			@Override
+			public Object clone() {
+				return this;
+			}
+
+			@Override
+			public CacheModel<ModerationEntry> toCacheModel() {
+				return _nullModerationEntryCacheModel;
+			}
+		};
+
+	private static final CacheModel<ModerationEntry> _nullModerationEntryCacheModel = new CacheModel<ModerationEntry>() {
+			@Override
+			public ModerationEntry toEntityModel() {
+				return _nullModerationEntry;
+			}
+		};
+}
\ No newline at end of file
@@ -19,6 +19,9 @@ package com.liferay.akismet.util;
  */
 public class AkismetConstants {
 
+	public static final String DESTINATION_CHECK_SPAM =
+		"liferay/akismet_check_spam";
+
 	public static final String PATH_CHECK_SPAM = "/comment-check";
 
 	public static final String PATH_SUBMIT_HAM = "/submit-ham";
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.util;
+
+import java.io.Serializable;
+
+/**
+ * An immutable snapshot of a company's Akismet configuration.
+ *
+ * @author Amos Fong
+ */
+public class AkismetSettings implements Serializable {
+
+	public AkismetSettings(
+		String apiKey, int checkThreshold, boolean discussionsEnabled,
+		boolean messageBoardsEnabled, String portalURL, int reportableTime,
+		boolean wikiEnabled) {
+
+		_apiKey = apiKey;
+		_checkThreshold = checkThreshold;
+		_discussionsEnabled = discussionsEnabled;
+		_messageBoardsEnabled = messageBoardsEnabled;
+		_portalURL = portalURL;
+		_reportableTime = reportableTime;
+		_wikiEnabled = wikiEnabled;
+	}
+
+	public String getApiKey() {
+		return _apiKey;
+	}
+
+	public int getCheckThreshold() {
+		return _checkThreshold;
+	}
+
+	public String getPortalURL() {
+		return _portalURL;
+	}
+
+	public int getReportableTime() {
+		return _reportableTime;
+	}
+
+	public boolean isDiscussionsEnabled() {
+		return _discussionsEnabled;
+	}
+
+	public boolean isMessageBoardsEnabled() {
+		return _messageBoardsEnabled;
+	}
+
+	public boolean isWikiEnabled() {
+		return _wikiEnabled;
+	}
+
+	private final String _apiKey;
+	private final int _checkThreshold;
+	private final boolean _discussionsEnabled;
+	private final boolean _messageBoardsEnabled;
+	private final String _portalURL;
+	private final int _reportableTime;
+	private final boolean _wikiEnabled;
+
+}
\ No newline at end of file
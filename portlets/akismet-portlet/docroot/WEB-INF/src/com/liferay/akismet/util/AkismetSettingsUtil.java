@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.model.Company;
+import com.liferay.portal.kernel.service.CompanyLocalServiceUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringPool;
+
+import javax.portlet.PortletPreferences;
+
+/**
+ * Caches each company's {@link AkismetSettings} so checking a post does not
+ * read the portlet preferences. The cached settings must be removed whenever
+ * the preferences are stored.
+ *
+ * @author Amos Fong
+ */
+public class AkismetSettingsUtil {
+
+	public static AkismetSettings getSettings(long companyId) {
+		return _instance._getSettings(companyId);
+	}
+
+	public static void removeSettings(long companyId) {
+		_instance._removeSettings(companyId);
+	}
+
+	private AkismetSettingsUtil() {
+		_portalCache =
+			(PortalCache<Long, AkismetSettings>)MultiVMPoolUtil.getPortalCache(
+				AkismetSettingsUtil.class.getName());
+	}
+
+	private String _getPortalURL(long companyId) {
+		Company company = CompanyLocalServiceUtil.fetchCompany(companyId);
+
+		if (company == null) {
+			return StringPool.BLANK;
+		}
+
+		return PortalUtil.getPortalURL(
+			company.getVirtualHostname(), PortalUtil.getPortalPort(false),
+			false);
+	}
+
+	private AkismetSettings _getSettings(long companyId) {
+		AkismetSettings akismetSettings = _portalCache.get(companyId);
+
+		if (akismetSettings != null) {
+			return akismetSettings;
+		}
+
+		PortletPreferences portletPreferences =
+			PrefsPortletPropsUtil.getPortletPreferences(companyId);
+
+		akismetSettings = new AkismetSettings(
+			PrefsPortletPropsUtil.getString(
+				portletPreferences, PortletPropsKeys.AKISMET_API_KEY),
+			PrefsPortletPropsUtil.getInteger(
+				portletPreferences, PortletPropsKeys.AKISMET_CHECK_THRESHOLD),
+			PrefsPortletPropsUtil.getBoolean(
+				portletPreferences,
+				PortletPropsKeys.AKISMET_DISCUSSIONS_CHECK_ENABLED),
+			PrefsPortletPropsUtil.getBoolean(
+				portletPreferences,
+				PortletPropsKeys.AKISMET_MESSAGE_BOARDS_CHECK_ENABLED),
+			_getPortalURL(companyId),
+			PrefsPortletPropsUtil.getInteger(
+				portletPreferences, PortletPropsKeys.AKISMET_REPORTABLE_TIME),
+			PrefsPortletPropsUtil.getBoolean(
+				portletPreferences,
+				PortletPropsKeys.AKISMET_WIKI_CHECK_ENABLED));
+
+		_portalCache.put(companyId, akismetSettings);
+
+		return akismetSettings;
+	}
+
+	private void _removeSettings(long companyId) {
+		_portalCache.remove(companyId);
+	}
+
+	private static AkismetSettingsUtil _instance = new AkismetSettingsUtil();
+
+	private final PortalCache<Long, AkismetSettings> _portalCache;
+
+}
\ No newline at end of file
@@ -15,7 +15,9 @@
 package com.liferay.akismet.util;
 
 import com.liferay.akismet.model.AkismetData;
+import com.liferay.akismet.model.ModerationEntryConstants;
 import com.liferay.akismet.service.AkismetDataLocalServiceUtil;
+import com.liferay.akismet.service.ModerationEntryLocalServiceUtil;
 import com.liferay.message.boards.kernel.model.MBMessage;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
@@ -25,15 +27,15 @@ import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
-import com.liferay.portal.kernel.model.Company;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBusUtil;
 import com.liferay.portal.kernel.model.User;
-import com.liferay.portal.kernel.service.CompanyLocalServiceUtil;
 import com.liferay.portal.kernel.service.ServiceContext;
 import com.liferay.portal.kernel.service.UserLocalServiceUtil;
 import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
 import com.liferay.portal.kernel.util.Http;
 import com.liferay.portal.kernel.util.HttpUtil;
-import com.liferay.portal.kernel.util.PortalUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
@@ -50,6 +52,8 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Amos Fong
@@ -57,12 +61,84 @@ import java.util.Map;
  */
 public class AkismetUtil {
 
+	/**
+	 * Returns whether Akismet considers the content spam, or <code>null</code>
+	 * if Akismet could not be reached.
+	 */
+	public static Boolean checkSpam(
+			long userId, String content, AkismetData akismetData)
+		throws PortalException {
+
+		User user = UserLocalServiceUtil.getUser(userId);
+
+		Boolean spam = VerdictCacheUtil.getVerdict(
+			user.getCompanyId(), akismetData.getUserIP(), content);
+
+		if (spam != null) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Using cached verdict " + spam + ": " +
+						akismetData.getPermalink());
+			}
+
+			return spam;
+		}
+
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			user.getCompanyId());
+
+		String location = _getLocation(
+			akismetSettings.getApiKey(), AkismetConstants.PATH_CHECK_SPAM);
+
+		long startTime = System.currentTimeMillis();
+
+		String response = _sendRequest(
+			location, user.getCompanyId(), akismetData.getUserIP(),
+			akismetData.getUserAgent(), akismetData.getReferrer(),
+			akismetData.getPermalink(), akismetData.getType(),
+			user.getFullName(), user.getEmailAddress(), content);
+
+		if (Validator.isNull(response)) {
+			return null;
+		}
+
+		if (response.equals("invalid")) {
+			_log.error("There was an issue with Akismet comment validation");
+
+			return false;
+		}
+
+		VerdictCacheUtil.recordRequestTime(
+			System.currentTimeMillis() - startTime);
+
+		if (response.equals("true")) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Spam detected: " + akismetData.getPermalink());
+			}
+
+			VerdictCacheUtil.putVerdict(
+				user.getCompanyId(), akismetData.getUserIP(), content, true);
+
+			return true;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Passed: " + akismetData.getPermalink());
+		}
+
+		VerdictCacheUtil.putVerdict(
+			user.getCompanyId(), akismetData.getUserIP(), content, false);
+
+		return false;
+	}
+
 	public static Date getReportableTime(long companyId) {
-		int reportableTime = PrefsPortletPropsUtil.getInteger(
-			companyId, PortletPropsKeys.AKISMET_REPORTABLE_TIME);
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			companyId);
 
 		return new Date(
-			System.currentTimeMillis() - (reportableTime * Time.DAY));
+			System.currentTimeMillis() -
+				(akismetSettings.getReportableTime() * Time.DAY));
 	}
 
 	public static Date getRetainSpamTime() {
@@ -142,83 +218,87 @@ public class AkismetUtil {
 	}
 
 	public static boolean isDiscussionsEnabled(long companyId) {
-		String apiKey = PrefsPortletPropsUtil.getString(
-			companyId, PortletPropsKeys.AKISMET_API_KEY);
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			companyId);
 
-		if (Validator.isNull(apiKey)) {
+		if (Validator.isNull(akismetSettings.getApiKey())) {
 			return false;
 		}
 
-		return PrefsPortletPropsUtil.getBoolean(
-			companyId, PortletPropsKeys.AKISMET_DISCUSSIONS_CHECK_ENABLED);
+		return akismetSettings.isDiscussionsEnabled();
 	}
 
 	public static boolean isMessageBoardsEnabled(long companyId) {
-		String apiKey = PrefsPortletPropsUtil.getString(
-			companyId, PortletPropsKeys.AKISMET_API_KEY);
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			companyId);
 
-		if (Validator.isNull(apiKey)) {
+		if (Validator.isNull(akismetSettings.getApiKey())) {
 			return false;
 		}
 
-		return PrefsPortletPropsUtil.getBoolean(
-			companyId, PortletPropsKeys.AKISMET_MESSAGE_BOARDS_CHECK_ENABLED);
+		return akismetSettings.isMessageBoardsEnabled();
 	}
 
-	public static boolean isSpam(
-			long userId, String content, AkismetData akismetData)
-		throws PortalException {
+	public static boolean isServiceAvailable() {
+		return !_isCircuitOpen();
+	}
 
-		User user = UserLocalServiceUtil.getUser(userId);
+	public static boolean isWikiEnabled(long companyId) {
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			companyId);
 
-		StringBundler sb = new StringBundler(5);
+		if (Validator.isNull(akismetSettings.getApiKey())) {
+			return false;
+		}
 
-		sb.append(Http.HTTP_WITH_SLASH);
-		sb.append(
-			PrefsPortletPropsUtil.getString(
-				user.getCompanyId(), PortletPropsKeys.AKISMET_API_KEY));
-		sb.append(StringPool.PERIOD);
-		sb.append(AkismetConstants.URL_REST);
-		sb.append(AkismetConstants.PATH_CHECK_SPAM);
+		return akismetSettings.isWikiEnabled();
+	}
 
-		String location = sb.toString();
+	/**
+	 * Records the content as waiting for a spam check and sends the check once
+	 * the current transaction commits. The record lets the content be checked
+	 * again if the check never completes.
+	 */
+	public static void queueSpamCheck(
+		final String className, final long classPK, long groupId,
+		final long userId, ServiceContext serviceContext) {
 
-		String response = _sendRequest(
-			location, user.getCompanyId(), akismetData.getUserIP(),
-			akismetData.getUserAgent(), akismetData.getReferrer(),
-			akismetData.getPermalink(), akismetData.getType(),
-			user.getFullName(), user.getEmailAddress(), content);
+		ModerationEntryLocalServiceUtil.updateModerationEntry(
+			serviceContext.getCompanyId(), groupId, className, classPK,
+			ModerationEntryConstants.TYPE_PENDING_CHECK);
 
-		if (Validator.isNull(response) || response.equals("invalid")) {
-			_log.error("There was an issue with Akismet comment validation");
+		final ServiceContext clonedServiceContext =
+			(ServiceContext)serviceContext.clone();
 
-			return false;
-		}
-		else if (response.equals("true")) {
-			if (_log.isDebugEnabled()) {
-				_log.debug("Spam detected: " + akismetData.getPermalink());
-			}
+		clonedServiceContext.setRequest(null);
 
-			return true;
-		}
+		Callable<Void> callable = new Callable<Void>() {
 
-		if (_log.isDebugEnabled()) {
-			_log.debug("Passed: " + akismetData.getPermalink());
-		}
+			@Override
+			public Void call() throws Exception {
+				sendSpamCheck(className, classPK, userId, clonedServiceContext);
 
-		return false;
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
 	}
 
-	public static boolean isWikiEnabled(long companyId) {
-		String apiKey = PrefsPortletPropsUtil.getString(
-			companyId, PortletPropsKeys.AKISMET_API_KEY);
+	public static void sendSpamCheck(
+		String className, long classPK, long userId,
+		ServiceContext serviceContext) {
 
-		if (Validator.isNull(apiKey)) {
-			return false;
-		}
+		Message message = new Message();
+
+		message.put("className", className);
+		message.put("classPK", classPK);
+		message.put("serviceContext", serviceContext);
+		message.put("userId", userId);
 
-		return PrefsPortletPropsUtil.getBoolean(
-			companyId, PortletPropsKeys.AKISMET_WIKI_CHECK_ENABLED);
+		MessageBusUtil.sendMessage(
+			AkismetConstants.DESTINATION_CHECK_SPAM, message);
 	}
 
 	public static void submitHam(
@@ -231,17 +311,13 @@ public class AkismetUtil {
 			_log.debug("Submitting message as ham: " + permalink);
 		}
 
-		StringBundler sb = new StringBundler(5);
+		VerdictCacheUtil.putVerdict(companyId, ipAddress, content, false);
 
-		sb.append(Http.HTTP_WITH_SLASH);
-		sb.append(
-			PrefsPortletPropsUtil.getString(
-				companyId, PortletPropsKeys.AKISMET_API_KEY));
-		sb.append(StringPool.PERIOD);
-		sb.append(AkismetConstants.URL_REST);
-		sb.append(AkismetConstants.PATH_SUBMIT_HAM);
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			companyId);
 
-		String location = sb.toString();
+		String location = _getLocation(
+			akismetSettings.getApiKey(), AkismetConstants.PATH_SUBMIT_HAM);
 
 		String response = _sendRequest(
 			location, companyId, ipAddress, userAgent, referrer, permalink,
@@ -300,17 +376,13 @@ public class AkismetUtil {
 			_log.debug("Submitting message as spam: " + permalink);
 		}
 
-		StringBundler sb = new StringBundler(5);
+		VerdictCacheUtil.putVerdict(companyId, ipAddress, content, true);
 
-		sb.append(Http.HTTP_WITH_SLASH);
-		sb.append(
-			PrefsPortletPropsUtil.getString(
-				companyId, PortletPropsKeys.AKISMET_API_KEY));
-		sb.append(StringPool.PERIOD);
-		sb.append(AkismetConstants.URL_REST);
-		sb.append(AkismetConstants.PATH_SUBMIT_SPAM);
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			companyId);
 
-		String location = sb.toString();
+		String location = _getLocation(
+			akismetSettings.getApiKey(), AkismetConstants.PATH_SUBMIT_SPAM);
 
 		String response = _sendRequest(
 			location, companyId, ipAddress, userAgent, referrer, permalink,
@@ -362,9 +434,8 @@ public class AkismetUtil {
 	public static boolean verifyApiKey(long companyId, String apiKey)
 		throws PortalException {
 
-		String location =
-			Http.HTTP_WITH_SLASH + AkismetConstants.URL_REST +
-				AkismetConstants.PATH_VERIFY;
+		String location = _getLocation(
+			StringPool.BLANK, AkismetConstants.PATH_VERIFY);
 
 		Map<String, String> parts = new HashMap<>();
 
@@ -381,12 +452,31 @@ public class AkismetUtil {
 		}
 	}
 
-	private static String _getPortalURL(long companyId) throws PortalException {
-		Company company = CompanyLocalServiceUtil.getCompany(companyId);
+	private static String _getLocation(String apiKey, String path) {
+		if (Validator.isNotNull(PortletPropsValues.AKISMET_SERVICE_URL)) {
+			return PortletPropsValues.AKISMET_SERVICE_URL + path;
+		}
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(Http.HTTP_WITH_SLASH);
 
-		return PortalUtil.getPortalURL(
-			company.getVirtualHostname(), PortalUtil.getPortalPort(false),
-			false);
+		if (Validator.isNotNull(apiKey)) {
+			sb.append(apiKey);
+			sb.append(StringPool.PERIOD);
+		}
+
+		sb.append(AkismetConstants.URL_REST);
+		sb.append(path);
+
+		return sb.toString();
+	}
+
+	private static String _getPortalURL(long companyId) {
+		AkismetSettings akismetSettings = AkismetSettingsUtil.getSettings(
+			companyId);
+
+		return akismetSettings.getPortalURL();
 	}
 
 	private static String _sendRequest(
@@ -413,23 +503,96 @@ public class AkismetUtil {
 	private static String _sendRequest(
 		String location, Map<String, String> parts) {
 
+		if (_isCircuitOpen()) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Skipping request to " + location +
+						" because Akismet is not responding");
+			}
+
+			return StringPool.BLANK;
+		}
+
 		Http.Options options = new Http.Options();
 
 		options.addHeader(HttpHeaders.USER_AGENT, "Akismet/2.5.3");
 		options.setLocation(location);
 		options.setParts(parts);
 		options.setPost(true);
+		options.setTimeout(PortletPropsValues.AKISMET_REQUEST_TIMEOUT);
 
-		try {
-			return HttpUtil.URLtoString(options);
-		}
-		catch (IOException ioe) {
-			_log.error(ioe, ioe);
+		for (int i = 0; i <= PortletPropsValues.AKISMET_REQUEST_RETRIES; i++) {
+			try {
+				String response = HttpUtil.URLtoString(options);
+
+				if (Validator.isNotNull(response)) {
+					_circuitOpenCount.set(0);
+					_failureCount.set(0);
+
+					return response;
+				}
+			}
+			catch (IOException ioe) {
+				_log.error(ioe, ioe);
+			}
+
+			if (_recordFailure()) {
+				break;
+			}
 		}
 
 		return StringPool.BLANK;
 	}
 
+	private static boolean _isCircuitOpen() {
+		if (_circuitCloseTime > System.currentTimeMillis()) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean _recordFailure() {
+		int threshold = PortletPropsValues.AKISMET_CIRCUIT_BREAKER_THRESHOLD;
+
+		if ((threshold <= 0) || (_failureCount.incrementAndGet() < threshold)) {
+			return false;
+		}
+
+		// Stay one failure away from opening again once the reset time passes
+
+		_failureCount.set(threshold - 1);
+
+		// Double the reset time each time the circuit opens again before a
+		// request succeeds
+
+		int circuitOpenCount = Math.min(
+			_circuitOpenCount.getAndIncrement(), _CIRCUIT_OPEN_COUNT_MAX);
+
+		long resetTime = Math.min(
+			PortletPropsValues.AKISMET_CIRCUIT_BREAKER_RESET_TIME <<
+				circuitOpenCount,
+			PortletPropsValues.AKISMET_CIRCUIT_BREAKER_MAX_RESET_TIME);
+
+		_circuitCloseTime =
+			System.currentTimeMillis() + (resetTime * Time.SECOND);
+
+		if (_log.isWarnEnabled()) {
+			_log.warn(
+				"Akismet requests failed " + threshold +
+					" times in a row and will be skipped for " + resetTime +
+						" seconds");
+		}
+
+		return true;
+	}
+
+	private static final int _CIRCUIT_OPEN_COUNT_MAX = 16;
+
+	private static final AtomicInteger _circuitOpenCount = new AtomicInteger();
+	private static final AtomicInteger _failureCount = new AtomicInteger();
+
+	private static volatile long _circuitCloseTime;
 	private static Log _log = LogFactoryUtil.getLog(AkismetUtil.class);
 
 }
\ No newline at end of file
@@ -24,6 +24,18 @@ public interface PortletPropsKeys {
 	public static final String AKISMET_CHECK_THRESHOLD =
 		"akismet.check.threshold";
 
+	public static final String AKISMET_CHECK_SPAM_RETRY_TIME =
+		"akismet.check.spam.retry.time";
+
+	public static final String AKISMET_CIRCUIT_BREAKER_MAX_RESET_TIME =
+		"akismet.circuit.breaker.max.reset.time";
+
+	public static final String AKISMET_CIRCUIT_BREAKER_RESET_TIME =
+		"akismet.circuit.breaker.reset.time";
+
+	public static final String AKISMET_CIRCUIT_BREAKER_THRESHOLD =
+		"akismet.circuit.breaker.threshold";
+
 	public static final String AKISMET_DISCUSSIONS_CHECK_ENABLED =
 		"akismet.discussions.check.enabled";
 
@@ -33,9 +45,20 @@ public interface PortletPropsKeys {
 	public static final String AKISMET_REPORTABLE_TIME =
 		"akismet.reportable.time";
 
+	public static final String AKISMET_REQUEST_RETRIES =
+		"akismet.request.retries";
+
+	public static final String AKISMET_REQUEST_TIMEOUT =
+		"akismet.request.timeout";
+
 	public static final String AKISMET_RETAIN_SPAM_TIME =
 		"akismet.retain.spam.time";
 
+	public static final String AKISMET_SERVICE_URL = "akismet.service.url";
+
+	public static final String AKISMET_VERDICT_CACHE_TIME =
+		"akismet.verdict.cache.time";
+
 	public static final String AKISMET_WIKI_CHECK_ENABLED =
 		"akismet.wiki.check.enabled";
 
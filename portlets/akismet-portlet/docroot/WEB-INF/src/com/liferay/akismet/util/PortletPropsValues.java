@@ -22,7 +22,38 @@ import com.liferay.util.portlet.PortletProps;
  */
 public class PortletPropsValues {
 
+	public static final int AKISMET_CHECK_SPAM_RETRY_TIME =
+		GetterUtil.getInteger(
+			PortletProps.get(PortletPropsKeys.AKISMET_CHECK_SPAM_RETRY_TIME));
+
+	public static final int AKISMET_CIRCUIT_BREAKER_MAX_RESET_TIME =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.AKISMET_CIRCUIT_BREAKER_MAX_RESET_TIME));
+
+	public static final int AKISMET_CIRCUIT_BREAKER_RESET_TIME =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.AKISMET_CIRCUIT_BREAKER_RESET_TIME));
+
+	public static final int AKISMET_CIRCUIT_BREAKER_THRESHOLD =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.AKISMET_CIRCUIT_BREAKER_THRESHOLD));
+
+	public static final int AKISMET_REQUEST_RETRIES = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.AKISMET_REQUEST_RETRIES));
+
+	public static final int AKISMET_REQUEST_TIMEOUT = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.AKISMET_REQUEST_TIMEOUT));
+
 	public static final int AKISMET_RETAIN_SPAM_TIME = GetterUtil.getInteger(
 		PortletProps.get(PortletPropsKeys.AKISMET_RETAIN_SPAM_TIME));
 
+	public static final String AKISMET_SERVICE_URL = GetterUtil.getString(
+		PortletProps.get(PortletPropsKeys.AKISMET_SERVICE_URL));
+
+	public static final int AKISMET_VERDICT_CACHE_TIME = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.AKISMET_VERDICT_CACHE_TIME));
+
 }
\ No newline at end of file
@@ -29,10 +29,22 @@ public class PrefsPortletPropsUtil {
 		return GetterUtil.getBoolean(getString(companyId, name));
 	}
 
+	public static boolean getBoolean(
+		PortletPreferences portletPreferences, String name) {
+
+		return GetterUtil.getBoolean(getString(portletPreferences, name));
+	}
+
 	public static int getInteger(long companyId, String name) {
 		return GetterUtil.getInteger(getString(companyId, name));
 	}
 
+	public static int getInteger(
+		PortletPreferences portletPreferences, String name) {
+
+		return GetterUtil.getInteger(getString(portletPreferences, name));
+	}
+
 	public static PortletPreferences getPortletPreferences(long companyId) {
 		return PortletPreferencesLocalServiceUtil.getPreferences(
 			companyId, companyId, PortletKeys.PREFS_OWNER_TYPE_COMPANY,
@@ -43,10 +55,10 @@ public class PrefsPortletPropsUtil {
 		PortletPreferences portletPreferences = getPortletPreferences(
 			companyId);
 
-		return _getString(portletPreferences, name);
+		return getString(portletPreferences, name);
 	}
 
-	private static String _getString(
+	public static String getString(
 		PortletPreferences portletPreferences, String name) {
 
 		String defaultValue = PortletProps.get(name);
@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.akismet.util;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers Akismet verdicts by user IP and normalized content so repeated
+ * posts of the same content do not call Akismet again. Verdicts expire after
+ * <code>akismet.verdict.cache.time</code> seconds and are overwritten when a
+ * moderator submits the content as spam or ham.
+ *
+ * @author Amos Fong
+ */
+public class VerdictCacheUtil {
+
+	public static long getHitCount() {
+		return _instance._hitCount.get();
+	}
+
+	public static long getMissCount() {
+		return _instance._missCount.get();
+	}
+
+	/**
+	 * Returns the time in milliseconds that cache hits saved, based on the
+	 * average time of the Akismet requests that were made.
+	 */
+	public static long getSavedTime() {
+		return _instance._getSavedTime();
+	}
+
+	public static Boolean getVerdict(
+		long companyId, String userIP, String content) {
+
+		return _instance._getVerdict(companyId, userIP, content);
+	}
+
+	public static boolean isEnabled() {
+		if (PortletPropsValues.AKISMET_VERDICT_CACHE_TIME > 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public static void putVerdict(
+		long companyId, String userIP, String content, boolean spam) {
+
+		_instance._putVerdict(companyId, userIP, content, spam);
+	}
+
+	public static void recordRequestTime(long requestTime) {
+		_instance._recordRequestTime(requestTime);
+	}
+
+	private VerdictCacheUtil() {
+		_portalCache =
+			(PortalCache<String, Boolean>)MultiVMPoolUtil.getPortalCache(
+				VerdictCacheUtil.class.getName());
+	}
+
+	private String _getKey(long companyId, String userIP, String content) {
+		content = StringUtil.toLowerCase(content.trim());
+
+		content = _whitespacePattern.matcher(content).replaceAll(
+			StringPool.SPACE);
+
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(companyId);
+		sb.append(StringPool.POUND);
+		sb.append(userIP);
+		sb.append(StringPool.POUND);
+		sb.append(DigesterUtil.digestHex(Digester.SHA_1, content));
+
+		return sb.toString();
+	}
+
+	private long _getSavedTime() {
+		long requestCount = _requestCount.get();
+
+		if (requestCount == 0) {
+			return 0;
+		}
+
+		return (_hitCount.get() * _requestTime.get()) / requestCount;
+	}
+
+	private Boolean _getVerdict(long companyId, String userIP, String content) {
+		if (!isEnabled()) {
+			return null;
+		}
+
+		Boolean spam = _portalCache.get(_getKey(companyId, userIP, content));
+
+		if (spam == null) {
+			_missCount.incrementAndGet();
+		}
+		else {
+			_hitCount.incrementAndGet();
+		}
+
+		return spam;
+	}
+
+	private void _putVerdict(
+		long companyId, String userIP, String content, boolean spam) {
+
+		if (!isEnabled()) {
+			return;
+		}
+
+		_portalCache.put(
+			_getKey(companyId, userIP, content), spam,
+			PortletPropsValues.AKISMET_VERDICT_CACHE_TIME);
+	}
+
+	private void _recordRequestTime(long requestTime) {
+		_requestCount.incrementAndGet();
+		_requestTime.addAndGet(requestTime);
+	}
+
+	private static VerdictCacheUtil _instance = new VerdictCacheUtil();
+
+	private static Pattern _whitespacePattern = Pattern.compile("\\s+");
+
+	private final AtomicLong _hitCount = new AtomicLong();
+	private final AtomicLong _missCount = new AtomicLong();
+	private final PortalCache<String, Boolean> _portalCache;
+	private final AtomicLong _requestCount = new AtomicLong();
+	private final AtomicLong _requestTime = new AtomicLong();
+
+}
\ No newline at end of file
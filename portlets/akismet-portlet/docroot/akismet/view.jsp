@@ -38,4 +38,12 @@
 			<aui:button type="submit" />
 		</aui:button-row>
 	</aui:fieldset>
+
+	<c:if test="<%= VerdictCacheUtil.isEnabled() %>">
+		<aui:fieldset label="verdict-cache">
+			<p>
+				<liferay-ui:message arguments="<%= new Object[] {VerdictCacheUtil.getHitCount(), VerdictCacheUtil.getMissCount(), VerdictCacheUtil.getSavedTime()} %>" key="x-cached-verdicts-were-used-and-x-were-not-found-saving-x-ms-of-requests-to-akismet" />
+			</p>
+		</aui:fieldset>
+	</c:if>
 </aui:form>
\ No newline at end of file
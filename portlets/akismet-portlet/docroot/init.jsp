@@ -28,6 +28,7 @@ taglib uri="http://liferay.com/tld/util" prefix="liferay-util" %>
 page import="com.liferay.akismet.util.AkismetUtil" %><%@
 page import="com.liferay.akismet.util.PortletPropsKeys" %><%@
 page import="com.liferay.akismet.util.PrefsPortletPropsUtil" %><%@
+page import="com.liferay.akismet.util.VerdictCacheUtil" %><%@
 page import="com.liferay.expando.kernel.model.ExpandoBridge" %><%@
 page import="com.liferay.message.boards.kernel.exception.NoSuchMessageException" %><%@
 page import="com.liferay.message.boards.kernel.exception.RequiredMessageException" %><%@
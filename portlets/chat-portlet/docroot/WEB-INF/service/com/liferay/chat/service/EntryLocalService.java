@@ -226,6 +226,8 @@ public interface EntryLocalService extends BaseLocalService,
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public List<Entry> getOldEntries(long createDate, int start, int end);
 
+	public int deleteOldEntries(long createDate, int count);
+
 	/**
 	* Returns the number of rows matching the dynamic query.
 	*
@@ -245,4 +247,6 @@ public interface EntryLocalService extends BaseLocalService,
 		Projection projection);
 
 	public void deleteEntries(long userId);
+
+	public void markRead(long fromUserId, long toUserId, long createDate);
 }
\ No newline at end of file
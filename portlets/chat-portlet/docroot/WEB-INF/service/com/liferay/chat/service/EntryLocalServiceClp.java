@@ -142,6 +142,14 @@ public class EntryLocalServiceClp implements EntryLocalService {
 		_methodName25 = "deleteEntries";
 
 		_methodParameterTypes25 = new String[] { "long" };
+
+		_methodName26 = "deleteOldEntries";
+
+		_methodParameterTypes26 = new String[] { "long", "int" };
+
+		_methodName27 = "markRead";
+
+		_methodParameterTypes27 = new String[] { "long", "long", "long" };
 	}
 
 	@Override
@@ -733,6 +741,29 @@ public class EntryLocalServiceClp implements EntryLocalService {
 		return (java.util.List<com.liferay.chat.model.Entry>)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public int deleteOldEntries(long createDate, int count) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName26,
+					_methodParameterTypes26, new Object[] { createDate, count });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return ((Integer)returnObj).intValue();
+	}
+
 	@Override
 	public long dynamicQueryCount(
 		com.liferay.portal.kernel.dao.orm.DynamicQuery dynamicQuery) {
@@ -807,6 +838,25 @@ public class EntryLocalServiceClp implements EntryLocalService {
 		}
 	}
 
+	@Override
+	public void markRead(long fromUserId, long toUserId, long createDate) {
+		try {
+			_invokableLocalService.invokeMethod(_methodName27,
+				_methodParameterTypes27, new Object[] { fromUserId, toUserId, createDate });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+	}
+
 	private InvokableLocalService _invokableLocalService;
 	private String _methodName0;
 	private String[] _methodParameterTypes0;
@@ -858,4 +908,8 @@ public class EntryLocalServiceClp implements EntryLocalService {
 	private String[] _methodParameterTypes24;
 	private String _methodName25;
 	private String[] _methodParameterTypes25;
+	private String _methodName26;
+	private String[] _methodParameterTypes26;
+	private String _methodName27;
+	private String[] _methodParameterTypes27;
 }
\ No newline at end of file
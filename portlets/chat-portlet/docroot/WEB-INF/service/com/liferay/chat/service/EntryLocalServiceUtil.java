@@ -250,6 +250,10 @@ public class EntryLocalServiceUtil {
 		return getService().getOldEntries(createDate, start, end);
 	}
 
+	public static int deleteOldEntries(long createDate, int count) {
+		return getService().deleteOldEntries(createDate, count);
+	}
+
 	/**
 	* Returns the number of rows matching the dynamic query.
 	*
@@ -278,6 +282,11 @@ public class EntryLocalServiceUtil {
 		getService().deleteEntries(userId);
 	}
 
+	public static void markRead(long fromUserId, long toUserId,
+		long createDate) {
+		getService().markRead(fromUserId, toUserId, createDate);
+	}
+
 	public static void clearService() {
 		_service = null;
 	}
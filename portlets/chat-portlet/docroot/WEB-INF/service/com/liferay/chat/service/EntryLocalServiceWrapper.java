@@ -264,6 +264,11 @@ public class EntryLocalServiceWrapper implements EntryLocalService,
 		return _entryLocalService.getOldEntries(createDate, start, end);
 	}
 
+	@Override
+	public int deleteOldEntries(long createDate, int count) {
+		return _entryLocalService.deleteOldEntries(createDate, count);
+	}
+
 	/**
 	* Returns the number of rows matching the dynamic query.
 	*
@@ -295,6 +300,11 @@ public class EntryLocalServiceWrapper implements EntryLocalService,
 		_entryLocalService.deleteEntries(userId);
 	}
 
+	@Override
+	public void markRead(long fromUserId, long toUserId, long createDate) {
+		_entryLocalService.markRead(fromUserId, toUserId, createDate);
+	}
+
 	@Override
 	public EntryLocalService getWrappedService() {
 		return _entryLocalService;
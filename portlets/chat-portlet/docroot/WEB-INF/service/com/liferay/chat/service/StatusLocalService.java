@@ -114,6 +114,11 @@ public interface StatusLocalService extends BaseLocalService,
 	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
 	public Status getUserStatus(long userId);
 
+	@Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+	public List<Status> getUserStatuses(long[] userIds);
+
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates);
+
 	/**
 	* Updates the status in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
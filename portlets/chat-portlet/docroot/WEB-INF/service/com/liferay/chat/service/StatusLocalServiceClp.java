@@ -159,6 +159,14 @@ public class StatusLocalServiceClp implements StatusLocalService {
 				"com.liferay.portal.kernel.dao.orm.DynamicQuery",
 				"com.liferay.portal.kernel.dao.orm.Projection"
 			};
+
+		_methodName28 = "getUserStatuses";
+
+		_methodParameterTypes28 = new String[] { "long[][]" };
+
+		_methodName29 = "updateModifiedDates";
+
+		_methodParameterTypes29 = new String[] { "long[][]", "long[][]" };
 	}
 
 	@Override
@@ -336,6 +344,49 @@ public class StatusLocalServiceClp implements StatusLocalService {
 		return (com.liferay.chat.model.Status)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.List<com.liferay.chat.model.Status> getUserStatuses(
+		long[] userIds) {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName28,
+					_methodParameterTypes28, new Object[] { ClpSerializer.translateInput(userIds) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.List<com.liferay.chat.model.Status>)ClpSerializer.translateOutput(returnObj);
+	}
+
+	@Override
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates) {
+		try {
+			_invokableLocalService.invokeMethod(_methodName29,
+				_methodParameterTypes29, new Object[] { ClpSerializer.translateInput(userIds), ClpSerializer.translateInput(modifiedDates) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+	}
+
 	@Override
 	public com.liferay.chat.model.Status updateStatus(
 		com.liferay.chat.model.Status status) {
@@ -954,4 +1005,8 @@ public class StatusLocalServiceClp implements StatusLocalService {
 	private String[] _methodParameterTypes26;
 	private String _methodName27;
 	private String[] _methodParameterTypes27;
+	private String _methodName28;
+	private String[] _methodParameterTypes28;
+	private String _methodName29;
+	private String[] _methodParameterTypes29;
 }
\ No newline at end of file
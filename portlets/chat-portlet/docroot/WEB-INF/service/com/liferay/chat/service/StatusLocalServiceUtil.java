@@ -106,6 +106,16 @@ public class StatusLocalServiceUtil {
 		return getService().getUserStatus(userId);
 	}
 
+	public static java.util.List<com.liferay.chat.model.Status> getUserStatuses(
+		long[] userIds) {
+		return getService().getUserStatuses(userIds);
+	}
+
+	public static void updateModifiedDates(long[] userIds,
+		long[] modifiedDates) {
+		getService().updateModifiedDates(userIds, modifiedDates);
+	}
+
 	/**
 	* Updates the status in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
@@ -103,6 +103,17 @@ public class StatusLocalServiceWrapper implements StatusLocalService,
 		return _statusLocalService.getUserStatus(userId);
 	}
 
+	@Override
+	public java.util.List<com.liferay.chat.model.Status> getUserStatuses(
+		long[] userIds) {
+		return _statusLocalService.getUserStatuses(userIds);
+	}
+
+	@Override
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates) {
+		_statusLocalService.updateModifiedDates(userIds, modifiedDates);
+	}
+
 	/**
 	* Updates the status in the database or adds it if it does not yet exist. Also notifies the appropriate model listeners.
 	*
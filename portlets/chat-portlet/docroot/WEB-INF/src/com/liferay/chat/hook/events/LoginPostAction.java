@@ -15,6 +15,7 @@
 package com.liferay.chat.hook.events;
 
 import com.liferay.chat.jabber.JabberUtil;
+import com.liferay.chat.util.PresenceRegistryUtil;
 import com.liferay.portal.kernel.events.Action;
 import com.liferay.portal.kernel.util.PortalUtil;
 
@@ -31,6 +32,9 @@ public class LoginPostAction extends Action {
 		long userId = PortalUtil.getUserId(request);
 		String password = PortalUtil.getUserPassword(request);
 
+		PresenceRegistryUtil.addSession(userId);
+		PresenceRegistryUtil.resetRelations(userId);
+
 		JabberUtil.login(userId, password);
 	}
 
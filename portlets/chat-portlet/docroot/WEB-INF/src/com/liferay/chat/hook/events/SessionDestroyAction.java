@@ -15,6 +15,7 @@
 package com.liferay.chat.hook.events;
 
 import com.liferay.chat.jabber.JabberUtil;
+import com.liferay.chat.util.PresenceRegistryUtil;
 import com.liferay.portal.kernel.events.SessionAction;
 import com.liferay.portal.kernel.util.WebKeys;
 
@@ -29,6 +30,10 @@ public class SessionDestroyAction extends SessionAction {
 	public void run(HttpSession session) {
 		Long userId = (Long)session.getAttribute(WebKeys.USER_ID);
 
+		if (userId != null) {
+			PresenceRegistryUtil.removeSession(userId);
+		}
+
 		JabberUtil.disconnect(userId);
 	}
 
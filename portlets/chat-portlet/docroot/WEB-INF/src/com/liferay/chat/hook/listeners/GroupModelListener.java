@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.hook.listeners;
+
+import com.liferay.chat.util.PresenceRegistryUtil;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.model.User;
+
+/**
+ * @author Ankit Srivastava
+ */
+public class GroupModelListener extends BaseModelListener<Group> {
+
+	@Override
+	public void onAfterAddAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		if (associationClassName.equals(User.class.getName())) {
+			PresenceRegistryUtil.resetRelations((Long)associationClassPK);
+		}
+	}
+
+	@Override
+	public void onAfterCreate(Group group) {
+		PresenceRegistryUtil.resetExcludedGroupIds(group.getCompanyId());
+	}
+
+	@Override
+	public void onAfterRemove(Group group) {
+		PresenceRegistryUtil.resetExcludedGroupIds(group.getCompanyId());
+	}
+
+	@Override
+	public void onAfterRemoveAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		if (associationClassName.equals(User.class.getName())) {
+			PresenceRegistryUtil.resetRelations((Long)associationClassPK);
+		}
+	}
+
+	@Override
+	public void onAfterUpdate(Group group) {
+		PresenceRegistryUtil.resetExcludedGroupIds(group.getCompanyId());
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.hook.listeners;
+
+import com.liferay.chat.util.PresenceRegistryUtil;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.social.kernel.model.SocialRelation;
+
+/**
+ * @author Ankit Srivastava
+ */
+public class SocialRelationModelListener
+	extends BaseModelListener<SocialRelation> {
+
+	@Override
+	public void onAfterCreate(SocialRelation socialRelation) {
+		resetRelations(socialRelation);
+	}
+
+	@Override
+	public void onAfterRemove(SocialRelation socialRelation) {
+		resetRelations(socialRelation);
+	}
+
+	protected void resetRelations(SocialRelation socialRelation) {
+		PresenceRegistryUtil.resetRelations(socialRelation.getUserId1());
+		PresenceRegistryUtil.resetRelations(socialRelation.getUserId2());
+	}
+
+}
\ No newline at end of file
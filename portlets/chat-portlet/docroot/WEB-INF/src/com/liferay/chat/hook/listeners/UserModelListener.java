@@ -18,9 +18,11 @@ import com.liferay.chat.jabber.JabberUtil;
 import com.liferay.chat.model.Status;
 import com.liferay.chat.service.EntryLocalServiceUtil;
 import com.liferay.chat.service.StatusLocalServiceUtil;
+import com.liferay.chat.util.PresenceRegistryUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.Group;
 import com.liferay.portal.kernel.model.User;
 
 /**
@@ -29,6 +31,16 @@ import com.liferay.portal.kernel.model.User;
  */
 public class UserModelListener extends BaseModelListener<User> {
 
+	@Override
+	public void onAfterAddAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		if (associationClassName.equals(Group.class.getName())) {
+			PresenceRegistryUtil.resetRelations((Long)classPK);
+		}
+	}
+
 	@Override
 	public void onAfterRemove(User user) {
 		try {
@@ -38,6 +50,8 @@ public class UserModelListener extends BaseModelListener<User> {
 						user.getUserId());
 			}
 
+			PresenceRegistryUtil.removePresence(user.getUserId());
+
 			EntryLocalServiceUtil.deleteEntries(user.getUserId());
 
 			Status status = StatusLocalServiceUtil.getUserStatus(
@@ -54,8 +68,20 @@ public class UserModelListener extends BaseModelListener<User> {
 		}
 	}
 
+	@Override
+	public void onAfterRemoveAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		if (associationClassName.equals(Group.class.getName())) {
+			PresenceRegistryUtil.resetRelations((Long)classPK);
+		}
+	}
+
 	@Override
 	public void onAfterUpdate(User user) {
+		PresenceRegistryUtil.updateUser(user);
+
 		JabberUtil.updatePassword(
 			user.getUserId(), user.getPasswordUnencrypted());
 	}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.messaging;
+
+import com.liferay.chat.service.EntryLocalServiceUtil;
+import com.liferay.chat.util.PortletPropsValues;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.util.Time;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+public class DeleteOldEntriesMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		if (PortletPropsValues.ENTRIES_RETENTION_AGE <= 0) {
+			return;
+		}
+
+		long startTime = System.currentTimeMillis();
+
+		long createDate =
+			startTime - PortletPropsValues.ENTRIES_RETENTION_AGE * Time.DAY;
+
+		int total = 0;
+
+		while (true) {
+			int count = EntryLocalServiceUtil.deleteOldEntries(
+				createDate, _BATCH_SIZE);
+
+			total += count;
+
+			if (count < _BATCH_SIZE) {
+				break;
+			}
+		}
+
+		if (_log.isInfoEnabled()) {
+			_log.info(
+				"Deleted " + total + " chat entries in " +
+					(System.currentTimeMillis() - startTime) + " ms");
+		}
+	}
+
+	private static final int _BATCH_SIZE = 1000;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		DeleteOldEntriesMessageListener.class);
+
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.messaging;
+
+import com.liferay.chat.util.StatusHeartbeatUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.BaseMessageListener;
+import com.liferay.portal.kernel.messaging.Message;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+public class FlushStatusHeartbeatsMessageListener extends BaseMessageListener {
+
+	@Override
+	protected void doReceive(Message message) throws Exception {
+		int count = StatusHeartbeatUtil.flush();
+
+		if (_log.isDebugEnabled() && (count > 0)) {
+			_log.debug("Flushed " + count + " status heartbeats");
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		FlushStatusHeartbeatsMessageListener.class);
+
+}
\ No newline at end of file
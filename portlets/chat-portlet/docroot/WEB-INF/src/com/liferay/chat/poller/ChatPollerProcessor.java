@@ -19,31 +19,34 @@ import com.liferay.chat.model.Status;
 import com.liferay.chat.service.EntryLocalServiceUtil;
 import com.liferay.chat.service.StatusLocalServiceUtil;
 import com.liferay.chat.util.BuddyFinderUtil;
+import com.liferay.chat.util.BuddyListSnapshot;
 import com.liferay.chat.util.ChatConstants;
+import com.liferay.chat.util.ChatUtil;
+import com.liferay.chat.util.DisplayURLUtil;
+import com.liferay.chat.util.MailboxUtil;
 import com.liferay.chat.util.PortletPropsValues;
-import com.liferay.portal.kernel.exception.NoSuchLayoutSetException;
-import com.liferay.portal.kernel.exception.NoSuchUserException;
+import com.liferay.chat.util.TypingUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.json.JSONArray;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
 import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.model.ContactConstants;
-import com.liferay.portal.kernel.model.LayoutSet;
-import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.model.UserConstants;
 import com.liferay.portal.kernel.poller.BasePollerProcessor;
 import com.liferay.portal.kernel.poller.PollerRequest;
 import com.liferay.portal.kernel.poller.PollerResponse;
-import com.liferay.portal.kernel.service.LayoutSetLocalServiceUtil;
-import com.liferay.portal.kernel.service.UserLocalServiceUtil;
-import com.liferay.portal.kernel.util.HtmlUtil;
-import com.liferay.portal.kernel.util.HttpUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.ListUtil;
-import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.kernel.util.Validator;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Brian Wing Shun Chan
@@ -54,11 +57,21 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 		long toUserId = getLong(pollerRequest, "toUserId");
 		String content = getString(pollerRequest, "content");
 
-		if (toUserId > 0) {
-			EntryLocalServiceUtil.addEntry(
-				pollerRequest.getTimestamp(), pollerRequest.getUserId(),
-				toUserId, content);
+		if (toUserId <= 0) {
+			return;
 		}
+
+		if (Validator.isNull(content)) {
+			TypingUtil.updateTyping(pollerRequest.getUserId(), toUserId);
+
+			return;
+		}
+
+		TypingUtil.removeTyping(pollerRequest.getUserId(), toUserId);
+
+		EntryLocalServiceUtil.addEntry(
+			pollerRequest.getTimestamp(), pollerRequest.getUserId(), toUserId,
+			content);
 	}
 
 	@Override
@@ -86,6 +99,55 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 		List<Object[]> buddies = BuddyFinderUtil.getBuddies(
 			pollerRequest.getCompanyId(), pollerRequest.getUserId());
 
+		long[] groupIds = new long[buddies.size()];
+		long[] userIds = new long[buddies.size()];
+
+		for (int i = 0; i < buddies.size(); i++) {
+			Object[] buddy = buddies.get(i);
+
+			groupIds[i] = (Long)buddy[2];
+			userIds[i] = (Long)buddy[8];
+		}
+
+		Map<Long, String> displayURLs = DisplayURLUtil.getDisplayURLs(
+			groupIds);
+
+		Map<Long, Status> buddyStatuses = new HashMap<>();
+
+		for (Status buddyStatus :
+				StatusLocalServiceUtil.getUserStatuses(userIds)) {
+
+			buddyStatuses.put(buddyStatus.getUserId(), buddyStatus);
+		}
+
+		long now = System.currentTimeMillis();
+
+		String snapshotKey =
+			pollerRequest.getUserId() + StringPool.UNDERLINE +
+				pollerRequest.getBrowserKey();
+
+		BuddyListSnapshot oldSnapshot = null;
+
+		if (!pollerRequest.isInitialRequest()) {
+			oldSnapshot = _buddyListSnapshots.get(snapshotKey);
+		}
+
+		if ((oldSnapshot != null) &&
+			((oldSnapshot.getCreateTime() +
+				ChatConstants.BUDDY_LIST_SNAPSHOT_INTERVAL) < now)) {
+
+			oldSnapshot = null;
+		}
+
+		BuddyListSnapshot snapshot = null;
+
+		if (oldSnapshot == null) {
+			snapshot = new BuddyListSnapshot(now);
+		}
+		else {
+			snapshot = new BuddyListSnapshot(oldSnapshot.getCreateTime());
+		}
+
 		JSONArray buddiesJSONArray = JSONFactoryUtil.createJSONArray();
 
 		for (Object[] buddy : buddies) {
@@ -100,37 +162,53 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 			long userId = (Long)buddy[8];
 			String userUuid = (String)buddy[9];
 
-			JSONObject curUserJSONObject = JSONFactoryUtil.createJSONObject();
+			Status buddyStatus = buddyStatuses.get(userId);
 
-			Status buddyStatus = StatusLocalServiceUtil.getUserStatus(userId);
+			if (buddyStatus == null) {
+				buddyStatus = StatusLocalServiceUtil.getUserStatus(userId);
+			}
 
 			awake = buddyStatus.getAwake();
 
-			curUserJSONObject.put("awake", awake);
+			String displayURL = GetterUtil.getString(
+				displayURLs.get(groupId));
 
-			String displayURL = StringPool.BLANK;
+			String fullName = ContactConstants.getFullName(
+				firstName, middleName, lastName);
 
-			try {
-				LayoutSet layoutSet = LayoutSetLocalServiceUtil.getLayoutSet(
-					groupId, false);
+			String statusMessage = buddyStatus.getMessage();
 
-				if (layoutSet.getPageCount() > 0) {
-					displayURL = PortalUtil.getLayoutSetDisplayURL(
-						layoutSet, false);
+			StringBundler sb = new StringBundler(13);
 
-					displayURL = HttpUtil.removeDomain(displayURL);
-				}
-			}
-			catch (NoSuchLayoutSetException nslse) {
-			}
+			sb.append(awake);
+			sb.append(StringPool.PIPE);
+			sb.append(displayURL);
+			sb.append(StringPool.PIPE);
+			sb.append(fullName);
+			sb.append(StringPool.PIPE);
+			sb.append(groupId);
+			sb.append(StringPool.PIPE);
+			sb.append(portraitId);
+			sb.append(StringPool.PIPE);
+			sb.append(screenName);
+			sb.append(StringPool.PIPE);
+			sb.append(statusMessage);
 
-			curUserJSONObject.put("displayURL", displayURL);
+			String fingerprint = sb.toString();
 
-			String fullName = ContactConstants.getFullName(
-				firstName, middleName, lastName);
+			snapshot.putFingerprint(userId, fingerprint);
 
-			curUserJSONObject.put("fullName", fullName);
+			if ((oldSnapshot != null) &&
+				fingerprint.equals(oldSnapshot.getFingerprint(userId))) {
+
+				continue;
+			}
 
+			JSONObject curUserJSONObject = JSONFactoryUtil.createJSONObject();
+
+			curUserJSONObject.put("awake", awake);
+			curUserJSONObject.put("displayURL", displayURL);
+			curUserJSONObject.put("fullName", fullName);
 			curUserJSONObject.put("groupId", groupId);
 			curUserJSONObject.put("portraitId", portraitId);
 
@@ -140,17 +218,29 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 			curUserJSONObject.put("portraitURL", portraitURL);
 
 			curUserJSONObject.put("screenName", screenName);
-
-			String statusMessage = buddyStatus.getMessage();
-
 			curUserJSONObject.put("statusMessage", statusMessage);
-
 			curUserJSONObject.put("userId", userId);
 
 			buddiesJSONArray.put(curUserJSONObject);
 		}
 
 		pollerResponse.setParameter("buddies", buddiesJSONArray);
+
+		if (oldSnapshot != null) {
+			JSONArray removedBuddyIdsJSONArray =
+				JSONFactoryUtil.createJSONArray();
+
+			for (long userId : oldSnapshot.getUserIds()) {
+				if (!snapshot.hasUserId(userId)) {
+					removedBuddyIdsJSONArray.put(userId);
+				}
+			}
+
+			pollerResponse.setParameter(
+				"removedBuddyIds", removedBuddyIdsJSONArray);
+		}
+
+		_buddyListSnapshots.put(snapshotKey, snapshot, _SNAPSHOT_TIME_TO_LIVE);
 	}
 
 	protected void getEntries(
@@ -166,46 +256,38 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 			createDate = status.getModifiedDate() - Time.DAY;
 		}
 
-		List<Entry> entries = EntryLocalServiceUtil.getNewEntries(
-			pollerRequest.getUserId(), createDate, 0,
-			PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
+		List<Entry> entries = Collections.emptyList();
 
-		entries = ListUtil.copy(entries);
+		if (hasNewEntries(pollerRequest)) {
+			entries = EntryLocalServiceUtil.getNewEntries(
+				pollerRequest.getUserId(), createDate, 0,
+				PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
 
-		Collections.reverse(entries);
+			entries = ListUtil.copy(entries);
 
-		JSONArray entriesJSONArray = JSONFactoryUtil.createJSONArray();
+			Collections.reverse(entries);
+		}
 
-		for (Entry entry : entries) {
-			JSONObject entryJSONObject = JSONFactoryUtil.createJSONObject();
+		JSONArray entriesJSONArray = ChatUtil.getEntriesJSONArray(
+			pollerRequest.getUserId(), entries);
 
-			entryJSONObject.put("createDate", entry.getCreateDate());
-			entryJSONObject.put("entryId", entry.getEntryId());
-			entryJSONObject.put("fromUserId", entry.getFromUserId());
+		pollerResponse.setParameter("entries", entriesJSONArray);
 
-			if (entry.getFromUserId() != pollerRequest.getUserId()) {
-				try {
-					User fromUser = UserLocalServiceUtil.getUserById(
-						entry.getFromUserId());
+		List<Long> typingUserIds = TypingUtil.getTypingUserIds(
+			pollerRequest.getUserId());
 
-					entryJSONObject.put("fromFullName", fromUser.getFullName());
-					entryJSONObject.put(
-						"fromPortraitId", fromUser.getPortraitId());
-				}
-				catch (NoSuchUserException nsue) {
-					continue;
-				}
-			}
+		if (!typingUserIds.isEmpty()) {
+			JSONArray typingUserIdsJSONArray =
+				JSONFactoryUtil.createJSONArray();
 
-			entryJSONObject.put("content", HtmlUtil.escape(entry.getContent()));
-			entryJSONObject.put("flag", entry.getFlag());
-			entryJSONObject.put("toUserId", entry.getToUserId());
+			for (long typingUserId : typingUserIds) {
+				typingUserIdsJSONArray.put(typingUserId);
+			}
 
-			entriesJSONArray.put(entryJSONObject);
+			pollerResponse.setParameter(
+				"typingUserIds", typingUserIdsJSONArray);
 		}
 
-		pollerResponse.setParameter("entries", entriesJSONArray);
-
 		if (!entries.isEmpty()) {
 			pollerResponse.setParameter(
 				PollerResponse.POLLER_HINT_HIGH_CONNECTIVITY,
@@ -235,6 +317,31 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 		}
 	}
 
+	protected boolean hasNewEntries(PollerRequest pollerRequest) {
+		if (!PortletPropsValues.MAILBOX_ENABLED) {
+			return true;
+		}
+
+		long now = System.currentTimeMillis();
+
+		String lastPollTimeKey =
+			pollerRequest.getUserId() + StringPool.UNDERLINE +
+				pollerRequest.getBrowserKey();
+
+		Long lastPollTime = _lastPollTimes.get(lastPollTimeKey);
+
+		_lastPollTimes.put(lastPollTimeKey, now, _LAST_POLL_TIME_TO_LIVE);
+
+		if (pollerRequest.isInitialRequest() || (lastPollTime == null) ||
+			(MailboxUtil.getModifiedTime(pollerRequest.getUserId()) >=
+				lastPollTime)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	protected void updateStatus(PollerRequest pollerRequest) throws Exception {
 		long timestamp = -1;
 		int online = getInteger(pollerRequest, "online");
@@ -252,4 +359,19 @@ public class ChatPollerProcessor extends BasePollerProcessor {
 		}
 	}
 
+	private static final int _LAST_POLL_TIME_TO_LIVE =
+		(int)(ChatConstants.ONLINE_DELTA / Time.SECOND);
+
+	private static final int _SNAPSHOT_TIME_TO_LIVE =
+		(int)(ChatConstants.BUDDY_LIST_SNAPSHOT_INTERVAL / Time.SECOND);
+
+	private static final PortalCache<String, BuddyListSnapshot>
+		_buddyListSnapshots =
+			(PortalCache<String, BuddyListSnapshot>)
+				SingleVMPoolUtil.getPortalCache(
+					ChatPollerProcessor.class.getName());
+	private static final PortalCache<String, Long> _lastPollTimes =
+		(PortalCache<String, Long>)SingleVMPoolUtil.getPortalCache(
+			ChatPollerProcessor.class.getName() + "_LAST_POLL_TIMES");
+
 }
\ No newline at end of file
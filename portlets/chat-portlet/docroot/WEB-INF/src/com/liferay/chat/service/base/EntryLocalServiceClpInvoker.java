@@ -144,6 +144,14 @@ public class EntryLocalServiceClpInvoker {
 		_methodName55 = "getOldEntries";
 
 		_methodParameterTypes55 = new String[] { "long", "int", "int" };
+
+		_methodName56 = "deleteOldEntries";
+
+		_methodParameterTypes56 = new String[] { "long", "int" };
+
+		_methodName57 = "markRead";
+
+		_methodParameterTypes57 = new String[] { "long", "long", "long" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -290,6 +298,21 @@ public class EntryLocalServiceClpInvoker {
 				((Integer)arguments[2]).intValue());
 		}
 
+		if (_methodName56.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes56, parameterTypes)) {
+			return EntryLocalServiceUtil.deleteOldEntries(((Long)arguments[0]).longValue(),
+				((Integer)arguments[1]).intValue());
+		}
+
+		if (_methodName57.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes57, parameterTypes)) {
+			EntryLocalServiceUtil.markRead(((Long)arguments[0]).longValue(),
+				((Long)arguments[1]).longValue(),
+				((Long)arguments[2]).longValue());
+
+			return null;
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -343,4 +366,8 @@ public class EntryLocalServiceClpInvoker {
 	private String[] _methodParameterTypes54;
 	private String _methodName55;
 	private String[] _methodParameterTypes55;
+	private String _methodName56;
+	private String[] _methodParameterTypes56;
+	private String _methodName57;
+	private String[] _methodParameterTypes57;
 }
\ No newline at end of file
@@ -159,6 +159,14 @@ public class StatusLocalServiceClpInvoker {
 				"long", "long", "int", "int", "java.lang.String",
 				"java.lang.String", "int"
 			};
+
+		_methodName58 = "getUserStatuses";
+
+		_methodParameterTypes58 = new String[] { "long[][]" };
+
+		_methodName59 = "updateModifiedDates";
+
+		_methodParameterTypes59 = new String[] { "long[][]", "long[][]" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -326,6 +334,19 @@ public class StatusLocalServiceClpInvoker {
 				((Integer)arguments[6]).intValue());
 		}
 
+		if (_methodName58.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes58, parameterTypes)) {
+			return StatusLocalServiceUtil.getUserStatuses((long[])arguments[0]);
+		}
+
+		if (_methodName59.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes59, parameterTypes)) {
+			StatusLocalServiceUtil.updateModifiedDates((long[])arguments[0],
+				(long[])arguments[1]);
+
+			return null;
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -383,4 +404,8 @@ public class StatusLocalServiceClpInvoker {
 	private String[] _methodParameterTypes56;
 	private String _methodName57;
 	private String[] _methodParameterTypes57;
+	private String _methodName58;
+	private String[] _methodParameterTypes58;
+	private String _methodName59;
+	private String[] _methodParameterTypes59;
 }
\ No newline at end of file
@@ -16,14 +16,26 @@ package com.liferay.chat.service.impl;
 
 import com.liferay.chat.jabber.JabberUtil;
 import com.liferay.chat.model.Entry;
+import com.liferay.chat.model.EntryConstants;
 import com.liferay.chat.service.base.EntryLocalServiceBaseImpl;
+import com.liferay.chat.util.MailboxUtil;
+import com.liferay.chat.util.PortletPropsValues;
 import com.liferay.portal.kernel.dao.db.DB;
 import com.liferay.portal.kernel.dao.db.DBManagerUtil;
 import com.liferay.portal.kernel.dao.db.DBType;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.ProjectionFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * @author Brian Wing Shun Chan
@@ -32,14 +44,8 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 
 	@Override
 	public Entry addEntry(
-		long createDate, long fromUserId, long toUserId, String content) {
-
-		List<Entry> entries = entryFinder.findByEmptyContent(
-			fromUserId, toUserId, 0, 5);
-
-		for (Entry entry : entries) {
-			entryPersistence.remove(entry);
-		}
+		long createDate, final long fromUserId, final long toUserId,
+		String content) {
 
 		if (Validator.isNull(content)) {
 			content = StringPool.BLANK;
@@ -73,6 +79,22 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 
 		JabberUtil.sendMessage(fromUserId, toUserId, content);
 
+		if (PortletPropsValues.MAILBOX_ENABLED) {
+			Callable<Void> callable = new Callable<Void>() {
+
+				@Override
+				public Void call() throws Exception {
+					MailboxUtil.notify(toUserId);
+					MailboxUtil.notify(fromUserId);
+
+					return null;
+				}
+
+			};
+
+			TransactionCommitCallbackUtil.registerCallback(callable);
+		}
+
 		return entry;
 	}
 
@@ -89,6 +111,31 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 		entryPersistence.removeByToUserId(userId);
 	}
 
+	@Override
+	public int deleteOldEntries(long createDate, int count) {
+		DynamicQuery dynamicQuery = dynamicQuery();
+
+		Property createDateProperty = PropertyFactoryUtil.forName("createDate");
+
+		dynamicQuery.add(createDateProperty.lt(createDate));
+
+		dynamicQuery.setProjection(ProjectionFactoryUtil.property("entryId"));
+
+		List<Long> entryIds = dynamicQuery(dynamicQuery, 0, count);
+
+		if (entryIds.isEmpty()) {
+			return 0;
+		}
+
+		runSQL(
+			"delete from Chat_Entry where entryId in (" +
+				StringUtil.merge(ArrayUtil.toLongArray(entryIds)) + ")");
+
+		entryPersistence.clearCache();
+
+		return entryIds.size();
+	}
+
 	@Override
 	public List<Entry> getNewEntries(
 		long userId, long createDate, int start, int end) {
@@ -101,4 +148,25 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 		return entryFinder.findByOld(createDate, start, end);
 	}
 
+	@Override
+	public void markRead(long fromUserId, long toUserId, long createDate) {
+		StringBundler sb = new StringBundler(11);
+
+		sb.append("update Chat_Entry set flag = ");
+		sb.append(EntryConstants.FLAG_READ);
+		sb.append(" where (fromUserId = ");
+		sb.append(fromUserId);
+		sb.append(") and (toUserId = ");
+		sb.append(toUserId);
+		sb.append(") and (createDate <= ");
+		sb.append(createDate);
+		sb.append(") and (flag = ");
+		sb.append(EntryConstants.FLAG_UNREAD);
+		sb.append(")");
+
+		runSQL(sb.toString());
+
+		entryPersistence.clearCache();
+	}
+
 }
\ No newline at end of file
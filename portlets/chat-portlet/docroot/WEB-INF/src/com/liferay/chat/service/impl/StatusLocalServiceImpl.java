@@ -15,19 +15,29 @@
 package com.liferay.chat.service.impl;
 
 import com.liferay.chat.jabber.JabberUtil;
-import com.liferay.chat.model.Entry;
-import com.liferay.chat.model.EntryConstants;
 import com.liferay.chat.model.Status;
 import com.liferay.chat.service.base.StatusLocalServiceBaseImpl;
+import com.liferay.chat.util.PresenceRegistryUtil;
+import com.liferay.chat.util.StatusHeartbeatUtil;
+import com.liferay.portal.kernel.dao.jdbc.DataAccess;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
 import com.liferay.portal.kernel.exception.SystemException;
 import com.liferay.portal.kernel.json.JSONException;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
 import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -78,12 +88,96 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 				userId, System.currentTimeMillis(), 1, 1, StringPool.BLANK,
 				StringPool.BLANK, 1);
 		}
+		else if (StatusHeartbeatUtil.isEnabled()) {
+			long modifiedDate = StatusHeartbeatUtil.getModifiedDate(userId);
+
+			if (modifiedDate > status.getModifiedDate()) {
+				status.setModifiedDate(modifiedDate);
+			}
+		}
 
 		return status;
 	}
 
+	@Override
+	public List<Status> getUserStatuses(long[] userIds) {
+		List<Status> statuses = new ArrayList<>(userIds.length);
+
+		for (int i = 0; i < userIds.length; i += _USER_IDS_BATCH_SIZE) {
+			long[] batchUserIds = ArrayUtil.subset(
+				userIds, i, Math.min(i + _USER_IDS_BATCH_SIZE, userIds.length));
+
+			DynamicQuery dynamicQuery = dynamicQuery();
+
+			Property userIdProperty = PropertyFactoryUtil.forName("userId");
+
+			dynamicQuery.add(
+				userIdProperty.in(ArrayUtil.toArray(batchUserIds)));
+
+			List<Status> batchStatuses = dynamicQuery(dynamicQuery);
+
+			statuses.addAll(batchStatuses);
+		}
+
+		return statuses;
+	}
+
+	@Override
+	public void updateModifiedDates(long[] userIds, long[] modifiedDates) {
+		Connection con = null;
+		PreparedStatement ps = null;
+
+		try {
+			con = DataAccess.getConnection();
+
+			ps = con.prepareStatement(
+				"update Chat_Status set modifiedDate = ? where userId = ? " +
+					"and modifiedDate < ?");
+
+			for (int i = 0; i < userIds.length; i++) {
+				ps.setLong(1, modifiedDates[i]);
+				ps.setLong(2, userIds[i]);
+				ps.setLong(3, modifiedDates[i]);
+
+				ps.addBatch();
+
+				if (((i + 1) % _USER_IDS_BATCH_SIZE) == 0) {
+					ps.executeBatch();
+				}
+			}
+
+			ps.executeBatch();
+		}
+		catch (SQLException sqle) {
+			throw new SystemException(sqle);
+		}
+		finally {
+			DataAccess.cleanUp(con, ps);
+		}
+
+		// The rows were updated outside of Hibernate
+
+		statusPersistence.clearCache();
+	}
+
 	@Override
 	public Status updateStatus(long userId, long modifiedDate) {
+		if (StatusHeartbeatUtil.isEnabled()) {
+			Status status = statusPersistence.fetchByUserId(userId);
+
+			if (status != null) {
+				StatusHeartbeatUtil.addHeartbeat(userId, modifiedDate);
+
+				if (modifiedDate > status.getModifiedDate()) {
+					status.setModifiedDate(modifiedDate);
+				}
+
+				PresenceRegistryUtil.updatePresence(status);
+
+				return status;
+			}
+		}
+
 		return updateStatus(userId, modifiedDate, -1, -1, null, null, -1);
 	}
 
@@ -102,6 +196,15 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 			status.setUserId(userId);
 		}
 
+		if (StatusHeartbeatUtil.isEnabled()) {
+			long heartbeatModifiedDate = StatusHeartbeatUtil.removeHeartbeat(
+				userId);
+
+			if (heartbeatModifiedDate > modifiedDate) {
+				modifiedDate = heartbeatModifiedDate;
+			}
+		}
+
 		if (modifiedDate != -1) {
 			status.setModifiedDate(modifiedDate);
 		}
@@ -121,13 +224,9 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 
 				long openPanelId = activePanelIdsJSONObject.getLong("open");
 
-				List<Entry> entries = entryPersistence.findByF_T(
-					openPanelId, userId);
-
-				for (Entry entry : entries) {
-					entry.setFlag(EntryConstants.FLAG_READ);
-
-					entryPersistence.update(entry);
+				if (openPanelId > 0) {
+					entryLocalService.markRead(
+						openPanelId, userId, System.currentTimeMillis());
 				}
 			}
 			catch (JSONException jsone) {
@@ -161,11 +260,15 @@ public class StatusLocalServiceImpl extends StatusLocalServiceBaseImpl {
 			}
 		}
 
+		PresenceRegistryUtil.updatePresence(status);
+
 		JabberUtil.updateStatus(userId, online);
 
 		return status;
 	}
 
+	private static final int _USER_IDS_BATCH_SIZE = 500;
+
 	private static Log _log = LogFactoryUtil.getLog(
 		StatusLocalServiceImpl.class);
 
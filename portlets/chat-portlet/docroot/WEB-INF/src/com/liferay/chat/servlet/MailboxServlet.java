@@ -0,0 +1,222 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.servlet;
+
+import com.liferay.chat.model.Entry;
+import com.liferay.chat.service.EntryLocalServiceUtil;
+import com.liferay.chat.util.ChatUtil;
+import com.liferay.chat.util.MailboxListener;
+import com.liferay.chat.util.MailboxUtil;
+import com.liferay.chat.util.PortletPropsValues;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.servlet.ServletResponseUtil;
+import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.ListUtil;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+
+import java.io.IOException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Holds a request open until a new chat entry is added for the user or the
+ * mailbox timeout expires, so new messages do not wait for the next poller
+ * cycle.
+ *
+ * @author Brian Wing Shun Chan
+ */
+public class MailboxServlet extends HttpServlet {
+
+	@Override
+	protected void doGet(
+			HttpServletRequest request, HttpServletResponse response)
+		throws IOException {
+
+		long userId = 0;
+
+		try {
+			userId = PortalUtil.getUserId(request);
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+		}
+
+		if (userId <= 0) {
+			response.sendError(HttpServletResponse.SC_FORBIDDEN);
+
+			return;
+		}
+
+		long createDate = ParamUtil.getLong(request, "createDate");
+
+		if (!PortletPropsValues.MAILBOX_ENABLED ||
+			!request.isAsyncSupported()) {
+
+			writeEntries(
+				response, userId, Collections.<Entry>emptyList(), false);
+
+			return;
+		}
+
+		AsyncContext asyncContext = request.startAsync();
+
+		asyncContext.setTimeout(PortletPropsValues.MAILBOX_TIMEOUT);
+
+		MailboxAsyncListener mailboxAsyncListener = new MailboxAsyncListener(
+			asyncContext, userId, createDate);
+
+		asyncContext.addListener(mailboxAsyncListener);
+
+		MailboxUtil.register(userId, mailboxAsyncListener);
+
+		List<Entry> entries = getNewEntries(userId, createDate);
+
+		if (!entries.isEmpty()) {
+			mailboxAsyncListener.complete(entries);
+		}
+	}
+
+	protected List<Entry> getNewEntries(long userId, long createDate) {
+		List<Entry> entries = EntryLocalServiceUtil.getNewEntries(
+			userId, createDate, 0, PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
+
+		entries = ListUtil.copy(entries);
+
+		Collections.reverse(entries);
+
+		return entries;
+	}
+
+	protected void writeEntries(
+			HttpServletResponse response, long userId, List<Entry> entries,
+			boolean async)
+		throws IOException {
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		jsonObject.put("async", async);
+
+		try {
+			jsonObject.put(
+				"entries", ChatUtil.getEntriesJSONArray(userId, entries));
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+
+			jsonObject.put("entries", JSONFactoryUtil.createJSONArray());
+		}
+
+		response.setContentType(ContentTypes.APPLICATION_JSON);
+		response.setHeader("Cache-Control", "no-cache");
+
+		ServletResponseUtil.write(response, jsonObject.toString());
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(MailboxServlet.class);
+
+	private class MailboxAsyncListener
+		implements AsyncListener, MailboxListener {
+
+		public MailboxAsyncListener(
+			AsyncContext asyncContext, long userId, long createDate) {
+
+			_asyncContext = asyncContext;
+			_userId = userId;
+			_createDate = createDate;
+		}
+
+		public void complete(List<Entry> entries) {
+			if (!_done.compareAndSet(false, true)) {
+				return;
+			}
+
+			MailboxUtil.unregister(_userId, this);
+
+			try {
+				writeEntries(
+					(HttpServletResponse)_asyncContext.getResponse(), _userId,
+					entries, true);
+			}
+			catch (IOException ioe) {
+				if (_log.isDebugEnabled()) {
+					_log.debug(ioe, ioe);
+				}
+			}
+			finally {
+				_asyncContext.complete();
+			}
+		}
+
+		@Override
+		public void onComplete(AsyncEvent asyncEvent) {
+			MailboxUtil.unregister(_userId, this);
+		}
+
+		@Override
+		public void onError(AsyncEvent asyncEvent) {
+			if (_done.compareAndSet(false, true)) {
+				MailboxUtil.unregister(_userId, this);
+
+				_asyncContext.complete();
+			}
+		}
+
+		@Override
+		public void onNotify(long userId) {
+			if (_done.get()) {
+				return;
+			}
+
+			_asyncContext.start(
+				new Runnable() {
+
+					@Override
+					public void run() {
+						complete(getNewEntries(_userId, _createDate));
+					}
+
+				});
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent asyncEvent) {
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent asyncEvent) {
+			complete(Collections.<Entry>emptyList());
+		}
+
+		private final AsyncContext _asyncContext;
+		private final long _createDate;
+		private final AtomicBoolean _done = new AtomicBoolean();
+		private final long _userId;
+
+	}
+
+}
\ No newline at end of file
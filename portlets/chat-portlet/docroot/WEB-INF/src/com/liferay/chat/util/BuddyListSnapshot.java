@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import java.io.Serializable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Holds a fingerprint of every buddy last sent to a browser, so the next poll
+ * only has to send the buddies that changed.
+ *
+ * @author Brian Wing Shun Chan
+ */
+public class BuddyListSnapshot implements Serializable {
+
+	public BuddyListSnapshot(long createTime) {
+		_createTime = createTime;
+	}
+
+	public long getCreateTime() {
+		return _createTime;
+	}
+
+	public String getFingerprint(long userId) {
+		return _fingerprints.get(userId);
+	}
+
+	public Set<Long> getUserIds() {
+		return _fingerprints.keySet();
+	}
+
+	public boolean hasUserId(long userId) {
+		return _fingerprints.containsKey(userId);
+	}
+
+	public void putFingerprint(long userId, String fingerprint) {
+		_fingerprints.put(userId, fingerprint);
+	}
+
+	private final long _createTime;
+	private final Map<Long, String> _fingerprints = new HashMap<>();
+
+}
\ No newline at end of file
@@ -21,8 +21,12 @@ import com.liferay.portal.kernel.util.Time;
  */
 public class ChatConstants {
 
+	public static final long BUDDY_LIST_SNAPSHOT_INTERVAL = Time.MINUTE * 5;
+
 	public static final long MAX_POLL_LATENCY = Time.SECOND * 15;
 
 	public static final long ONLINE_DELTA = Time.MINUTE;
 
+	public static final long TYPING_DELTA = Time.SECOND * 15;
+
 }
\ No newline at end of file
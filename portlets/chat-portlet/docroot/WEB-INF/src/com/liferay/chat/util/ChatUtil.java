@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.chat.model.Entry;
+import com.liferay.portal.kernel.exception.NoSuchUserException;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.json.JSONArray;
+import com.liferay.portal.kernel.json.JSONFactoryUtil;
+import com.liferay.portal.kernel.json.JSONObject;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.service.UserLocalServiceUtil;
+import com.liferay.portal.kernel.util.HtmlUtil;
+
+import java.util.List;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+public class ChatUtil {
+
+	public static JSONArray getEntriesJSONArray(
+			long userId, List<Entry> entries)
+		throws PortalException {
+
+		JSONArray entriesJSONArray = JSONFactoryUtil.createJSONArray();
+
+		for (Entry entry : entries) {
+			JSONObject entryJSONObject = JSONFactoryUtil.createJSONObject();
+
+			entryJSONObject.put("createDate", entry.getCreateDate());
+			entryJSONObject.put("entryId", entry.getEntryId());
+			entryJSONObject.put("fromUserId", entry.getFromUserId());
+
+			if (entry.getFromUserId() != userId) {
+				try {
+					User fromUser = UserLocalServiceUtil.getUserById(
+						entry.getFromUserId());
+
+					entryJSONObject.put("fromFullName", fromUser.getFullName());
+					entryJSONObject.put(
+						"fromPortraitId", fromUser.getPortraitId());
+				}
+				catch (NoSuchUserException nsue) {
+					continue;
+				}
+			}
+
+			entryJSONObject.put("content", HtmlUtil.escape(entry.getContent()));
+			entryJSONObject.put("flag", entry.getFlag());
+			entryJSONObject.put("toUserId", entry.getToUserId());
+
+			entriesJSONArray.put(entryJSONObject);
+		}
+
+		return entriesJSONArray;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.model.LayoutSet;
+import com.liferay.portal.kernel.service.LayoutSetLocalServiceUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.HttpUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Time;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author Brian Wing Shun Chan
+ */
+public class DisplayURLUtil {
+
+	public static Map<Long, String> getDisplayURLs(long[] groupIds)
+		throws PortalException {
+
+		Map<Long, String> displayURLs = new HashMap<>();
+
+		Set<Long> uncachedGroupIdsSet = new LinkedHashSet<>();
+
+		for (long groupId : groupIds) {
+			String displayURL = _portalCache.get(groupId);
+
+			if (displayURL != null) {
+				displayURLs.put(groupId, displayURL);
+			}
+			else {
+				uncachedGroupIdsSet.add(groupId);
+			}
+		}
+
+		List<Long> uncachedGroupIds = new ArrayList<>(uncachedGroupIdsSet);
+
+		for (int i = 0; i < uncachedGroupIds.size(); i += _BATCH_SIZE) {
+			List<Long> batchGroupIds = uncachedGroupIds.subList(
+				i, Math.min(i + _BATCH_SIZE, uncachedGroupIds.size()));
+
+			for (long groupId : batchGroupIds) {
+				displayURLs.put(groupId, StringPool.BLANK);
+			}
+
+			DynamicQuery dynamicQuery =
+				LayoutSetLocalServiceUtil.dynamicQuery();
+
+			Property groupIdProperty = PropertyFactoryUtil.forName("groupId");
+
+			dynamicQuery.add(
+				groupIdProperty.in(
+					ArrayUtil.toArray(ArrayUtil.toLongArray(batchGroupIds))));
+
+			Property privateLayoutProperty = PropertyFactoryUtil.forName(
+				"privateLayout");
+
+			dynamicQuery.add(privateLayoutProperty.eq(false));
+
+			List<LayoutSet> layoutSets = LayoutSetLocalServiceUtil.dynamicQuery(
+				dynamicQuery);
+
+			for (LayoutSet layoutSet : layoutSets) {
+				if (layoutSet.getPageCount() > 0) {
+					String displayURL = PortalUtil.getLayoutSetDisplayURL(
+						layoutSet, false);
+
+					displayURLs.put(
+						layoutSet.getGroupId(),
+						HttpUtil.removeDomain(displayURL));
+				}
+			}
+
+			for (long groupId : batchGroupIds) {
+				_portalCache.put(
+					groupId, displayURLs.get(groupId), _TIME_TO_LIVE);
+			}
+		}
+
+		return displayURLs;
+	}
+
+	private static final int _BATCH_SIZE = 500;
+
+	private static final int _TIME_TO_LIVE =
+		(int)(Time.MINUTE * 5 / Time.SECOND);
+
+	private static final PortalCache<Long, String> _portalCache =
+		(PortalCache<Long, String>)SingleVMPoolUtil.getPortalCache(
+			DisplayURLUtil.class.getName());
+
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.Time;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * Tracks when each user last received a chat entry and wakes up the requests
+ * waiting for one. The mailboxes are local to the JVM. A user's listeners are
+ * dropped once the last one unregisters, and a modified time expires once no
+ * poll could still compare against it.
+ *
+ * @author Brian Wing Shun Chan
+ */
+public class MailboxUtil {
+
+	public static long getModifiedTime(long userId) {
+		return _instance._getModifiedTime(userId);
+	}
+
+	public static void notify(long userId) {
+		_instance._notify(userId);
+	}
+
+	public static void register(
+		long userId, MailboxListener mailboxListener) {
+
+		_instance._register(userId, mailboxListener);
+	}
+
+	public static void unregister(
+		long userId, MailboxListener mailboxListener) {
+
+		_instance._unregister(userId, mailboxListener);
+	}
+
+	private MailboxUtil() {
+	}
+
+	private long _getModifiedTime(long userId) {
+		Long modifiedTime = _modifiedTimes.get(userId);
+
+		if (modifiedTime == null) {
+			return 0;
+		}
+
+		return modifiedTime;
+	}
+
+	private void _notify(long userId) {
+		_modifiedTimes.put(
+			userId, System.currentTimeMillis(), _MODIFIED_TIME_TO_LIVE);
+
+		Set<MailboxListener> mailboxListeners = _mailboxListeners.get(userId);
+
+		if (mailboxListeners == null) {
+			return;
+		}
+
+		for (MailboxListener mailboxListener : mailboxListeners) {
+			try {
+				mailboxListener.onNotify(userId);
+			}
+			catch (Exception e) {
+				_log.error("Unable to notify mailbox of user " + userId, e);
+			}
+		}
+	}
+
+	private void _register(long userId, MailboxListener mailboxListener) {
+		while (true) {
+			Set<MailboxListener> mailboxListeners = _mailboxListeners.get(
+				userId);
+
+			if (mailboxListeners == null) {
+				mailboxListeners = new CopyOnWriteArraySet<>();
+
+				Set<MailboxListener> previousMailboxListeners =
+					_mailboxListeners.putIfAbsent(userId, mailboxListeners);
+
+				if (previousMailboxListeners != null) {
+					mailboxListeners = previousMailboxListeners;
+				}
+			}
+
+			synchronized (mailboxListeners) {
+
+				// Retry if the set was emptied and removed in the meantime
+
+				if (_mailboxListeners.get(userId) == mailboxListeners) {
+					mailboxListeners.add(mailboxListener);
+
+					return;
+				}
+			}
+		}
+	}
+
+	private void _unregister(long userId, MailboxListener mailboxListener) {
+		Set<MailboxListener> mailboxListeners = _mailboxListeners.get(userId);
+
+		if (mailboxListeners == null) {
+			return;
+		}
+
+		synchronized (mailboxListeners) {
+			mailboxListeners.remove(mailboxListener);
+
+			if (mailboxListeners.isEmpty()) {
+				_mailboxListeners.remove(userId, mailboxListeners);
+			}
+		}
+	}
+
+	private static final int _MODIFIED_TIME_TO_LIVE =
+		(int)(ChatConstants.ONLINE_DELTA / Time.SECOND);
+
+	private static Log _log = LogFactoryUtil.getLog(MailboxUtil.class);
+
+	private static MailboxUtil _instance = new MailboxUtil();
+
+	private final ConcurrentHashMap<Long, Set<MailboxListener>>
+		_mailboxListeners = new ConcurrentHashMap<>();
+	private final PortalCache<Long, Long> _modifiedTimes =
+		(PortalCache<Long, Long>)SingleVMPoolUtil.getPortalCache(
+			MailboxUtil.class.getName());
+
+}
\ No newline at end of file
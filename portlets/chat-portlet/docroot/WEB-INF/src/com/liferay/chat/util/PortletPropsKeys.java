@@ -26,11 +26,16 @@ public interface PortletPropsKeys {
 	public static final String BUDDY_LIST_MAX_BUDDIES =
 		"buddy.list.max.buddies";
 
+	public static final String BUDDY_LIST_PRESENCE_REGISTRY_ENABLED =
+		"buddy.list.presence.registry.enabled";
+
 	public static final String BUDDY_LIST_SITE_EXCLUDES =
 		"buddy.list.site.excludes";
 
 	public static final String BUDDY_LIST_STRATEGY = "buddy.list.strategy";
 
+	public static final String ENTRIES_RETENTION_AGE = "entries.retention.age";
+
 	public static final String JABBER_ENABLED = "jabber.enabled";
 
 	public static final String JABBER_HOST = "jabber.host";
@@ -50,4 +55,11 @@ public interface PortletPropsKeys {
 	public static final String JABBER_SOCK5_PROXY_PORT =
 		"jabber.sock5.proxy.port";
 
+	public static final String MAILBOX_ENABLED = "mailbox.enabled";
+
+	public static final String MAILBOX_TIMEOUT = "mailbox.timeout";
+
+	public static final String STATUS_HEARTBEAT_FLUSH_INTERVAL =
+		"status.heartbeat.flush.interval";
+
 }
\ No newline at end of file
@@ -31,12 +31,20 @@ public class PortletPropsValues {
 	public static final int BUDDY_LIST_MAX_BUDDIES = GetterUtil.getInteger(
 		PortletProps.get(PortletPropsKeys.BUDDY_LIST_MAX_BUDDIES));
 
+	public static final boolean BUDDY_LIST_PRESENCE_REGISTRY_ENABLED =
+		GetterUtil.getBoolean(
+			PortletProps.get(
+				PortletPropsKeys.BUDDY_LIST_PRESENCE_REGISTRY_ENABLED));
+
 	public static final String[] BUDDY_LIST_SITE_EXCLUDES =
 		PortletProps.getArray(PortletPropsKeys.BUDDY_LIST_SITE_EXCLUDES);
 
 	public static final String BUDDY_LIST_STRATEGY = GetterUtil.getString(
 		PortletProps.get(PortletPropsKeys.BUDDY_LIST_STRATEGY));
 
+	public static final int ENTRIES_RETENTION_AGE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.ENTRIES_RETENTION_AGE));
+
 	public static final boolean JABBER_ENABLED = GetterUtil.getBoolean(
 		PortletProps.get(PortletPropsKeys.JABBER_ENABLED));
 
@@ -63,4 +71,14 @@ public class PortletPropsValues {
 	public static final int JABBER_SOCK5_PROXY_PORT = GetterUtil.getInteger(
 		PortletProps.get(PortletPropsKeys.JABBER_SOCK5_PROXY_PORT));
 
+	public static final boolean MAILBOX_ENABLED = GetterUtil.getBoolean(
+		PortletProps.get(PortletPropsKeys.MAILBOX_ENABLED));
+
+	public static final long MAILBOX_TIMEOUT = GetterUtil.getLong(
+		PortletProps.get(PortletPropsKeys.MAILBOX_TIMEOUT));
+
+	public static final int STATUS_HEARTBEAT_FLUSH_INTERVAL =
+		GetterUtil.getInteger(
+			PortletProps.get(PortletPropsKeys.STATUS_HEARTBEAT_FLUSH_INTERVAL));
+
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+/**
+ * @author Ankit Srivastava
+ */
+public class Presence {
+
+	public Presence(long companyId, long userId) {
+		_companyId = companyId;
+		_userId = userId;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public String getFirstName() {
+		return _firstName;
+	}
+
+	public long getGroupId() {
+		return _groupId;
+	}
+
+	public String getLastName() {
+		return _lastName;
+	}
+
+	public String getMiddleName() {
+		return _middleName;
+	}
+
+	public long getModifiedDate() {
+		return _modifiedDate;
+	}
+
+	public long getPortraitId() {
+		return _portraitId;
+	}
+
+	public String getScreenName() {
+		return _screenName;
+	}
+
+	public long getUserId() {
+		return _userId;
+	}
+
+	public String getUserUuid() {
+		return _userUuid;
+	}
+
+	public boolean isAwake() {
+		return _awake;
+	}
+
+	public boolean isMale() {
+		return _male;
+	}
+
+	public void setAwake(boolean awake) {
+		_awake = awake;
+	}
+
+	public void setFirstName(String firstName) {
+		_firstName = firstName;
+	}
+
+	public void setGroupId(long groupId) {
+		_groupId = groupId;
+	}
+
+	public void setLastName(String lastName) {
+		_lastName = lastName;
+	}
+
+	public void setMale(boolean male) {
+		_male = male;
+	}
+
+	public void setMiddleName(String middleName) {
+		_middleName = middleName;
+	}
+
+	public void setModifiedDate(long modifiedDate) {
+		_modifiedDate = modifiedDate;
+	}
+
+	public void setPortraitId(long portraitId) {
+		_portraitId = portraitId;
+	}
+
+	public void setScreenName(String screenName) {
+		_screenName = screenName;
+	}
+
+	public void setUserUuid(String userUuid) {
+		_userUuid = userUuid;
+	}
+
+	/**
+	 * Returns the presence in the same layout as the rows returned by the
+	 * status finder, so it can be consumed by the chat poller unchanged.
+	 */
+	public Object[] toBuddy() {
+		return new Object[] {
+			_awake, _firstName, _groupId, _lastName, _male, _middleName,
+			_portraitId, _screenName, _userId, _userUuid
+		};
+	}
+
+	private volatile boolean _awake;
+	private final long _companyId;
+	private volatile String _firstName;
+	private volatile long _groupId;
+	private volatile String _lastName;
+	private volatile boolean _male;
+	private volatile String _middleName;
+	private volatile long _modifiedDate;
+	private volatile long _portraitId;
+	private volatile String _screenName;
+	private final long _userId;
+	private volatile String _userUuid;
+
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.chat.jabber.JabberUtil;
+import com.liferay.chat.util.comparator.PresenceComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds buddy lists from the in-memory {@link PresenceRegistryUtil} instead
+ * of querying the status finder on every poll. Falls back to {@link
+ * DefaultBuddyFinderImpl} when the registry is disabled.
+ *
+ * @author Ankit Srivastava
+ */
+public class PresenceBuddyFinderImpl extends DefaultBuddyFinderImpl {
+
+	@Override
+	public List<Object[]> getBuddies(long companyId, long userId) {
+		if (!PortletPropsValues.BUDDY_LIST_PRESENCE_REGISTRY_ENABLED) {
+			return super.getBuddies(companyId, userId);
+		}
+
+		boolean all = false;
+		boolean sites = false;
+		boolean social = false;
+
+		if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals("all")) {
+			all = true;
+		}
+		else if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals("communities") ||
+				 PortletPropsValues.BUDDY_LIST_STRATEGY.equals("sites")) {
+
+			sites = true;
+		}
+		else if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals("friends") ||
+				 PortletPropsValues.BUDDY_LIST_STRATEGY.equals("social")) {
+
+			social = true;
+		}
+		else if (PortletPropsValues.BUDDY_LIST_STRATEGY.equals(
+					"communities,friends") ||
+				 PortletPropsValues.BUDDY_LIST_STRATEGY.equals(
+					 "sites,social") ||
+				 PortletPropsValues.BUDDY_LIST_STRATEGY.equals(
+					 "friends,sites")) {
+
+			sites = true;
+			social = true;
+		}
+
+		List<Object[]> buddies = new ArrayList<>();
+
+		if (all || sites || social) {
+			List<Presence> presences = getPresences(
+				companyId, userId, all, sites, social);
+
+			for (Presence presence : presences) {
+				buddies.add(presence.toBuddy());
+			}
+		}
+
+		buddies = JabberUtil.getStatuses(companyId, userId, buddies);
+
+		return buddies;
+	}
+
+	protected List<Presence> getPresences(
+		long companyId, long userId, boolean all, boolean sites,
+		boolean social) {
+
+		long modifiedDate =
+			System.currentTimeMillis() - ChatConstants.ONLINE_DELTA;
+
+		List<Presence> presences = PresenceRegistryUtil.getPresences(
+			companyId, modifiedDate);
+
+		Set<Long> groupIds = null;
+		Set<Long> excludedGroupIds = null;
+
+		if (sites) {
+			groupIds = PresenceRegistryUtil.getGroupIds(userId);
+			excludedGroupIds = PresenceRegistryUtil.getExcludedGroupIds(
+				companyId);
+		}
+
+		Set<Long> socialUserIds = null;
+
+		if (social) {
+			socialUserIds = PresenceRegistryUtil.getSocialUserIds(userId);
+		}
+
+		List<Presence> buddyPresences = new ArrayList<>();
+
+		for (Presence presence : presences) {
+			if (presence.getUserId() == userId) {
+				continue;
+			}
+
+			if (all ||
+				(social && socialUserIds.contains(presence.getUserId())) ||
+				(sites &&
+				 isSiteBuddy(
+					 groupIds, excludedGroupIds,
+					 PresenceRegistryUtil.getGroupIds(presence.getUserId())))) {
+
+				buddyPresences.add(presence);
+			}
+		}
+
+		Collections.sort(buddyPresences, new PresenceComparator());
+
+		if (buddyPresences.size() >
+				PortletPropsValues.BUDDY_LIST_MAX_BUDDIES) {
+
+			buddyPresences = buddyPresences.subList(
+				0, PortletPropsValues.BUDDY_LIST_MAX_BUDDIES);
+		}
+
+		return buddyPresences;
+	}
+
+	protected boolean isSiteBuddy(
+		Set<Long> groupIds, Set<Long> excludedGroupIds,
+		Set<Long> buddyGroupIds) {
+
+		for (long groupId : buddyGroupIds) {
+			if (groupIds.contains(groupId) &&
+				!excludedGroupIds.contains(groupId)) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,426 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.chat.model.Status;
+import com.liferay.chat.service.StatusLocalServiceUtil;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.model.Group;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.service.GroupLocalServiceUtil;
+import com.liferay.portal.kernel.service.UserLocalServiceUtil;
+import com.liferay.social.kernel.model.SocialRelation;
+import com.liferay.social.kernel.service.SocialRelationLocalServiceUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the presence of online chat users in memory, sharded by company, along
+ * with the site memberships and social relations needed to build buddy lists.
+ * The registry is local to the JVM.
+ *
+ * @author Ankit Srivastava
+ */
+public class PresenceRegistryUtil {
+
+	public static void addSession(long userId) {
+		_instance._addSession(userId);
+	}
+
+	public static Set<Long> getExcludedGroupIds(long companyId) {
+		return _instance._getExcludedGroupIds(companyId);
+	}
+
+	public static Set<Long> getGroupIds(long userId) {
+		return _instance._getGroupIds(userId);
+	}
+
+	public static List<Presence> getPresences(
+		long companyId, long modifiedDate) {
+
+		return _instance._getPresences(companyId, modifiedDate);
+	}
+
+	public static Set<Long> getSocialUserIds(long userId) {
+		return _instance._getSocialUserIds(userId);
+	}
+
+	public static void removePresence(long userId) {
+		_instance._removePresence(userId);
+	}
+
+	/**
+	 * Removes the presence of the user once the last of the user's sessions
+	 * is destroyed. Sessions that were created before the registry started
+	 * counting are treated as the user's last session.
+	 */
+	public static void removeSession(long userId) {
+		_instance._removeSession(userId);
+	}
+
+	public static void resetExcludedGroupIds(long companyId) {
+		_instance._resetExcludedGroupIds(companyId);
+	}
+
+	public static void resetRelations(long userId) {
+		_instance._resetRelations(userId);
+	}
+
+	public static void updatePresence(Status status) {
+		_instance._updatePresence(status);
+	}
+
+	public static void updateUser(User user) {
+		_instance._updateUser(user);
+	}
+
+	private PresenceRegistryUtil() {
+	}
+
+	private void _addSession(long userId) {
+		while (true) {
+			Integer count = _sessionCounts.putIfAbsent(userId, 1);
+
+			if ((count == null) ||
+				_sessionCounts.replace(userId, count, count + 1)) {
+
+				return;
+			}
+		}
+	}
+
+	private Presence _createPresence(long companyId, Object[] buddy) {
+		long userId = (Long)buddy[8];
+
+		Presence presence = new Presence(companyId, userId);
+
+		presence.setAwake((Boolean)buddy[0]);
+		presence.setFirstName((String)buddy[1]);
+		presence.setGroupId((Long)buddy[2]);
+		presence.setLastName((String)buddy[3]);
+		presence.setMale((Boolean)buddy[4]);
+		presence.setMiddleName((String)buddy[5]);
+		presence.setPortraitId((Long)buddy[6]);
+		presence.setScreenName((String)buddy[7]);
+		presence.setUserUuid((String)buddy[9]);
+
+		return presence;
+	}
+
+	private Map<Long, Presence> _getCompanyPresences(long companyId) {
+		Map<Long, Presence> presences = _companyPresences.get(companyId);
+
+		if (presences != null) {
+			return presences;
+		}
+
+		synchronized (this) {
+			presences = _companyPresences.get(companyId);
+
+			if (presences != null) {
+				return presences;
+			}
+
+			presences = new ConcurrentHashMap<>();
+
+			long modifiedDate =
+				System.currentTimeMillis() - ChatConstants.ONLINE_DELTA;
+
+			List<Object[]> buddies = StatusLocalServiceUtil.getAllStatuses(
+				companyId, 0, modifiedDate, QueryUtil.ALL_POS,
+				QueryUtil.ALL_POS);
+
+			long[] userIds = new long[buddies.size()];
+
+			for (int i = 0; i < buddies.size(); i++) {
+				Presence presence = _createPresence(companyId, buddies.get(i));
+
+				presences.put(presence.getUserId(), presence);
+
+				_userCompanyIds.put(presence.getUserId(), companyId);
+
+				userIds[i] = presence.getUserId();
+			}
+
+			for (Status status :
+					StatusLocalServiceUtil.getUserStatuses(userIds)) {
+
+				Presence presence = presences.get(status.getUserId());
+
+				if (presence == null) {
+					continue;
+				}
+
+				long statusModifiedDate = status.getModifiedDate();
+
+				if (StatusHeartbeatUtil.isEnabled()) {
+					statusModifiedDate = Math.max(
+						statusModifiedDate,
+						StatusHeartbeatUtil.getModifiedDate(
+							status.getUserId()));
+				}
+
+				presence.setModifiedDate(statusModifiedDate);
+			}
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Loaded " + presences.size() + " presences for company " +
+						companyId);
+			}
+
+			_companyPresences.put(companyId, presences);
+
+			return presences;
+		}
+	}
+
+	private Set<Long> _getExcludedGroupIds(long companyId) {
+		Set<Long> excludedGroupIds = _companyExcludedGroupIds.get(companyId);
+
+		if (excludedGroupIds != null) {
+			return excludedGroupIds;
+		}
+
+		excludedGroupIds = new HashSet<>();
+
+		for (String groupName : PortletPropsValues.BUDDY_LIST_SITE_EXCLUDES) {
+			Group group = GroupLocalServiceUtil.fetchGroup(
+				companyId, groupName);
+
+			if (group != null) {
+				excludedGroupIds.add(group.getGroupId());
+			}
+		}
+
+		excludedGroupIds = Collections.unmodifiableSet(excludedGroupIds);
+
+		_companyExcludedGroupIds.put(companyId, excludedGroupIds);
+
+		return excludedGroupIds;
+	}
+
+	private Set<Long> _getGroupIds(long userId) {
+		Set<Long> groupIds = _groupIds.get(userId);
+
+		if (groupIds != null) {
+			return groupIds;
+		}
+
+		groupIds = new HashSet<>();
+
+		for (long groupId : UserLocalServiceUtil.getGroupPrimaryKeys(userId)) {
+			groupIds.add(groupId);
+		}
+
+		groupIds = Collections.unmodifiableSet(groupIds);
+
+		_groupIds.put(userId, groupIds);
+
+		return groupIds;
+	}
+
+	private List<Presence> _getPresences(long companyId, long modifiedDate) {
+		Map<Long, Presence> presences = _getCompanyPresences(companyId);
+
+		List<Presence> onlinePresences = new ArrayList<>(presences.size());
+
+		for (Presence presence : presences.values()) {
+			if (presence.getModifiedDate() > modifiedDate) {
+				onlinePresences.add(presence);
+			}
+		}
+
+		return onlinePresences;
+	}
+
+	private Set<Long> _getSocialUserIds(long userId) {
+		Set<Long> socialUserIds = _socialUserIds.get(userId);
+
+		if (socialUserIds != null) {
+			return socialUserIds;
+		}
+
+		socialUserIds = new HashSet<>();
+
+		for (int type :
+				PortletPropsValues.BUDDY_LIST_ALLOWED_SOCIAL_RELATION_TYPES) {
+
+			List<SocialRelation> socialRelations =
+				SocialRelationLocalServiceUtil.getRelations(
+					userId, type, QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+
+			for (SocialRelation socialRelation : socialRelations) {
+				socialUserIds.add(socialRelation.getUserId2());
+			}
+		}
+
+		socialUserIds = Collections.unmodifiableSet(socialUserIds);
+
+		_socialUserIds.put(userId, socialUserIds);
+
+		return socialUserIds;
+	}
+
+	private void _removePresence(long userId) {
+		Long companyId = _userCompanyIds.remove(userId);
+
+		if (companyId != null) {
+			Map<Long, Presence> presences = _companyPresences.get(companyId);
+
+			if (presences != null) {
+				presences.remove(userId);
+			}
+		}
+
+		_resetRelations(userId);
+	}
+
+	private void _removeSession(long userId) {
+		while (true) {
+			Integer count = _sessionCounts.get(userId);
+
+			if (count == null) {
+				_removePresence(userId);
+
+				return;
+			}
+
+			if (count <= 1) {
+				if (_sessionCounts.remove(userId, count)) {
+					_removePresence(userId);
+
+					return;
+				}
+			}
+			else if (_sessionCounts.replace(userId, count, count - 1)) {
+				return;
+			}
+		}
+	}
+
+	private void _resetExcludedGroupIds(long companyId) {
+		_companyExcludedGroupIds.remove(companyId);
+	}
+
+	private void _resetRelations(long userId) {
+		_groupIds.remove(userId);
+		_socialUserIds.remove(userId);
+	}
+
+	private void _updatePresence(Status status) {
+		if (!status.isOnline()) {
+			_removePresence(status.getUserId());
+
+			return;
+		}
+
+		Long companyId = _userCompanyIds.get(status.getUserId());
+
+		Presence presence = null;
+
+		if (companyId != null) {
+			Map<Long, Presence> presences = _companyPresences.get(companyId);
+
+			if (presences != null) {
+				presence = presences.get(status.getUserId());
+			}
+		}
+
+		if (presence == null) {
+			User user = UserLocalServiceUtil.fetchUser(status.getUserId());
+
+			if ((user == null) || user.isDefaultUser()) {
+				return;
+			}
+
+			Map<Long, Presence> presences = _companyPresences.get(
+				user.getCompanyId());
+
+			if (presences == null) {
+
+				// The presences of the company are loaded from the database the
+				// first time they are requested
+
+				return;
+			}
+
+			presence = new Presence(user.getCompanyId(), user.getUserId());
+
+			_updateUser(presence, user);
+
+			presences.put(presence.getUserId(), presence);
+
+			_userCompanyIds.put(presence.getUserId(), presence.getCompanyId());
+		}
+
+		presence.setAwake(status.isAwake());
+		presence.setModifiedDate(status.getModifiedDate());
+	}
+
+	private void _updateUser(Presence presence, User user) {
+		presence.setFirstName(user.getFirstName());
+		presence.setGroupId(user.getGroupId());
+		presence.setLastName(user.getLastName());
+		presence.setMale(user.isMale());
+		presence.setMiddleName(user.getMiddleName());
+		presence.setPortraitId(user.getPortraitId());
+		presence.setScreenName(user.getScreenName());
+		presence.setUserUuid(user.getUuid());
+	}
+
+	private void _updateUser(User user) {
+		Map<Long, Presence> presences = _companyPresences.get(
+			user.getCompanyId());
+
+		if (presences == null) {
+			return;
+		}
+
+		Presence presence = presences.get(user.getUserId());
+
+		if (presence == null) {
+			return;
+		}
+
+		_updateUser(presence, user);
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(
+		PresenceRegistryUtil.class);
+
+	private static PresenceRegistryUtil _instance = new PresenceRegistryUtil();
+
+	private final Map<Long, Set<Long>> _companyExcludedGroupIds =
+		new ConcurrentHashMap<>();
+	private final Map<Long, Map<Long, Presence>> _companyPresences =
+		new ConcurrentHashMap<>();
+	private final Map<Long, Set<Long>> _groupIds = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Long, Integer> _sessionCounts =
+		new ConcurrentHashMap<>();
+	private final Map<Long, Set<Long>> _socialUserIds =
+		new ConcurrentHashMap<>();
+	private final Map<Long, Long> _userCompanyIds = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import com.liferay.chat.service.StatusLocalServiceUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coalesces heartbeat only status updates in memory until they are flushed to
+ * the database in a single batch. Heartbeats are local to the JVM.
+ *
+ * @author Brian Wing Shun Chan
+ */
+public class StatusHeartbeatUtil {
+
+	public static void addHeartbeat(long userId, long modifiedDate) {
+		_instance._addHeartbeat(userId, modifiedDate);
+	}
+
+	public static int flush() {
+		return _instance._flush();
+	}
+
+	public static long getModifiedDate(long userId) {
+		return _instance._getModifiedDate(userId);
+	}
+
+	public static boolean isEnabled() {
+		if (PortletPropsValues.STATUS_HEARTBEAT_FLUSH_INTERVAL > 0) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public static long removeHeartbeat(long userId) {
+		return _instance._removeHeartbeat(userId);
+	}
+
+	private StatusHeartbeatUtil() {
+	}
+
+	private void _addHeartbeat(long userId, long modifiedDate) {
+		while (true) {
+			Long previousModifiedDate = _modifiedDates.putIfAbsent(
+				userId, modifiedDate);
+
+			if ((previousModifiedDate == null) ||
+				(previousModifiedDate >= modifiedDate) ||
+				_modifiedDates.replace(
+					userId, previousModifiedDate, modifiedDate)) {
+
+				return;
+			}
+		}
+	}
+
+	private int _flush() {
+		List<Map.Entry<Long, Long>> heartbeats = new ArrayList<>(
+			_modifiedDates.entrySet());
+
+		if (heartbeats.isEmpty()) {
+			return 0;
+		}
+
+		long[] userIds = new long[heartbeats.size()];
+		long[] modifiedDates = new long[heartbeats.size()];
+
+		for (int i = 0; i < heartbeats.size(); i++) {
+			Map.Entry<Long, Long> heartbeat = heartbeats.get(i);
+
+			userIds[i] = heartbeat.getKey();
+			modifiedDates[i] = heartbeat.getValue();
+		}
+
+		StatusLocalServiceUtil.updateModifiedDates(userIds, modifiedDates);
+
+		// Keep heartbeats that arrived while the batch was being written
+
+		for (int i = 0; i < userIds.length; i++) {
+			_modifiedDates.remove(userIds[i], modifiedDates[i]);
+		}
+
+		return userIds.length;
+	}
+
+	private long _getModifiedDate(long userId) {
+		Long modifiedDate = _modifiedDates.get(userId);
+
+		if (modifiedDate == null) {
+			return 0;
+		}
+
+		return modifiedDate;
+	}
+
+	private long _removeHeartbeat(long userId) {
+		Long modifiedDate = _modifiedDates.remove(userId);
+
+		if (modifiedDate == null) {
+			return 0;
+		}
+
+		return modifiedDate;
+	}
+
+	private static StatusHeartbeatUtil _instance = new StatusHeartbeatUtil();
+
+	private final ConcurrentMap<Long, Long> _modifiedDates =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
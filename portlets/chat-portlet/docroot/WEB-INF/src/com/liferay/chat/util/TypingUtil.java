@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps track of which users are typing to whom. Typing signals are only kept
+ * in memory and expire after {@link ChatConstants#TYPING_DELTA}.
+ *
+ * <p>
+ * Typing signals are local to the JVM. In a cluster, a user whose poller
+ * requests are served by a different node than the sender's does not see the
+ * sender typing. Messages are not affected, since they are stored in the
+ * database.
+ * </p>
+ *
+ * @author Brian Wing Shun Chan
+ */
+public class TypingUtil {
+
+	public static List<Long> getTypingUserIds(long toUserId) {
+		return _instance._getTypingUserIds(toUserId);
+	}
+
+	public static void removeTyping(long fromUserId, long toUserId) {
+		_instance._removeTyping(fromUserId, toUserId);
+	}
+
+	public static void updateTyping(long fromUserId, long toUserId) {
+		_instance._updateTyping(fromUserId, toUserId);
+	}
+
+	private TypingUtil() {
+	}
+
+	private List<Long> _getTypingUserIds(long toUserId) {
+		Map<Long, Long> typingTimes = _typingTimes.get(toUserId);
+
+		if (typingTimes == null) {
+			return new ArrayList<>();
+		}
+
+		List<Long> typingUserIds = new ArrayList<>();
+
+		long typingTime =
+			System.currentTimeMillis() - ChatConstants.TYPING_DELTA;
+
+		Iterator<Map.Entry<Long, Long>> iterator =
+			typingTimes.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			Map.Entry<Long, Long> entry = iterator.next();
+
+			if (entry.getValue() > typingTime) {
+				typingUserIds.add(entry.getKey());
+			}
+			else {
+				iterator.remove();
+			}
+		}
+
+		if (typingTimes.isEmpty()) {
+			_typingTimes.remove(toUserId, typingTimes);
+		}
+
+		return typingUserIds;
+	}
+
+	private void _removeTyping(long fromUserId, long toUserId) {
+		Map<Long, Long> typingTimes = _typingTimes.get(toUserId);
+
+		if (typingTimes != null) {
+			typingTimes.remove(fromUserId);
+		}
+	}
+
+	private void _updateTyping(long fromUserId, long toUserId) {
+		Map<Long, Long> typingTimes = _typingTimes.get(toUserId);
+
+		if (typingTimes == null) {
+			typingTimes = new ConcurrentHashMap<>();
+
+			Map<Long, Long> previousTypingTimes = _typingTimes.putIfAbsent(
+				toUserId, typingTimes);
+
+			if (previousTypingTimes != null) {
+				typingTimes = previousTypingTimes;
+			}
+		}
+
+		typingTimes.put(fromUserId, System.currentTimeMillis());
+	}
+
+	private static TypingUtil _instance = new TypingUtil();
+
+	private final ConcurrentMap<Long, Map<Long, Long>> _typingTimes =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
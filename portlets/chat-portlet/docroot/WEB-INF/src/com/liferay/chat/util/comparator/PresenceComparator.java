@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.chat.util.comparator;
+
+import com.liferay.chat.util.Presence;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.util.Comparator;
+
+/**
+ * @author Ankit Srivastava
+ */
+public class PresenceComparator implements Comparator<Presence> {
+
+	@Override
+	public int compare(Presence presence1, Presence presence2) {
+		int value = Boolean.compare(presence1.isAwake(), presence2.isAwake());
+
+		if (value != 0) {
+			return value;
+		}
+
+		value = _compare(presence1.getFirstName(), presence2.getFirstName());
+
+		if (value != 0) {
+			return value;
+		}
+
+		value = _compare(presence1.getMiddleName(), presence2.getMiddleName());
+
+		if (value != 0) {
+			return value;
+		}
+
+		return _compare(presence1.getLastName(), presence2.getLastName());
+	}
+
+	private int _compare(String value1, String value2) {
+		if (value1 == null) {
+			value1 = StringPool.BLANK;
+		}
+
+		if (value2 == null) {
+			value2 = StringPool.BLANK;
+		}
+
+		return value1.compareTo(value2);
+	}
+
+}
\ No newline at end of file
@@ -25,6 +25,7 @@ taglib uri="http://liferay.com/tld/util" prefix="liferay-util" %>
 page import="com.liferay.chat.service.StatusLocalServiceUtil" %><%@
 page import="com.liferay.chat.util.BuddyFinderUtil" %><%@
 page import="com.liferay.chat.util.ChatExtensionsUtil" %><%@
+page import="com.liferay.chat.util.PortletPropsValues" %><%@
 page import="com.liferay.portal.kernel.json.JSONFactoryUtil" %><%@
 page import="com.liferay.portal.kernel.json.JSONObject" %><%@
 page import="com.liferay.portal.kernel.language.LanguageUtil" %><%@
@@ -5,6 +5,7 @@ AUI().use(
 	'anim-easing',
 	'aui-base',
 	'aui-datatype',
+	'aui-io-request',
 	'aui-live-search-deprecated',
 	'liferay-poller',
 	'node-focusmanager',
@@ -729,11 +730,18 @@ AUI().use(
 				var instance = this;
 
 				instance._initialRequest = true;
+				instance._mailboxRetryDelay = 30000;
 				instance._notificationTimeout = 8000;
 
 				instance._chatContainer = A.one('#chatBar');
 				instance._portletId = A.one('#chatPortletId').val();
 
+				var mailboxURL = A.one('#chatMailboxURL');
+
+				if (mailboxURL) {
+					instance._mailboxURL = mailboxURL.val();
+				}
+
 				var chatContainer = instance._chatContainer;
 
 				instance._myStatus = chatContainer.one('.status-message');
@@ -757,6 +765,8 @@ AUI().use(
 					function(event) {
 						Liferay.Poller.removeListener(instance._portletId);
 
+						instance._mailboxURL = null;
+
 						chatContainer.hide();
 					}
 				);
@@ -1275,6 +1285,10 @@ AUI().use(
 					instance._entryIds = [0];
 				}
 
+				if (!instance._lastEntryCreateDate) {
+					instance._lastEntryCreateDate = 0;
+				}
+
 				var entryCache = instance._entryCache;
 				var entryIds = instance._entryIds.join('|');
 
@@ -1306,6 +1320,10 @@ AUI().use(
 
 					var userEntryCache = entryCache[userId];
 
+					if (entry.createDate > instance._lastEntryCreateDate) {
+						instance._lastEntryCreateDate = entry.createDate;
+					}
+
 					if (!entryProcessed) {
 						userEntryCache.entries[entryId] = entry;
 
@@ -1318,6 +1336,44 @@ AUI().use(
 				}
 			},
 
+			_mergeBuddies: function(changedBuddies, removedBuddyIds) {
+				var instance = this;
+
+				var excludedBuddyIds = {};
+
+				changedBuddies.forEach(
+					function(item, index) {
+						excludedBuddyIds[item.userId] = true;
+					}
+				);
+
+				removedBuddyIds.forEach(
+					function(item, index) {
+						excludedBuddyIds[item] = true;
+					}
+				);
+
+				var buddyList = instance._onlineBuddyList.filter(
+					function(item, index) {
+						return !excludedBuddyIds[item.userId];
+					}
+				);
+
+				buddyList = buddyList.concat(changedBuddies);
+
+				buddyList.sort(
+					function(a, b) {
+						if (a.awake != b.awake) {
+							return a.awake ? 1 : -1;
+						}
+
+						return a.fullName.localeCompare(b.fullName);
+					}
+				);
+
+				return buddyList;
+			},
+
 			_onPanelClose: function(event) {
 				var instance = this;
 
@@ -1374,7 +1430,7 @@ AUI().use(
 			_onPollerUpdate: function(response, chunkId) {
 				var instance = this;
 
-				instance._updateBuddies(response.buddies);
+				instance._updateBuddies(response.buddies, response.removedBuddyIds);
 
 				var entries = response.entries;
 
@@ -1394,10 +1450,55 @@ AUI().use(
 					instance._chatContainer.one('.chat-tabs > .buddy-list').removeClass('loading');
 
 					instance._initialRequest = false;
+
+					instance._pollMailbox();
 				}
 				else if (!instance._initialRequest) {
 					instance._updateConversations(entries, windowId);
 				}
+
+				instance._updateTyping(response.typingUserIds);
+			},
+
+			_pollMailbox: function() {
+				var instance = this;
+
+				var mailboxURL = instance._mailboxURL;
+
+				if (!mailboxURL || instance._mailboxPolling) {
+					return;
+				}
+
+				instance._mailboxPolling = true;
+
+				A.io.request(
+					mailboxURL,
+					{
+						after: {
+							failure: function(event, id, obj) {
+								instance._mailboxPolling = false;
+
+								setTimeout(A.bind('_pollMailbox', instance), instance._mailboxRetryDelay);
+							},
+							success: function(event, id, obj) {
+								instance._mailboxPolling = false;
+
+								var responseData = this.get('responseData');
+
+								if (responseData.async) {
+									instance._updateConversations(responseData.entries, windowId);
+
+									instance._pollMailbox();
+								}
+							}
+						},
+						data: {
+							createDate: instance._lastEntryCreateDate || Liferay.Chat.Util.getCurrentTimestamp()
+						},
+						dataType: 'JSON',
+						method: 'GET'
+					}
+				);
 			},
 
 			_restoreMinimizedPanels: function() {
@@ -1435,11 +1536,21 @@ AUI().use(
 				instance._sendTask(instance._getSettings());
 			},
 
-			_updateBuddies: function(buddies) {
+			_updateBuddies: function(buddies, removedBuddyIds) {
 				var instance = this;
 
 				var buddyList = buddies || [];
 
+				if (removedBuddyIds) {
+					if (!buddyList.length && !removedBuddyIds.length) {
+						return;
+					}
+
+					buddyList = instance._mergeBuddies(buddyList, removedBuddyIds);
+				}
+
+				instance._onlineBuddyList = buddyList;
+
 				var numBuddies = buddyList.length;
 
 				var currentBuddies = instance._buddies;
@@ -1522,7 +1633,7 @@ AUI().use(
 
 				instance._updateBuddyList();
 
-				instance.fire('updateBuddies', buddies);
+				instance.fire('updateBuddies', buddyList);
 			},
 
 			_updateBuddyList: function(buddy) {
@@ -1677,11 +1788,32 @@ AUI().use(
 				);
 			},
 
+			_updateTyping: function(typingUserIds) {
+				var instance = this;
+
+				if (!typingUserIds) {
+					return;
+				}
+
+				typingUserIds.forEach(
+					function(item, index) {
+						var chat = instance._chatSessions[item];
+
+						if (chat) {
+							chat.setTyping(true);
+
+							chat._stopTypingTask();
+						}
+					}
+				);
+			},
+
 			_buddies: {},
 			_buddyServices: {},
 			_chatSessions: {},
 			_entries: [],
 			_minimizedPanelIds: {},
+			_onlineBuddyList: [],
 			_panels: {},
 			_settings: {},
 			_styleSheet: null
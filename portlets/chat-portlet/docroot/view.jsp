@@ -160,6 +160,10 @@
 		<input id="activePanelIds" type="hidden" value="<%= HtmlUtil.escapeAttribute(status.getActivePanelIds()) %>" />
 		<input id="chatPortletId" type="hidden" value="<%= portletDisplay.getId() %>" />
 
+		<c:if test="<%= PortletPropsValues.MAILBOX_ENABLED %>">
+			<input id="chatMailboxURL" type="hidden" value="<%= PortalUtil.getPathContext(request) %>/mailbox" />
+		</c:if>
+
 		<div class="chat-extensions hide">
 
 			<%
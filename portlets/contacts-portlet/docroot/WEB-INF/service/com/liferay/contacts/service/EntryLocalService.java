@@ -39,6 +39,7 @@ import com.liferay.portal.kernel.util.OrderByComparator;
 import java.io.Serializable;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Provides the local service interface for Entry. Methods of this
@@ -76,6 +77,11 @@ public interface EntryLocalService extends BaseLocalService,
 		java.lang.String emailAddress, java.lang.String comments)
 		throws PortalException;
 
+	public Map<java.lang.Integer, PortalException> addEntries(
+		long userId, java.lang.String[] fullNames,
+		java.lang.String[] emailAddresses,
+		java.lang.String[] comments) throws PortalException;
+
 	/**
 	* Creates a new entry with the primary key. Does not add the entry to the database.
 	*
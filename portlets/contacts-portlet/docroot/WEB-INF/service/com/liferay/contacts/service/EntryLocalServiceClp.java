@@ -164,6 +164,10 @@ public class EntryLocalServiceClp implements EntryLocalService {
 				"com.liferay.portal.kernel.dao.orm.DynamicQuery",
 				"com.liferay.portal.kernel.dao.orm.Projection"
 			};
+
+		_methodName29 = "addEntries";
+
+		_methodParameterTypes29 = new String[] { "long", "java.lang.String[][]", "java.lang.String[][]", "java.lang.String[][]" };
 	}
 
 	@Override
@@ -230,6 +234,36 @@ public class EntryLocalServiceClp implements EntryLocalService {
 		return (com.liferay.contacts.model.Entry)ClpSerializer.translateOutput(returnObj);
 	}
 
+	@Override
+	public java.util.Map<java.lang.Integer, com.liferay.portal.kernel.exception.PortalException> addEntries(
+		long userId, java.lang.String[] fullNames,
+		java.lang.String[] emailAddresses,
+		java.lang.String[] comments) throws com.liferay.portal.kernel.exception.PortalException {
+		Object returnObj = null;
+
+		try {
+			returnObj = _invokableLocalService.invokeMethod(_methodName29,
+					_methodParameterTypes29, new Object[] { userId, ClpSerializer.translateInput(fullNames), ClpSerializer.translateInput(emailAddresses), ClpSerializer.translateInput(comments) });
+		}
+		catch (Throwable t) {
+			t = ClpSerializer.translateThrowable(t);
+
+			if (t instanceof com.liferay.portal.kernel.exception.PortalException) {
+				throw (com.liferay.portal.kernel.exception.PortalException)t;
+			}
+
+			if (t instanceof RuntimeException) {
+				throw (RuntimeException)t;
+			}
+			else {
+				throw new RuntimeException(t.getClass().getName() +
+					" is not a valid exception");
+			}
+		}
+
+		return (java.util.Map<java.lang.Integer, com.liferay.portal.kernel.exception.PortalException>)ClpSerializer.translateOutput(returnObj);
+	}
+
 	@Override
 	public com.liferay.contacts.model.Entry createEntry(long entryId) {
 		Object returnObj = null;
@@ -1003,4 +1037,6 @@ public class EntryLocalServiceClp implements EntryLocalService {
 	private String[] _methodParameterTypes27;
 	private String _methodName28;
 	private String[] _methodParameterTypes28;
+	private String _methodName29;
+	private String[] _methodParameterTypes29;
 }
\ No newline at end of file
@@ -60,6 +60,13 @@ public class EntryLocalServiceUtil {
 		return getService().addEntry(userId, fullName, emailAddress, comments);
 	}
 
+	public static java.util.Map<java.lang.Integer, com.liferay.portal.kernel.exception.PortalException> addEntries(
+		long userId, java.lang.String[] fullNames,
+		java.lang.String[] emailAddresses,
+		java.lang.String[] comments) throws com.liferay.portal.kernel.exception.PortalException {
+		return getService().addEntries(userId, fullNames, emailAddresses, comments);
+	}
+
 	/**
 	* Creates a new entry with the primary key. Does not add the entry to the database.
 	*
@@ -53,6 +53,14 @@ public class EntryLocalServiceWrapper implements EntryLocalService,
 			comments);
 	}
 
+	@Override
+	public java.util.Map<java.lang.Integer, com.liferay.portal.kernel.exception.PortalException> addEntries(
+		long userId, java.lang.String[] fullNames,
+		java.lang.String[] emailAddresses,
+		java.lang.String[] comments) throws com.liferay.portal.kernel.exception.PortalException {
+		return _entryLocalService.addEntries(userId, fullNames, emailAddresses, comments);
+	}
+
 	/**
 	* Creates a new entry with the primary key. Does not add the entry to the database.
 	*
@@ -20,12 +20,16 @@ package com.liferay.contacts.contactscenter.portlet;
 import com.liferay.announcements.kernel.model.AnnouncementsDelivery;
 import com.liferay.announcements.kernel.service.AnnouncementsDeliveryLocalServiceUtil;
 import com.liferay.contacts.exception.DuplicateEntryEmailAddressException;
+import com.liferay.contacts.exception.EntryCommentsException;
 import com.liferay.contacts.exception.EntryEmailAddressException;
+import com.liferay.contacts.exception.EntryFullNameException;
 import com.liferay.contacts.model.Entry;
 import com.liferay.contacts.service.EntryLocalServiceUtil;
 import com.liferay.contacts.util.ContactsConstants;
+import com.liferay.contacts.util.ContactsImportUtil;
 import com.liferay.contacts.util.ContactsUtil;
 import com.liferay.contacts.util.PortletKeys;
+import com.liferay.contacts.util.PortletPropsValues;
 import com.liferay.contacts.util.SocialRelationConstants;
 import com.liferay.portal.kernel.bean.BeanParamUtil;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
@@ -43,6 +47,7 @@ import com.liferay.portal.kernel.exception.NoSuchRegionException;
 import com.liferay.portal.kernel.exception.NoSuchUserException;
 import com.liferay.portal.kernel.exception.PhoneNumberException;
 import com.liferay.portal.kernel.exception.PhoneNumberExtensionException;
+import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.exception.ReservedUserEmailAddressException;
 import com.liferay.portal.kernel.exception.ReservedUserScreenNameException;
 import com.liferay.portal.kernel.exception.UserEmailAddressException;
@@ -78,11 +83,15 @@ import com.liferay.portal.kernel.service.UserNotificationEventLocalServiceUtil;
 import com.liferay.portal.kernel.service.UserServiceUtil;
 import com.liferay.portal.kernel.theme.PortletDisplay;
 import com.liferay.portal.kernel.theme.ThemeDisplay;
+import com.liferay.portal.kernel.upload.UploadPortletRequest;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.CalendarFactoryUtil;
+import com.liferay.portal.kernel.util.HttpHeaders;
 import com.liferay.portal.kernel.util.ListUtil;
 import com.liferay.portal.kernel.util.OrderByComparator;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.WebKeys;
@@ -96,11 +105,16 @@ import com.liferay.social.kernel.service.SocialRelationLocalServiceUtil;
 import com.liferay.social.kernel.service.SocialRequestLocalServiceUtil;
 import com.liferay.users.admin.kernel.util.UsersAdminUtil;
 
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.portlet.ActionRequest;
@@ -211,19 +225,32 @@ public class ContactsCenterPortlet extends MVCPortlet {
 		long[] userIds = StringUtil.split(
 			ParamUtil.getString(resourceRequest, "userIds"), 0L);
 
-		List<User> users = new ArrayList<>(userIds.length);
+		resourceResponse.setContentType("text/x-vcard; charset=UTF-8");
+		resourceResponse.setProperty(
+			HttpHeaders.CONTENT_DISPOSITION,
+			"attachment; filename=\"vcards.vcf\"");
 
-		for (long userId : userIds) {
-			User user = UserServiceUtil.getUserById(userId);
+		Writer writer = new OutputStreamWriter(
+			resourceResponse.getPortletOutputStream(), StringPool.UTF8);
 
-			users.add(user);
-		}
+		int batchSize = Math.max(PortletPropsValues.VCARD_EXPORT_BATCH_SIZE, 1);
 
-		String vCards = ContactsUtil.getVCards(users);
+		for (int i = 0; i < userIds.length; i += batchSize) {
+			long[] batchUserIds = ArrayUtil.subset(
+				userIds, i, Math.min(i + batchSize, userIds.length));
 
-		PortletResponseUtil.sendFile(
-			resourceRequest, resourceResponse, "vcards.vcf",
-			vCards.getBytes(StringPool.UTF8), "text/x-vcard; charset=UTF-8");
+			List<User> users = new ArrayList<>(batchUserIds.length);
+
+			for (long userId : batchUserIds) {
+				User user = UserServiceUtil.getUserById(userId);
+
+				users.add(user);
+			}
+
+			ContactsUtil.writeVCards(writer, users);
+
+			writer.flush();
+		}
 	}
 
 	public void getContact(
@@ -271,14 +298,20 @@ public class ContactsCenterPortlet extends MVCPortlet {
 
 		JSONArray jsonArray = JSONFactoryUtil.createJSONArray();
 
+		Map<Long, Integer> relations = ContactsUtil.getRelations(
+			themeDisplay.getUserId(), userIds);
+
 		for (long userId : userIds) {
 			try {
+				User user = UserLocalServiceUtil.getUser(userId);
+
 				JSONObject userJSONObject = JSONFactoryUtil.createJSONObject();
 
 				userJSONObject.put("success", Boolean.TRUE);
 				userJSONObject.put(
 					"user",
-					getUserJSONObject(resourceResponse, themeDisplay, userId));
+					getUserJSONObject(
+						resourceResponse, themeDisplay, user, relations));
 
 				jsonArray.put(userJSONObject);
 			}
@@ -291,6 +324,56 @@ public class ContactsCenterPortlet extends MVCPortlet {
 		writeJSON(resourceRequest, resourceResponse, jsonObject);
 	}
 
+	public void importEntries(
+			ResourceRequest resourceRequest, ResourceResponse resourceResponse)
+		throws Exception {
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)resourceRequest.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		UploadPortletRequest uploadPortletRequest =
+			PortalUtil.getUploadPortletRequest(resourceRequest);
+
+		JSONArray errorsJSONArray = JSONFactoryUtil.createJSONArray();
+
+		InputStream inputStream = null;
+
+		try {
+			inputStream = uploadPortletRequest.getFileAsStream("file");
+
+			Map<Integer, PortalException> exceptions =
+				ContactsImportUtil.importEntries(
+					themeDisplay.getUserId(),
+					uploadPortletRequest.getFileName("file"), inputStream);
+
+			for (Map.Entry<Integer, PortalException> entry :
+					exceptions.entrySet()) {
+
+				JSONObject errorJSONObject =
+					JSONFactoryUtil.createJSONObject();
+
+				errorJSONObject.put(
+					"message",
+					translate(
+						resourceRequest,
+						getEntryErrorMessage(entry.getValue())));
+				errorJSONObject.put("row", entry.getKey());
+
+				errorsJSONArray.put(errorJSONObject);
+			}
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
+
+		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
+
+		jsonObject.put("errors", errorsJSONArray);
+		jsonObject.put("success", Boolean.TRUE);
+
+		writeJSON(resourceRequest, resourceResponse, jsonObject);
+	}
+
 	@Override
 	public void processAction(
 			ActionRequest actionRequest, ActionResponse actionResponse)
@@ -414,6 +497,9 @@ public class ContactsCenterPortlet extends MVCPortlet {
 			else if (resourceID.equals("getSelectedContacts")) {
 				getSelectedContacts(resourceRequest, resourceResponse);
 			}
+			else if (resourceID.equals("importEntries")) {
+				importEntries(resourceRequest, resourceResponse);
+			}
 			else {
 				super.serveResource(resourceRequest, resourceResponse);
 			}
@@ -476,19 +562,7 @@ public class ContactsCenterPortlet extends MVCPortlet {
 			jsonObject.put("success", Boolean.TRUE);
 		}
 		catch (Exception e) {
-			if (e instanceof ContactFullNameException) {
-				message = "full-name-cannot-be-empty";
-			}
-			else if (e instanceof DuplicateEntryEmailAddressException) {
-				message = "there-is-already-a-contact-with-this-email-address";
-			}
-			else if (e instanceof EntryEmailAddressException) {
-				message = "please-enter-a-valid-email-address";
-			}
-			else {
-				message =
-					"an-error-occurred-while-processing-the-requested-resource";
-			}
+			message = getEntryErrorMessage(e);
 
 			jsonObject.put("success", Boolean.FALSE);
 		}
@@ -756,12 +830,27 @@ public class ContactsCenterPortlet extends MVCPortlet {
 
 			jsonObject.put("count", contactsCount);
 
+			List<Long> contactUserIds = new ArrayList<>();
+
+			for (BaseModel<?> contact : contacts) {
+				if (contact instanceof User) {
+					User user = (User)contact;
+
+					contactUserIds.add(user.getUserId());
+				}
+			}
+
+			Map<Long, Integer> relations = ContactsUtil.getRelations(
+				themeDisplay.getUserId(),
+				ArrayUtil.toLongArray(contactUserIds));
+
 			for (BaseModel<?> contact : contacts) {
 				JSONObject contactJSONObject = null;
 
 				if (contact instanceof User) {
 					contactJSONObject = getUserJSONObject(
-						portletResponse, themeDisplay, (User)contact);
+						portletResponse, themeDisplay, (User)contact,
+						relations);
 				}
 				else {
 					contactJSONObject = getEntryJSONObject(
@@ -780,11 +869,23 @@ public class ContactsCenterPortlet extends MVCPortlet {
 					themeDisplay.getUserId(),
 					SocialRelationConstants.TYPE_UNI_FOLLOWER, start, end);
 
-			for (SocialRelation socialRelation : socialRelations) {
+			long[] followerUserIds = new long[socialRelations.size()];
+
+			for (int i = 0; i < socialRelations.size(); i++) {
+				SocialRelation socialRelation = socialRelations.get(i);
+
+				followerUserIds[i] = socialRelation.getUserId1();
+			}
+
+			Map<Long, Integer> relations = ContactsUtil.getRelations(
+				themeDisplay.getUserId(), followerUserIds);
+
+			for (long followerUserId : followerUserIds) {
+				User user = UserLocalServiceUtil.getUser(followerUserId);
+
 				jsonArray.put(
 					getUserJSONObject(
-						portletResponse, themeDisplay,
-						socialRelation.getUserId1()));
+						portletResponse, themeDisplay, user, relations));
 			}
 		}
 		else if (filterBy.equals(
@@ -890,9 +991,20 @@ public class ContactsCenterPortlet extends MVCPortlet {
 					new UserLastNameComparator(true));
 			}
 
+			long[] userIds = new long[usersList.size()];
+
+			for (int i = 0; i < usersList.size(); i++) {
+				User user = usersList.get(i);
+
+				userIds[i] = user.getUserId();
+			}
+
+			Map<Long, Integer> relations = ContactsUtil.getRelations(
+				themeDisplay.getUserId(), userIds);
+
 			for (User user : usersList) {
 				JSONObject userJSONObject = getUserJSONObject(
-					portletResponse, themeDisplay, user);
+					portletResponse, themeDisplay, user, relations);
 
 				jsonArray.put(userJSONObject);
 			}
@@ -935,6 +1047,27 @@ public class ContactsCenterPortlet extends MVCPortlet {
 		return jsonObject;
 	}
 
+	protected String getEntryErrorMessage(Exception e) {
+		if (e instanceof ContactFullNameException) {
+			return "full-name-cannot-be-empty";
+		}
+		else if (e instanceof DuplicateEntryEmailAddressException) {
+			return "there-is-already-a-contact-with-this-email-address";
+		}
+		else if (e instanceof EntryCommentsException) {
+			return "comments-are-too-long";
+		}
+		else if (e instanceof EntryEmailAddressException) {
+			return "please-enter-a-valid-email-address";
+		}
+		else if (e instanceof EntryFullNameException) {
+			return "full-name-is-too-long";
+		}
+		else {
+			return "an-error-occurred-while-processing-the-requested-resource";
+		}
+	}
+
 	protected String getRelationMessage(ActionRequest actionRequest) {
 		int type = ParamUtil.getInteger(actionRequest, "type");
 
@@ -1006,10 +1139,22 @@ public class ContactsCenterPortlet extends MVCPortlet {
 			User user)
 		throws Exception {
 
+		Map<Long, Integer> relations = ContactsUtil.getRelations(
+			themeDisplay.getUserId(), new long[] {user.getUserId()});
+
+		return getUserJSONObject(
+			portletResponse, themeDisplay, user, relations);
+	}
+
+	protected JSONObject getUserJSONObject(
+			PortletResponse portletResponse, ThemeDisplay themeDisplay,
+			User user, Map<Long, Integer> relations)
+		throws Exception {
+
 		user = user.toEscapedModel();
 
 		JSONObject jsonObject = ContactsUtil.getUserJSONObject(
-			themeDisplay.getUserId(), user);
+			user, relations);
 
 		jsonObject.put("portraitURL", user.getPortraitURL(themeDisplay));
 
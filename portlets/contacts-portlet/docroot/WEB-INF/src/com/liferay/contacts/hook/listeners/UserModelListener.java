@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.contacts.hook.listeners;
+
+import com.liferay.contacts.util.ContactsSearchIndexUtil;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.portal.kernel.model.User;
+
+/**
+ * @author Ryan Park
+ */
+public class UserModelListener extends BaseModelListener<User> {
+
+	@Override
+	public void onAfterCreate(User user) {
+		ContactsSearchIndexUtil.addUser(user);
+	}
+
+	@Override
+	public void onAfterRemove(User user) {
+		ContactsSearchIndexUtil.removeUser(user);
+	}
+
+	@Override
+	public void onAfterUpdate(User user) {
+		ContactsSearchIndexUtil.addUser(user);
+	}
+
+}
\ No newline at end of file
@@ -166,6 +166,10 @@ public class EntryLocalServiceClpInvoker {
 				"long", "java.lang.String", "java.lang.String",
 				"java.lang.String"
 			};
+
+		_methodName53 = "addEntries";
+
+		_methodParameterTypes53 = new String[] { "long", "java.lang.String[][]", "java.lang.String[][]", "java.lang.String[][]" };
 	}
 
 	public Object invokeMethod(String name, String[] parameterTypes,
@@ -332,6 +336,14 @@ public class EntryLocalServiceClpInvoker {
 				(java.lang.String)arguments[3]);
 		}
 
+		if (_methodName53.equals(name) &&
+				Arrays.deepEquals(_methodParameterTypes53, parameterTypes)) {
+			return EntryLocalServiceUtil.addEntries(((Long)arguments[0]).longValue(),
+				(java.lang.String[])arguments[1],
+				(java.lang.String[])arguments[2],
+				(java.lang.String[])arguments[3]);
+		}
+
 		throw new UnsupportedOperationException();
 	}
 
@@ -391,4 +403,6 @@ public class EntryLocalServiceClpInvoker {
 	private String[] _methodParameterTypes51;
 	private String _methodName52;
 	private String[] _methodParameterTypes52;
+	private String _methodName53;
+	private String[] _methodParameterTypes53;
 }
\ No newline at end of file
@@ -18,25 +18,108 @@
 package com.liferay.contacts.service.impl;
 
 import com.liferay.contacts.exception.DuplicateEntryEmailAddressException;
+import com.liferay.contacts.exception.EntryCommentsException;
 import com.liferay.contacts.exception.EntryEmailAddressException;
+import com.liferay.contacts.exception.EntryFullNameException;
 import com.liferay.contacts.exception.RequiredEntryEmailAddressException;
 import com.liferay.contacts.model.Entry;
 import com.liferay.contacts.service.base.EntryLocalServiceBaseImpl;
+import com.liferay.contacts.util.ContactsSearchIndexUtil;
+import com.liferay.counter.kernel.model.Counter;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.exception.ContactFullNameException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.BaseModel;
+import com.liferay.portal.kernel.model.ModelHintsUtil;
 import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.search.Indexable;
+import com.liferay.portal.kernel.search.IndexableType;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * @author Brian Wing Shun Chan
  */
 public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 
+	/**
+	 * Adds a batch of entries in one transaction. Rows that fail validation
+	 * are skipped and returned as a map of row indexes to the exceptions that
+	 * {@link #addEntry(long, String, String, String)} would have thrown.
+	 */
+	public Map<Integer, PortalException> addEntries(
+			long userId, String[] fullNames, String[] emailAddresses,
+			String[] comments)
+		throws PortalException {
+
+		User user = userPersistence.findByPrimaryKey(userId);
+		Date now = new Date();
+
+		Set<String> duplicateEmailAddresses = getDuplicateEmailAddresses(
+			user.getCompanyId(), userId, emailAddresses);
+
+		Map<Integer, PortalException> exceptions = new TreeMap<>();
+		List<Integer> indexes = new ArrayList<>();
+
+		for (int i = 0; i < fullNames.length; i++) {
+			try {
+				validate(fullNames[i], emailAddresses[i]);
+				validateComments(comments[i]);
+
+				String emailAddress = StringUtil.toLowerCase(
+					emailAddresses[i]);
+
+				if (!duplicateEmailAddresses.add(emailAddress)) {
+					throw new DuplicateEntryEmailAddressException();
+				}
+
+				indexes.add(i);
+			}
+			catch (PortalException pe) {
+				exceptions.put(i, pe);
+			}
+		}
+
+		if (indexes.isEmpty()) {
+			return exceptions;
+		}
+
+		long entryId =
+			counterLocalService.increment(
+				Counter.class.getName(), indexes.size()) - indexes.size();
+
+		for (int i : indexes) {
+			Entry entry = entryPersistence.create(++entryId);
+
+			entry.setCompanyId(user.getCompanyId());
+			entry.setUserId(user.getUserId());
+			entry.setUserName(user.getFullName());
+			entry.setCreateDate(now);
+			entry.setModifiedDate(now);
+			entry.setFullName(fullNames[i]);
+			entry.setEmailAddress(emailAddresses[i]);
+			entry.setComments(comments[i]);
+
+			entryPersistence.update(entry);
+
+			ContactsSearchIndexUtil.addEntry(entry);
+		}
+
+		return exceptions;
+	}
+
 	public Entry addEntry(
 			long userId, String fullName, String emailAddress, String comments)
 		throws PortalException {
@@ -61,6 +144,28 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 
 		entryPersistence.update(entry);
 
+		ContactsSearchIndexUtil.addEntry(entry);
+
+		return entry;
+	}
+
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public Entry deleteEntry(Entry entry) {
+		entry = entryPersistence.remove(entry);
+
+		ContactsSearchIndexUtil.removeEntry(entry);
+
+		return entry;
+	}
+
+	@Indexable(type = IndexableType.DELETE)
+	@Override
+	public Entry deleteEntry(long entryId) throws PortalException {
+		Entry entry = entryPersistence.remove(entryId);
+
+		ContactsSearchIndexUtil.removeEntry(entry);
+
 		return entry;
 	}
 
@@ -75,24 +180,94 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 	public List<Entry> search(
 		long userId, String keywords, int start, int end) {
 
-		return entryFinder.findByKeywords(userId, keywords, start, end);
+		if (!isSearchIndexEnabled(keywords)) {
+			return entryFinder.findByKeywords(userId, keywords, start, end);
+		}
+
+		long[] entryIds = ContactsSearchIndexUtil.searchEntryIds(
+			userId, keywords);
+
+		List<Entry> entries = new ArrayList<>();
+
+		for (long entryId : getPage(entryIds, start, end)) {
+			Entry entry = entryPersistence.fetchByPrimaryKey(entryId);
+
+			if (entry != null) {
+				entries.add(entry);
+			}
+		}
+
+		return entries;
 	}
 
 	public int searchCount(long userId, String keywords) {
-		return entryFinder.countByKeywords(userId, keywords);
+		if (!isSearchIndexEnabled(keywords)) {
+			return entryFinder.countByKeywords(userId, keywords);
+		}
+
+		long[] entryIds = ContactsSearchIndexUtil.searchEntryIds(
+			userId, keywords);
+
+		return entryIds.length;
 	}
 
 	public List<BaseModel<?>> searchUsersAndContacts(
 		long companyId, long userId, String keywords, int start, int end) {
 
-		return entryFinder.findByKeywords(
-			companyId, userId, keywords, start, end);
+		if (!isSearchIndexEnabled(keywords)) {
+			return entryFinder.findByKeywords(
+				companyId, userId, keywords, start, end);
+		}
+
+		List<BaseModel<?>> models = new ArrayList<>();
+
+		long[] userIds = ContactsSearchIndexUtil.searchUserIds(
+			companyId, keywords);
+
+		for (long curUserId : getPage(userIds, start, end)) {
+			User user = userPersistence.fetchByPrimaryKey(curUserId);
+
+			if (user != null) {
+				models.add(user);
+			}
+		}
+
+		if ((end != QueryUtil.ALL_POS) && (end <= userIds.length)) {
+			return models;
+		}
+
+		long[] entryIds = ContactsSearchIndexUtil.searchEntryIds(
+			userId, keywords);
+
+		if (start != QueryUtil.ALL_POS) {
+			start = Math.max(start - userIds.length, 0);
+			end -= userIds.length;
+		}
+
+		for (long entryId : getPage(entryIds, start, end)) {
+			Entry entry = entryPersistence.fetchByPrimaryKey(entryId);
+
+			if (entry != null) {
+				models.add(entry);
+			}
+		}
+
+		return models;
 	}
 
 	public int searchUsersAndContactsCount(
 		long companyId, long userId, String keywords) {
 
-		return entryFinder.countByKeywords(companyId, userId, keywords);
+		if (!isSearchIndexEnabled(keywords)) {
+			return entryFinder.countByKeywords(companyId, userId, keywords);
+		}
+
+		long[] userIds = ContactsSearchIndexUtil.searchUserIds(
+			companyId, keywords);
+		long[] entryIds = ContactsSearchIndexUtil.searchEntryIds(
+			userId, keywords);
+
+		return userIds.length + entryIds.length;
 	}
 
 	public Entry updateEntry(
@@ -112,26 +287,96 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 
 		entryPersistence.update(entry);
 
+		ContactsSearchIndexUtil.addEntry(entry);
+
 		return entry;
 	}
 
-	protected void validate(
-			long companyId, long entryId, long userId, String fullName,
-			String emailAddress)
-		throws PortalException {
+	protected Set<String> getDuplicateEmailAddresses(
+		long companyId, long userId, String[] emailAddresses) {
 
-		if (Validator.isNull(fullName)) {
-			throw new ContactFullNameException();
+		Set<String> duplicateEmailAddresses = new HashSet<>();
+
+		List<String> validEmailAddresses = new ArrayList<>();
+
+		for (String emailAddress : emailAddresses) {
+			if (Validator.isNotNull(emailAddress)) {
+				validEmailAddresses.add(emailAddress);
+			}
 		}
 
-		if (Validator.isNull(emailAddress)) {
-			throw new RequiredEntryEmailAddressException();
+		if (validEmailAddresses.isEmpty()) {
+			return duplicateEmailAddresses;
 		}
 
-		if (!Validator.isEmailAddress(emailAddress)) {
-			throw new EntryEmailAddressException();
+		Property emailAddressProperty = PropertyFactoryUtil.forName(
+			"emailAddress");
+
+		DynamicQuery entryDynamicQuery = dynamicQuery();
+
+		Property userIdProperty = PropertyFactoryUtil.forName("userId");
+
+		entryDynamicQuery.add(userIdProperty.eq(userId));
+
+		entryDynamicQuery.add(emailAddressProperty.in(validEmailAddresses));
+
+		List<Entry> entries = dynamicQuery(entryDynamicQuery);
+
+		for (Entry entry : entries) {
+			duplicateEmailAddresses.add(
+				StringUtil.toLowerCase(entry.getEmailAddress()));
+		}
+
+		DynamicQuery userDynamicQuery = userLocalService.dynamicQuery();
+
+		Property companyIdProperty = PropertyFactoryUtil.forName("companyId");
+
+		userDynamicQuery.add(companyIdProperty.eq(companyId));
+
+		userDynamicQuery.add(emailAddressProperty.in(validEmailAddresses));
+
+		List<User> users = userLocalService.dynamicQuery(userDynamicQuery);
+
+		for (User user : users) {
+			duplicateEmailAddresses.add(
+				StringUtil.toLowerCase(user.getEmailAddress()));
+		}
+
+		return duplicateEmailAddresses;
+	}
+
+	protected long[] getPage(long[] ids, int start, int end) {
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS)) {
+			return ids;
+		}
+
+		start = Math.max(start, 0);
+		end = Math.min(end, ids.length);
+
+		if (start >= end) {
+			return new long[0];
+		}
+
+		return ArrayUtil.subset(ids, start, end);
+	}
+
+	protected boolean isSearchIndexEnabled(String keywords) {
+		if (ContactsSearchIndexUtil.isEnabled() &&
+			Validator.isNotNull(keywords)) {
+
+			return true;
 		}
 
+		return false;
+	}
+
+	protected void validate(
+			long companyId, long entryId, long userId, String fullName,
+			String emailAddress)
+		throws PortalException {
+
+		validate(fullName, emailAddress);
+
 		if (entryId > 0) {
 			Entry entry = entryPersistence.findByPrimaryKey(entryId);
 
@@ -146,6 +391,49 @@ public class EntryLocalServiceImpl extends EntryLocalServiceBaseImpl {
 		}
 	}
 
+	protected void validate(String fullName, String emailAddress)
+		throws PortalException {
+
+		if (Validator.isNull(fullName)) {
+			throw new ContactFullNameException();
+		}
+
+		int maxLength = ModelHintsUtil.getMaxLength(
+			Entry.class.getName(), "fullName");
+
+		if (fullName.length() > maxLength) {
+			throw new EntryFullNameException(
+				"Full name has more than " + maxLength + " characters");
+		}
+
+		if (Validator.isNull(emailAddress)) {
+			throw new RequiredEntryEmailAddressException();
+		}
+
+		maxLength = ModelHintsUtil.getMaxLength(
+			Entry.class.getName(), "emailAddress");
+
+		if (!Validator.isEmailAddress(emailAddress) ||
+			(emailAddress.length() > maxLength)) {
+
+			throw new EntryEmailAddressException();
+		}
+	}
+
+	protected void validateComments(String comments) throws PortalException {
+		if (comments == null) {
+			return;
+		}
+
+		int maxLength = ModelHintsUtil.getMaxLength(
+			Entry.class.getName(), "comments");
+
+		if (comments.length() > maxLength) {
+			throw new EntryCommentsException(
+				"Comments have more than " + maxLength + " characters");
+		}
+	}
+
 	protected void validateEmailAddress(
 			long companyId, long userId, String emailAddress)
 		throws PortalException {
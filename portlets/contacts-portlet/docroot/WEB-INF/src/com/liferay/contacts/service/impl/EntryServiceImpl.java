@@ -26,8 +26,11 @@ import com.liferay.portal.kernel.json.JSONFactoryUtil;
 import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.model.BaseModel;
 import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.util.ArrayUtil;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Bruno Farache
@@ -45,12 +48,25 @@ public class EntryServiceImpl extends EntryServiceBaseImpl {
 		List<BaseModel<?>> contacts = entryLocalService.searchUsersAndContacts(
 			companyId, userId, keywords, start, end);
 
+		List<Long> contactUserIds = new ArrayList<>();
+
+		for (BaseModel<?> contact : contacts) {
+			if (contact instanceof User) {
+				User user = (User)contact;
+
+				contactUserIds.add(user.getUserId());
+			}
+		}
+
+		Map<Long, Integer> relations = ContactsUtil.getRelations(
+			userId, ArrayUtil.toLongArray(contactUserIds));
+
 		for (BaseModel<?> contact : contacts) {
 			JSONObject jsonObject = null;
 
 			if (contact instanceof User) {
 				jsonObject = ContactsUtil.getUserJSONObject(
-					userId, (User)contact);
+					(User)contact, relations);
 			}
 			else {
 				jsonObject = ContactsUtil.getEntryJSONObject((Entry)contact);
@@ -55,6 +55,16 @@ public class ContactsConstants {
 
 	public static final int MAX_RESULT_COUNT = 100;
 
+	public static final int RELATION_BLOCK = 1;
+
+	public static final int RELATION_BLOCKED_BY = 2;
+
+	public static final int RELATION_CONNECTED = 4;
+
+	public static final int RELATION_CONNECTION_REQUESTED = 8;
+
+	public static final int RELATION_FOLLOWING = 16;
+
 	public static String getDisplayStyleLabel(int displayStyle) {
 		if (displayStyle == DISPLAY_STYLE_BASIC) {
 			return DISPLAY_STYLE_BASIC_LABEL;
@@ -0,0 +1,481 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.contacts.util;
+
+import com.liferay.contacts.service.EntryLocalServiceUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.io.unsync.UnsyncBufferedReader;
+import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Imports contacts from a vCard or CSV file. The file is parsed as a stream
+ * and rows are added in batches of {@link
+ * PortletPropsValues#IMPORT_BATCH_SIZE}, so memory use does not depend on the
+ * size of the file.
+ *
+ * <p>
+ * CSV files may start with a header row. Columns are matched by name, so
+ * address books exported by common mail clients can be imported as they are.
+ * Without a header row, the columns are the full name, the email address, and
+ * the comments.
+ * </p>
+ *
+ * @author Ryan Park
+ */
+public class ContactsImportUtil {
+
+	/**
+	 * Returns the rows that could not be imported as a map of row numbers to
+	 * the exceptions that prevented them from being added.
+	 */
+	public static Map<Integer, PortalException> importEntries(
+			long userId, String fileName, InputStream inputStream)
+		throws Exception {
+
+		Reader reader = new UnsyncBufferedReader(
+			new InputStreamReader(inputStream, StringPool.UTF8));
+
+		RowReader rowReader = null;
+
+		String extension = StringUtil.toLowerCase(
+			FileUtil.getExtension(fileName));
+
+		if (extension.equals("vcf") || extension.equals("vcard")) {
+			rowReader = new VCardRowReader(reader);
+		}
+		else {
+			rowReader = new CSVRowReader(reader);
+		}
+
+		Map<Integer, PortalException> exceptions = new TreeMap<>();
+
+		List<String[]> rows = new ArrayList<>();
+		List<Integer> rowNumbers = new ArrayList<>();
+
+		String[] row = null;
+
+		while ((row = rowReader.readRow()) != null) {
+			rows.add(row);
+			rowNumbers.add(rowReader.getRowNumber());
+
+			if (rows.size() >= PortletPropsValues.IMPORT_BATCH_SIZE) {
+				_addEntries(userId, rows, rowNumbers, exceptions);
+			}
+		}
+
+		_addEntries(userId, rows, rowNumbers, exceptions);
+
+		return exceptions;
+	}
+
+	private static void _addEntries(
+			long userId, List<String[]> rows, List<Integer> rowNumbers,
+			Map<Integer, PortalException> exceptions)
+		throws PortalException {
+
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		String[] fullNames = new String[rows.size()];
+		String[] emailAddresses = new String[rows.size()];
+		String[] comments = new String[rows.size()];
+
+		for (int i = 0; i < rows.size(); i++) {
+			String[] row = rows.get(i);
+
+			fullNames[i] = row[0];
+			emailAddresses[i] = row[1];
+			comments[i] = row[2];
+		}
+
+		Map<Integer, PortalException> batchExceptions =
+			EntryLocalServiceUtil.addEntries(
+				userId, fullNames, emailAddresses, comments);
+
+		for (Map.Entry<Integer, PortalException> entry :
+				batchExceptions.entrySet()) {
+
+			exceptions.put(rowNumbers.get(entry.getKey()), entry.getValue());
+		}
+
+		rows.clear();
+		rowNumbers.clear();
+	}
+
+	private static class CSVRowReader extends RowReader {
+
+		public CSVRowReader(Reader reader) {
+			_reader = reader;
+		}
+
+		@Override
+		public String[] readRow() throws IOException {
+			String[] fields = _readFields();
+
+			if ((fields != null) && !_headerChecked) {
+				_headerChecked = true;
+
+				if (_isHeader(fields)) {
+					_readHeader(fields);
+
+					fields = _readFields();
+				}
+			}
+
+			if (fields == null) {
+				return null;
+			}
+
+			String fullName = _getField(fields, _fullNameIndex);
+
+			if (Validator.isNull(fullName)) {
+				StringBundler sb = new StringBundler(5);
+
+				sb.append(_getField(fields, _firstNameIndex));
+				sb.append(StringPool.SPACE);
+				sb.append(_getField(fields, _middleNameIndex));
+				sb.append(StringPool.SPACE);
+				sb.append(_getField(fields, _lastNameIndex));
+
+				fullName = StringUtil.merge(
+					StringUtil.split(sb.toString(), CharPool.SPACE),
+					StringPool.SPACE);
+			}
+
+			return new String[] {
+				fullName, _getField(fields, _emailAddressIndex),
+				_getField(fields, _commentsIndex)
+			};
+		}
+
+		private String _getField(String[] fields, int index) {
+			if ((index < 0) || (index >= fields.length)) {
+				return StringPool.BLANK;
+			}
+
+			return fields[index].trim();
+		}
+
+		private boolean _isHeader(String[] fields) {
+			for (String field : fields) {
+				if (field.indexOf(CharPool.AT) != -1) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private String[] _readFields() throws IOException {
+			while (true) {
+				String[] fields = _readRecord();
+
+				if ((fields == null) || (fields.length > 1) ||
+					Validator.isNotNull(fields[0])) {
+
+					return fields;
+				}
+			}
+		}
+
+		private void _readHeader(String[] fields) {
+			_commentsIndex = -1;
+			_emailAddressIndex = -1;
+			_fullNameIndex = -1;
+
+			for (int i = 0; i < fields.length; i++) {
+				String field = StringUtil.toLowerCase(fields[i].trim());
+
+				field = StringUtil.removeChars(
+					field, CharPool.DASH, CharPool.SPACE, CharPool.UNDERLINE);
+
+				if ((_commentsIndex == -1) &&
+					(field.equals("comments") || field.equals("notes"))) {
+
+					_commentsIndex = i;
+				}
+				else if ((_emailAddressIndex == -1) &&
+						 field.contains("email")) {
+
+					_emailAddressIndex = i;
+				}
+				else if (field.equals("firstname") ||
+						 field.equals("givenname")) {
+
+					_firstNameIndex = i;
+				}
+				else if ((_fullNameIndex == -1) &&
+						 (field.equals("displayname") ||
+						  field.equals("fullname") || field.equals("name"))) {
+
+					_fullNameIndex = i;
+				}
+				else if (field.equals("familyname") ||
+						 field.equals("lastname")) {
+
+					_lastNameIndex = i;
+				}
+				else if (field.equals("additionalname") ||
+						 field.equals("middlename")) {
+
+					_middleNameIndex = i;
+				}
+			}
+		}
+
+		private String[] _readRecord() throws IOException {
+			int c = _reader.read();
+
+			if (c == -1) {
+				return null;
+			}
+
+			incrementRowNumber();
+
+			List<String> fields = new ArrayList<>();
+
+			StringBundler sb = new StringBundler();
+
+			boolean quoted = false;
+
+			while (c != -1) {
+				if (quoted) {
+					if (c == CharPool.QUOTE) {
+						c = _reader.read();
+
+						if (c != CharPool.QUOTE) {
+							quoted = false;
+
+							continue;
+						}
+					}
+
+					sb.append((char)c);
+				}
+				else if (c == CharPool.QUOTE) {
+					quoted = true;
+				}
+				else if (c == CharPool.COMMA) {
+					fields.add(sb.toString());
+
+					sb.setIndex(0);
+				}
+				else if (c == CharPool.NEW_LINE) {
+					break;
+				}
+				else if (c != CharPool.RETURN) {
+					sb.append((char)c);
+				}
+
+				c = _reader.read();
+			}
+
+			fields.add(sb.toString());
+
+			return fields.toArray(new String[fields.size()]);
+		}
+
+		private int _commentsIndex = 2;
+		private int _emailAddressIndex = 1;
+		private int _firstNameIndex = -1;
+		private int _fullNameIndex = 0;
+		private boolean _headerChecked;
+		private int _lastNameIndex = -1;
+		private int _middleNameIndex = -1;
+		private final Reader _reader;
+
+	}
+
+	private abstract static class RowReader {
+
+		public int getRowNumber() {
+			return _rowNumber;
+		}
+
+		/**
+		 * Returns the next row as an array of the full name, email address,
+		 * and comments, or <code>null</code> at the end of the file.
+		 */
+		public abstract String[] readRow() throws IOException;
+
+		protected void incrementRowNumber() {
+			_rowNumber++;
+		}
+
+		private int _rowNumber;
+
+	}
+
+	private static class VCardRowReader extends RowReader {
+
+		public VCardRowReader(Reader reader) {
+			_unsyncBufferedReader = new UnsyncBufferedReader(reader);
+		}
+
+		@Override
+		public String[] readRow() throws IOException {
+			String line = null;
+
+			while ((line = _readLine()) != null) {
+				if (StringUtil.equalsIgnoreCase(line, "BEGIN:VCARD")) {
+					break;
+				}
+			}
+
+			if (line == null) {
+				return null;
+			}
+
+			incrementRowNumber();
+
+			String fullName = StringPool.BLANK;
+			String name = StringPool.BLANK;
+			String emailAddress = StringPool.BLANK;
+			String comments = StringPool.BLANK;
+
+			while ((line = _readLine()) != null) {
+				if (StringUtil.equalsIgnoreCase(line, "END:VCARD")) {
+					break;
+				}
+
+				int pos = line.indexOf(CharPool.COLON);
+
+				if (pos == -1) {
+					continue;
+				}
+
+				String property = StringUtil.toUpperCase(
+					line.substring(0, pos));
+				String value = line.substring(pos + 1);
+
+				int parametersPos = property.indexOf(CharPool.SEMICOLON);
+
+				if (parametersPos != -1) {
+					property = property.substring(0, parametersPos);
+				}
+
+				if (property.equals("EMAIL")) {
+					if (Validator.isNull(emailAddress)) {
+						emailAddress = _unescape(value);
+					}
+				}
+				else if (property.equals("FN")) {
+					fullName = _unescape(value);
+				}
+				else if (property.equals("N")) {
+					name = _getName(value);
+				}
+				else if (property.equals("NOTE")) {
+					comments = _unescape(value);
+				}
+			}
+
+			if (Validator.isNull(fullName)) {
+				fullName = name;
+			}
+
+			return new String[] {
+				fullName.trim(), emailAddress.trim(), comments.trim()
+			};
+		}
+
+		private String _getName(String value) {
+
+			// Family name, given name, additional names, prefixes, suffixes
+
+			String[] names = StringUtil.split(value, CharPool.SEMICOLON);
+
+			StringBundler sb = new StringBundler(5);
+
+			for (int i : new int[] {1, 2, 0}) {
+				if ((i < names.length) && Validator.isNotNull(names[i])) {
+					if (sb.index() > 0) {
+						sb.append(StringPool.SPACE);
+					}
+
+					sb.append(_unescape(names[i]));
+				}
+			}
+
+			return sb.toString();
+		}
+
+		private String _readLine() throws IOException {
+			String line = _nextLine;
+
+			if (line == null) {
+				line = _unsyncBufferedReader.readLine();
+
+				if (line == null) {
+					return null;
+				}
+			}
+
+			// Unfold continuation lines
+
+			StringBundler sb = new StringBundler();
+
+			sb.append(line);
+
+			while (true) {
+				_nextLine = _unsyncBufferedReader.readLine();
+
+				if ((_nextLine == null) || _nextLine.isEmpty() ||
+					((_nextLine.charAt(0) != CharPool.SPACE) &&
+					 (_nextLine.charAt(0) != CharPool.TAB))) {
+
+					break;
+				}
+
+				sb.append(_nextLine.substring(1));
+			}
+
+			return sb.toString().trim();
+		}
+
+		private String _unescape(String value) {
+			return StringUtil.replace(
+				value, new String[] {"\\n", "\\N", "\\,", "\\;", "\\\\"},
+				new String[] {
+					StringPool.NEW_LINE, StringPool.NEW_LINE, StringPool.COMMA,
+					StringPool.SEMICOLON, StringPool.BACK_SLASH
+				});
+		}
+
+		private String _nextLine;
+		private final UnsyncBufferedReader _unsyncBufferedReader;
+
+	}
+
+}
\ No newline at end of file
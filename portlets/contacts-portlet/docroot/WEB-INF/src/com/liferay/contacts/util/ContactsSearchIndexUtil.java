@@ -0,0 +1,699 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.contacts.util;
+
+import com.liferay.contacts.model.Entry;
+import com.liferay.contacts.service.EntryLocalServiceUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.service.UserLocalServiceUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.kernel.workflow.WorkflowConstants;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Serves keyword searches for contacts and users from in-memory n-gram
+ * indexes so that each keystroke in the contacts search box does not scan the
+ * Contacts_Entry and User_ tables. Every substring of up to three characters
+ * is indexed, so keywords of up to three characters are looked up directly and
+ * longer keywords only check the documents that share their rarest trigram. A
+ * keyword matches a document when it is contained in any of its fields, the
+ * same as the LIKE queries it replaces. Searches share a read lock and only
+ * changes to an index take its write lock.
+ * Indexes are built on first search and kept current once transactions commit.
+ * Only one thread builds a given index. Other threads searching it wait for
+ * that build, and changes committed during the build are applied to it.
+ *
+ * @author Ryan Park
+ */
+public class ContactsSearchIndexUtil {
+
+	public static void addEntry(Entry entry) {
+		_instance._addEntry(entry);
+	}
+
+	public static void addUser(User user) {
+		_instance._addUser(user);
+	}
+
+	public static boolean isEnabled() {
+		return PortletPropsValues.SEARCH_INDEX_ENABLED;
+	}
+
+	public static void removeEntry(Entry entry) {
+		_instance._removeEntry(entry);
+	}
+
+	public static void removeUser(User user) {
+		_instance._removeUser(user);
+	}
+
+	public static long[] searchEntryIds(long userId, String keywords) {
+		return _instance._searchEntryIds(userId, keywords);
+	}
+
+	public static long[] searchUserIds(long companyId, String keywords) {
+		return _instance._searchUserIds(companyId, keywords);
+	}
+
+	private ContactsSearchIndexUtil() {
+		_entriesPortalCache =
+			(PortalCache<Long, SearchIndex>)SingleVMPoolUtil.getPortalCache(
+				ContactsSearchIndexUtil.class.getName() + "_ENTRIES");
+		_usersPortalCache =
+			(PortalCache<Long, SearchIndex>)SingleVMPoolUtil.getPortalCache(
+				ContactsSearchIndexUtil.class.getName() + "_USERS");
+	}
+
+	private void _addDocument(SearchIndex searchIndex, Entry entry) {
+		searchIndex.addDocument(
+			entry.getEntryId(), entry.getFullName(), entry.getFullName(),
+			entry.getEmailAddress());
+	}
+
+	private void _addDocument(SearchIndex searchIndex, User user) {
+		searchIndex.addDocument(
+			user.getUserId(), _getSortKey(user), user.getFirstName(),
+			user.getMiddleName(), user.getLastName(), user.getScreenName(),
+			user.getEmailAddress());
+	}
+
+	private void _addEntry(final Entry entry) {
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				for (SearchIndex searchIndex :
+						_getSearchIndexes(
+							_entriesPortalCache, _loadingEntriesSearchIndexes,
+							entry.getUserId())) {
+
+					_addDocument(searchIndex, entry);
+				}
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private void _addUser(final User user) {
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				for (SearchIndex searchIndex :
+						_getSearchIndexes(
+							_usersPortalCache, _loadingUsersSearchIndexes,
+							user.getCompanyId())) {
+
+					if (_isSearchable(user)) {
+						_addDocument(searchIndex, user);
+					}
+					else {
+						searchIndex.removeDocument(user.getUserId());
+					}
+				}
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private SearchIndex _getEntriesSearchIndex(long userId) {
+		SearchIndex searchIndex = _entriesPortalCache.get(userId);
+
+		if ((searchIndex != null) && !searchIndex.isExpired()) {
+			return searchIndex;
+		}
+
+		searchIndex = new SearchIndex();
+
+		SearchIndex loadingSearchIndex =
+			_loadingEntriesSearchIndexes.putIfAbsent(userId, searchIndex);
+
+		if (loadingSearchIndex != null) {
+			if (loadingSearchIndex.awaitLoaded()) {
+				return loadingSearchIndex;
+			}
+
+			return _getEntriesSearchIndex(userId);
+		}
+
+		boolean loaded = false;
+
+		try {
+			List<Entry> entries = EntryLocalServiceUtil.getEntries(
+				userId, QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+
+			for (Entry entry : entries) {
+				searchIndex.loadDocument(
+					entry.getEntryId(), entry.getFullName(),
+					entry.getFullName(), entry.getEmailAddress());
+			}
+
+			_entriesPortalCache.put(userId, searchIndex);
+
+			loaded = true;
+		}
+		finally {
+			searchIndex.finishLoading(loaded);
+
+			_loadingEntriesSearchIndexes.remove(userId);
+		}
+
+		return searchIndex;
+	}
+
+	private List<SearchIndex> _getSearchIndexes(
+		PortalCache<Long, SearchIndex> portalCache,
+		ConcurrentMap<Long, SearchIndex> loadingSearchIndexes, long key) {
+
+		List<SearchIndex> searchIndexes = new ArrayList<>(2);
+
+		SearchIndex loadingSearchIndex = loadingSearchIndexes.get(key);
+
+		if (loadingSearchIndex != null) {
+			searchIndexes.add(loadingSearchIndex);
+		}
+
+		SearchIndex searchIndex = portalCache.get(key);
+
+		if ((searchIndex != null) && (searchIndex != loadingSearchIndex)) {
+			searchIndexes.add(searchIndex);
+		}
+
+		return searchIndexes;
+	}
+
+	private SearchIndex _getUsersSearchIndex(long companyId) {
+		SearchIndex searchIndex = _usersPortalCache.get(companyId);
+
+		if ((searchIndex != null) && !searchIndex.isExpired()) {
+			return searchIndex;
+		}
+
+		searchIndex = new SearchIndex();
+
+		SearchIndex loadingSearchIndex =
+			_loadingUsersSearchIndexes.putIfAbsent(companyId, searchIndex);
+
+		if (loadingSearchIndex != null) {
+			if (loadingSearchIndex.awaitLoaded()) {
+				return loadingSearchIndex;
+			}
+
+			return _getUsersSearchIndex(companyId);
+		}
+
+		boolean loaded = false;
+
+		try {
+			int count = UserLocalServiceUtil.getCompanyUsersCount(companyId);
+
+			for (int start = 0; start < count; start += _BATCH_SIZE) {
+				List<User> users = UserLocalServiceUtil.getCompanyUsers(
+					companyId, start, start + _BATCH_SIZE);
+
+				for (User user : users) {
+					if (_isSearchable(user)) {
+						searchIndex.loadDocument(
+							user.getUserId(), _getSortKey(user),
+							user.getFirstName(), user.getMiddleName(),
+							user.getLastName(), user.getScreenName(),
+							user.getEmailAddress());
+					}
+				}
+			}
+
+			_usersPortalCache.put(companyId, searchIndex);
+
+			loaded = true;
+		}
+		finally {
+			searchIndex.finishLoading(loaded);
+
+			_loadingUsersSearchIndexes.remove(companyId);
+		}
+
+		return searchIndex;
+	}
+
+	private String _getSortKey(User user) {
+		return StringUtil.merge(
+			new String[] {
+				user.getLastName(), user.getFirstName(), user.getMiddleName()
+			},
+			StringPool.SPACE);
+	}
+
+	private boolean _isSearchable(User user) {
+		if (user.isDefaultUser() ||
+			(user.getStatus() != WorkflowConstants.STATUS_APPROVED)) {
+
+			return false;
+		}
+
+		return true;
+	}
+
+	private void _removeEntry(final Entry entry) {
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				for (SearchIndex searchIndex :
+						_getSearchIndexes(
+							_entriesPortalCache, _loadingEntriesSearchIndexes,
+							entry.getUserId())) {
+
+					searchIndex.removeDocument(entry.getEntryId());
+				}
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private void _removeUser(final User user) {
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				_entriesPortalCache.remove(user.getUserId());
+
+				for (SearchIndex searchIndex :
+						_getSearchIndexes(
+							_usersPortalCache, _loadingUsersSearchIndexes,
+							user.getCompanyId())) {
+
+					searchIndex.removeDocument(user.getUserId());
+				}
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private long[] _searchEntryIds(long userId, String keywords) {
+		SearchIndex searchIndex = _getEntriesSearchIndex(userId);
+
+		return searchIndex.search(keywords);
+	}
+
+	private long[] _searchUserIds(long companyId, String keywords) {
+		SearchIndex searchIndex = _getUsersSearchIndex(companyId);
+
+		return searchIndex.search(keywords);
+	}
+
+	private static final int _BATCH_SIZE = 1000;
+
+	private static final int _GRAM_LENGTH = 3;
+
+	private static Comparator<Document> _documentComparator =
+		new Comparator<Document>() {
+
+			@Override
+			public int compare(Document document1, Document document2) {
+				String sortKey1 = document1.getSortKey();
+
+				int value = sortKey1.compareTo(document2.getSortKey());
+
+				if (value != 0) {
+					return value;
+				}
+
+				return Long.compare(document1.getId(), document2.getId());
+			}
+
+		};
+
+	private static ContactsSearchIndexUtil _instance =
+		new ContactsSearchIndexUtil();
+
+	private final PortalCache<Long, SearchIndex> _entriesPortalCache;
+	private final ConcurrentMap<Long, SearchIndex>
+		_loadingEntriesSearchIndexes = new ConcurrentHashMap<>();
+	private final ConcurrentMap<Long, SearchIndex> _loadingUsersSearchIndexes =
+		new ConcurrentHashMap<>();
+	private final PortalCache<Long, SearchIndex> _usersPortalCache;
+
+	private static class Document {
+
+		public Document(long id, String sortKey, String[] values) {
+			_id = id;
+			_sortKey = sortKey;
+			_values = values;
+		}
+
+		public boolean contains(String keyword) {
+			for (String value : _values) {
+				if (value.contains(keyword)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		public long getId() {
+			return _id;
+		}
+
+		public String getSortKey() {
+			return _sortKey;
+		}
+
+		public String[] getValues() {
+			return _values;
+		}
+
+		private final long _id;
+		private final String _sortKey;
+		private final String[] _values;
+
+	}
+
+	private static class SearchIndex {
+
+		public void addDocument(long id, String sortKey, String... values) {
+			Lock lock = _readWriteLock.writeLock();
+
+			lock.lock();
+
+			try {
+				if (_updatedIds != null) {
+					_updatedIds.add(id);
+				}
+
+				_addDocument(id, sortKey, values);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		public boolean awaitLoaded() {
+			try {
+				_loadedCountDownLatch.await();
+			}
+			catch (InterruptedException ie) {
+				Thread currentThread = Thread.currentThread();
+
+				currentThread.interrupt();
+
+				return false;
+			}
+
+			return _loaded;
+		}
+
+		public void finishLoading(boolean loaded) {
+			Lock lock = _readWriteLock.writeLock();
+
+			lock.lock();
+
+			try {
+				_loaded = loaded;
+				_updatedIds = null;
+			}
+			finally {
+				lock.unlock();
+			}
+
+			_loadedCountDownLatch.countDown();
+		}
+
+		public boolean isExpired() {
+			long interval =
+				PortletPropsValues.SEARCH_INDEX_REBUILD_INTERVAL * Time.MINUTE;
+
+			if ((interval > 0) &&
+				((System.currentTimeMillis() - _createTime) > interval)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		/**
+		 * Adds a document read by the initial load, unless a committed change
+		 * to it has already been applied while the load was running.
+		 */
+		public void loadDocument(long id, String sortKey, String... values) {
+			Lock lock = _readWriteLock.writeLock();
+
+			lock.lock();
+
+			try {
+				if ((_updatedIds == null) || !_updatedIds.contains(id)) {
+					_addDocument(id, sortKey, values);
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		public void removeDocument(long id) {
+			Lock lock = _readWriteLock.writeLock();
+
+			lock.lock();
+
+			try {
+				if (_updatedIds != null) {
+					_updatedIds.add(id);
+				}
+
+				_removeDocument(id);
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		public long[] search(String keywords) {
+			Set<Document> documents = new LinkedHashSet<>();
+
+			Lock lock = _readWriteLock.readLock();
+
+			lock.lock();
+
+			try {
+				for (String keyword : _getKeywords(keywords)) {
+					for (Document document : _getCandidates(keyword)) {
+						if (document.contains(keyword)) {
+							documents.add(document);
+						}
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+
+			List<Document> sortedDocuments = new ArrayList<>(documents);
+
+			Collections.sort(sortedDocuments, _documentComparator);
+
+			long[] ids = new long[sortedDocuments.size()];
+
+			for (int i = 0; i < ids.length; i++) {
+				Document document = sortedDocuments.get(i);
+
+				ids[i] = document.getId();
+			}
+
+			return ids;
+		}
+
+		private void _addDocument(long id, String sortKey, String... values) {
+			_removeDocument(id);
+
+			for (int i = 0; i < values.length; i++) {
+				values[i] = _normalize(values[i]);
+			}
+
+			Document document = new Document(id, _normalize(sortKey), values);
+
+			_documents.put(id, document);
+
+			for (String gram : _getGrams(document)) {
+				Set<Long> ids = _postings.get(gram);
+
+				if (ids == null) {
+					ids = new HashSet<>();
+
+					_postings.put(gram, ids);
+				}
+
+				ids.add(id);
+			}
+		}
+
+		private Collection<Document> _getCandidates(String keyword) {
+			Set<Long> candidateIds = null;
+
+			if (keyword.length() <= _GRAM_LENGTH) {
+				candidateIds = _postings.get(keyword);
+
+				if (candidateIds == null) {
+					return Collections.emptyList();
+				}
+			}
+
+			for (String gram : _getGrams(keyword, _GRAM_LENGTH)) {
+				Set<Long> ids = _postings.get(gram);
+
+				if (ids == null) {
+					return Collections.emptyList();
+				}
+
+				if ((candidateIds == null) ||
+					(ids.size() < candidateIds.size())) {
+
+					candidateIds = ids;
+				}
+			}
+
+			List<Document> candidates = new ArrayList<>(candidateIds.size());
+
+			for (long candidateId : candidateIds) {
+				candidates.add(_documents.get(candidateId));
+			}
+
+			return candidates;
+		}
+
+		private Set<String> _getGrams(Document document) {
+			Set<String> grams = new HashSet<>();
+
+			for (String value : document.getValues()) {
+				grams.addAll(_getGrams(value, 1));
+			}
+
+			return grams;
+		}
+
+		private Set<String> _getGrams(String value, int minGramLength) {
+			Set<String> grams = new HashSet<>();
+
+			for (int length = minGramLength; length <= _GRAM_LENGTH; length++) {
+				for (int i = 0; (i + length) <= value.length(); i++) {
+					grams.add(value.substring(i, i + length));
+				}
+			}
+
+			return grams;
+		}
+
+		private String[] _getKeywords(String keywords) {
+			String[] keywordsArray = StringUtil.split(
+				StringUtil.toLowerCase(keywords), StringPool.SPACE);
+
+			List<String> keywordsList = new ArrayList<>();
+
+			for (String keyword : keywordsArray) {
+				keyword = StringUtil.trim(keyword);
+
+				if (Validator.isNotNull(keyword)) {
+					keywordsList.add(keyword);
+				}
+			}
+
+			return keywordsList.toArray(new String[keywordsList.size()]);
+		}
+
+		private String _normalize(String value) {
+			value = GetterUtil.getString(value);
+
+			return StringUtil.toLowerCase(value.trim());
+		}
+
+		private void _removeDocument(long id) {
+			Document document = _documents.remove(id);
+
+			if (document == null) {
+				return;
+			}
+
+			for (String gram : _getGrams(document)) {
+				Set<Long> ids = _postings.get(gram);
+
+				if (ids == null) {
+					continue;
+				}
+
+				ids.remove(id);
+
+				if (ids.isEmpty()) {
+					_postings.remove(gram);
+				}
+			}
+		}
+
+		private final long _createTime = System.currentTimeMillis();
+		private final Map<Long, Document> _documents = new HashMap<>();
+		private volatile boolean _loaded;
+		private final CountDownLatch _loadedCountDownLatch =
+			new CountDownLatch(1);
+		private final Map<String, Set<Long>> _postings = new HashMap<>();
+		private final ReadWriteLock _readWriteLock =
+			new ReentrantReadWriteLock();
+		private Set<Long> _updatedIds = new HashSet<>();
+
+	}
+
+}
\ No newline at end of file
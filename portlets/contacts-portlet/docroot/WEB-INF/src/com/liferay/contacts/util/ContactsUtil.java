@@ -18,7 +18,14 @@
 package com.liferay.contacts.util;
 
 import com.liferay.contacts.model.Entry;
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.DynamicQueryFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.OrderFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.Property;
+import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
 import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.io.unsync.UnsyncStringWriter;
 import com.liferay.portal.kernel.json.JSONFactoryUtil;
 import com.liferay.portal.kernel.json.JSONObject;
 import com.liferay.portal.kernel.model.Address;
@@ -37,19 +44,29 @@ import com.liferay.portal.kernel.service.ListTypeServiceUtil;
 import com.liferay.portal.kernel.service.PhoneLocalServiceUtil;
 import com.liferay.portal.kernel.service.RegionServiceUtil;
 import com.liferay.portal.kernel.service.WebsiteLocalServiceUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.PortalUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.social.kernel.model.SocialRelation;
+import com.liferay.social.kernel.model.SocialRequest;
 import com.liferay.social.kernel.model.SocialRequestConstants;
 import com.liferay.social.kernel.service.SocialRelationLocalServiceUtil;
 import com.liferay.social.kernel.service.SocialRequestLocalServiceUtil;
 
+import java.io.Writer;
+
 import java.lang.reflect.Field;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Ryan Park
@@ -94,6 +111,106 @@ public class ContactsUtil {
 		return null;
 	}
 
+	/**
+	 * Returns the relations between the user and each of the other users as
+	 * a map of user IDs to bitmasks of the <code>RELATION_</code> flags in
+	 * {@link ContactsConstants}. Users without any relation are not in the
+	 * map.
+	 */
+	public static Map<Long, Integer> getRelations(long userId, long[] userIds) {
+		Map<Long, Integer> relations = new HashMap<>();
+
+		if (userIds.length == 0) {
+			return relations;
+		}
+
+		Long[] userIdsArray = ArrayUtil.toArray(userIds);
+
+		DynamicQuery socialRelationDynamicQuery =
+			DynamicQueryFactoryUtil.forClass(SocialRelation.class);
+
+		Property userId1Property = PropertyFactoryUtil.forName("userId1");
+		Property userId2Property = PropertyFactoryUtil.forName("userId2");
+		Property typeProperty = PropertyFactoryUtil.forName("type");
+
+		socialRelationDynamicQuery.add(
+			RestrictionsFactoryUtil.or(
+				RestrictionsFactoryUtil.and(
+					userId1Property.eq(userId),
+					userId2Property.in(userIdsArray)),
+				RestrictionsFactoryUtil.and(
+					RestrictionsFactoryUtil.and(
+						userId1Property.in(userIdsArray),
+						userId2Property.eq(userId)),
+					typeProperty.eq(SocialRelationConstants.TYPE_UNI_ENEMY))));
+
+		List<SocialRelation> socialRelations =
+			SocialRelationLocalServiceUtil.dynamicQuery(
+				socialRelationDynamicQuery);
+
+		for (SocialRelation socialRelation : socialRelations) {
+			if (socialRelation.getUserId1() != userId) {
+				_addRelation(
+					relations, socialRelation.getUserId1(),
+					ContactsConstants.RELATION_BLOCKED_BY);
+			}
+			else if (socialRelation.getType() ==
+						SocialRelationConstants.TYPE_BI_CONNECTION) {
+
+				_addRelation(
+					relations, socialRelation.getUserId2(),
+					ContactsConstants.RELATION_CONNECTED);
+			}
+			else if (socialRelation.getType() ==
+						SocialRelationConstants.TYPE_UNI_ENEMY) {
+
+				_addRelation(
+					relations, socialRelation.getUserId2(),
+					ContactsConstants.RELATION_BLOCK);
+			}
+			else if (socialRelation.getType() ==
+						SocialRelationConstants.TYPE_UNI_FOLLOWER) {
+
+				_addRelation(
+					relations, socialRelation.getUserId2(),
+					ContactsConstants.RELATION_FOLLOWING);
+			}
+		}
+
+		DynamicQuery socialRequestDynamicQuery =
+			DynamicQueryFactoryUtil.forClass(SocialRequest.class);
+
+		Property classNameIdProperty = PropertyFactoryUtil.forName(
+			"classNameId");
+		Property classPKProperty = PropertyFactoryUtil.forName("classPK");
+		Property receiverUserIdProperty = PropertyFactoryUtil.forName(
+			"receiverUserId");
+		Property statusProperty = PropertyFactoryUtil.forName("status");
+		Property userIdProperty = PropertyFactoryUtil.forName("userId");
+
+		socialRequestDynamicQuery.add(userIdProperty.eq(userId));
+		socialRequestDynamicQuery.add(
+			classNameIdProperty.eq(PortalUtil.getClassNameId(User.class)));
+		socialRequestDynamicQuery.add(classPKProperty.eq(userId));
+		socialRequestDynamicQuery.add(
+			typeProperty.eq(SocialRelationConstants.TYPE_BI_CONNECTION));
+		socialRequestDynamicQuery.add(receiverUserIdProperty.in(userIdsArray));
+		socialRequestDynamicQuery.add(
+			statusProperty.eq(SocialRequestConstants.STATUS_PENDING));
+
+		List<SocialRequest> socialRequests =
+			SocialRequestLocalServiceUtil.dynamicQuery(
+				socialRequestDynamicQuery);
+
+		for (SocialRequest socialRequest : socialRequests) {
+			_addRelation(
+				relations, socialRequest.getReceiverUserId(),
+				ContactsConstants.RELATION_CONNECTION_REQUESTED);
+		}
+
+		return relations;
+	}
+
 	public static long getSocialRelationType(String filterBy) {
 		String socialRelationTypeString = filterBy.substring(
 			ContactsConstants.FILTER_BY_TYPE.length());
@@ -104,10 +221,21 @@ public class ContactsUtil {
 	public static JSONObject getUserJSONObject(long userId, User user)
 		throws PortalException {
 
+		Map<Long, Integer> relations = getRelations(
+			userId, new long[] {user.getUserId()});
+
+		return getUserJSONObject(user, relations);
+	}
+
+	public static JSONObject getUserJSONObject(
+		User user, Map<Long, Integer> relations) {
+
 		JSONObject jsonObject = JSONFactoryUtil.createJSONObject();
 
-		boolean block = SocialRelationLocalServiceUtil.hasRelation(
-			userId, user.getUserId(), SocialRelationConstants.TYPE_UNI_ENEMY);
+		int relation = GetterUtil.getInteger(relations.get(user.getUserId()));
+
+		boolean block = _hasRelation(
+			relation, ContactsConstants.RELATION_BLOCK);
 
 		jsonObject.put("block", block);
 
@@ -122,36 +250,26 @@ public class ContactsUtil {
 		jsonObject.put("userId", String.valueOf(user.getUserId()));
 		jsonObject.put("uuid", user.getUuid());
 
-		if (!SocialRelationLocalServiceUtil.hasRelation(
-				user.getUserId(), userId,
-				SocialRelationConstants.TYPE_UNI_ENEMY) &&
-			!SocialRelationLocalServiceUtil.hasRelation(
-				userId, user.getUserId(),
-				SocialRelationConstants.TYPE_UNI_ENEMY)) {
+		if (!block &&
+			!_hasRelation(relation, ContactsConstants.RELATION_BLOCKED_BY)) {
 
-			boolean connectionRequested =
-				SocialRequestLocalServiceUtil.hasRequest(
-					userId, User.class.getName(), userId,
-					SocialRelationConstants.TYPE_BI_CONNECTION,
-					user.getUserId(), SocialRequestConstants.STATUS_PENDING);
+			boolean connectionRequested = _hasRelation(
+				relation, ContactsConstants.RELATION_CONNECTION_REQUESTED);
 
 			jsonObject.put("connectionRequested", connectionRequested);
 
 			boolean connected = false;
 
 			if (!connectionRequested &&
-				SocialRelationLocalServiceUtil.hasRelation(
-					userId, user.getUserId(),
-					SocialRelationConstants.TYPE_BI_CONNECTION)) {
+				_hasRelation(relation, ContactsConstants.RELATION_CONNECTED)) {
 
 				connected = true;
 			}
 
 			jsonObject.put("connected", connected);
 
-			boolean following = SocialRelationLocalServiceUtil.hasRelation(
-				userId, user.getUserId(),
-				SocialRelationConstants.TYPE_UNI_FOLLOWER);
+			boolean following = _hasRelation(
+				relation, ContactsConstants.RELATION_FOLLOWING);
 
 			jsonObject.put("following", following);
 		}
@@ -160,38 +278,112 @@ public class ContactsUtil {
 	}
 
 	public static String getVCard(User user) throws Exception {
-		StringBundler sb = new StringBundler();
+		UnsyncStringWriter unsyncStringWriter = new UnsyncStringWriter();
 
-		sb.append(_getHeader());
+		writeVCards(unsyncStringWriter, Collections.singletonList(user));
 
-		Contact contact = user.getContact();
+		return unsyncStringWriter.toString();
+	}
 
-		sb.append(_getName(user, contact));
+	public static String getVCards(List<User> users) throws Exception {
+		UnsyncStringWriter unsyncStringWriter = new UnsyncStringWriter();
 
-		sb.append(_getJobTitle(user));
-		sb.append(_getEmailAddresses(user));
-		sb.append(_getPhones(user));
-		sb.append(_getAddresses(user));
-		sb.append(_getWebsites(user));
-		sb.append(_getInstantMessaging(contact));
-		sb.append(_getFooter());
+		writeVCards(unsyncStringWriter, users);
 
-		return sb.toString();
+		return unsyncStringWriter.toString();
 	}
 
-	public static String getVCards(List<User> users) throws Exception {
-		StringBundler sb = new StringBundler(users.size());
+	/**
+	 * Writes the vCards of the users to the writer. The addresses, email
+	 * addresses, phones, and websites of all the users are fetched with one
+	 * query each, so large exports should be written in batches of users.
+	 */
+	public static void writeVCards(Writer writer, List<User> users)
+		throws Exception {
+
+		if (users.isEmpty()) {
+			return;
+		}
+
+		Long[] contactIds = new Long[users.size()];
+
+		for (int i = 0; i < users.size(); i++) {
+			User user = users.get(i);
+
+			contactIds[i] = user.getContactId();
+		}
+
+		Map<Long, List<Address>> addresses = _getAddresses(contactIds);
+		Map<Long, List<EmailAddress>> emailAddresses = _getEmailAddresses(
+			contactIds);
+		Map<Long, List<Phone>> phones = _getPhones(contactIds);
+		Map<Long, List<Website>> websites = _getWebsites(contactIds);
 
 		for (User user : users) {
-			sb.append(getVCard(user));
+			writer.write(_getHeader());
+
+			Contact contact = user.getContact();
+
+			writer.write(_getName(user, contact));
+
+			writer.write(_getJobTitle(user));
+			writer.write(
+				_getEmailAddresses(
+					user, _getModels(emailAddresses, user.getContactId())));
+			writer.write(_getPhones(_getModels(phones, user.getContactId())));
+			writer.write(
+				_getAddresses(_getModels(addresses, user.getContactId())));
+			writer.write(
+				_getWebsites(_getModels(websites, user.getContactId())));
+			writer.write(_getInstantMessaging(contact));
+			writer.write(_getFooter());
 		}
+	}
 
-		return sb.toString();
+	private static <T> void _addModel(
+		Map<Long, List<T>> modelsMap, long classPK, T model) {
+
+		List<T> models = modelsMap.get(classPK);
+
+		if (models == null) {
+			models = new ArrayList<>();
+
+			modelsMap.put(classPK, models);
+		}
+
+		models.add(model);
+	}
+
+	private static void _addRelation(
+		Map<Long, Integer> relations, long userId, int relation) {
+
+		Integer previousRelation = relations.get(userId);
+
+		if (previousRelation != null) {
+			relation |= previousRelation;
+		}
+
+		relations.put(userId, relation);
+	}
+
+	private static Map<Long, List<Address>> _getAddresses(Long[] contactIds) {
+		DynamicQuery dynamicQuery = _getContactsDynamicQuery(
+			AddressLocalServiceUtil.dynamicQuery(), contactIds);
+
+		List<Address> addresses = AddressLocalServiceUtil.dynamicQuery(
+			dynamicQuery);
+
+		Map<Long, List<Address>> addressesMap = new HashMap<>();
+
+		for (Address address : addresses) {
+			_addModel(addressesMap, address.getClassPK(), address);
+		}
+
+		return addressesMap;
 	}
 
-	private static String _getAddresses(User user) throws Exception {
-		List<Address> addresses = AddressLocalServiceUtil.getAddresses(
-			user.getCompanyId(), Contact.class.getName(), user.getContactId());
+	private static String _getAddresses(List<Address> addresses)
+		throws Exception {
 
 		StringBundler sb = new StringBundler(addresses.size() * 19);
 
@@ -258,11 +450,45 @@ public class ContactsUtil {
 		return sb.toString();
 	}
 
-	private static String _getEmailAddresses(User user) throws Exception {
+	private static DynamicQuery _getContactsDynamicQuery(
+		DynamicQuery dynamicQuery, Long[] contactIds) {
+
+		Property classNameIdProperty = PropertyFactoryUtil.forName(
+			"classNameId");
+
+		dynamicQuery.add(
+			classNameIdProperty.eq(PortalUtil.getClassNameId(Contact.class)));
+
+		Property classPKProperty = PropertyFactoryUtil.forName("classPK");
+
+		dynamicQuery.add(classPKProperty.in(contactIds));
+
+		dynamicQuery.addOrder(OrderFactoryUtil.asc("createDate"));
+
+		return dynamicQuery;
+	}
+
+	private static Map<Long, List<EmailAddress>> _getEmailAddresses(
+		Long[] contactIds) {
+
+		DynamicQuery dynamicQuery = _getContactsDynamicQuery(
+			EmailAddressLocalServiceUtil.dynamicQuery(), contactIds);
+
 		List<EmailAddress> emailAddresses =
-			EmailAddressLocalServiceUtil.getEmailAddresses(
-				user.getCompanyId(), Contact.class.getName(),
-				user.getContactId());
+			EmailAddressLocalServiceUtil.dynamicQuery(dynamicQuery);
+
+		Map<Long, List<EmailAddress>> emailAddressesMap = new HashMap<>();
+
+		for (EmailAddress emailAddress : emailAddresses) {
+			_addModel(
+				emailAddressesMap, emailAddress.getClassPK(), emailAddress);
+		}
+
+		return emailAddressesMap;
+	}
+
+	private static String _getEmailAddresses(
+		User user, List<EmailAddress> emailAddresses) {
 
 		StringBundler sb = new StringBundler(3 + (emailAddresses.size() * 5));
 
@@ -321,6 +547,18 @@ public class ContactsUtil {
 		return StringPool.BLANK;
 	}
 
+	private static <T> List<T> _getModels(
+		Map<Long, List<T>> modelsMap, long classPK) {
+
+		List<T> models = modelsMap.get(classPK);
+
+		if (models == null) {
+			return Collections.emptyList();
+		}
+
+		return models;
+	}
+
 	private static String _getName(User user, Contact contact)
 		throws Exception {
 
@@ -360,10 +598,22 @@ public class ContactsUtil {
 		return sb.toString();
 	}
 
-	private static String _getPhones(User user) throws Exception {
-		List<Phone> phones = PhoneLocalServiceUtil.getPhones(
-			user.getCompanyId(), Contact.class.getName(), user.getContactId());
+	private static Map<Long, List<Phone>> _getPhones(Long[] contactIds) {
+		DynamicQuery dynamicQuery = _getContactsDynamicQuery(
+			PhoneLocalServiceUtil.dynamicQuery(), contactIds);
+
+		List<Phone> phones = PhoneLocalServiceUtil.dynamicQuery(dynamicQuery);
+
+		Map<Long, List<Phone>> phonesMap = new HashMap<>();
+
+		for (Phone phone : phones) {
+			_addModel(phonesMap, phone.getClassPK(), phone);
+		}
+
+		return phonesMap;
+	}
 
+	private static String _getPhones(List<Phone> phones) {
 		StringBundler sb = new StringBundler(phones.size() * 7);
 
 		for (Phone phone : phones) {
@@ -396,10 +646,23 @@ public class ContactsUtil {
 		return listTypeName;
 	}
 
-	private static String _getWebsites(User user) throws Exception {
-		List<Website> websites = WebsiteLocalServiceUtil.getWebsites(
-			user.getCompanyId(), Contact.class.getName(), user.getContactId());
+	private static Map<Long, List<Website>> _getWebsites(Long[] contactIds) {
+		DynamicQuery dynamicQuery = _getContactsDynamicQuery(
+			WebsiteLocalServiceUtil.dynamicQuery(), contactIds);
+
+		List<Website> websites = WebsiteLocalServiceUtil.dynamicQuery(
+			dynamicQuery);
+
+		Map<Long, List<Website>> websitesMap = new HashMap<>();
+
+		for (Website website : websites) {
+			_addModel(websitesMap, website.getClassPK(), website);
+		}
+
+		return websitesMap;
+	}
 
+	private static String _getWebsites(List<Website> websites) {
 		StringBundler sb = new StringBundler(websites.size() * 5);
 
 		for (Website website : websites) {
@@ -421,4 +684,12 @@ public class ContactsUtil {
 		return sb.toString();
 	}
 
+	private static boolean _hasRelation(int relations, int relation) {
+		if ((relations & relation) == relation) {
+			return true;
+		}
+
+		return false;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.contacts.util;
+
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.util.portlet.PortletProps;
+
+/**
+ * @author Ryan Park
+ */
+public class PortletPropsValues {
+
+	public static final int IMPORT_BATCH_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.IMPORT_BATCH_SIZE));
+
+	public static final boolean SEARCH_INDEX_ENABLED = GetterUtil.getBoolean(
+		PortletProps.get(PortletPropsKeys.SEARCH_INDEX_ENABLED));
+
+	public static final int SEARCH_INDEX_REBUILD_INTERVAL =
+		GetterUtil.getInteger(
+			PortletProps.get(PortletPropsKeys.SEARCH_INDEX_REBUILD_INTERVAL));
+
+	public static final int VCARD_EXPORT_BATCH_SIZE = GetterUtil.getInteger(
+		PortletProps.get(PortletPropsKeys.VCARD_EXPORT_BATCH_SIZE));
+
+}
\ No newline at end of file
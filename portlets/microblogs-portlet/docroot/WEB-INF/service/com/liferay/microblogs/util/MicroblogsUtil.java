@@ -20,6 +20,8 @@ package com.liferay.microblogs.util;
 import com.liferay.microblogs.model.MicroblogsEntry;
 import com.liferay.microblogs.model.MicroblogsEntryConstants;
 import com.liferay.microblogs.service.MicroblogsEntryLocalServiceUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
 import com.liferay.portal.kernel.dao.orm.QueryUtil;
 import com.liferay.portal.kernel.exception.NoSuchUserException;
 import com.liferay.portal.kernel.exception.PortalException;
@@ -40,13 +42,15 @@ import com.liferay.portal.kernel.service.UserLocalServiceUtil;
 import com.liferay.portal.kernel.theme.ThemeDisplay;
 import com.liferay.portal.kernel.util.HtmlUtil;
 import com.liferay.portal.kernel.util.PortalUtil;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
-import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.comparator.UserFirstNameComparator;
 import com.liferay.social.kernel.model.SocialRelationConstants;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -55,6 +59,8 @@ import javax.portlet.PortletURL;
 import javax.portlet.WindowState;
 import javax.portlet.WindowStateException;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * @author Jonathan Lee
  */
@@ -172,11 +178,44 @@ public class MicroblogsUtil {
 			String content, ServiceContext serviceContext)
 		throws PortalException {
 
-		content = replaceHashtags(content, serviceContext);
+		String[] contentTokens = getContentTokens(content);
+
+		RenderContext renderContext = getRenderContext(serviceContext);
+
+		PortletURL hashtagPortletURL = null;
+
+		StringBundler sb = new StringBundler(contentTokens.length * 3);
+
+		for (int i = 0; i < contentTokens.length; i++) {
+			String value = contentTokens[i];
+
+			if ((i % 2) == 0) {
+				sb.append(HtmlUtil.escape(value));
+			}
+			else if (value.startsWith(StringPool.POUND)) {
+				if (hashtagPortletURL == null) {
+					hashtagPortletURL = getHashtagPortletURL(
+						serviceContext, renderContext);
+				}
+
+				String assetTagName = value.substring(1);
+
+				hashtagPortletURL.setParameter("tabs1", assetTagName);
+				hashtagPortletURL.setParameter("assetTagName", assetTagName);
 
-		content = replaceUserTags(content, serviceContext);
+				sb.append("<span class=\"hashtag\">#</span>");
+				sb.append("<a class=\"hashtag-link\" href=\"");
+				sb.append(hashtagPortletURL.toString());
+				sb.append("\">");
+				sb.append(assetTagName);
+				sb.append("</a>");
+			}
+			else {
+				sb.append(getUserTagLink(value, serviceContext, renderContext));
+			}
+		}
 
-		return content;
+		return sb.toString();
 	}
 
 	public static long getRootMicroblogsEntryId(
@@ -319,128 +358,209 @@ public class MicroblogsUtil {
 		return false;
 	}
 
-	protected static String replaceHashtags(
-			String content, ServiceContext serviceContext)
-		throws PortalException {
+	/**
+	 * Returns the content split into runs of plain text alternating with
+	 * hashtags and user tags, so even indexes hold text and odd indexes hold
+	 * tags. The tokens are kept as strings because this class is also loaded
+	 * by other plugins through the service JAR, and those plugins share the
+	 * cache.
+	 */
+	protected static String[] getContentTokens(String content) {
+		String[] contentTokens = _contentTokensPortalCache.get(content);
+
+		if (contentTokens != null) {
+			return contentTokens;
+		}
 
-		String escapedContent = HtmlUtil.escape(content);
+		List<String> contentTokensList = new ArrayList<>();
 
-		ThemeDisplay themeDisplay = serviceContext.getThemeDisplay();
+		Matcher matcher = _contentTokenPattern.matcher(content);
 
-		Matcher matcher = _hashtagPattern.matcher(content);
+		int index = 0;
 
 		while (matcher.find()) {
-			String result = matcher.group();
+			contentTokensList.add(content.substring(index, matcher.start()));
+			contentTokensList.add(matcher.group());
+
+			index = matcher.end();
+		}
+
+		contentTokensList.add(content.substring(index));
+
+		contentTokens = contentTokensList.toArray(
+			new String[contentTokensList.size()]);
 
-			StringBuilder sb = new StringBuilder(6);
+		_contentTokensPortalCache.put(content, contentTokens);
 
-			sb.append("<span class=\"hashtag\">#</span>");
-			sb.append("<a class=\"hashtag-link\" href=\"");
+		return contentTokens;
+	}
+
+	protected static PortletURL getHashtagPortletURL(
+			ServiceContext serviceContext, RenderContext renderContext)
+		throws PortalException {
 
-			PortletURL portletURL = null;
+		if (renderContext.getHashtagPlid() < 0) {
+			ThemeDisplay themeDisplay = serviceContext.getThemeDisplay();
 
 			Group group = GroupLocalServiceUtil.getUserGroup(
 				themeDisplay.getCompanyId(), themeDisplay.getUserId());
 
-			long portletPlid = PortalUtil.getPlidFromPortletId(
-				group.getGroupId(), true, "1_WAR_microblogsportlet");
+			renderContext.setHashtagPlid(
+				PortalUtil.getPlidFromPortletId(
+					group.getGroupId(), true, "1_WAR_microblogsportlet"));
+		}
 
-			if (portletPlid != 0) {
-				portletURL = PortletURLFactoryUtil.create(
-					serviceContext.getLiferayPortletRequest(),
-					"1_WAR_microblogsportlet", portletPlid,
-					PortletRequest.RENDER_PHASE);
+		PortletURL portletURL = null;
 
-				try {
-					portletURL.setWindowState(LiferayWindowState.NORMAL);
-				}
-				catch (WindowStateException wse) {
-				}
+		if (renderContext.getHashtagPlid() != 0) {
+			portletURL = PortletURLFactoryUtil.create(
+				serviceContext.getLiferayPortletRequest(),
+				"1_WAR_microblogsportlet", renderContext.getHashtagPlid(),
+				PortletRequest.RENDER_PHASE);
+
+			try {
+				portletURL.setWindowState(LiferayWindowState.NORMAL);
 			}
-			else {
-				LiferayPortletResponse liferayPortletResponse =
-					serviceContext.getLiferayPortletResponse();
+			catch (WindowStateException wse) {
+			}
+		}
+		else {
+			LiferayPortletResponse liferayPortletResponse =
+				serviceContext.getLiferayPortletResponse();
 
-				portletURL = liferayPortletResponse.createRenderURL(
-					"1_WAR_microblogsportlet");
+			portletURL = liferayPortletResponse.createRenderURL(
+				"1_WAR_microblogsportlet");
 
-				try {
-					portletURL.setWindowState(WindowState.MAXIMIZED);
-				}
-				catch (WindowStateException wse) {
-				}
+			try {
+				portletURL.setWindowState(WindowState.MAXIMIZED);
+			}
+			catch (WindowStateException wse) {
 			}
+		}
+
+		portletURL.setParameter("mvcPath", "/microblogs/view.jsp");
+
+		return portletURL;
+	}
+
+	protected static RenderContext getRenderContext(
+		ServiceContext serviceContext) {
+
+		return new RenderContext(serviceContext.getRequest());
+	}
+
+	protected static String getUserTagLink(
+			String userTag, ServiceContext serviceContext,
+			RenderContext renderContext)
+		throws PortalException {
+
+		String userTagLink = renderContext.getUserTagLink(userTag);
 
-			portletURL.setParameter("mvcPath", "/microblogs/view.jsp");
+		if (userTagLink != null) {
+			return userTagLink;
+		}
+
+		String screenName = userTag.substring(2, userTag.length() - 1);
 
-			String assetTagName = result.substring(1);
+		ThemeDisplay themeDisplay = serviceContext.getThemeDisplay();
 
-			portletURL.setParameter("tabs1", assetTagName);
-			portletURL.setParameter("assetTagName", assetTagName);
+		try {
+			User user = UserLocalServiceUtil.getUserByScreenName(
+				themeDisplay.getCompanyId(), screenName);
 
-			sb.append(portletURL);
+			StringBundler sb = new StringBundler(5);
 
+			sb.append("<a href=\"");
+			sb.append(user.getDisplayURL(themeDisplay));
 			sb.append("\">");
-			sb.append(assetTagName);
+			sb.append(PortalUtil.getUserName(user.getUserId(), screenName));
 			sb.append("</a>");
 
-			String tagLink = sb.toString();
-
-			escapedContent = StringUtil.replace(
-				escapedContent, result, tagLink);
+			userTagLink = sb.toString();
+		}
+		catch (NoSuchUserException nsue) {
+			userTagLink = HtmlUtil.escape(userTag);
 		}
 
-		return escapedContent;
+		renderContext.putUserTagLink(userTag, userTagLink);
+
+		return userTagLink;
 	}
 
-	protected static String replaceUserTags(
-			String content, ServiceContext serviceContext)
-		throws PortalException {
+	private static final String _HASHTAG_PLID =
+		MicroblogsUtil.class.getName() + "_HASHTAG_PLID";
 
-		Matcher matcher = _userTagPattern.matcher(content);
+	private static final String _USER_TAG_LINKS =
+		MicroblogsUtil.class.getName() + "_USER_TAG_LINKS";
 
-		while (matcher.find()) {
-			String result = matcher.group();
+	private static Pattern _contentTokenPattern = Pattern.compile(
+		"\\[\\@\\S*\\]|\\#[a-zA-Z]\\w*");
+	private static PortalCache<String, String[]> _contentTokensPortalCache =
+		(PortalCache<String, String[]>)SingleVMPoolUtil.getPortalCache(
+			MicroblogsUtil.class.getName() + "_CONTENT_TOKENS");
+	private static Pattern _hashtagPattern = Pattern.compile("\\#[a-zA-Z]\\w*");
+	private static Pattern _userTagPattern = Pattern.compile("\\[\\@\\S*\\]");
 
-			try {
-				StringBuilder sb = new StringBuilder(5);
+	/**
+	 * Lookups made while rendering content, kept for the rest of the request
+	 * so an entry list does not resolve the same plid or user twice. The
+	 * lookups are stored in request attributes of JDK types so that plugins
+	 * loading this class from their own copy of the service JAR can share
+	 * them.
+	 */
+	protected static class RenderContext {
 
-				sb.append("<a href=\"");
+		public RenderContext(HttpServletRequest request) {
+			_request = request;
 
-				String assetTagScreenName = result.replace(
-					"[@", StringPool.BLANK);
+			if (request == null) {
+				_userTagLinks = new HashMap<>();
 
-				assetTagScreenName = assetTagScreenName.replace(
-					"]", StringPool.BLANK);
+				return;
+			}
 
-				ThemeDisplay themeDisplay = serviceContext.getThemeDisplay();
+			Long hashtagPlid = (Long)request.getAttribute(_HASHTAG_PLID);
 
-				User assetTagUser = UserLocalServiceUtil.getUserByScreenName(
-					themeDisplay.getCompanyId(), assetTagScreenName);
+			if (hashtagPlid != null) {
+				_hashtagPlid = hashtagPlid;
+			}
 
-				sb.append(assetTagUser.getDisplayURL(themeDisplay));
+			Map<String, String> userTagLinks =
+				(Map<String, String>)request.getAttribute(_USER_TAG_LINKS);
 
-				sb.append("\">");
+			if (userTagLinks == null) {
+				userTagLinks = new HashMap<>();
 
-				String assetTagUserName = PortalUtil.getUserName(
-					assetTagUser.getUserId(), assetTagScreenName);
+				request.setAttribute(_USER_TAG_LINKS, userTagLinks);
+			}
 
-				sb.append(assetTagUserName);
+			_userTagLinks = userTagLinks;
+		}
 
-				sb.append("</a>");
+		public long getHashtagPlid() {
+			return _hashtagPlid;
+		}
 
-				String userLink = sb.toString();
+		public String getUserTagLink(String userTag) {
+			return _userTagLinks.get(userTag);
+		}
 
-				content = StringUtil.replace(content, result, userLink);
-			}
-			catch (NoSuchUserException nsue) {
+		public void putUserTagLink(String userTag, String userTagLink) {
+			_userTagLinks.put(userTag, userTagLink);
+		}
+
+		public void setHashtagPlid(long hashtagPlid) {
+			_hashtagPlid = hashtagPlid;
+
+			if (_request != null) {
+				_request.setAttribute(_HASHTAG_PLID, hashtagPlid);
 			}
 		}
 
-		return content;
-	}
+		private long _hashtagPlid = -1;
+		private final HttpServletRequest _request;
+		private final Map<String, String> _userTagLinks;
 
-	private static Pattern _hashtagPattern = Pattern.compile("\\#[a-zA-Z]\\w*");
-	private static Pattern _userTagPattern = Pattern.compile("\\[\\@\\S*\\]");
+	}
 
 }
\ No newline at end of file
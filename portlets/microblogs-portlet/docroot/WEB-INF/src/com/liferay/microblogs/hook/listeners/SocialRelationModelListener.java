@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.microblogs.hook.listeners;
+
+import com.liferay.microblogs.util.MicroblogsTimelineUtil;
+import com.liferay.portal.kernel.exception.ModelListenerException;
+import com.liferay.portal.kernel.model.BaseModelListener;
+import com.liferay.social.kernel.model.SocialRelation;
+
+/**
+ * @author Jonathan Lee
+ */
+public class SocialRelationModelListener
+	extends BaseModelListener<SocialRelation> {
+
+	@Override
+	public void onAfterCreate(SocialRelation socialRelation)
+		throws ModelListenerException {
+
+		MicroblogsTimelineUtil.removeTimeline(socialRelation.getUserId1());
+	}
+
+	@Override
+	public void onAfterRemove(SocialRelation socialRelation)
+		throws ModelListenerException {
+
+		MicroblogsTimelineUtil.removeTimeline(socialRelation.getUserId1());
+	}
+
+}
\ No newline at end of file
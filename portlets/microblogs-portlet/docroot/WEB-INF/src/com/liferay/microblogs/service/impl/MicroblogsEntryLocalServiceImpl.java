@@ -26,6 +26,7 @@ import com.liferay.microblogs.microblogs.social.MicroblogsActivityKeys;
 import com.liferay.microblogs.model.MicroblogsEntry;
 import com.liferay.microblogs.model.MicroblogsEntryConstants;
 import com.liferay.microblogs.service.base.MicroblogsEntryLocalServiceBaseImpl;
+import com.liferay.microblogs.util.MicroblogsTimelineUtil;
 import com.liferay.microblogs.util.MicroblogsUtil;
 import com.liferay.microblogs.util.PortletKeys;
 import com.liferay.microblogs.util.comparator.EntryCreateDateComparator;
@@ -111,6 +112,10 @@ public class MicroblogsEntryLocalServiceImpl
 			microblogsEntry, serviceContext.getAssetCategoryIds(),
 			serviceContext.getAssetTagNames());
 
+		// Timeline
+
+		MicroblogsTimelineUtil.addMicroblogsEntry(microblogsEntry);
+
 		return microblogsEntry;
 	}
 
@@ -183,6 +188,10 @@ public class MicroblogsEntryLocalServiceImpl
 			activityKey, extraDataJSONObject.toString(),
 			microblogsEntry.getParentMicroblogsEntryUserId());
 
+		// Timeline
+
+		MicroblogsTimelineUtil.addMicroblogsEntry(microblogsEntry);
+
 		// Notification
 
 		subscribeUsers(microblogsEntry, serviceContext);
@@ -198,6 +207,8 @@ public class MicroblogsEntryLocalServiceImpl
 
 		microblogsEntryPersistence.removeByCCNI_CCPK(
 			creatorClassNameId, creatorClassPK);
+
+		MicroblogsTimelineUtil.removeTimelines();
 	}
 
 	@Override
@@ -231,6 +242,10 @@ public class MicroblogsEntryLocalServiceImpl
 			MicroblogsEntry.class.getName(),
 			microblogsEntry.getMicroblogsEntryId());
 
+		// Timeline
+
+		MicroblogsTimelineUtil.removeMicroblogsEntry(microblogsEntry);
+
 		return microblogsEntry;
 	}
 
@@ -399,6 +414,8 @@ public class MicroblogsEntryLocalServiceImpl
 		MicroblogsEntry microblogsEntry =
 			microblogsEntryPersistence.findByPrimaryKey(microblogsEntryId);
 
+		int oldSocialRelationType = microblogsEntry.getSocialRelationType();
+
 		microblogsEntry.setModifiedDate(new Date());
 		microblogsEntry.setContent(content);
 		microblogsEntry.setSocialRelationType(socialRelationType);
@@ -411,6 +428,15 @@ public class MicroblogsEntryLocalServiceImpl
 			microblogsEntry, serviceContext.getAssetCategoryIds(),
 			serviceContext.getAssetTagNames());
 
+		// Timeline
+
+		if (oldSocialRelationType != socialRelationType) {
+			MicroblogsTimelineUtil.removeTimelines(
+				microblogsEntry.getUserId(), oldSocialRelationType);
+			MicroblogsTimelineUtil.removeTimelines(
+				microblogsEntry.getUserId(), socialRelationType);
+		}
+
 		return microblogsEntry;
 	}
 
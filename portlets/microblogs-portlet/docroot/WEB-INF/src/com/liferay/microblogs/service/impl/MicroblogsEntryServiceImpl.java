@@ -21,6 +21,7 @@ import com.liferay.microblogs.model.MicroblogsEntry;
 import com.liferay.microblogs.service.base.MicroblogsEntryServiceBaseImpl;
 import com.liferay.microblogs.service.permission.MicroblogsEntryPermission;
 import com.liferay.microblogs.service.permission.MicroblogsPermission;
+import com.liferay.microblogs.util.MicroblogsTimelineUtil;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.security.permission.ActionKeys;
 import com.liferay.portal.kernel.service.ServiceContext;
@@ -59,7 +60,7 @@ public class MicroblogsEntryServiceImpl extends MicroblogsEntryServiceBaseImpl {
 	public List<MicroblogsEntry> getMicroblogsEntries(int start, int end)
 		throws PortalException {
 
-		return microblogsEntryFinder.findByUserId(
+		return MicroblogsTimelineUtil.getMicroblogsEntries(
 			getGuestOrUserId(), start, end);
 	}
 
@@ -72,7 +73,8 @@ public class MicroblogsEntryServiceImpl extends MicroblogsEntryServiceBaseImpl {
 	}
 
 	public int getMicroblogsEntriesCount() throws PortalException {
-		return microblogsEntryFinder.countByUserId(getGuestOrUserId());
+		return MicroblogsTimelineUtil.getMicroblogsEntriesCount(
+			getGuestOrUserId());
 	}
 
 	public int getMicroblogsEntriesCount(String assetTagName)
@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.microblogs.util;
+
+import com.liferay.portal.kernel.util.ArrayUtil;
+
+import java.io.Serializable;
+
+/**
+ * @author Jonathan Lee
+ */
+public class MicroblogsTimeline implements Serializable {
+
+	public MicroblogsTimeline(long[] microblogsEntryIds, int count) {
+		_microblogsEntryIds = microblogsEntryIds;
+		_count = count;
+	}
+
+	public MicroblogsTimeline addMicroblogsEntryId(
+		long microblogsEntryId, int maxSize) {
+
+		if (ArrayUtil.contains(_microblogsEntryIds, microblogsEntryId)) {
+			return this;
+		}
+
+		int size = Math.min(_microblogsEntryIds.length + 1, maxSize);
+
+		long[] microblogsEntryIds = new long[size];
+
+		microblogsEntryIds[0] = microblogsEntryId;
+
+		System.arraycopy(
+			_microblogsEntryIds, 0, microblogsEntryIds, 1, size - 1);
+
+		return new MicroblogsTimeline(microblogsEntryIds, _count + 1);
+	}
+
+	public int getCount() {
+		return _count;
+	}
+
+	public long[] getMicroblogsEntryIds() {
+		return _microblogsEntryIds;
+	}
+
+	public boolean isComplete() {
+		if (_microblogsEntryIds.length >= _count) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public MicroblogsTimeline removeMicroblogsEntryId(long microblogsEntryId) {
+		if (!ArrayUtil.contains(_microblogsEntryIds, microblogsEntryId)) {
+			return this;
+		}
+
+		return new MicroblogsTimeline(
+			ArrayUtil.remove(_microblogsEntryIds, microblogsEntryId),
+			_count - 1);
+	}
+
+	private final int _count;
+	private final long[] _microblogsEntryIds;
+
+}
\ No newline at end of file
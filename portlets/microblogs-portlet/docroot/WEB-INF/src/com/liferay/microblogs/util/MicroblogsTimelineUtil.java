@@ -0,0 +1,347 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This file is part of Liferay Social Office. Liferay Social Office is free
+ * software: you can redistribute it and/or modify it under the terms of the GNU
+ * Affero General Public License as published by the Free Software Foundation,
+ * either version 3 of the License, or (at your option) any later version.
+ *
+ * Liferay Social Office is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * Liferay Social Office. If not, see http://www.gnu.org/licenses/agpl-3.0.html.
+ */
+
+package com.liferay.microblogs.util;
+
+import com.liferay.microblogs.model.MicroblogsEntry;
+import com.liferay.microblogs.model.MicroblogsEntryConstants;
+import com.liferay.microblogs.service.MicroblogsEntryLocalServiceUtil;
+import com.liferay.microblogs.service.persistence.MicroblogsEntryFinderUtil;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.dao.orm.QueryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.Time;
+import com.liferay.social.kernel.model.SocialRelation;
+import com.liferay.social.kernel.model.SocialRelationConstants;
+import com.liferay.social.kernel.service.SocialRelationLocalServiceUtil;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the most recent microblogs entries visible to each user so the home
+ * timeline can be read without joining every entry to the social graph. New
+ * entries are pushed to the timelines of the users that can see them once the
+ * transaction commits. Timelines that are not cached are built on first read
+ * and expire after an hour, which bounds how long a timeline can miss an entry
+ * that was pushed on another node while it was being built.
+ *
+ * @author Jonathan Lee
+ */
+public class MicroblogsTimelineUtil {
+
+	public static void addMicroblogsEntry(MicroblogsEntry microblogsEntry) {
+		_instance._addMicroblogsEntry(microblogsEntry);
+	}
+
+	public static List<MicroblogsEntry> getMicroblogsEntries(
+		long userId, int start, int end) {
+
+		return _instance._getMicroblogsEntries(userId, start, end);
+	}
+
+	public static int getMicroblogsEntriesCount(long userId) {
+		return _instance._getMicroblogsEntriesCount(userId);
+	}
+
+	public static void removeMicroblogsEntry(MicroblogsEntry microblogsEntry) {
+		_instance._removeMicroblogsEntry(microblogsEntry);
+	}
+
+	public static void removeTimeline(long userId) {
+		_instance._removeTimeline(userId);
+	}
+
+	public static void removeTimelines() {
+		_instance._removeTimelines();
+	}
+
+	public static void removeTimelines(long userId, int socialRelationType) {
+		_instance._removeTimelines(userId, socialRelationType);
+	}
+
+	private MicroblogsTimelineUtil() {
+		_portalCache =
+			(PortalCache<Long, MicroblogsTimeline>)
+				MultiVMPoolUtil.getPortalCache(
+					MicroblogsTimelineUtil.class.getName());
+	}
+
+	private void _addMicroblogsEntry(final MicroblogsEntry microblogsEntry) {
+		if (microblogsEntry.getType() == MicroblogsEntryConstants.TYPE_REPLY) {
+			return;
+		}
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				_modificationCount.incrementAndGet();
+
+				Set<Long> userIds = _getTimelineUserIds(
+					microblogsEntry.getUserId(),
+					microblogsEntry.getSocialRelationType());
+
+				for (long userId : userIds) {
+					synchronized (_portalCache) {
+						MicroblogsTimeline microblogsTimeline =
+							_portalCache.get(userId);
+
+						if (microblogsTimeline == null) {
+							continue;
+						}
+
+						_portalCache.put(
+							userId,
+							microblogsTimeline.addMicroblogsEntryId(
+								microblogsEntry.getMicroblogsEntryId(),
+								_TIMELINE_SIZE),
+							_TIMELINE_TIME_TO_LIVE);
+					}
+				}
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private List<MicroblogsEntry> _getMicroblogsEntries(
+		long userId, int start, int end) {
+
+		MicroblogsTimeline microblogsTimeline = _getTimeline(userId);
+
+		long[] microblogsEntryIds = microblogsTimeline.getMicroblogsEntryIds();
+
+		if ((start == QueryUtil.ALL_POS) && (end == QueryUtil.ALL_POS)) {
+			start = 0;
+			end = microblogsTimeline.getCount();
+		}
+
+		if ((end > microblogsEntryIds.length) &&
+			!microblogsTimeline.isComplete()) {
+
+			return MicroblogsEntryFinderUtil.findByUserId(userId, start, end);
+		}
+
+		end = Math.min(end, microblogsEntryIds.length);
+
+		List<MicroblogsEntry> microblogsEntries = new ArrayList<>();
+
+		for (int i = start; i < end; i++) {
+			MicroblogsEntry microblogsEntry =
+				MicroblogsEntryLocalServiceUtil.fetchMicroblogsEntry(
+					microblogsEntryIds[i]);
+
+			if (microblogsEntry != null) {
+				microblogsEntries.add(microblogsEntry);
+			}
+		}
+
+		return microblogsEntries;
+	}
+
+	private int _getMicroblogsEntriesCount(long userId) {
+		MicroblogsTimeline microblogsTimeline = _getTimeline(userId);
+
+		return microblogsTimeline.getCount();
+	}
+
+	private MicroblogsTimeline _getTimeline(long userId) {
+		MicroblogsTimeline microblogsTimeline = _portalCache.get(userId);
+
+		if (microblogsTimeline != null) {
+			return microblogsTimeline;
+		}
+
+		long modificationCount = _modificationCount.get();
+
+		List<MicroblogsEntry> microblogsEntries =
+			MicroblogsEntryFinderUtil.findByUserId(userId, 0, _TIMELINE_SIZE);
+
+		long[] microblogsEntryIds = new long[microblogsEntries.size()];
+
+		for (int i = 0; i < microblogsEntries.size(); i++) {
+			MicroblogsEntry microblogsEntry = microblogsEntries.get(i);
+
+			microblogsEntryIds[i] = microblogsEntry.getMicroblogsEntryId();
+		}
+
+		int count = microblogsEntryIds.length;
+
+		if (count == _TIMELINE_SIZE) {
+			count = MicroblogsEntryFinderUtil.countByUserId(userId);
+		}
+
+		microblogsTimeline = new MicroblogsTimeline(microblogsEntryIds, count);
+
+		// An entry that was pushed or removed while the timeline was being
+		// read may be missing from it, so only cache the timeline if no
+		// timeline changed in the meantime
+
+		synchronized (_portalCache) {
+			if ((modificationCount == _modificationCount.get()) &&
+				(_portalCache.get(userId) == null)) {
+
+				_portalCache.put(
+					userId, microblogsTimeline, _TIMELINE_TIME_TO_LIVE);
+			}
+		}
+
+		return microblogsTimeline;
+	}
+
+	private Set<Long> _getTimelineUserIds(
+		long userId, int socialRelationType) {
+
+		Set<Long> userIds = new HashSet<>();
+
+		userIds.add(userId);
+
+		List<SocialRelation> socialRelations =
+			SocialRelationLocalServiceUtil.getInverseRelations(
+				userId, QueryUtil.ALL_POS, QueryUtil.ALL_POS);
+
+		for (SocialRelation socialRelation : socialRelations) {
+			int type = socialRelation.getType();
+
+			if (type == socialRelationType) {
+				userIds.add(socialRelation.getUserId1());
+			}
+			else if ((socialRelationType ==
+						MicroblogsEntryConstants.TYPE_EVERYONE) &&
+					 (type != SocialRelationConstants.TYPE_UNI_ENEMY)) {
+
+				userIds.add(socialRelation.getUserId1());
+			}
+		}
+
+		return userIds;
+	}
+
+	private void _removeMicroblogsEntry(final MicroblogsEntry microblogsEntry) {
+		if (microblogsEntry.getType() == MicroblogsEntryConstants.TYPE_REPLY) {
+			return;
+		}
+
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				_modificationCount.incrementAndGet();
+
+				Set<Long> userIds = _getTimelineUserIds(
+					microblogsEntry.getUserId(),
+					microblogsEntry.getSocialRelationType());
+
+				for (long userId : userIds) {
+					synchronized (_portalCache) {
+						MicroblogsTimeline microblogsTimeline =
+							_portalCache.get(userId);
+
+						if (microblogsTimeline == null) {
+							continue;
+						}
+
+						if (microblogsTimeline.isComplete() ||
+							ArrayUtil.contains(
+								microblogsTimeline.getMicroblogsEntryIds(),
+								microblogsEntry.getMicroblogsEntryId())) {
+
+							_portalCache.put(
+								userId,
+								microblogsTimeline.removeMicroblogsEntryId(
+									microblogsEntry.getMicroblogsEntryId()),
+								_TIMELINE_TIME_TO_LIVE);
+						}
+						else {
+							_portalCache.remove(userId);
+						}
+					}
+				}
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private void _removeTimeline(final long userId) {
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				_modificationCount.incrementAndGet();
+
+				_portalCache.remove(userId);
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private void _removeTimelines() {
+		Callable<Void> callable = new Callable<Void>() {
+
+			@Override
+			public Void call() throws Exception {
+				_modificationCount.incrementAndGet();
+
+				_portalCache.removeAll();
+
+				return null;
+			}
+
+		};
+
+		TransactionCommitCallbackUtil.registerCallback(callable);
+	}
+
+	private void _removeTimelines(long userId, int socialRelationType) {
+		Set<Long> timelineUserIds = _getTimelineUserIds(
+			userId, socialRelationType);
+
+		for (long timelineUserId : timelineUserIds) {
+			_removeTimeline(timelineUserId);
+		}
+	}
+
+	private static final int _TIMELINE_SIZE = 200;
+
+	private static final int _TIMELINE_TIME_TO_LIVE =
+		(int)(Time.HOUR / Time.SECOND);
+
+	private static MicroblogsTimelineUtil _instance =
+		new MicroblogsTimelineUtil();
+
+	private final AtomicLong _modificationCount = new AtomicLong();
+	private final PortalCache<Long, MicroblogsTimeline> _portalCache;
+
+}
\ No newline at end of file
@@ -18,7 +18,17 @@
 package com.liferay.so.activities.util;
 
 import com.liferay.document.library.kernel.model.DLFileEntry;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.so.util.PortletPropsValues;
+import com.liferay.social.kernel.model.SocialActivityFeedEntry;
 import com.liferay.social.kernel.model.SocialActivitySet;
+import com.liferay.social.kernel.service.SocialActivityInterpreterLocalServiceUtil;
+
+import java.util.TimeZone;
 
 /**
  * @author Matthew Kong
@@ -44,4 +54,87 @@ public class ActivitiesUtil {
 		return new Object[] {className, classPK};
 	}
 
+	/**
+	 * Returns the feed entry of the activity set as rendered for the user of
+	 * the service context. Rendered entries are cached by activity set,
+	 * modified date, viewer, locale, time zone, and page, so a changed
+	 * activity set is rendered again and no viewer sees an entry filtered by
+	 * another viewer's permissions. Activity sets the viewer cannot see are
+	 * cached as a marker entry, so they are not interpreted again either.
+	 */
+	public static SocialActivityFeedEntry interpret(
+		SocialActivitySet activitySet, ServiceContext serviceContext) {
+
+		if (PortletPropsValues.ACTIVITIES_FEED_ENTRY_CACHE_TIME <= 0) {
+			return SocialActivityInterpreterLocalServiceUtil.interpret(
+				_SELECTOR, activitySet, serviceContext);
+		}
+
+		String key = _getFeedEntryKey(activitySet, serviceContext);
+
+		SocialActivityFeedEntry activityFeedEntry = _feedEntriesPortalCache.get(
+			key);
+
+		if (activityFeedEntry == _NULL_FEED_ENTRY) {
+			return null;
+		}
+
+		if (activityFeedEntry != null) {
+			return activityFeedEntry;
+		}
+
+		activityFeedEntry = SocialActivityInterpreterLocalServiceUtil.interpret(
+			_SELECTOR, activitySet, serviceContext);
+
+		if (activityFeedEntry == null) {
+			_feedEntriesPortalCache.put(
+				key, _NULL_FEED_ENTRY,
+				PortletPropsValues.ACTIVITIES_FEED_ENTRY_CACHE_TIME);
+		}
+		else {
+			_feedEntriesPortalCache.put(
+				key, activityFeedEntry,
+				PortletPropsValues.ACTIVITIES_FEED_ENTRY_CACHE_TIME);
+		}
+
+		return activityFeedEntry;
+	}
+
+	private static String _getFeedEntryKey(
+		SocialActivitySet activitySet, ServiceContext serviceContext) {
+
+		StringBundler sb = new StringBundler(13);
+
+		sb.append(activitySet.getActivitySetId());
+		sb.append(StringPool.POUND);
+		sb.append(activitySet.getModifiedDate());
+		sb.append(StringPool.POUND);
+		sb.append(serviceContext.getUserId());
+		sb.append(StringPool.POUND);
+		sb.append(serviceContext.getLanguageId());
+		sb.append(StringPool.POUND);
+
+		TimeZone timeZone = serviceContext.getTimeZone();
+
+		sb.append(timeZone.getID());
+
+		sb.append(StringPool.POUND);
+		sb.append(serviceContext.getScopeGroupId());
+		sb.append(StringPool.POUND);
+		sb.append(serviceContext.getPlid());
+
+		return sb.toString();
+	}
+
+	private static final SocialActivityFeedEntry _NULL_FEED_ENTRY =
+		new SocialActivityFeedEntry(StringPool.BLANK, StringPool.BLANK);
+
+	private static final String _SELECTOR = "SO";
+
+	private static final PortalCache<String, SocialActivityFeedEntry>
+		_feedEntriesPortalCache =
+			(PortalCache<String, SocialActivityFeedEntry>)
+				SingleVMPoolUtil.getPortalCache(
+					ActivitiesUtil.class.getName() + "_FEED_ENTRIES");
+
 }
\ No newline at end of file
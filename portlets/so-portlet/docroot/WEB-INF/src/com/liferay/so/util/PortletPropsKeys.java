@@ -22,6 +22,9 @@ package com.liferay.so.util;
  */
 public class PortletPropsKeys {
 
+	public static final String ACTIVITIES_FEED_ENTRY_CACHE_TIME =
+		"activities.feed.entry.cache.time";
+
 	public static final String NOTIFICATIONS_DOCKBAR_MAX_ELEMENTS =
 		"notifications.dockbar.max.elements";
 
@@ -25,6 +25,11 @@ import com.liferay.util.portlet.PortletProps;
  */
 public class PortletPropsValues {
 
+	public static final int ACTIVITIES_FEED_ENTRY_CACHE_TIME =
+		GetterUtil.getInteger(
+			PortletProps.get(
+				PortletPropsKeys.ACTIVITIES_FEED_ENTRY_CACHE_TIME));
+
 	public static final int NOTIFICATIONS_DOCKBAR_MAX_ELEMENTS =
 		GetterUtil.getInteger(
 			PortletProps.get(